@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.annotation;
+
+/**
+ * Whether instances of an entity, once looked up by their identifier, may be
+ * cached across transactions (so that subsequent lookups by that identifier
+ * need not consult the database).
+ *
+ * <p>
+ *     Intended for read-mostly reference data; instances are evicted from the
+ *     cache when changed or deleted by the framework.
+ * </p>
+ *
+ * @see DomainObject#entityCaching()
+ * @since 2.0 {@index}
+ */
+public enum Caching {
+
+    /**
+     * Do cache instances of this entity.
+     */
+    ENABLED,
+
+    /**
+     * Do <b>not</b> cache instances of this entity.
+     */
+    DISABLED,
+
+    /**
+     * Ignore the value provided by this annotation (meaning that the framework will keep searching, in meta
+     * annotations or super-classes/interfaces).
+     */
+    NOT_SPECIFIED
+
+}
@@ -136,6 +136,21 @@ String editingDisabledReason()
     Publishing entityChangePublishing()
             default Publishing.NOT_SPECIFIED;
 
+    /**
+     * Whether instances of this entity may be cached across transactions
+     * once looked up by their identifier (eg. when resolving bookmarks).
+     *
+     * <p>
+     *     Only appropriate for read-mostly entities that are changed only
+     *     through the framework; instances changed or deleted through the
+     *     framework are evicted from the cache when the transaction commits.
+     * </p>
+     *
+     * @apiNote does only apply to entity objects
+     */
+    Caching entityCaching()
+            default Caching.NOT_SPECIFIED;
+
     /**
      * Applicable only if {@link #nature()} is {@link Nature#MIXIN}, indicates
      * the name of the method within the mixin class to be inferred as the
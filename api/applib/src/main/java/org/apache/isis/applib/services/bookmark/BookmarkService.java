@@ -18,6 +18,11 @@
  */
 package org.apache.isis.applib.services.bookmark;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javax.annotation.Nullable;
 
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -86,6 +91,25 @@ default Bookmark bookmarkForElseThrow(Object domainObject) {
      */
     Object lookup(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}, returning the domain objects
+     * in the same order as the provided bookmarks, with <code>null</code>
+     * for any that cannot be found (or for <code>null</code> bookmarks).
+     *
+     * <p>
+     * Implementations are expected to fetch entities of the same type with
+     * a single round trip to the database, where possible.
+     * </p>
+     *
+     * @param bookmarks - representing domain objects
+     * @return - the corresponding domain objects
+     */
+    default List<Object> lookupAll(Collection<Bookmark> bookmarks) {
+        return bookmarks.stream()
+                .map(this::lookup)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * As {@link #lookup(Bookmark)}, but down-casting to the specified type.
      */
@@ -133,6 +133,13 @@ Map<String, String> toXsd(
 
     class Simple implements JaxbService {
 
+        /**
+         * Kept separate from the {@link _Xml#marshallerPool() shared} pool,
+         * as (un)marshallers are {@link #configure(Marshaller) configured} 
+         * by subclasses.
+         */
+        private final _Xml.MarshallerPool marshallerPool = new _Xml.MarshallerPool();
+
         @Override
         @SneakyThrows
         @Nullable
@@ -172,21 +179,31 @@ public String toXml(
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
-                val marshaller = jaxbContext.createMarshaller();
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
-                for (val entry : _NullSafe.entrySet(marshallerProperties)) {
-                    marshaller.setProperty(entry.getKey(), entry.getValue());
+                // only pooled if not otherwise customized
+                val pooled = _NullSafe.isEmpty(marshallerProperties);
+                val marshaller = pooled
+                        ? marshallerPool.borrowMarshaller(jaxbContext)
+                        : jaxbContext.createMarshaller();
+                try {
+                    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+                    for (val entry : _NullSafe.entrySet(marshallerProperties)) {
+                        marshaller.setProperty(entry.getKey(), entry.getValue());
+                    }
+
+                    configure(marshaller);
+
+                    val writer = new StringWriter();
+                    marshaller.marshal(domainObject, writer);
+                    val xml = writer.toString();
+
+                    return xml;
+                } finally {
+                    if(pooled) {
+                        marshallerPool.releaseMarshaller(jaxbContext, marshaller);
+                    }
                 }
 
-                configure(marshaller);
-
-                val writer = new StringWriter();
-                marshaller.marshal(domainObject, writer);
-                val xml = writer.toString();
-
-                return xml;
-
             } catch (Exception e) {
                 throw _Xml.verboseException("marshalling domain object to XML", domainClass, e);
             }
@@ -230,16 +247,25 @@ protected Object internalFromXml(
                 return null;
             }
 
-            val unmarshaller = jaxbContext.createUnmarshaller();
-
-            for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
-                unmarshaller.setProperty(entry.getKey(), entry.getValue());
-            }
+            // only pooled if not otherwise customized
+            val pooled = _NullSafe.isEmpty(unmarshallerProperties);
+            val unmarshaller = pooled
+                    ? marshallerPool.borrowUnmarshaller(jaxbContext)
+                    : jaxbContext.createUnmarshaller();
+            try {
+                for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
+                    unmarshaller.setProperty(entry.getKey(), entry.getValue());
+                }
 
-            configure(unmarshaller);
+                configure(unmarshaller);
 
-            val pojo = unmarshaller.unmarshal(new StringReader(xml));
-            return pojo;
+                val pojo = unmarshaller.unmarshal(new StringReader(xml));
+                return pojo;
+            } finally {
+                if(pooled) {
+                    marshallerPool.releaseUnmarshaller(jaxbContext, unmarshaller);
+                }
+            }
         }
 
         @Override
@@ -103,6 +103,33 @@
      */
     int getNumberPropertiesModified();
 
+    /**
+     * If the changes of the transaction are published in chunks, the sequence
+     * number (starting at 0) of this chunk within the transaction; otherwise
+     * always 0.
+     *
+     * <p>
+     *     With {@link #getInteractionId()} and {@link #getSequence()} it
+     *     identifies the chunk.  If chunked, then the numbers of objects
+     *     created, updated or deleted relate to this chunk only, whereas the
+     *     numbers of objects loaded and properties modified are still those of
+     *     the transaction as a whole.
+     * </p>
+     */
+    default int getChunkSequence() {
+        return 0;
+    }
+
+    /**
+     * Whether this is the final (or only) chunk of the changes of the
+     * transaction.
+     *
+     * @see #getChunkSequence()
+     */
+    default boolean isLastChunk() {
+        return true;
+    }
+
     /**
      * Same details, but as an an instance of {@link ChangesDto}.
      *
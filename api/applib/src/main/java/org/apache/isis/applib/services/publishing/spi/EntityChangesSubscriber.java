@@ -49,6 +49,13 @@ public interface EntityChangesSubscriber extends HasEnabling {
      *     The callback is called at the end of the transaction, during the
      *     pre-commit phase.
      * </p>
+     *
+     * <p>
+     *     If the framework is configured to publish in chunks (for very large
+     *     transactions), then this is called once per chunk, in order of
+     *     {@link EntityChanges#getChunkSequence()}, until the
+     *     {@link EntityChanges#isLastChunk() last chunk}.
+     * </p>
      */
     void onChanging(EntityChanges entityChanges);
 }
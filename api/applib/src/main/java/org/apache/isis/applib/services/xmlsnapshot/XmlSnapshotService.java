@@ -18,6 +18,8 @@
  */
 package org.apache.isis.applib.services.xmlsnapshot;
 
+import java.io.OutputStream;
+
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -71,10 +73,32 @@ interface Builder {
              */
             void includePathAndAnnotation(
                 final String path, final String annotation);
+            /**
+             * Limits the number of levels (below the root object) to which
+             * included paths are followed; by default unlimited.
+             */
+            void setMaxDepth(final int maxDepth);
+            /**
+             * Whether included paths should stop at objects already being
+             * written further up the graph; by default <tt>false</tt>.
+             *
+             * <p>
+             * Only honoured by {@link #writeXml(OutputStream)}.
+             */
+            void setSkipCycles(final boolean skipCycles);
             /**
              * Builds the Snapshot.
              */
             XmlSnapshotService.Snapshot build();
+            /**
+             * Writes the XML of the Snapshot directly to the stream, as the
+             * objects are traversed, without building a DOM first.
+             *
+             * <p>
+             * The XML is the same as that of {@link #build()}; no XSD is
+             * generated.
+             */
+            void writeXml(final OutputStream out);
         }
     }
 
@@ -33,6 +33,7 @@
 
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.chg.v2.ChangesDto;
 
 /**
@@ -54,9 +55,14 @@ static JAXBContext getJaxbContext() {
     }
 
     public static ChangesDto fromXml(final Reader reader) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (ChangesDto) un.unmarshal(reader);
+            final Unmarshaller un = _Xml.marshallerPool().borrowUnmarshaller(jaxbContext);
+            try {
+                return (ChangesDto) un.unmarshal(reader);
+            } finally {
+                _Xml.marshallerPool().releaseUnmarshaller(jaxbContext, un);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -82,10 +88,15 @@ public static String toXml(final ChangesDto changesDto) {
     }
 
     public static void toXml(final ChangesDto changesDto, final Writer writer) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(changesDto, writer);
+            final Marshaller m = _Xml.marshallerPool().borrowMarshaller(jaxbContext);
+            try {
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(changesDto, writer);
+            } finally {
+                _Xml.marshallerPool().releaseMarshaller(jaxbContext, m);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
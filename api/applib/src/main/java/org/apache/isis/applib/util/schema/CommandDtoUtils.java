@@ -34,6 +34,7 @@
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ActionDto;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.cmd.v2.MapDto;
@@ -60,9 +61,14 @@ static JAXBContext getJaxbContext() {
     }
 
     public static CommandDto fromXml(final Reader reader) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (CommandDto) un.unmarshal(reader);
+            final Unmarshaller un = _Xml.marshallerPool().borrowUnmarshaller(jaxbContext);
+            try {
+                return (CommandDto) un.unmarshal(reader);
+            } finally {
+                _Xml.marshallerPool().releaseUnmarshaller(jaxbContext, un);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -92,10 +98,15 @@ public static String toXml(final CommandDto commandDto) {
     }
 
     public static void toXml(final CommandDto commandDto, final Writer writer) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(commandDto, writer);
+            final Marshaller m = _Xml.marshallerPool().borrowMarshaller(jaxbContext);
+            try {
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(commandDto, writer);
+            } finally {
+                _Xml.marshallerPool().releaseMarshaller(jaxbContext, m);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
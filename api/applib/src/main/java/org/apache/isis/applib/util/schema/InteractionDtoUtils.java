@@ -42,6 +42,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ParamDto;
 import org.apache.isis.schema.cmd.v2.ParamsDto;
 import org.apache.isis.schema.common.v2.InteractionType;
@@ -75,9 +76,14 @@ static JAXBContext getJaxbContext() {
     }
 
     public static InteractionDto fromXml(final Reader reader) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (InteractionDto) un.unmarshal(reader);
+            final Unmarshaller un = _Xml.marshallerPool().borrowUnmarshaller(jaxbContext);
+            try {
+                return (InteractionDto) un.unmarshal(reader);
+            } finally {
+                _Xml.marshallerPool().releaseUnmarshaller(jaxbContext, un);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -103,10 +109,15 @@ public static String toXml(final InteractionDto interactionDto) {
     }
 
     public static void toXml(final InteractionDto interactionDto, final Writer writer) {
+        final JAXBContext jaxbContext = getJaxbContext();
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(interactionDto, writer);
+            final Marshaller m = _Xml.marshallerPool().borrowMarshaller(jaxbContext);
+            try {
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+                m.marshal(interactionDto, writer);
+            } finally {
+                _Xml.marshallerPool().releaseMarshaller(jaxbContext, m);
+            }
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
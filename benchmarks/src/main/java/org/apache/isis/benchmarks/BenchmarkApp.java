@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.PropertySources;
+
+import org.apache.isis.benchmarks.domain.BenchmarkDomainModule;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.runtimeservices.IsisModuleCoreRuntimeServices;
+import org.apache.isis.persistence.jdo.datanucleus.IsisModuleJdoDatanucleus;
+import org.apache.isis.security.bypass.IsisModuleSecurityBypass;
+import org.apache.isis.viewer.restfulobjects.rendering.IsisModuleRestfulObjectsRendering;
+
+/**
+ * The application the benchmarks run against: the benchmark domain, persisted
+ * to an in-memory H2 database, with security bypassed.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@Import({
+    IsisModuleCoreRuntimeServices.class,
+    IsisModuleSecurityBypass.class,
+    IsisModuleJdoDatanucleus.class,
+    IsisModuleRestfulObjectsRendering.class,
+})
+@ComponentScan(
+        basePackageClasses= {
+                BenchmarkDomainModule.class
+        })
+@PropertySources({
+    @PropertySource(IsisPresets.NoTranslations),
+    @PropertySource(IsisPresets.IntrospectFully),
+    @PropertySource(IsisPresets.SilenceMetaModel),
+    @PropertySource(IsisPresets.SilenceProgrammingModel),
+    @PropertySource(IsisPresets.DatanucleusAutocreateNoValidate),
+    @PropertySource(IsisPresets.H2InMemory_withUniqueSchema),
+})
+public class BenchmarkApp {
+
+    public static final int NUMBER_OF_CUSTOMERS = 100;
+    public static final int ORDERS_PER_CUSTOMER = 20;
+
+    /**
+     * Number of rows of a table page, as rendered by the viewers.
+     */
+    public static final int PAGE_SIZE = 20;
+
+    /**
+     * Bootstraps the application (as a plain, non-web application); to be
+     * closed by the caller.
+     */
+    public static ConfigurableApplicationContext start() {
+        return builder().run();
+    }
+
+    /**
+     * For benchmarks that need to add to the application before it is
+     * bootstrapped.
+     */
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(BenchmarkApp.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("isis.persistence.schema.auto-create-schemas=benchmarks");
+    }
+
+}
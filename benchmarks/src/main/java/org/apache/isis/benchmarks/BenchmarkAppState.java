@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomers;
+import org.apache.isis.core.interaction.session.InteractionFactory;
+
+/**
+ * Base for the state of benchmarks that run against the {@link BenchmarkApp}.
+ *
+ * <p>
+ *     Starts the application and populates the database once per trial, then
+ *     keeps an interaction open for the benchmark thread, so that the
+ *     customers remain attached. Benchmarks measuring a whole request instead
+ *     open an interaction of their own.
+ * </p>
+ */
+public abstract class BenchmarkAppState {
+
+    protected ConfigurableApplicationContext applicationContext;
+    protected InteractionFactory interactionFactory;
+    protected TransactionService transactionService;
+
+    protected List<BenchmarkCustomer> customers;
+
+    @Setup(Level.Trial)
+    public void startApp() {
+        applicationContext = newApplication().run();
+        interactionFactory = lookup(InteractionFactory.class);
+        transactionService = lookup(TransactionService.class);
+
+        interactionFactory.openInteraction();
+        customers = transactionService.callWithinCurrentTransactionElseCreateNew(()->
+                lookup(BenchmarkCustomers.class).createIfNone(
+                        BenchmarkApp.NUMBER_OF_CUSTOMERS,
+                        BenchmarkApp.ORDERS_PER_CUSTOMER))
+                .presentElseFail();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApp() {
+        interactionFactory.closeSessionStack();
+        applicationContext.close();
+    }
+
+    /**
+     * Hook for benchmarks that need to add to the application.
+     */
+    protected SpringApplicationBuilder newApplication() {
+        return BenchmarkApp.builder();
+    }
+
+    protected <T> T lookup(final Class<T> type) {
+        return applicationContext.getBean(type);
+    }
+
+    /**
+     * The customers shown on the first page of a table.
+     */
+    protected List<BenchmarkCustomer> firstPage() {
+        return customers.subList(0, BenchmarkApp.PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by a regular expression (first argument,
+ * default all of them), writing the results as JSON to the given file
+ * (second argument, default <tt>jmh-result.json</tt>).
+ *
+ * <p>
+ *     The number of forks, warmup and measurement iterations are those
+ *     declared by each benchmark, so that results remain comparable between
+ *     releases.
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws RunnerException {
+        final String includes = args.length > 0 ? args[0] : ".*";
+        final String resultFile = args.length > 1 ? args[1] : "jmh-result.json";
+
+        new Runner(new OptionsBuilder()
+                .include(includes)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build())
+        .run();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.jdo.annotations.Column;
+import javax.jdo.annotations.DatastoreIdentity;
+import javax.jdo.annotations.IdGeneratorStrategy;
+import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.Collection;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Editing;
+import org.apache.isis.applib.annotation.Property;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A typical entity: a handful of value properties (some with supporting
+ * hide and disable methods), a title, a collection (rendered as a table) and
+ * an action.
+ */
+@PersistenceCapable(identityType = IdentityType.DATASTORE, schema = "benchmarks")
+@DatastoreIdentity(strategy = IdGeneratorStrategy.IDENTITY, column = "id")
+@DomainObject(objectType = "benchmarks.Customer")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BenchmarkCustomer {
+
+    public static BenchmarkCustomer of(final int number) {
+        final BenchmarkCustomer customer = new BenchmarkCustomer();
+        customer.setName("Customer " + number);
+        customer.setEmail("customer" + number + "@example.com");
+        customer.setCreditLimit(BigDecimal.valueOf(1_000L * (number % 10 + 1), 2));
+        customer.setSince(LocalDate.of(2000 + number % 20, number % 12 + 1, number % 28 + 1));
+        customer.setActive(number % 3 != 0);
+        return customer;
+    }
+
+    public String title() {
+        return getName() + " <" + getEmail() + ">";
+    }
+
+    @Property(editing = Editing.ENABLED)
+    @Getter @Setter @Column(allowsNull = "false")
+    private String name;
+
+    @Property
+    @Getter @Setter @Column(allowsNull = "true")
+    private String email;
+    public boolean hideEmail() {
+        return !isActive();
+    }
+
+    @Property(editing = Editing.ENABLED)
+    @Getter @Setter @Column(allowsNull = "false", scale = 2)
+    private BigDecimal creditLimit;
+    public String disableCreditLimit() {
+        return isActive() ? null : "Customer is inactive";
+    }
+
+    @Property
+    @Getter @Setter @Column(allowsNull = "false")
+    private LocalDate since;
+
+    @Property
+    @Getter @Setter
+    private boolean active;
+
+    @Persistent(mappedBy = "customer")
+    @Collection
+    @Getter @Setter
+    private SortedSet<BenchmarkOrder> orders = new TreeSet<>();
+
+    @Action
+    public BenchmarkCustomer updateCreditLimit(final BigDecimal creditLimit) {
+        setCreditLimit(creditLimit);
+        return this;
+    }
+    public String disableUpdateCreditLimit() {
+        return disableCreditLimit();
+    }
+
+}
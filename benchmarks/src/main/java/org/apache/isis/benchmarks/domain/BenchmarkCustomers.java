@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.domain;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Repository;
+
+import org.apache.isis.applib.services.repository.RepositoryService;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@Named("benchmarks.BenchmarkCustomers")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class BenchmarkCustomers {
+
+    private final RepositoryService repositoryService;
+
+    public List<BenchmarkCustomer> listAll() {
+        return repositoryService.allInstances(BenchmarkCustomer.class);
+    }
+
+    /**
+     * Persists the given number of customers, each with the given number of
+     * orders, unless already done.
+     */
+    public List<BenchmarkCustomer> createIfNone(
+            final int numberOfCustomers,
+            final int ordersPerCustomer) {
+        final List<BenchmarkCustomer> customers = listAll();
+        if(!customers.isEmpty()) {
+            return customers;
+        }
+        for (int number = 1; number <= numberOfCustomers; number++) {
+            final BenchmarkCustomer customer = repositoryService.persist(BenchmarkCustomer.of(number));
+            for (int orderNumber = 1; orderNumber <= ordersPerCustomer; orderNumber++) {
+                final BenchmarkOrder order = repositoryService.persist(BenchmarkOrder.of(customer, orderNumber));
+                customer.getOrders().add(order);
+            }
+        }
+        return listAll();
+    }
+
+}
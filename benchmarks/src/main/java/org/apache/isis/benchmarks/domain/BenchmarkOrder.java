@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.domain;
+
+import java.time.LocalDate;
+
+import javax.jdo.annotations.Column;
+import javax.jdo.annotations.DatastoreIdentity;
+import javax.jdo.annotations.IdGeneratorStrategy;
+import javax.jdo.annotations.IdentityType;
+import javax.jdo.annotations.PersistenceCapable;
+
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Property;
+import org.apache.isis.applib.annotation.Where;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@PersistenceCapable(identityType = IdentityType.DATASTORE, schema = "benchmarks")
+@DatastoreIdentity(strategy = IdGeneratorStrategy.IDENTITY, column = "id")
+@DomainObject(objectType = "benchmarks.Order")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BenchmarkOrder implements Comparable<BenchmarkOrder> {
+
+    public static BenchmarkOrder of(final BenchmarkCustomer customer, final int number) {
+        final BenchmarkOrder order = new BenchmarkOrder();
+        order.setCustomer(customer);
+        order.setNumber(number);
+        order.setProduct("Product " + (number % 7 + 1));
+        order.setQuantity(number % 5 + 1);
+        order.setPlacedOn(customer.getSince().plusDays(number));
+        return order;
+    }
+
+    public String title() {
+        return "Order " + getNumber() + " of " + getCustomer().getName();
+    }
+
+    @Property(hidden = Where.PARENTED_TABLES)
+    @Getter @Setter @Column(allowsNull = "false", name = "customerId")
+    private BenchmarkCustomer customer;
+
+    @Property
+    @Getter @Setter
+    private int number;
+
+    @Property
+    @Getter @Setter @Column(allowsNull = "false")
+    private String product;
+
+    @Property
+    @Getter @Setter
+    private int quantity;
+
+    @Property
+    @Getter @Setter @Column(allowsNull = "false")
+    private LocalDate placedOn;
+
+    @Override
+    public int compareTo(final BenchmarkOrder other) {
+        return Integer.compare(getNumber(), other.getNumber());
+    }
+
+}
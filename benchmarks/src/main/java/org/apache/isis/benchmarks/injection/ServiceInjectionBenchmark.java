@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.injection;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.factory.FactoryService;
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.applib.services.title.TitleService;
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomers;
+
+/**
+ * Injects services into a new pojo (as done for every mixin, view model and
+ * entity instantiated), using the framework's {@link ServiceInjector} and, for
+ * comparison, Spring's bean factory directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ServiceInjectionBenchmark extends BenchmarkAppState {
+
+    public static class InjectionTarget {
+        @Inject ClockService clockService;
+        @Inject FactoryService factoryService;
+        @Inject RepositoryService repositoryService;
+        @Inject TitleService titleService;
+        @Inject BenchmarkCustomers customers;
+    }
+
+    private ServiceInjector serviceInjector;
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Setup
+    public void setUp() {
+        serviceInjector = lookup(ServiceInjector.class);
+        beanFactory = applicationContext.getAutowireCapableBeanFactory();
+    }
+
+    @Benchmark
+    public InjectionTarget serviceInjector() {
+        return serviceInjector.injectServicesInto(new InjectionTarget());
+    }
+
+    @Benchmark
+    public InjectionTarget springBeanFactory() {
+        final InjectionTarget target = new InjectionTarget();
+        beanFactory.autowireBeanProperties(target, AutowireCapableBeanFactory.AUTOWIRE_NO, false);
+        return target;
+    }
+
+}
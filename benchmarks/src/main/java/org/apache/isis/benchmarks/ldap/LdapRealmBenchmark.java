@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.ldap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.shiro.authc.AuthenticationInfo;
+import org.apache.shiro.authc.UsernamePasswordToken;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.extensions.shirorealmldap.realm.impl.IsisLdapContextFactory;
+import org.apache.isis.extensions.shirorealmldap.realm.impl.IsisLdapRealm;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+
+/**
+ * Logs in and authorizes a user with {@link IsisLdapRealm}, against an
+ * in-memory LDAP server (so measuring the realm and the LDAP round trips,
+ * rather than the network). Authorization is measured both with and without
+ * the realm's authorization cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class LdapRealmBenchmark {
+
+    /**
+     * In milliseconds; not positive disables the cache.
+     */
+    @Param({"0", "60000"})
+    private long authorizationCacheTimeToLive;
+
+    private InMemoryDirectoryServer server;
+    private IsisLdapRealm realm;
+    private PrincipalCollection joe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig("o=mojo");
+        config.addAdditionalBindCredentials("cn=admin", "secret");
+        config.setSchema(null);
+        server = new InMemoryDirectoryServer(config);
+        server.add("dn: o=mojo", "objectClass: organization", "o: mojo");
+        server.add("dn: ou=users,o=mojo", "objectClass: organizationalUnit", "ou: users");
+        server.add("dn: ou=groups,o=mojo", "objectClass: organizationalUnit", "ou: groups");
+        server.add("dn: uid=joe,ou=users,o=mojo", "objectClass: inetOrgPerson", "uid: joe", "street: Main",
+                "userPassword: pass");
+        server.add("dn: uid=bob,ou=users,o=mojo", "objectClass: inetOrgPerson", "uid: bob", "street: Elm",
+                "userPassword: pass");
+        server.add("dn: cn=LDN_USERS,ou=groups,o=mojo", "objectClass: groupOfUniqueNames", "cn: LDN_USERS",
+                "country: UK",
+                "uniqueMember: uid=joe,ou=users,o=mojo",
+                "uniqueMember: uid=bob,ou=users,o=mojo");
+        server.add("dn: cn=GLOBAL_ADMIN,ou=groups,o=mojo", "objectClass: groupOfUniqueNames", "cn: GLOBAL_ADMIN",
+                "country: US",
+                "uniqueMember: uid=bob,ou=users,o=mojo");
+        server.startListening();
+
+        final IsisLdapContextFactory contextFactory = new IsisLdapContextFactory();
+        contextFactory.setUrl("ldap://localhost:" + server.getListenPort());
+        contextFactory.setSystemUsername("cn=admin");
+        contextFactory.setSystemPassword("secret");
+        contextFactory.setSystemAuthenticationMechanism("simple");
+
+        realm = new IsisLdapRealm();
+        realm.setContextFactory(contextFactory);
+        realm.setUserDnTemplate("uid={0},ou=users,o=mojo");
+        realm.setSearchBase("ou=groups,o=mojo");
+        realm.setUniqueMemberAttributeValueTemplate("uid={0},ou=users,o=mojo");
+        realm.setSearchUserBase("ou=users,o=mojo");
+        realm.setUserObjectClass("inetOrgPerson");
+        realm.setUserExtractedAttribute("street");
+        realm.setPermissionByUserAttribute("attribute:Folder.{street}:Read");
+        realm.setGroupExtractedAttribute("country");
+        realm.setPermissionByGroupAttribute("attribute:Portfolio.{country}");
+        realm.setPermissionsByRole("LDN_USERS = *:ToDoItem:*:*; GLOBAL_ADMIN = *");
+        realm.setAuthorizationCacheTimeToLive(authorizationCacheTimeToLive);
+
+        joe = new SimplePrincipalCollection("joe", realm.getName());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.shutDown(true);
+    }
+
+    @Benchmark
+    public AuthenticationInfo login() {
+        return realm.getAuthenticationInfo(new UsernamePasswordToken("joe", "pass"));
+    }
+
+    @Benchmark
+    public boolean authorize() {
+        return realm.isPermitted(joe, "attribute:Folder.Main:Read");
+    }
+
+}
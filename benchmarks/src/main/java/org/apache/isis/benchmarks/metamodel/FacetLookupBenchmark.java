@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.metamodel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.all.hide.HiddenFacet;
+import org.apache.isis.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+/**
+ * Looks up facets of an object specification (a
+ * {@link org.apache.isis.core.metamodel.facetapi.FacetHolderImpl}), both
+ * present and absent ones, from one and from several threads.
+ *
+ * <p>
+ *     The state is shared by all threads, so that they contend for the same
+ *     facet holder, as do the threads of a web container.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class FacetLookupBenchmark extends BenchmarkAppState {
+
+    private FacetHolder facetHolder;
+
+    @Setup
+    public void setUp() {
+        facetHolder = lookup(SpecificationLoader.class)
+                .specForType(BenchmarkCustomer.class)
+                .get();
+    }
+
+    @Benchmark
+    public Object getFacet() {
+        return facetHolder.getFacet(TitleFacet.class);
+    }
+
+    @Benchmark
+    public Object getFacet_absent() {
+        return facetHolder.getFacet(HiddenFacet.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getFacet_contended() {
+        return facetHolder.getFacet(TitleFacet.class);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.metamodel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+/**
+ * Evaluates the title, hide and disable rules of a {@link ManagedObject}, both
+ * for a single object and member (within the current interaction) and for all
+ * the cells of a table page (each within an interaction of its own, as for a
+ * request). The latter includes the authorization of each member.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ManagedObjectBenchmark extends BenchmarkAppState {
+
+    private ManagedObject customer;
+    private List<ManagedObject> page;
+    private ObjectAssociation email;
+    private ObjectAssociation creditLimit;
+    private List<OneToOneAssociation> properties;
+
+    @Setup
+    public void setUp() {
+        final ObjectSpecification spec = lookup(SpecificationLoader.class)
+                .specForType(BenchmarkCustomer.class)
+                .get();
+        customer = ManagedObject.of(spec, customers.get(0));
+        page = firstPage().stream()
+                .map(pojo->ManagedObject.of(spec, pojo))
+                .collect(Collectors.toList());
+        email = spec.getAssociationElseFail("email");
+        creditLimit = spec.getAssociationElseFail("creditLimit");
+        properties = spec.streamProperties(MixedIn.INCLUDED)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public String title() {
+        return customer.titleString();
+    }
+
+    @Benchmark
+    public boolean hide() {
+        return email.isVisible(customer, InteractionInitiatedBy.USER, Where.OBJECT_FORMS).isAllowed();
+    }
+
+    @Benchmark
+    public boolean disable() {
+        return creditLimit.isUsable(customer, InteractionInitiatedBy.USER, Where.OBJECT_FORMS).isAllowed();
+    }
+
+    @Benchmark
+    public void titlesOfTablePage(final Blackhole blackhole) {
+        interactionFactory.runAnonymous(()->{
+            for (final ManagedObject row : page) {
+                blackhole.consume(row.titleString());
+            }
+        });
+    }
+
+    @Benchmark
+    public void authorizeTablePage(final Blackhole blackhole) {
+        interactionFactory.runAnonymous(()->{
+            for (final ManagedObject row : page) {
+                for (final ObjectAssociation property : properties) {
+                    blackhole.consume(property.isVisible(row, InteractionInitiatedBy.USER, Where.STANDALONE_TABLES));
+                    blackhole.consume(property.isUsable(row, InteractionInitiatedBy.USER, Where.STANDALONE_TABLES));
+                }
+            }
+        });
+    }
+
+}
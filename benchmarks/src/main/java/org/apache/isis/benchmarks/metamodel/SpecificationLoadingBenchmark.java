@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.metamodel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.commons.internal.reflection._Annotations;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+/**
+ * Disposes of and then recreates the meta-model of the benchmark application
+ * (framework and domain types), as done on bootstrapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Thread)
+public class SpecificationLoadingBenchmark extends BenchmarkAppState {
+
+    private SpecificationLoader specificationLoader;
+
+    @Setup
+    public void setUp() {
+        specificationLoader = lookup(SpecificationLoader.class);
+    }
+
+    @Benchmark
+    public int createMetaModel() {
+        _Annotations.clearCache();
+        specificationLoader.disposeMetaModel();
+        specificationLoader.createMetaModel();
+        return specificationLoader.snapshotSpecifications().size();
+    }
+
+}
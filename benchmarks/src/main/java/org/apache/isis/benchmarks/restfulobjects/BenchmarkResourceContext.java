@@ -0,0 +1,145 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.restfulobjects;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.runtime.context.RuntimeContextBase;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
+import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The {@link IResourceContext} of a <tt>GET</tt> of a domain object, as
+ * created by the RO viewer per request, but without the JAX-RS request
+ * itself; honours the RO viewer's configuration.
+ */
+class BenchmarkResourceContext
+extends RuntimeContextBase
+implements IResourceContext {
+
+    private static final String BASE_URI = "http://localhost:8080/restful/";
+
+    private final Set<Oid> rendered = new HashSet<>();
+
+    @Getter(onMethod = @__(@Override))
+    @Setter
+    private ObjectAdapterLinkTo objectAdapterLinkTo;
+
+    BenchmarkResourceContext(final MetaModelContext metaModelContext) {
+        super(metaModelContext);
+    }
+
+    @Override
+    public String urlFor(final String url) {
+        return BASE_URI + url;
+    }
+
+    @Override
+    public List<MediaType> getAcceptableMediaTypes() {
+        return Collections.singletonList(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Override
+    public InteractionInitiatedBy getInteractionInitiatedBy() {
+        return InteractionInitiatedBy.USER;
+    }
+
+    @Override
+    public Where getWhere() {
+        return Where.OBJECT_FORMS;
+    }
+
+    @Override
+    public List<List<String>> getFollowLinks() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isValidateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean honorUiHints() {
+        return getConfiguration().getViewer().getRestfulobjects().isHonorUiHints();
+    }
+
+    @Override
+    public boolean objectPropertyValuesOnly() {
+        return getConfiguration().getViewer().getRestfulobjects().isObjectPropertyValuesOnly();
+    }
+
+    @Override
+    public boolean suppressDescribedByLinks() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressDescribedByLinks();
+    }
+
+    @Override
+    public boolean suppressUpdateLink() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressUpdateLink();
+    }
+
+    @Override
+    public boolean suppressMemberId() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressMemberId();
+    }
+
+    @Override
+    public boolean suppressMemberLinks() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressMemberLinks();
+    }
+
+    @Override
+    public boolean suppressMemberExtensions() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressMemberExtensions();
+    }
+
+    @Override
+    public boolean suppressMemberDisabledReason() {
+        return getConfiguration().getViewer().getRestfulobjects().isSuppressMemberDisabledReason();
+    }
+
+    @Override
+    public boolean canEagerlyRender(final ManagedObject objectAdapter) {
+        final Oid oid = ManagedObjects.identify(objectAdapter).orElse(null);
+        return oid == null
+                || rendered.add(oid);
+    }
+
+    @Override
+    public RepresentationService.Intent getIntent() {
+        return RepresentationService.Intent.ALREADY_PERSISTENT;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.restfulobjects;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.util.JsonWriterUtil;
+
+/**
+ * Renders the RO representation of a domain object (with its properties,
+ * collection and actions), as for a <tt>GET</tt> of the object; both to the
+ * JSON tree and through to the response body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class DomainObjectRenderingBenchmark extends BenchmarkAppState {
+
+    private MetaModelContext metaModelContext;
+    private ManagedObject customer;
+
+    @Setup
+    public void setUp() {
+        metaModelContext = lookup(MetaModelContext.class);
+        customer = ManagedObject.of(
+                lookup(SpecificationLoader.class).specForType(BenchmarkCustomer.class).get(),
+                customers.get(0));
+    }
+
+    @Benchmark
+    public JsonRepresentation render() {
+        return newRenderer().render();
+    }
+
+    @Benchmark
+    public String renderToJson() {
+        return JsonWriterUtil.jsonFor(newRenderer().render(), JsonMapper.PrettyPrinting.DISABLE);
+    }
+
+    private DomainObjectReprRenderer newRenderer() {
+        final DomainObjectReprRenderer renderer = new DomainObjectReprRenderer(
+                new BenchmarkResourceContext(metaModelContext), null, JsonRepresentation.newMap());
+        renderer.with(customer).includesSelf();
+        return renderer;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.schema;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.applib.util.schema.CommonDtoUtils;
+import org.apache.isis.applib.util.schema.InteractionDtoUtils;
+import org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2.IsisCommandDtoCompressedConverter;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.cmd.v2.ParamDto;
+import org.apache.isis.schema.cmd.v2.ParamsDto;
+import org.apache.isis.schema.common.v2.InteractionType;
+import org.apache.isis.schema.common.v2.OidsDto;
+import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
+import org.apache.isis.schema.ixn.v2.InteractionDto;
+
+/**
+ * Marshals a {@link CommandDto} and an {@link InteractionDto} (for an action
+ * invocation) to XML and back, as done when publishing or persisting them;
+ * also the compressed form of the command, as stored by the command log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class DtoMarshallingBenchmark {
+
+    private static final Bookmark TARGET = Bookmark.of("benchmarks.Customer", "42");
+    private static final String MEMBER_IDENTIFIER =
+            "org.apache.isis.benchmarks.domain.BenchmarkCustomer#updateCreditLimit()";
+
+    private final IsisCommandDtoCompressedConverter compressedConverter = new IsisCommandDtoCompressedConverter();
+
+    private CommandDto commandDto;
+    private String commandXml;
+    private String commandCompressed;
+
+    private InteractionDto interactionDto;
+    private String interactionXml;
+
+    @Setup
+    public void setUp() {
+        commandDto = newCommandDto();
+        commandXml = CommandDtoUtils.toXml(commandDto);
+        commandCompressed = compressedConverter.toDatastoreType(commandDto);
+
+        interactionDto = newInteractionDto();
+        interactionXml = InteractionDtoUtils.toXml(interactionDto);
+    }
+
+    @Benchmark
+    public String commandDto_toXml() {
+        return CommandDtoUtils.toXml(commandDto);
+    }
+
+    @Benchmark
+    public CommandDto commandDto_fromXml() {
+        return CommandDtoUtils.fromXml(commandXml);
+    }
+
+    @Benchmark
+    public String commandDto_toCompressed() {
+        return compressedConverter.toDatastoreType(commandDto);
+    }
+
+    @Benchmark
+    public CommandDto commandDto_fromCompressed() {
+        return compressedConverter.toMemberType(commandCompressed);
+    }
+
+    @Benchmark
+    public String interactionDto_toXml() {
+        return InteractionDtoUtils.toXml(interactionDto);
+    }
+
+    @Benchmark
+    public InteractionDto interactionDto_fromXml() {
+        return InteractionDtoUtils.fromXml(interactionXml);
+    }
+
+    // -- HELPER
+
+    private static CommandDto newCommandDto() {
+        final CommandDto dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUser("sven");
+        dto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(1_000L)));
+        dto.setTargets(new OidsDto());
+        dto.getTargets().getOid().add(TARGET.toOidDto());
+
+        final ActionDto actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("benchmarks.Customer#updateCreditLimit");
+        actionDto.setMemberIdentifier(MEMBER_IDENTIFIER);
+        actionDto.setParameters(new ParamsDto());
+        actionDto.getParameters().getParameter().addAll(newParamDtos());
+        dto.setMember(actionDto);
+        return dto;
+    }
+
+    private static InteractionDto newInteractionDto() {
+        final ActionInvocationDto invocationDto = InteractionDtoUtils.newActionInvocation(
+                0, TARGET, "Customer 42 <customer42@example.com>", MEMBER_IDENTIFIER,
+                newParamDtos(), "sven");
+        invocationDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+
+        final InteractionDto dto = new InteractionDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setExecution(invocationDto);
+        return dto;
+    }
+
+    private static List<ParamDto> newParamDtos() {
+        return Arrays.asList(
+                CommonDtoUtils.newParamDto("creditLimit", BigDecimal.class, new BigDecimal("5000.00"), null),
+                CommonDtoUtils.newParamDto("reason", String.class, "annual review", null),
+                CommonDtoUtils.newParamDto("effectiveFrom", LocalDate.class, LocalDate.of(2021, 1, 1), null),
+                CommonDtoUtils.newParamDto("notify", boolean.class, true, null),
+                CommonDtoUtils.newParamDto("reviewCycle", int.class, 12, null));
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.urlencoding;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.memento._Mementos;
+import org.apache.isis.commons.internal.memento._Mementos.Memento;
+import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.UrlEncoding.Compression;
+import org.apache.isis.core.runtimeservices.urlencoding.UrlEncodingServiceWithCompression;
+
+/**
+ * Writes and parses a memento (as held by a view model's URL) using
+ * {@link UrlEncodingServiceWithCompression}, for each of its compressions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class MementoEncodingBenchmark {
+
+    @Param({"GZIP", "DEFLATE_WITH_DICTIONARY"})
+    private Compression compression;
+
+    private UrlEncodingServiceWithCompression codec;
+    private String encoded;
+
+    private static final SerializingAdapter serializingAdapter = new SerializingAdapter() {
+
+        @Override
+        public Serializable write(final Object value) {
+            return (Serializable) value;
+        }
+
+        @Override
+        public <T> T read(final Class<T> cls, final Serializable value) {
+            return _Casts.castToOrElseNull(value, cls);
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        codec = new UrlEncodingServiceWithCompression(compression);
+        encoded = write();
+    }
+
+    @Benchmark
+    public String write() {
+        final Memento memento = _Mementos.create(codec, serializingAdapter);
+        memento.put("name", "Customer 42");
+        memento.put("email", "customer42@example.com");
+        memento.put("creditLimit", new BigDecimal("5000.00"));
+        memento.put("since", LocalDate.of(2012, 7, 15));
+        memento.put("active", Boolean.TRUE);
+        memento.put("customer", Bookmark.of("benchmarks.Customer", "42"));
+        return memento.asString();
+    }
+
+    @Benchmark
+    public Object parse() {
+        final Memento memento = _Mementos.parse(codec, serializingAdapter, encoded);
+        return memento.get("customer", Bookmark.class);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.wicket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.protocol.http.mock.MockServletContext;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.util.tester.BaseWicketTester;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.web.context.WebApplicationContext;
+
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.viewer.wicket.model.models.PageParameterUtil;
+import org.apache.isis.viewer.wicket.ui.pages.entity.EntityPage;
+import org.apache.isis.viewer.wicket.viewer.IsisModuleViewerWicketViewer;
+import org.apache.isis.viewer.wicket.viewer.integration.AuthenticatedWebSessionForIsis;
+import org.apache.isis.viewer.wicket.viewer.wicketapp.IsisWicketApplication;
+
+/**
+ * Renders the Wicket viewer's page of a customer, including the table of
+ * its orders, as a signed in user; each request is processed by Wicket's
+ * {@link BaseWicketTester} (with its mock servlet container), so the HTTP
+ * layer is not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Thread)
+public class EntityPageRenderingBenchmark extends BenchmarkAppState {
+
+    private IsisWicketApplication application;
+    private MockServletContext servletContext;
+    private BaseWicketTester tester;
+    private PageParameters pageParameters;
+
+    /**
+     * A web application context (but without an embedded web server), using
+     * the mock servlet context.
+     */
+    @Override
+    protected SpringApplicationBuilder newApplication() {
+        application = new IsisWicketApplication();
+        servletContext = new MockServletContext(application, null);
+        return super.newApplication()
+                .sources(IsisModuleViewerWicketViewer.class)
+                .contextFactory(ApplicationContextFactory.ofContextClass(AnnotationConfigServletWebApplicationContext.class))
+                .initializers(applicationContext->
+                    ((AnnotationConfigServletWebApplicationContext) applicationContext)
+                    .setServletContext(servletContext));
+    }
+
+    @Setup
+    public void setUp() {
+        final ManagedObject customer = ManagedObject.of(
+                lookup(SpecificationLoader.class).specForType(BenchmarkCustomer.class).get(),
+                customers.get(0));
+        pageParameters = PageParameterUtil.createPageParametersForObject(customer);
+
+        // as would be done by Spring Boot's servlet initializer, for Wicket's SpringComponentInjector
+        servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+
+        tester = new BaseWicketTester(application, servletContext);
+        ((AuthenticatedWebSessionForIsis) tester.getSession()).signIn("sven", "pass");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tester.destroy();
+    }
+
+    @Benchmark
+    public String renderEntityPage() {
+        tester.startPage(EntityPage.class, pageParameters);
+        return tester.getLastResponseAsString();
+    }
+
+}
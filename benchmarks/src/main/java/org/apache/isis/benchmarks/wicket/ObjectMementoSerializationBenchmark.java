@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.wicket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import org.apache.isis.benchmarks.BenchmarkApp;
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.memento.ObjectMemento;
+import org.apache.isis.viewer.wicket.viewer.services.mementos.ObjectMementoServiceWicket;
+
+/**
+ * Serializes and deserializes the Wicket viewer's mementos of a table page of
+ * customers (as held by Wicket in its page store, for each page rendered),
+ * reporting the size of the serialized page besides the time taken.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ObjectMementoSerializationBenchmark extends BenchmarkAppState {
+
+    /**
+     * Reported as is (rather than per unit of time), being the same for each invocation.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Size {
+        public long bytesPerPage;
+        public long bytesPerMemento;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytesPerPage = 0;
+            bytesPerMemento = 0;
+        }
+    }
+
+    private ArrayList<ObjectMemento> page;
+    private byte[] serialized;
+
+    @Override
+    protected SpringApplicationBuilder newApplication() {
+        return super.newApplication()
+                .sources(ObjectMementoServiceWicket.class);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectMementoServiceWicket mementoService = lookup(ObjectMementoServiceWicket.class);
+        final SpecificationLoader specificationLoader = lookup(SpecificationLoader.class);
+        page = firstPage().stream()
+                .map(pojo->ManagedObject.of(specificationLoader.specForType(BenchmarkCustomer.class).get(), pojo))
+                .map(mementoService::mementoForObject)
+                .collect(Collectors.toCollection(ArrayList::new));
+        serialized = serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serializePage(final Size size) throws IOException {
+        final byte[] bytes = serialize(page);
+        size.bytesPerPage = bytes.length;
+        size.bytesPerMemento = bytes.length / BenchmarkApp.PAGE_SIZE;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserializePage() throws IOException, ClassNotFoundException {
+        try(final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return ois.readObject();
+        }
+    }
+
+    // -- HELPER
+
+    private static byte[] serialize(final Object object) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try(final ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(object);
+        }
+        return baos.toByteArray();
+    }
+
+}
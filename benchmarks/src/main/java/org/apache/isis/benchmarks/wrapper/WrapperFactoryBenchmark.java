@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.wrapper;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+
+/**
+ * Wraps a domain object, and invokes an action through the wrapper (checking
+ * the business rules, then executing the action as a command, within a
+ * transaction of its own).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class WrapperFactoryBenchmark extends BenchmarkAppState {
+
+    private WrapperFactory wrapperFactory;
+    private BenchmarkCustomer customer;
+    private BenchmarkCustomer wrapped;
+    private BigDecimal creditLimit;
+
+    @Setup
+    public void setUp() {
+        wrapperFactory = lookup(WrapperFactory.class);
+        customer = customers.stream()
+                .filter(BenchmarkCustomer::isActive)
+                .findFirst()
+                .get();
+        wrapped = wrapperFactory.wrap(customer);
+        creditLimit = customer.getCreditLimit();
+    }
+
+    @Benchmark
+    public BenchmarkCustomer wrap() {
+        return wrapperFactory.wrap(customer);
+    }
+
+    @Benchmark
+    public BenchmarkCustomer invoke() {
+        return transactionService.callWithinCurrentTransactionElseCreateNew(()->
+                wrapped.updateCreditLimit(creditLimit))
+                .presentElseFail();
+    }
+
+}
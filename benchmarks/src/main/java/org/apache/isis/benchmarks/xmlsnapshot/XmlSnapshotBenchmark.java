@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.benchmarks.xmlsnapshot;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.isis.applib.services.xmlsnapshot.XmlSnapshotService;
+import org.apache.isis.benchmarks.BenchmarkAppState;
+import org.apache.isis.benchmarks.domain.BenchmarkCustomer;
+
+/**
+ * Writes the XML snapshot of a customer, including its orders, either by
+ * building the DOM first or by streaming it as the objects are traversed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class XmlSnapshotBenchmark extends BenchmarkAppState {
+
+    private XmlSnapshotService xmlSnapshotService;
+    private BenchmarkCustomer customer;
+    private Transformer transformer;
+
+    @Setup
+    public void setUp() throws TransformerException {
+        xmlSnapshotService = lookup(XmlSnapshotService.class);
+        customer = customers.get(0);
+        transformer = TransformerFactory.newInstance().newTransformer();
+    }
+
+    @Benchmark
+    public void dom() throws TransformerException {
+        final XmlSnapshotService.Snapshot.Builder builder = xmlSnapshotService.builderFor(customer);
+        builder.includePath("orders");
+        transformer.transform(
+                new DOMSource(builder.build().getXmlDocument()),
+                new StreamResult(OutputStream.nullOutputStream()));
+    }
+
+    @Benchmark
+    public void streaming() {
+        final XmlSnapshotService.Snapshot.Builder builder = xmlSnapshotService.builderFor(customer);
+        builder.includePath("orders");
+        builder.writeXml(OutputStream.nullOutputStream());
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Thread-safe cache, bounded in size, evicting the least recently used 
+ * entries first; optionally, entries also expire a fixed time after they 
+ * were put. Keeps hit, miss and eviction counts.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _LruCache<K, V> {
+
+    private final long timeToLiveMillis;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entryByKey;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // -- FACTORIES
+
+    /**
+     * @param maxSize - beyond which the least recently used entries are evicted
+     */
+    public static <K, V> _LruCache<K, V> ofMaxSize(final int maxSize) {
+        return new _LruCache<>(maxSize, Long.MAX_VALUE, ()->0L);
+    }
+
+    /**
+     * @param maxSize - beyond which the least recently used entries are evicted
+     * @param timeToLiveMillis - after which entries expire, once put
+     * @param clock - current time in milliseconds
+     */
+    public static <K, V> _LruCache<K, V> ofMaxSizeAndTimeToLive(
+            final int maxSize, 
+            final long timeToLiveMillis, 
+            final @NonNull LongSupplier clock) {
+        return new _LruCache<>(maxSize, timeToLiveMillis, clock);
+    }
+
+    private _LruCache(final int maxSize, final long timeToLiveMillis, final LongSupplier clock) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.clock = clock;
+        // access-ordered, so the least recently used is evicted first
+        this.entryByKey = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                if(size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // -- LOOKUP
+
+    /**
+     * The value held for given key, if any and not yet expired; 
+     * counted as hit or miss.
+     */
+    public Optional<V> get(final @NonNull K key) {
+        return get(key, Optional::of);
+    }
+
+    /**
+     * The value held for given key, if any and not yet expired, mapped with 
+     * given resolver; counted as hit only if the resolver yields a result, 
+     * otherwise the entry is evicted and a miss counted.
+     */
+    public <R> Optional<R> get(
+            final @NonNull K key, 
+            final @NonNull Function<? super V, Optional<R>> resolver) {
+        val value = getElseNull(key);
+        if(value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        val resolved = resolver.apply(value);
+        if(resolved.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+            remove(key);
+        }
+        return resolved;
+    }
+
+    // -- MODIFICATION
+
+    /**
+     * @return the value previously held for given key, if any and not yet expired
+     */
+    public Optional<V> put(final @NonNull K key, final @NonNull V value) {
+        val entry = new Entry<V>(value, expiresAt());
+        final Entry<V> previous;
+        synchronized (entryByKey) {
+            previous = entryByKey.put(key, entry);
+        }
+        return valueIfNotExpired(previous);
+    }
+
+    /**
+     * Evicts the entry for given key, if any.
+     * @return the value held for given key, if any and not yet expired
+     */
+    public Optional<V> remove(final @NonNull K key) {
+        final Entry<V> previous;
+        synchronized (entryByKey) {
+            previous = entryByKey.remove(key);
+        }
+        if(previous != null) {
+            evictions.increment();
+        }
+        return valueIfNotExpired(previous);
+    }
+
+    /**
+     * Evicts all entries matching given predicate.
+     */
+    public void removeIf(final @NonNull BiPredicate<? super K, ? super V> predicate) {
+        synchronized (entryByKey) {
+            val iterator = entryByKey.entrySet().iterator();
+            while(iterator.hasNext()) {
+                val next = iterator.next();
+                if(predicate.test(next.getKey(), next.getValue().value)) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts all entries.
+     */
+    public void clear() {
+        synchronized (entryByKey) {
+            evictions.add(entryByKey.size());
+            entryByKey.clear();
+        }
+    }
+
+    // -- SNAPSHOTS
+
+    /**
+     * Number of entries held, including any expired but not yet evicted.
+     */
+    public int size() {
+        synchronized (entryByKey) {
+            return entryByKey.size();
+        }
+    }
+
+    /**
+     * Keys of the entries not yet expired, least recently used first.
+     */
+    public List<K> keys() {
+        val now = clock.getAsLong();
+        synchronized (entryByKey) {
+            val keys = new ArrayList<K>(entryByKey.size());
+            entryByKey.forEach((key, entry)->{
+                if(!entry.isExpired(now)) {
+                    keys.add(key);
+                }
+            });
+            return keys;
+        }
+    }
+
+    /**
+     * Values of the entries not yet expired, least recently used first.
+     */
+    public List<V> values() {
+        val now = clock.getAsLong();
+        synchronized (entryByKey) {
+            val values = new ArrayList<V>(entryByKey.size());
+            entryByKey.forEach((key, entry)->{
+                if(!entry.isExpired(now)) {
+                    values.add(entry.value);
+                }
+            });
+            return values;
+        }
+    }
+
+    public Statistics getStatistics() {
+        return Statistics.of(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        public double getHitRatio() {
+            final long lookups = hits + misses;
+            return lookups > 0L
+                    ? (double) hits / lookups
+                    : 0.;
+        }
+    }
+
+    // -- HELPER
+
+    private V getElseNull(final K key) {
+        synchronized (entryByKey) {
+            val entry = entryByKey.get(key);
+            if(entry == null) {
+                return null;
+            }
+            if(entry.isExpired(clock.getAsLong())) {
+                entryByKey.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private long expiresAt() {
+        val now = clock.getAsLong();
+        return timeToLiveMillis > Long.MAX_VALUE - now
+                ? Long.MAX_VALUE
+                : now + timeToLiveMillis;
+    }
+
+    private Optional<V> valueIfNotExpired(final Entry<V> entry) {
+        return entry != null
+                && !entry.isExpired(clock.getAsLong())
+                ? Optional.of(entry.value)
+                : Optional.empty();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(final long now) {
+            return expiresAt <= now;
+        }
+    }
+
+}
@@ -399,6 +399,18 @@ public static MethodHandle handleOfGetterOn(Field field) throws IllegalAccessExc
         return MethodHandles.lookup().unreflectGetter(field);
     }
 
+    public static MethodHandle handleOfSetterOn(Field field) throws IllegalAccessException {
+        if(!field.isAccessible()) { // java9+ to replace by canAccess
+            /*sonar-ignore-on*/
+            field.setAccessible(true);
+            MethodHandle mh = MethodHandles.lookup().unreflectSetter(field);
+            field.setAccessible(false);
+            /*sonar-ignore-off*/
+            return mh;
+        }
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
+
     // -- FIND GETTER
     
     @SneakyThrows
@@ -22,9 +22,15 @@
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -32,6 +38,7 @@
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
 
@@ -92,16 +99,21 @@ public static <T> T _readXml(
             final @NonNull Reader reader,
             final @NonNull ReadOptions readOptions) {
         
-        val unmarshaller = jaxbContextFor(dtoClass, readOptions.isUseContextCache()).createUnmarshaller();
-        
-        if(readOptions.isAllowMissingRootElement()
-                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
-            final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
-            return userElement.getValue();            
+        val jaxbContext = jaxbContextFor(dtoClass, readOptions.isUseContextCache());
+        val pool = marshallerPool();
+        val unmarshaller = pool.borrowUnmarshaller(jaxbContext);
+        try {
+            if(readOptions.isAllowMissingRootElement()
+                    && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
+                val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
+                final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
+                return userElement.getValue();            
+            }
+            
+            return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
+        } finally {
+            pool.releaseUnmarshaller(jaxbContext, unmarshaller);
         }
-        
-        return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
     }
 
     // -- WRITE
@@ -126,17 +138,23 @@ public static <T> void writeXml(
             final @NonNull WriteOptions writeOptions) throws JAXBException {
         
         val dtoClass = _Casts.<Class<T>>uncheckedCast(dto.getClass());
-        val marshaller = jaxbContextFor(dtoClass, writeOptions.useContextCache).createMarshaller();
-        if(writeOptions.isFormattedOutput()) {
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-        }
-        if(writeOptions.isAllowMissingRootElement()
-            && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val qName = new QName("", dtoClass.getSimpleName());
-            val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
-            marshaller.marshal(jaxbElement, writer);
-        } else {
-            marshaller.marshal(dto, writer);    
+        val jaxbContext = jaxbContextFor(dtoClass, writeOptions.useContextCache);
+        val pool = marshallerPool();
+        val marshaller = pool.borrowMarshaller(jaxbContext);
+        try {
+            if(writeOptions.isFormattedOutput()) {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            }
+            if(writeOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
+                val qName = new QName("", dtoClass.getSimpleName());
+                val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
+                marshaller.marshal(jaxbElement, writer);
+            } else {
+                marshaller.marshal(dto, writer);    
+            }
+        } finally {
+            pool.releaseMarshaller(jaxbContext, marshaller);
         }
     }
 
@@ -210,21 +228,119 @@ private static boolean isIllegalAnnotationsException(Exception e) {
     
     // -- JAXB CONTEXT CACHE
 
-    private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
+    /**
+     * Keyed by the (ordered) classes the context was created for.
+     */
+    private static Map<List<Class<?>>, JAXBContext> jaxbContextByClasses = _Maps.newConcurrentHashMap();
+    
+    /**
+     * Identities of the contexts held by {@link #jaxbContextByClasses}; only these are pooled.
+     */
+    private static Set<JAXBContext> cachedContexts = Collections.newSetFromMap(
+            new ConcurrentHashMap<>());
 
     public static <T> JAXBContext jaxbContextFor(final Class<T> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::contextOf)
-                : contextOf(dtoClass);
+                ? jaxbContextFor(dtoClass, new Class<?>[0])
+                : contextOf(Collections.singletonList(dtoClass));
+    }
+    
+    /**
+     * Returns the (cached) {@link JAXBContext} for the given set of classes; 
+     * the first of which is used for error reporting.
+     */
+    public static JAXBContext jaxbContextFor(
+            final @NonNull Class<?> dtoClass, 
+            final @NonNull Class<?> ... additionalClasses)  {
+        final List<Class<?>> classes = new ArrayList<>(additionalClasses.length + 1);
+        classes.add(dtoClass);
+        classes.addAll(Arrays.asList(additionalClasses));
+        return jaxbContextByClasses.computeIfAbsent(classes, key->{
+            val jaxbContext = contextOf(key);
+            cachedContexts.add(jaxbContext);
+            return jaxbContext;
+        });
     }
 
     @SneakyThrows
-    private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
+    private static JAXBContext contextOf(final List<Class<?>> classes) {
         try {
-            return JAXBContext.newInstance(dtoClass);
+            return JAXBContext.newInstance(classes.toArray(new Class<?>[0]));
         } catch (Exception e) {
-            throw verboseException("obtaining JAXBContext for class", dtoClass, e);
+            throw verboseException("obtaining JAXBContext for class", classes.get(0), e);
+        }
+    }
+    
+    // -- POOLED MARSHALLERS
+    
+    private static final MarshallerPool marshallerPool = new MarshallerPool();
+    
+    /**
+     * The pool shared by this utility and the applib's DTO utilities.
+     */
+    public static MarshallerPool marshallerPool() {
+        return marshallerPool;
+    }
+    
+    /**
+     * Thread-confined pool of {@link Marshaller}s and {@link Unmarshaller}s, 
+     * which (unlike {@link JAXBContext}s) are not thread-safe, but are 
+     * reasonably expensive to create.
+     * <p>
+     * Only those for {@link JAXBContext}s obtained from the cache (see 
+     * {@link _Xml#jaxbContextFor(Class, Class...)}) are pooled, at most one 
+     * of each per context and thread; for any other context a new instance 
+     * is created on every borrow.
+     * <p>
+     * A borrowed instance is removed from the pool until released, so nested 
+     * (re-entrant) use on the same thread gets an instance of its own. 
+     * Callers must not release an instance they have configured beyond what 
+     * the next borrower would expect; {@link Marshaller#JAXB_FORMATTED_OUTPUT}
+     * however is reset on every borrow.
+     */
+    public static final class MarshallerPool {
+        
+        private final ThreadLocal<Map<JAXBContext, Marshaller>> marshallers = 
+                ThreadLocal.withInitial(IdentityHashMap::new);
+        private final ThreadLocal<Map<JAXBContext, Unmarshaller>> unmarshallers = 
+                ThreadLocal.withInitial(IdentityHashMap::new);
+        
+        public Marshaller borrowMarshaller(final @NonNull JAXBContext jaxbContext) throws JAXBException {
+            val marshaller = cachedContexts.contains(jaxbContext)
+                    ? marshallers.get().remove(jaxbContext)
+                    : null;
+            if(marshaller == null) {
+                return jaxbContext.createMarshaller();
+            }
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+            return marshaller;
+        }
+        
+        public void releaseMarshaller(
+                final @NonNull JAXBContext jaxbContext, 
+                final @NonNull Marshaller marshaller) {
+            if(cachedContexts.contains(jaxbContext)) {
+                marshallers.get().put(jaxbContext, marshaller);
+            }
+        }
+        
+        public Unmarshaller borrowUnmarshaller(final @NonNull JAXBContext jaxbContext) throws JAXBException {
+            val unmarshaller = cachedContexts.contains(jaxbContext)
+                    ? unmarshallers.get().remove(jaxbContext)
+                    : null;
+            return unmarshaller != null
+                    ? unmarshaller
+                    : jaxbContext.createUnmarshaller();
         }
+        
+        public void releaseUnmarshaller(
+                final @NonNull JAXBContext jaxbContext, 
+                final @NonNull Unmarshaller unmarshaller) {
+            if(cachedContexts.contains(jaxbContext)) {
+                unmarshallers.get().put(jaxbContext, unmarshaller);
+            }
+        }
+        
     }
 
 }
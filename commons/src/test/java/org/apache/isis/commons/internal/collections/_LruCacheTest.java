@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.collections;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import lombok.val;
+
+class _LruCacheTest {
+
+    private AtomicLong now;
+    private _LruCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000L);
+        cache = _LruCache.ofMaxSizeAndTimeToLive(2, 100L, now::get);
+    }
+
+    @Test
+    void counts_hits_and_misses() {
+        cache.put("a", 1);
+
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertEquals(Optional.empty(), cache.get("b"));
+
+        val statistics = cache.getStatistics();
+        assertEquals(1L, statistics.getHits());
+        assertEquals(1L, statistics.getMisses());
+        assertEquals(.5, statistics.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void evicts_least_recently_used_beyond_max_size() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // now "b" is the least recently used
+        cache.put("c", 3);
+
+        assertEquals(Arrays.asList("a", "c"), cache.keys());
+        assertEquals(Arrays.asList(1, 3), cache.values());
+        assertEquals(1L, cache.getStatistics().getEvictions());
+        assertEquals(2, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void expires_after_time_to_live() {
+        cache.put("a", 1);
+        now.addAndGet(99L);
+        assertEquals(Optional.of(1), cache.get("a"));
+
+        now.addAndGet(1L);
+        assertEquals(Optional.empty(), cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1L, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void expired_entries_are_neither_returned_nor_listed() {
+        cache.put("a", 1);
+        now.addAndGet(100L);
+
+        assertEquals(Optional.empty(), cache.put("a", 2));
+        now.addAndGet(100L);
+        assertEquals(Optional.empty(), cache.remove("a"));
+
+        cache.put("b", 3);
+        now.addAndGet(100L);
+        assertEquals(0, cache.keys().size());
+        assertEquals(0, cache.values().size());
+    }
+
+    @Test
+    void without_time_to_live_entries_never_expire() {
+        val cache = _LruCache.<String, Integer>ofMaxSize(2);
+        cache.put("a", 1);
+        assertEquals(Optional.of(1), cache.get("a"));
+    }
+
+    @Test
+    void unresolved_entry_is_a_miss_and_evicted() {
+        cache.put("a", 1);
+
+        assertEquals(Optional.empty(), cache.get("a", __->Optional.empty()));
+
+        val statistics = cache.getStatistics();
+        assertEquals(0L, statistics.getHits());
+        assertEquals(1L, statistics.getMisses());
+        assertEquals(1L, statistics.getEvictions());
+        assertFalse(cache.keys().contains("a"));
+    }
+
+    @Test
+    void removes_matching_entries_and_clears() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.removeIf((key, value)->value == 1);
+        assertEquals(Arrays.asList("b"), cache.keys());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(2L, cache.getStatistics().getEvictions());
+    }
+
+}
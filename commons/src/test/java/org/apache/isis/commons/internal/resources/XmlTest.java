@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.resources;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import lombok.Data;
+import lombok.val;
+
+class XmlTest {
+
+    @XmlRootElement(name = "sample")
+    @Data
+    public static class SampleDto {
+        private String name;
+    }
+
+    @XmlRootElement(name = "other")
+    @Data
+    public static class OtherDto {
+        private int count;
+    }
+
+    @Test
+    void contextsAreCachedPerClassSet() {
+        val single = _Xml.jaxbContextFor(SampleDto.class);
+        assertSame(single, _Xml.jaxbContextFor(SampleDto.class, true));
+        assertSame(single, _Xml.jaxbContextFor(SampleDto.class));
+
+        val pair = _Xml.jaxbContextFor(SampleDto.class, OtherDto.class);
+        assertNotSame(single, pair);
+        assertSame(pair, _Xml.jaxbContextFor(SampleDto.class, OtherDto.class));
+
+        assertNotSame(single, _Xml.jaxbContextFor(SampleDto.class, false));
+    }
+
+    @Test
+    void marshallersArePooledPerThread() throws Exception {
+        val pool = new _Xml.MarshallerPool();
+        val jaxbContext = _Xml.jaxbContextFor(SampleDto.class);
+
+        val marshaller = pool.borrowMarshaller(jaxbContext);
+        // still borrowed, so a nested borrow gets a new one
+        val nested = pool.borrowMarshaller(jaxbContext);
+        assertNotSame(marshaller, nested);
+
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        pool.releaseMarshaller(jaxbContext, marshaller);
+
+        val reused = pool.borrowMarshaller(jaxbContext);
+        assertSame(marshaller, reused);
+        assertEquals(Boolean.FALSE, reused.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+
+        val unmarshaller = pool.borrowUnmarshaller(jaxbContext);
+        pool.releaseUnmarshaller(jaxbContext, unmarshaller);
+        assertSame(unmarshaller, pool.borrowUnmarshaller(jaxbContext));
+    }
+
+    @Test
+    void marshallersOfUncachedContextsAreNotPooled() throws Exception {
+        val pool = new _Xml.MarshallerPool();
+        val jaxbContext = JAXBContext.newInstance(SampleDto.class);
+
+        val marshaller = pool.borrowMarshaller(jaxbContext);
+        pool.releaseMarshaller(jaxbContext, marshaller);
+        assertNotSame(marshaller, pool.borrowMarshaller(jaxbContext));
+    }
+
+    @Test
+    void roundtrip() throws Exception {
+        val dto = new SampleDto();
+        dto.setName("Fred");
+
+        for (int i = 0; i < 2; i++) {
+            val writer = new StringWriter();
+            _Xml.writeXml(dto, writer, _Xml.WriteOptions.builder()
+                    .useContextCache(true)
+                    .formattedOutput(i == 0)
+                    .build());
+            val xml = writer.toString();
+            assertEquals(i == 0, xml.contains("\n"));
+
+            val read = _Xml._readXml(SampleDto.class, new StringReader(xml), _Xml.ReadOptions.builder()
+                    .useContextCache(true)
+                    .build());
+            assertEquals(dto, read);
+        }
+        assertFalse(_Xml.clone(dto).presentElseFail() == dto);
+    }
+
+}
@@ -146,7 +146,70 @@ public static class Spring {
             private boolean allowCsrfFilters = false;
 
         }
-        
+
+        private final CredentialCache credentialCache = new CredentialCache();
+        @Data
+        public static class CredentialCache {
+
+            /**
+             * Whether credentials that were verified successfully (as presented with each request
+             * using HTTP Basic Auth to the Restful Objects viewer) are remembered for a short while,
+             * so that subsequent requests presenting the same credentials need not be authenticated
+             * again.
+             *
+             * <p>
+             * Credentials are held as salted hashes only.
+             * </p>
+             */
+            private boolean enabled = true;
+
+            /**
+             * How long (in milliseconds) verified credentials are remembered, at most.
+             *
+             * <p>
+             * Changes to a user's credentials made outside of the framework (for example, in an
+             * external realm) take effect at the latest after this period.
+             * </p>
+             */
+            private long timeToLive = 30_000;
+
+            /**
+             * The maximum number of verified credentials remembered; the least recently used
+             * are evicted first.
+             */
+            private int maxSize = 1_000;
+
+        }
+
+        private final AuthorizationCache authorizationCache = new AuthorizationCache();
+        @Data
+        public static class AuthorizationCache {
+
+            /**
+             * Whether authorization decisions (whether a user may view or use a domain object feature)
+             * are shared across interactions, for users with the same name and roles.
+             *
+             * <p>
+             * Within a single interaction, decisions are always remembered. This setting enables the
+             * additional application-scoped tier, which is worthwhile if permissions seldom change at
+             * runtime; changes take effect at the latest after {@link #getTimeToLive()}.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * How long (in milliseconds) decisions are shared across interactions, at most.
+             */
+            private long timeToLive = 60_000;
+
+            /**
+             * The maximum number of decisions shared across interactions; the least recently used
+             * are evicted first.
+             */
+            private int maxSize = 10_000;
+
+        }
+
     }
 
     private final Applib applib = new Applib();
@@ -1590,6 +1653,30 @@ public static class ApplicationFeatures {
                 ApplicationFeaturesInitConfiguration init = ApplicationFeaturesInitConfiguration.NOT_SPECIFIED;
             }
 
+            private final EntityChangesPublisher entityChangesPublisher = new EntityChangesPublisher();
+            @Data
+            public static class EntityChangesPublisher {
+                /**
+                 * If positive, then the changed entities of a transaction are published to
+                 * {@link EntityChangesSubscriber}s in chunks of (at most) this many entities, each chunk created only
+                 * once the previous one has been published.  This bounds the memory used for transactions changing
+                 * very many entities.
+                 *
+                 * <p>
+                 *     Note that only the published {@link org.apache.isis.applib.services.publishing.spi.EntityChanges}
+                 *     (and their DTOs) are bounded: the changed entities themselves remain enlisted until the
+                 *     transaction completes, and a (shallow) copy of the list of them is taken before publishing, so
+                 *     that any entities enlisted by subscribers do not interfere.
+                 * </p>
+                 *
+                 * <p>
+                 *     If zero (the default), then all of a transaction's changed entities are published as a single
+                 *     {@link org.apache.isis.applib.services.publishing.spi.EntityChanges}.
+                 * </p>
+                 */
+                private int chunkSize = 0;
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -1678,6 +1765,45 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * The locales (as IETF BCP 47 language tags, eg <code>en-GB</code>) whose translations should
+                     * be read and cached eagerly on startup, when in {@link Mode#READ read} mode.
+                     *
+                     * <p>
+                     *     Translations for any other locale are read lazily, when first requested.
+                     * </p>
+                     */
+                    private final List<String> preloadLocales = new ArrayList<>();
+                }
+            }
+
+            private final UrlEncoding urlEncoding = new UrlEncoding();
+            @Data
+            public static class UrlEncoding {
+
+                /**
+                 * The compression applied by the default {@link org.apache.isis.applib.services.urlencoding.UrlEncodingService}
+                 * to mementos (and other strings) before they are base64 encoded for use within URLs.
+                 *
+                 * <p>
+                 *     Either way, strings encoded using any of these compression schemes can always be decoded, so
+                 *     this setting can be changed without invalidating any previously issued URLs.
+                 * </p>
+                 */
+                private Compression compression = Compression.GZIP;
+
+                public static enum Compression {
+                    /**
+                     * Uses gzip, only compressing inputs larger than 256 bytes.
+                     */
+                    GZIP,
+                    /**
+                     * Uses a raw (header-less) deflate stream at its fastest level, primed with a dictionary of
+                     * strings commonly found in Java serialized mementos; smaller and faster for the
+                     * short inputs typical of object and view model mementos.
+                     */
+                    DEFLATE_WITH_DICTIONARY
                 }
             }
         }
@@ -1688,6 +1814,65 @@ public static class Po {
     @Data
     public static class Persistence {
 
+        private final EntityCache entityCache = new EntityCache();
+        @Data
+        public static class EntityCache {
+
+            /**
+             * Whether entities annotated with {@code @DomainObject(entityCaching=ENABLED)}
+             * are cached across transactions when looked up by their identifier.
+             *
+             * <p>
+             * Set to <code>false</code> to disable caching regardless of any annotations.
+             * </p>
+             */
+            private boolean enabled = true;
+
+            /**
+             * The maximum number of entity identifiers held; the least recently used are
+             * evicted first.
+             */
+            private int maxSize = 10_000;
+
+        }
+
+        private final TitleCache titleCache = new TitleCache();
+        @Data
+        public static class TitleCache {
+
+            /**
+             * Whether the titles of entities are remembered, keyed by the entity's identity and (if
+             * versioned) its version, rather than being rendered each time they are needed.
+             */
+            private boolean enabled = true;
+
+            /**
+             * Whether titles are remembered only for the duration of an interaction, or also across
+             * interactions.
+             *
+             * <p>
+             * Titles are only remembered across interactions for versioned entities (per user and
+             * locale), so that a change to the entity itself is always picked up. Changes made by
+             * this node to any entity forget all titles, but changes made elsewhere to the entities
+             * a title is derived from (as opposed to the entity itself) are not detected; only use
+             * <tt>application</tt> if titles are derived from the entity's own state.
+             * </p>
+             */
+            private Scope scope = Scope.INTERACTION;
+
+            /**
+             * The maximum number of titles remembered across interactions; the least recently used
+             * are evicted first.
+             */
+            private int maxSize = 10_000;
+
+            public enum Scope {
+                INTERACTION,
+                APPLICATION
+            }
+
+        }
+
         private final Schema schema = new Schema();
         @Data
         public static class Schema {
@@ -1846,6 +2031,21 @@ public static class Restfulobjects {
              */
             @javax.validation.constraints.Pattern(regexp="^http[s]?://[^:]+?(:\\d+)?/([^/]+/)*+$")
             private Optional<String> baseUri = Optional.empty();
+
+            private final Swagger swagger = new Swagger();
+            @Data
+            public static class Swagger {
+
+                /**
+                 * Whether the Swagger specs (for each visibility and format) should be generated in the background
+                 * as soon as the metamodel has been loaded, rather than by the first request for each.
+                 *
+                 * <p>
+                 *     Either way, once generated the specs are cached until the metamodel changes.
+                 * </p>
+                 */
+                private boolean pregenerate = true;
+            }
         }
 
         private final Wicket wicket = new Wicket();
@@ -2373,6 +2573,37 @@ public static class DevelopmentUtilities {
                 private boolean enable = false;
             }
 
+            private final PageStore pageStore = new PageStore();
+            @Data
+            public static class PageStore {
+
+                /**
+                 * Whether serialized pages are stored by Isis' own page store (compressed, within a bounded
+                 * memory-mapped ring per session), rather than by Wicket's default disk store.
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The directory holding the memory-mapped file of each session.
+                 *
+                 * <p>
+                 *     If not set, then Wicket's <code>StoreSettings#getFileStoreFolder()</code> is used.
+                 * </p>
+                 */
+                private Optional<String> directory = Optional.empty();
+
+                /**
+                 * The size (in kilobytes) of each session's ring; once full, the least recently stored pages are
+                 * evicted.
+                 */
+                private int maxSizePerSessionKb = 10 * 1024;
+
+                /**
+                 * The <code>java.util.zip.Deflater</code> compression level (0-9) applied to each serialized page.
+                 */
+                private int compressionLevel = 1;
+            }
+
             private final RememberMe rememberMe = new RememberMe();
             @Data
             public static class RememberMe {
@@ -2773,6 +3004,31 @@ public static class Fixtures {
              */
             @AssignableFrom("org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript")
             private Class<?> initialScript = null;
+
+            private final Snapshots snapshots = new Snapshots();
+            @Data
+            public static class Snapshots {
+                /**
+                 * Whether the database state resulting from running a set of fixture scripts may be captured, so
+                 * that later requests to run the same set of scripts can instead restore that state.
+                 *
+                 * <p>
+                 *     Only has an effect if the <code>FixtureSnapshotsJdo</code> service has been imported, and only
+                 *     for in-memory H2 or HSQLDB databases.
+                 * </p>
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * Tables whose contents are neither captured nor restored.
+                 *
+                 * <p>
+                 *     By default excludes the tables DataNucleus uses for its own bookkeeping, so that identifiers
+                 *     it has already handed out are never reused.
+                 * </p>
+                 */
+                private List<String> excludedTables = listOf("SEQUENCE_TABLE", "NUCLEUS_TABLES");
+            }
         }
     }
 
@@ -2884,6 +3140,86 @@ public static class Cors {
         public static class Quartz {
         }
 
+        private final CommandLog commandLog = new CommandLog();
+        @Data
+        public static class CommandLog {
+
+            /**
+             * Whether the <code>CommandDto</code> of each command is stored as gzip compressed (and base64 encoded)
+             * XML rather than as plain XML, typically taking a fraction of the space.
+             *
+             * <p>
+             *     Either form is read regardless, so this can be switched in either direction without migrating
+             *     the commands already stored; however, earlier versions of the framework only read plain XML.
+             * </p>
+             */
+            private boolean compressCommandDto = false;
+
+            private final Retention retention = new Retention();
+            @Data
+            public static class Retention {
+
+                /**
+                 * Completed commands older than this number of days are moved out of the command log table
+                 * into the archive.
+                 *
+                 * <p>
+                 *     Must comfortably exceed the replication lag of any secondary replaying commands from
+                 *     this (primary) instance.
+                 * </p>
+                 */
+                private int maxAgeDays = 90;
+
+                /**
+                 * How many commands are moved per batch; each batch is committed in its own transaction
+                 * and written to its own archive file.
+                 */
+                private int batchSize = 500;
+
+                /**
+                 * Upper limit on the number of batches processed by a single archive run, so that a
+                 * (scheduled) run catching up with a large backlog does not hog the database.
+                 */
+                private int maxBatchesPerRun = 20;
+
+                /**
+                 * Directory that the (gzip compressed) archive files are written to and searched from.
+                 */
+                private String archiveDirectory = "command-log-archive";
+            }
+
+            private final WriteBehind writeBehind = new WriteBehind();
+            @Data
+            public static class WriteBehind {
+
+                /**
+                 * Whether completed commands are handed to a queue and persisted in batches in the
+                 * background, rather than within the transaction of the interaction that executed them.
+                 *
+                 * <p>
+                 *     Commands still queued when the application shuts down are flushed first.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Maximum number of commands waiting to be persisted; once full, commands are again
+                 * persisted within the transaction of the interaction that executed them.
+                 */
+                private int queueCapacity = 10_000;
+
+                /**
+                 * Maximum number of commands persisted per transaction.
+                 */
+                private int batchSize = 100;
+
+                /**
+                 * Number of milliseconds between flushes of the queue.
+                 */
+                private long flushInterval = 500;
+            }
+        }
+
         private final CommandReplay commandReplay = new CommandReplay();
         @Data
         public static class CommandReplay {
@@ -24,6 +24,8 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.events.domain.AbstractDomainEvent;
@@ -35,6 +37,7 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.reflection._Reflect;
 import org.apache.isis.core.metamodel.facetapi.IdentifiedHolder;
@@ -53,6 +56,7 @@
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 @RequiredArgsConstructor(staticName = "ofEventService")
@@ -66,6 +70,25 @@ public static DomainEventHelper ofServiceRegistry(final ServiceRegistry serviceR
 
     private final MetamodelEventService metamodelEventService;
 
+    /**
+     * Parameter names and types per action, as set onto each action domain event.
+     */
+    private final Map<ObjectAction, ParameterMetadata> parameterMetadataByAction = _Maps.newConcurrentHashMap();
+
+    /**
+     * Whether to skip creating (and posting) the event altogether.
+     * <p>
+     * Only the hide, disable and validate phases are elided; the event of the
+     * executing phase is also set onto the current execution (and reused for
+     * the executed phase), so is always needed.
+     */
+    private boolean isElided(
+            final AbstractDomainEvent.Phase phase,
+            final Class<?> eventType) {
+        return !phase.isExecutingOrLater()
+                && !metamodelEventService.hasListenersFor(eventType);
+    }
+
     // -- postEventForAction
 
     // variant using eventType and no existing event
@@ -110,6 +133,10 @@ private <S> ActionDomainEvent<S> postEventForAction(
 
         _Assert.assertTypeIsInstanceOf(eventType, ActionDomainEvent.class);
 
+        if(isElided(phase, eventType)) {
+            return null;
+        }
+
         try {
             final ActionDomainEvent<S> event;
 
@@ -132,19 +159,11 @@ private <S> ActionDomainEvent<S> postEventForAction(
                     // should always be the case...
                     event.setSemantics(objectAction.getSemantics());
 
-                    val parameters = objectAction.getParameters();
-
-                    val parameterNames = parameters.stream()
-                            .map(ObjectActionParameter::getName)
-                            .collect(_Lists.toUnmodifiable());
+                    val parameterMetadata = parameterMetadataByAction
+                            .computeIfAbsent(objectAction, ParameterMetadata::of);
 
-                    final List<Class<?>> parameterTypes = parameters.stream()
-                            .map(ObjectActionParameter::getSpecification)
-                            .map(ObjectSpecification::getCorrespondingClass)
-                            .collect(_Lists.toUnmodifiable());
-
-                    event.setParameterNames(parameterNames);
-                    event.setParameterTypes(parameterTypes);
+                    event.setParameterNames(parameterMetadata.getNames());
+                    event.setParameterTypes(parameterMetadata.getTypes());
                 }
             }
 
@@ -170,9 +189,7 @@ static <S> ActionDomainEvent<S> newActionDomainEvent(
         throws IllegalArgumentException,
             NoSuchMethodException, SecurityException {
 
-        val constructors = _Reflect.getPublicConstructors(type);
-
-        val noArgConstructor = constructors.filter(paramCount(0)).getFirst().orElse(null);
+        val noArgConstructor = noArgConstructors.get(type).orElse(null);
         if(noArgConstructor!=null) {
 
             final Object event = invokeConstructor(noArgConstructor);
@@ -187,7 +204,7 @@ static <S> ActionDomainEvent<S> newActionDomainEvent(
 
         // else
 
-        val updateEventConstructor = constructors
+        val updateEventConstructor = publicConstructors.get(type)
                 .filter(paramCount(3)
                         .and(paramAssignableFrom(0, source.getClass()))
                         .and(paramAssignableFrom(1, Identifier.class))
@@ -224,6 +241,10 @@ public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
 
         _Assert.assertTypeIsInstanceOf(eventType, PropertyDomainEvent.class);
 
+        if(isElided(phase, eventType)) {
+            return null;
+        }
+
         try {
             final PropertyDomainEvent<S, T> event;
 
@@ -268,12 +289,9 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             final T oldValue,
             final T newValue) throws NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
 
-        val constructors = _Reflect.getPublicConstructors(type);
-
-        val noArgConstructors = constructors.filter(paramCount(0));
-
-        for (val constructor : noArgConstructors) {
-            final Object event = invokeConstructor(constructor);
+        val noArgConstructor = noArgConstructors.get(type).orElse(null);
+        if(noArgConstructor!=null) {
+            final Object event = invokeConstructor(noArgConstructor);
             final PropertyDomainEvent<S, T> pde = uncheckedCast(event);
             if(source!=null) {
                 pde.initSource(source);
@@ -285,7 +303,7 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
         }
 
         // else
-        val updateEventConstructors = constructors
+        val updateEventConstructors = publicConstructors.get(type)
                 .filter(paramCount(4)
                         .and(paramAssignableFrom(0, source.getClass()))
                         .and(paramAssignableFrom(1, Identifier.class))
@@ -313,6 +331,10 @@ public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
 
         _Assert.assertTypeIsInstanceOf(eventType, CollectionDomainEvent.class);
 
+        if(isElided(phase, eventType)) {
+            return null;
+        }
+
         try {
             final CollectionDomainEvent<S, T> event;
 
@@ -342,12 +364,9 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
             throws NoSuchMethodException, SecurityException,
             IllegalArgumentException {
 
-        val constructors = _Reflect.getPublicConstructors(type);
-
-        val noArgConstructors = constructors.filter(paramCount(0));
-
-        for (val constructor : noArgConstructors) {
-            final Object event = invokeConstructor(constructor);
+        val noArgConstructor = noArgConstructors.get(type).orElse(null);
+        if(noArgConstructor!=null) {
+            final Object event = invokeConstructor(noArgConstructor);
             final CollectionDomainEvent<S, T> cde = uncheckedCast(event);
 
             cde.initSource(source);
@@ -357,7 +376,7 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
 
         // else
         // search for constructor accepting source, identifier
-        val updateEventConstructors = constructors
+        val updateEventConstructors = publicConstructors.get(type)
                 .filter(paramCount(4)
                         .and(paramAssignableFrom(0, source.getClass()))
                         .and(paramAssignableFrom(1, Identifier.class))
@@ -372,6 +391,48 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
         throw new NoSuchMethodException(type.getName()+".<init>(? super " + source.getClass().getName() + ", " + Identifier.class.getName() + ", java.lang.Object)");
     }
 
+    // -- CACHED REFLECTION
+
+    /**
+     * Public constructors per event type, looked up once rather than per event.
+     */
+    private static final ClassValue<Can<Constructor<?>>> publicConstructors =
+            new ClassValue<Can<Constructor<?>>>() {
+                @Override
+                protected Can<Constructor<?>> computeValue(final Class<?> type) {
+                    return _Reflect.getPublicConstructors(type);
+                }
+            };
+
+    private static final ClassValue<Optional<Constructor<?>>> noArgConstructors =
+            new ClassValue<Optional<Constructor<?>>>() {
+                @Override
+                protected Optional<Constructor<?>> computeValue(final Class<?> type) {
+                    return publicConstructors.get(type).filter(paramCount(0)).getFirst();
+                }
+            };
+
+    @Value
+    private static class ParameterMetadata {
+        private final List<String> names;
+        private final List<Class<?>> types;
+
+        static ParameterMetadata of(final ObjectAction objectAction) {
+            val parameters = objectAction.getParameters();
+
+            val parameterNames = parameters.stream()
+                    .map(ObjectActionParameter::getName)
+                    .collect(_Lists.toUnmodifiable());
+
+            final List<Class<?>> parameterTypes = parameters.stream()
+                    .map(ObjectActionParameter::getSpecification)
+                    .map(ObjectSpecification::getCorrespondingClass)
+                    .collect(_Lists.toUnmodifiable());
+
+            return new ParameterMetadata(parameterNames, parameterTypes);
+        }
+    }
+
     private static <T> T invokeConstructor(
             @NonNull final Constructor<T> constructor,
             final Object... args){
@@ -68,6 +68,7 @@
 import org.apache.isis.core.metamodel.facets.object.domainobject.editing.EditingEnabledFacetForDomainObjectAnnotation;
 import org.apache.isis.core.metamodel.facets.object.domainobject.editing.ImmutableFacetForDomainObjectAnnotation;
 import org.apache.isis.core.metamodel.facets.object.domainobject.entitychangepublishing.EntityChangePublishingFacetForDomainObjectAnnotation;
+import org.apache.isis.core.metamodel.facets.object.domainobject.entitycaching.EntityCachingFacetForDomainObjectAnnotation;
 import org.apache.isis.core.metamodel.facets.object.domainobject.objectspecid.ObjectSpecIdFacetForDomainObjectAnnotation;
 import org.apache.isis.core.metamodel.facets.object.domainobject.recreatable.RecreatableObjectFacetForDomainObjectAnnotation;
 import org.apache.isis.core.metamodel.facets.object.mixin.MetaModelValidatorForMixinTypes;
@@ -117,6 +118,7 @@ public void process(final ProcessObjectSpecIdContext processClassContext) {
     public void process(final ProcessClassContext processClassContext) {
 
         processEntityChangePublishing(processClassContext);
+        processEntityCaching(processClassContext);
         processAutoComplete(processClassContext);
         processBounded(processClassContext);
         processEditing(processClassContext);
@@ -151,6 +153,17 @@ void processEntityChangePublishing(final ProcessClassContext processClassContext
         super.addFacet(entityChangePublishingFacet);
     }
 
+    void processEntityCaching(final ProcessClassContext processClassContext) {
+        val facetHolder = processClassContext.getFacetHolder();
+
+        // check for @DomainObject(entityCaching=....)
+        val domainObjectIfAny = processClassContext.synthesizeOnType(DomainObject.class);
+        val facet = EntityCachingFacetForDomainObjectAnnotation.create(domainObjectIfAny, facetHolder);
+
+        // then add
+        super.addFacet(facet);
+    }
+
     // -- AUTO COMPLETE
 
     void processAutoComplete(final ProcessClassContext processClassContext) {
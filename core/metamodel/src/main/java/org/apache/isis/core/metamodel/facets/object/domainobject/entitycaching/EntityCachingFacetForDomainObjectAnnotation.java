@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.object.domainobject.entitycaching;
+
+import java.util.Optional;
+
+import org.apache.isis.applib.annotation.Caching;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityCachingFacet;
+
+public class EntityCachingFacetForDomainObjectAnnotation 
+extends FacetAbstract 
+implements EntityCachingFacet {
+
+    public static EntityCachingFacet create(
+            final Optional<DomainObject> domainObjectIfAny,
+            final FacetHolder holder) {
+
+        return domainObjectIfAny
+                .map(DomainObject::entityCaching)
+                .filter(caching -> caching == Caching.ENABLED)
+                .map(caching -> new EntityCachingFacetForDomainObjectAnnotation(holder))
+                .orElse(null);
+    }
+
+    private EntityCachingFacetForDomainObjectAnnotation(final FacetHolder holder) {
+        super(EntityCachingFacet.class, holder, Derivation.NOT_DERIVED);
+    }
+
+}
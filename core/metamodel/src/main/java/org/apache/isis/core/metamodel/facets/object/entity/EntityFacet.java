@@ -20,7 +20,11 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.commons.collections.Can;
@@ -37,6 +41,26 @@ public interface EntityFacet extends Facet {
     String identifierFor(ObjectSpecification spec, Object pojo);
 
     ManagedObject fetchByIdentifier(ObjectSpecification spec, String identifier);
+
+    /**
+     * Bulk variant of {@link #fetchByIdentifier(ObjectSpecification, String)}, 
+     * keyed by identifier, in the order given; identifiers that cannot be 
+     * resolved are absent from the result.
+     * <p>
+     * Persistence implementations should override, fetching all entities 
+     * with a single round trip where possible; this default fetches one by one.
+     */
+    default Map<String, ManagedObject> fetchByIdentifiers(ObjectSpecification spec, Can<String> identifiers) {
+        final Map<String, ManagedObject> entitiesByIdentifier = new LinkedHashMap<>();
+        identifiers.forEach(identifier->{
+            try {
+                entitiesByIdentifier.put(identifier, fetchByIdentifier(spec, identifier));
+            } catch (ObjectNotFoundException e) {
+                // ignore
+            }
+        });
+        return entitiesByIdentifier;
+    }
     Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query);
     
     void persist(ObjectSpecification spec, Object pojo);
@@ -47,6 +71,14 @@ public interface EntityFacet extends Facet {
     
     EntityState getEntityState(Object pojo);
 
+    /**
+     * The version of the (attached) entity, as used for optimistic locking,
+     * if the entity type is versioned.
+     */
+    default Optional<Object> versionOf(Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Whether given method originates from byte code mangling.
      * @param method
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.metamodel.objectmanager;
 
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 import org.apache.isis.commons.collections.Can;
@@ -74,6 +76,15 @@ public default ManagedObject loadObject(ObjectLoader.Request objectLoadRequest)
         return getObjectLoader().loadObject(objectLoadRequest);
     }
     
+    /**
+     * Loads the instances identified with given request parameters, in the order given, 
+     * fetching entities of the same type in bulk; entities not found are <code>null</code>.
+     * @param objectLoadRequests
+     */
+    public default List<ManagedObject> loadObjects(List<ObjectLoader.Request> objectLoadRequests) {
+        return getObjectLoader().loadObjects(objectLoadRequests);
+    }
+    
     public default Can<ManagedObject> queryObjects(ObjectBulkLoader.Request objectQuery) {
         return getObjectBulkLoader().loadObject(objectQuery);
     }
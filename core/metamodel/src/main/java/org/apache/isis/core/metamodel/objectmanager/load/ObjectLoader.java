@@ -19,14 +19,23 @@
 
 package org.apache.isis.core.metamodel.objectmanager.load;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.handler.ChainOfResponsibility;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContextAware;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
+import lombok.NonNull;
 import lombok.Value;
 import lombok.val;
 
@@ -36,6 +45,56 @@
 public interface ObjectLoader {
 
     ManagedObject loadObject(Request objectLoadRequest);
+
+    /**
+     * Loads the instances identified by given requests, in the order given. 
+     * <p>
+     * Requests for entities are grouped by type, each group fetched in bulk 
+     * using {@link EntityFacet#fetchByIdentifiers(ObjectSpecification, Can)}. 
+     * Any other requests are handled as per {@link #loadObject(Request)}.
+     * <p>
+     * Objects that cannot be found are represented by <code>null</code>, 
+     * as are <code>null</code> requests and requests without an 
+     * {@link ObjectSpecification} (eg. for an unknown logical type).
+     */
+    default List<ManagedObject> loadObjects(final @NonNull List<Request> objectLoadRequests) {
+        
+        final List<ManagedObject> loaded = new ArrayList<>(objectLoadRequests.size());
+        final Map<ObjectSpecification, List<Integer>> entityIndexesBySpec = new LinkedHashMap<>();
+        
+        for (int i = 0; i < objectLoadRequests.size(); i++) {
+            val request = objectLoadRequests.get(i);
+            val spec = request != null ? request.getObjectSpecification() : null;
+            if(spec == null) {
+                // null or unknown (unresolvable type)
+                loaded.add(null);
+            } else if(spec.isEntity()
+                    && spec.containsFacet(EntityFacet.class)
+                    && request.getObjectIdentifier() != null) {
+                entityIndexesBySpec.computeIfAbsent(spec, __->new ArrayList<>()).add(i);
+                loaded.add(null); // filled in below
+            } else {
+                try {
+                    loaded.add(loadObject(request));
+                } catch (ObjectNotFoundException e) {
+                    loaded.add(null);
+                }
+            }
+        }
+        
+        entityIndexesBySpec.forEach((spec, indexes)->{
+            val identifiers = indexes.stream()
+                    .map(index->objectLoadRequests.get(index).getObjectIdentifier())
+                    .distinct()
+                    .collect(Can.toCan());
+            val entitiesByIdentifier = spec.getFacet(EntityFacet.class)
+                    .fetchByIdentifiers(spec, identifiers);
+            indexes.forEach(index->loaded.set(index, 
+                    entitiesByIdentifier.get(objectLoadRequests.get(index).getObjectIdentifier())));
+        });
+        
+        return loaded;
+    }
     
     // -- REQUEST (VALUE) TYPE
     
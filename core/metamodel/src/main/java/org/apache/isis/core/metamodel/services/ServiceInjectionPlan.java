@@ -0,0 +1,324 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.InjectionPoint;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import org.apache.isis.commons.internal.reflection._Reflect;
+import org.apache.isis.commons.internal.reflection._Reflect.InterfacePolicy;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * The injection points of a class ({@link Inject} or {@link Autowired} 
+ * annotated fields and methods, up the class hierarchy), as computed once per
+ * class by the {@link ServiceInjectorDefault}.
+ * <p>
+ * Members are bound via {@link MethodHandle}s, adapted to a common type
+ * so that they can be invoked exactly. Dependencies that resolve to
+ * singleton beans only are memoized with the plan, so injecting those is
+ * just an assignment; any other dependency is resolved again on each
+ * injection.
+ * <p>
+ * Classes that carry annotations processed by other Spring post-processors
+ * (such as {@code @Value} or {@code @Resource}) get no plan, and are
+ * left to Spring's bean factory instead.
+ */
+final class ServiceInjectionPlan {
+
+    private static final List<String> ANNOTATIONS_REQUIRING_SPRING = Collections.unmodifiableList(
+            Arrays.asList(
+                    "org.springframework.beans.factory.annotation.Value",
+                    "javax.annotation.Resource",
+                    "javax.persistence.PersistenceContext",
+                    "javax.persistence.PersistenceUnit"));
+
+    private final List<InjectionMember> members;
+
+    /**
+     * Whether injection has to be delegated to Spring's bean factory.
+     */
+    @Getter private final boolean requiresSpring;
+
+    private ServiceInjectionPlan(final List<InjectionMember> members, final boolean requiresSpring) {
+        this.members = members;
+        this.requiresSpring = requiresSpring;
+    }
+
+    static ServiceInjectionPlan requiringSpring() {
+        return new ServiceInjectionPlan(Collections.emptyList(), true);
+    }
+
+    static ServiceInjectionPlan compile(final @NonNull Class<?> cls) {
+
+        val hierarchy = _Reflect.streamTypeHierarchy(cls, InterfacePolicy.EXCLUDE)
+                .filter(type->type != Object.class)
+                .collect(Collectors.toList());
+        // super classes first, same as Spring does
+        Collections.reverse(hierarchy);
+
+        val members = new ArrayList<InjectionMember>();
+
+        try {
+            for (val type : hierarchy) {
+                for (val field : type.getDeclaredFields()) {
+                    if(requiresSpring(field)) {
+                        return requiringSpring();
+                    }
+                    val required = requiredIfInjectionPoint(field);
+                    if(required == null
+                            || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    members.add(new FieldMember(field, required));
+                }
+                for (val method : type.getDeclaredMethods()) {
+                    if(requiresSpring(method)) {
+                        return requiringSpring();
+                    }
+                    val required = requiredIfInjectionPoint(method);
+                    if(required == null
+                            || Modifier.isStatic(method.getModifiers())
+                            || method.isBridge()
+                            || method.getParameterCount() == 0
+                            // overridden ones are picked up with the subclass, if annotated there
+                            || !method.equals(ClassUtils.getMostSpecificMethod(method, cls))) {
+                        continue;
+                    }
+                    members.add(new MethodMember(method, required));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            return requiringSpring();
+        }
+
+        return new ServiceInjectionPlan(Collections.unmodifiableList(members), false);
+    }
+
+    void injectInto(
+            final Object targetPojo,
+            final AutowireCapableBeanFactory beanFactory,
+            final Consumer<InjectionPoint> onNotResolvable) {
+
+        for (val member : members) {
+            member.injectInto(targetPojo, beanFactory, onNotResolvable);
+        }
+    }
+
+    // -- HELPERS
+
+    private static boolean requiresSpring(final AccessibleObject member) {
+        for (Annotation annotation : member.getAnnotations()) {
+            if(ANNOTATIONS_REQUIRING_SPRING.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the injection point is required, or {@code null} if not an injection point
+     */
+    private static Boolean requiredIfInjectionPoint(final AccessibleObject member) {
+        if(AnnotatedElementUtils.hasAnnotation(member, Inject.class)) {
+            return Boolean.TRUE;
+        }
+        val autowired = AnnotatedElementUtils.findMergedAnnotation(member, Autowired.class);
+        return autowired != null
+                ? autowired.required()
+                : null;
+    }
+
+    /**
+     * A single dependency, memoizing its resolved value if backed by singletons only.
+     */
+    private static final class Dependency {
+
+        private final DependencyDescriptor descriptor;
+        private volatile boolean memoized;
+        private volatile Object value;
+
+        Dependency(final DependencyDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        /**
+         * @return the resolved value, or {@code null} if not required and not resolvable
+         * @throws BeansException if required and not resolvable
+         */
+        Object resolve(final AutowireCapableBeanFactory beanFactory) {
+            if(memoized) {
+                return value;
+            }
+            final Set<String> beanNames = new LinkedHashSet<>();
+            val resolved = beanFactory.resolveDependency(descriptor, null, beanNames, null);
+            if(resolved != null
+                    && !beanNames.isEmpty()
+                    && beanNames.stream().allMatch(beanFactory::isSingleton)) {
+                value = resolved;
+                memoized = true;
+            }
+            return resolved;
+        }
+
+    }
+
+    private static abstract class InjectionMember {
+
+        /**
+         * Taking the target and the value to inject (for methods, their arguments as an array).
+         */
+        protected static final MethodType HANDLE_TYPE =
+                MethodType.methodType(void.class, Object.class, Object.class);
+
+        protected final MethodHandle handle;
+        protected final boolean required;
+
+        InjectionMember(final MethodHandle handle, final boolean required) {
+            this.handle = handle;
+            this.required = required;
+        }
+
+        abstract void injectInto(
+                Object targetPojo,
+                AutowireCapableBeanFactory beanFactory,
+                Consumer<InjectionPoint> onNotResolvable);
+
+        protected void invoke(final Object targetPojo, final Object value) {
+            try {
+                handle.invokeExact(targetPojo, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(
+                        String.format("failed to inject into %s", targetPojo.getClass().getName()), e);
+            }
+        }
+
+    }
+
+    private static final class FieldMember extends InjectionMember {
+
+        private final Field field;
+        private final Dependency dependency;
+
+        FieldMember(final Field field, final boolean required) throws IllegalAccessException {
+            super(_Reflect.handleOfSetterOn(field).asType(HANDLE_TYPE), required);
+            this.field = field;
+            this.dependency = new Dependency(new DependencyDescriptor(field, required));
+        }
+
+        @Override
+        void injectInto(
+                final Object targetPojo,
+                final AutowireCapableBeanFactory beanFactory,
+                final Consumer<InjectionPoint> onNotResolvable) {
+
+            final Object value;
+            try {
+                value = dependency.resolve(beanFactory);
+            } catch (NoUniqueBeanDefinitionException e) {
+                // ambiguous rather than not resolvable
+                throw e;
+            } catch (NoSuchBeanDefinitionException e) {
+                onNotResolvable.accept(new InjectionPoint(field));
+                return;
+            }
+            if(value != null) {
+                invoke(targetPojo, value);
+            }
+        }
+
+    }
+
+    private static final class MethodMember extends InjectionMember {
+
+        private final Method method;
+        private final Dependency[] dependencies;
+
+        MethodMember(final Method method, final boolean required) throws IllegalAccessException {
+            super(_Reflect.handleOf(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(HANDLE_TYPE), required);
+            this.method = method;
+            this.dependencies = new Dependency[method.getParameterCount()];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = new Dependency(
+                        new DependencyDescriptor(new MethodParameter(method, i), required));
+            }
+        }
+
+        @Override
+        void injectInto(
+                final Object targetPojo,
+                final AutowireCapableBeanFactory beanFactory,
+                final Consumer<InjectionPoint> onNotResolvable) {
+
+            val args = new Object[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                try {
+                    args[i] = dependencies[i].resolve(beanFactory);
+                } catch (NoUniqueBeanDefinitionException e) {
+                    // ambiguous rather than not resolvable
+                    throw e;
+                } catch (NoSuchBeanDefinitionException e) {
+                    onNotResolvable.accept(new InjectionPoint(new MethodParameter(method, i)));
+                    return;
+                }
+                if(args[i] == null 
+                        && !required) {
+                    // same as Spring, a non-required method is only called if all its arguments resolve 
+                    return;
+                }
+            }
+            invoke(targetPojo, args);
+        }
+
+    }
+
+}
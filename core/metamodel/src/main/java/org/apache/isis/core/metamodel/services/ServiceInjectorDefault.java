@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.metamodel.services;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -32,8 +33,14 @@
 
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.val;
 
 /**
+ * Injects {@link Inject} and {@link org.springframework.beans.factory.annotation.Autowired} 
+ * annotated fields and methods, using a {@link ServiceInjectionPlan} computed once per class,
+ * rather than running Spring's bean factory machinery for every single pojo.
  * 
  * @since 2.0
  *
@@ -46,6 +53,7 @@
 public class ServiceInjectorDefault implements ServiceInjector {
 
     private final AutowireCapableBeanFactory autowireCapableBeanFactory;
+    private final Map<Class<?>, ServiceInjectionPlan> injectionPlanByClass = _Maps.newConcurrentHashMap();
 
     @Inject
     public ServiceInjectorDefault(AutowireCapableBeanFactory autowireCapableBeanFactory) {
@@ -62,10 +70,17 @@ public <T> T injectServicesInto(T domainObject, Consumer<InjectionPoint> onNotRe
 
     private void injectServices(final Object targetPojo, Consumer<InjectionPoint> onNotResolvable) {
 
-        autowireCapableBeanFactory.autowireBeanProperties(
-                targetPojo,
-                AutowireCapableBeanFactory.AUTOWIRE_NO, false);
+        val injectionPlan = injectionPlanByClass
+                .computeIfAbsent(targetPojo.getClass(), ServiceInjectionPlan::compile);
+        
+        if(injectionPlan.isRequiresSpring()) {
+            autowireCapableBeanFactory.autowireBeanProperties(
+                    targetPojo,
+                    AutowireCapableBeanFactory.AUTOWIRE_NO, false);
+            return;
+        }
         
+        injectionPlan.injectInto(targetPojo, autowireCapableBeanFactory, onNotResolvable);
     }
 
 
@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.events;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Answers, per event type, whether any listener registered with the
+ * {@link ApplicationContext} could receive an event of that type when
+ * published (as a payload event).
+ *
+ * <p>
+ *     Both {@link ApplicationListener} beans and {@link EventListener}
+ *     annotated methods are considered; the type matching itself is delegated
+ *     to Spring's own adapters. Any listener
+ *     {@link EventListener#condition() conditions} are ignored, and if a
+ *     listener cannot be introspected then every event type is assumed to be
+ *     observed; so the lookup errs on the side of <i>yes</i>.
+ * </p>
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class EventListenerLookup {
+
+    private final List<GenericApplicationListener> listeners;
+    private final boolean observesAll;
+    private final Map<Class<?>, Boolean> hasListenersByEventType = new ConcurrentHashMap<>();
+
+    private EventListenerLookup(final List<GenericApplicationListener> listeners, final boolean observesAll) {
+        this.listeners = listeners;
+        this.observesAll = observesAll;
+    }
+
+    static EventListenerLookup of(final @NonNull ApplicationContext applicationContext) {
+        val listeners = new ArrayList<GenericApplicationListener>();
+        val observesAll = !collectListeners(applicationContext, listeners);
+        if(observesAll) {
+            log.info("could not introspect all event listeners; no domain events will be elided");
+        }
+        return new EventListenerLookup(listeners, observesAll);
+    }
+
+    boolean hasListenersFor(final @NonNull Class<?> eventType) {
+        return observesAll
+                || hasListenersByEventType.computeIfAbsent(eventType, this::lookup);
+    }
+
+    private boolean lookup(final Class<?> eventType) {
+        val payloadEventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+        return listeners.stream()
+                .anyMatch(listener->listener.supportsEventType(payloadEventType));
+    }
+
+    // -- HELPER
+
+    /**
+     * @return whether all listeners (of this context and its ancestors) could
+     * be collected
+     */
+    private static boolean collectListeners(
+            final ApplicationContext applicationContext,
+            final List<GenericApplicationListener> listeners) {
+
+        if(!(applicationContext instanceof ConfigurableApplicationContext)) {
+            return false;
+        }
+        val beanFactory = ((ConfigurableApplicationContext) applicationContext).getBeanFactory();
+
+        // listeners registered programmatically (not as beans)
+        if(applicationContext instanceof AbstractApplicationContext) {
+            for (val listener : ((AbstractApplicationContext) applicationContext).getApplicationListeners()) {
+                listeners.add(asGeneric(listener));
+            }
+        }
+
+        try {
+            for (val beanName : beanFactory.getBeanNamesForType(ApplicationListener.class, true, false)) {
+                if(!beanFactory.isSingleton(beanName)) {
+                    return false;
+                }
+                listeners.add(asGeneric(beanFactory.getBean(beanName, ApplicationListener.class)));
+            }
+
+            // same discovery as Spring's EventListenerMethodProcessor
+            for (val beanName : beanFactory.getBeanDefinitionNames()) {
+                val beanType = beanFactory.getType(beanName);
+                if(beanType == null) {
+                    continue;
+                }
+                val targetType = ClassUtils.getUserClass(beanType);
+                final Map<Method, EventListener> annotatedMethods = MethodIntrospector.selectMethods(targetType,
+                        (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+                for (val method : annotatedMethods.keySet()) {
+                    listeners.add(new ApplicationListenerMethodAdapter(beanName, targetType, method));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("failed to introspect event listeners", e);
+            return false;
+        }
+
+        // events are also published to the parent context
+        return applicationContext.getParent() == null
+                || collectListeners(applicationContext.getParent(), listeners);
+    }
+
+    private static GenericApplicationListener asGeneric(final ApplicationListener<?> listener) {
+        return listener instanceof GenericApplicationListener
+                ? (GenericApplicationListener) listener
+                : new GenericApplicationListenerAdapter(listener);
+    }
+
+}
@@ -22,8 +22,11 @@
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
@@ -35,6 +38,7 @@
 import org.apache.isis.applib.events.ui.IconUiEvent;
 import org.apache.isis.applib.events.ui.LayoutUiEvent;
 import org.apache.isis.applib.events.ui.TitleUiEvent;
+import org.apache.isis.commons.internal.base._Lazy;
 
 import lombok.Builder;
 
@@ -48,10 +52,53 @@
 @Order(OrderPrecedence.MIDPOINT)
 @Primary
 @Qualifier("Default")
-@Builder //for JUnit Test support
 public class MetamodelEventService {
     
     @Inject private ApplicationEventPublisher publisher;
+    @Inject private ApplicationContext applicationContext;
+
+    @Builder //for JUnit Test support
+    MetamodelEventService(
+            final ApplicationEventPublisher publisher,
+            final ApplicationContext applicationContext) {
+        this.publisher = publisher;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Built on first use, but only once the application context has been
+     * refreshed, that is, once all listeners are known.
+     */
+    private final _Lazy<EventListenerLookup> eventListenerLookup =
+            _Lazy.threadSafe(()->EventListenerLookup.of(applicationContext));
+    private volatile boolean contextRefreshed;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        if(event.getApplicationContext() == applicationContext) {
+            // listeners may have changed, if refreshed more than once
+            eventListenerLookup.clear();
+            contextRefreshed = true;
+        }
+    }
+
+    /**
+     * Whether any listener could observe a domain event of the given type,
+     * allowing the caller to elide creating the event altogether if not.
+     *
+     * <p>
+     *     Always <tt>true</tt> for events fired before the application context
+     *     has been refreshed (or if there is none, as in unit tests), since
+     *     not all listeners are known yet.
+     * </p>
+     */
+    public boolean hasListenersFor(final Class<?> eventType) {
+        if(!contextRefreshed
+                || applicationContext == null) {
+            return true;
+        }
+        return eventListenerLookup.get().hasListenersFor(eventType);
+    }
 
     // -- METAMODEL UI EVENTS
 
@@ -18,13 +18,13 @@
  */
 package org.apache.isis.core.metamodel.services.grid;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
@@ -37,6 +37,7 @@
 import org.apache.isis.applib.services.jaxb.JaxbService;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Arrays;
+import org.apache.isis.commons.internal.resources._Xml;
 
 /**
  * 
@@ -62,8 +63,12 @@ public void init(){
                 .map(GridSystemService::gridImplementation)
                 .collect(_Arrays.toArray(Class.class));
         try {
-            jaxbContext = JAXBContext.newInstance(pageImplementations);
-        } catch (JAXBException e) {
+            // cached, so that the JaxbService can pool its (un)marshallers
+            jaxbContext = pageImplementations.length > 0
+                    ? _Xml.jaxbContextFor(pageImplementations[0], 
+                            Arrays.copyOfRange(pageImplementations, 1, pageImplementations.length))
+                    : JAXBContext.newInstance(pageImplementations);
+        } catch (Exception e) {
             // leave as null
         }
     }
@@ -0,0 +1,56 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.title;
+
+import java.util.function.Supplier;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+/**
+ * Remembers the titles of entities, keyed by {@link Bookmark} and (if the 
+ * entity type is versioned) the entity's version, so that titles - which 
+ * frequently navigate to other entities - need not be rendered each time 
+ * they are needed. 
+ * 
+ * <p>
+ * Titles are invalidated when the entity change tracker sees any entity 
+ * being updated or deleted, as titles may be derived from other entities.
+ *
+ * @since 2.0 {@index}
+ */
+public interface TitleCache {
+
+    /**
+     * The title of the given entity, as previously rendered if remembered, 
+     * otherwise rendered using the provided supplier.
+     */
+    String titleOf(ManagedObject entity, Supplier<String> titleRenderer);
+
+    /**
+     * The entity is being changed, so (for the remainder of the current 
+     * interaction) no titles must be remembered, neither its own nor those
+     * of any entities whose titles might be derived from it.
+     */
+    void invalidate(Bookmark bookmark);
+
+    _LruCache.Statistics getStatistics();
+
+}
@@ -72,6 +72,7 @@
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.ObjectTitleContext;
 import org.apache.isis.core.metamodel.interactions.ObjectValidityContext;
+import org.apache.isis.core.metamodel.services.title.TitleCache;
 import org.apache.isis.core.metamodel.spec.ActionType;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -187,6 +188,9 @@ public Collection<ObjectSpecification> toCollection() {
     // derived lazily, cached since immutable
     private _Lazy<LogicalType> logicalTypeLazy = _Lazy.threadSafe(this::lookupLogicalType);
 
+    private final _Lazy<Optional<TitleCache>> titleCacheLazy = _Lazy.threadSafe(()->
+            getServiceRegistry().lookupService(TitleCache.class));
+
     private ObjectSpecification superclassSpec;
 
     private TitleFacet titleFacet;
@@ -419,7 +423,10 @@ public String getTitle(
             final ManagedObject targetAdapter) {
         
         if (titleFacet != null) {
-            val titleString = titleFacet.title(contextAdapterIfAny, targetAdapter);
+            val titleString = contextAdapterIfAny == null
+                    && isEntity()
+                    ? entityTitle(targetAdapter)
+                    : titleFacet.title(contextAdapterIfAny, targetAdapter);
             if (!_Strings.isEmpty(titleString)) {
                 return titleString;
             }
@@ -427,6 +434,12 @@ public String getTitle(
         return (this.isManagedBean() ? "" : "Untitled ") + getSingularName();
     }
 
+    private String entityTitle(final ManagedObject entity) {
+        return titleCacheLazy.get()
+                .map(titleCache->titleCache.titleOf(entity, ()->titleFacet.title(null, entity)))
+                .orElseGet(()->titleFacet.title(null, entity));
+    }
+
 
     @Override
     public String getIconName(final ManagedObject reference) {
@@ -0,0 +1,413 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.util.snapshot;
+
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.isis.applib.ViewModel;
+import org.apache.isis.applib.snapshot.SnapshottableWithInclusions;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.collections.CollectionFacet;
+import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
+import org.apache.isis.core.metamodel.facets.object.parseable.ParseableFacet;
+import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes the same XML as {@link XmlSnapshot#getXmlDocument()}, but streams it
+ * (using StAX) directly to an {@link OutputStream} as the object graph is
+ * traversed, rather than first building a DOM.
+ *
+ * <p>
+ * Only the objects on the path from the root to the object currently being
+ * written are held in memory, so this is suitable for snapshotting aggregates
+ * with many children. No XSD is generated; use {@link XmlSnapshot} for that.
+ *
+ * <p>
+ * Typical use:
+ *
+ * <pre>
+ *      XmlSnapshotWriter writer = new XmlSnapshotWriter(customer);
+ *      writer.include(&quot;orders/product&quot;);
+ *      writer.writeTo(outputStream);
+ * </pre>
+ *
+ * <p>
+ * An object appearing more than once within a collection is written only
+ * once, same as {@link XmlSnapshot} (which merges any further appearances into
+ * the element of the first), but without writing it again first.
+ */
+@Log4j2
+public class XmlSnapshotWriter {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final ManagedObject rootAdapter;
+    private final String prefix;
+    private final String uri;
+
+    /**
+     * The paths to include, as a tree.
+     */
+    private final Inclusion inclusions = new Inclusion();
+
+    /**
+     * The maximum number of levels (below the root) to which included paths are
+     * followed; by default unlimited.
+     */
+    @Getter @Setter
+    private int maxDepth = Integer.MAX_VALUE;
+
+    /**
+     * Whether included paths should stop at objects that are already being
+     * written further up the graph, rather than writing them again (nested
+     * within themselves).
+     */
+    @Getter @Setter
+    private boolean skipCycles = false;
+
+    private final Map<ManagedObject, String> viewModelFakeOids = _Maps.newHashMap();
+
+    private static class Inclusion {
+        private final Map<String, Inclusion> byFieldName = new LinkedHashMap<>();
+        private String annotation;
+
+        Inclusion child(final String fieldName) {
+            return byFieldName.computeIfAbsent(fieldName, __ -> new Inclusion());
+        }
+
+        Inclusion get(final String fieldName) {
+            return byFieldName.get(fieldName);
+        }
+    }
+
+    public XmlSnapshotWriter(final ManagedObject rootAdapter) {
+        this(rootAdapter, new XmlSchema());
+    }
+
+    /**
+     * @param schema - only its {@link XmlSchema#getUriBase() URI base} and
+     * {@link XmlSchema#getPrefix() prefix} are used
+     */
+    public XmlSnapshotWriter(final @NonNull ManagedObject rootAdapter, final @NonNull XmlSchema schema) {
+        this.rootAdapter = rootAdapter;
+        this.prefix = schema.getPrefix();
+
+        val helper = new Helper();
+        val fullyQualifiedClassName = rootAdapter.getSpecification().getFullIdentifier();
+        this.uri = schema.getUriBase() + helper.packageNameFor(fullyQualifiedClassName)
+                + "/" + helper.classNameFor(fullyQualifiedClassName);
+
+        if(rootAdapter.getPojo() instanceof SnapshottableWithInclusions) {
+            val paths = ((SnapshottableWithInclusions) rootAdapter.getPojo()).snapshotInclusions();
+            if(paths != null) {
+                paths.forEach(this::include);
+            }
+        }
+    }
+
+    public XmlSnapshotWriter include(final String path) {
+        return include(path, null);
+    }
+
+    public XmlSnapshotWriter include(final String path, final String annotation) {
+        Inclusion inclusion = inclusions;
+        for (final StringTokenizer tok = new StringTokenizer(path, "/"); tok.hasMoreTokens();) {
+            inclusion = inclusion.child(tok.nextToken());
+        }
+        if(annotation != null) {
+            inclusion.annotation = annotation;
+        }
+        return this;
+    }
+
+    // -- WRITE
+
+    public void writeTo(final @NonNull OutputStream out) throws XMLStreamException {
+        val writer = OUTPUT_FACTORY.createXMLStreamWriter(out, "UTF-8");
+        try {
+            writer.writeStartDocument("UTF-8", "1.0");
+
+            val spec = rootAdapter.getSpecification();
+            writer.writeStartElement(prefix, spec.getShortIdentifier(), uri);
+            writer.writeNamespace(IsisSchema.NS_PREFIX, IsisSchema.NS_URI);
+            writer.writeNamespace(prefix, uri);
+            writer.writeNamespace(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI);
+            writer.writeAttribute(XsMetaModel.W3_ORG_XSI_PREFIX, XsMetaModel.W3_ORG_XSI_URI,
+                    "schemaLocation", uri + " " + spec.getFullIdentifier() + ".xsd");
+
+            val ancestors = new ArrayDeque<String>();
+            writeObjectContent(writer, rootAdapter, inclusions, ancestors);
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeObject(
+            final XMLStreamWriter writer,
+            final ManagedObject adapter,
+            final Inclusion inclusion,
+            final Deque<String> ancestors) throws XMLStreamException {
+
+        writer.writeStartElement(prefix, adapter.getSpecification().getShortIdentifier(), uri);
+        writeObjectContent(writer, adapter, inclusion, ancestors);
+        writer.writeEndElement();
+    }
+
+    private void writeObjectContent(
+            final XMLStreamWriter writer,
+            final ManagedObject adapter,
+            final Inclusion inclusion,
+            final Deque<String> ancestors) throws XMLStreamException {
+
+        val spec = adapter.getSpecification();
+        val oid = oidAsString(adapter);
+
+        writeIsisAttribute(writer, "fqn", spec.getFullIdentifier());
+        writeIsisAttribute(writer, "singular", spec.getSingularName());
+        writeIsisAttribute(writer, "plural", spec.getPluralName());
+        writeIsisAttribute(writer, "feature", IsisSchema.FEATURE_CLASS);
+        writeIsisAttribute(writer, "oid", oid);
+        writeIsisTitle(writer, adapter.titleString());
+
+        ancestors.push(oid);
+        try {
+            final List<ObjectAssociation> fields = spec.streamAssociations(MixedIn.INCLUDED)
+                    .collect(Collectors.toList());
+            for (int i = 0; i < fields.size(); i++) {
+                val field = fields.get(i);
+                // as per XmlSnapshot
+                if (i > 0 && field.getId().equals(field.getName())) {
+                    continue;
+                }
+                writeField(writer, adapter, field, inclusion.get(field.getId()), ancestors);
+            }
+        } finally {
+            ancestors.pop();
+        }
+    }
+
+    private void writeField(
+            final XMLStreamWriter writer,
+            final ManagedObject adapter,
+            final ObjectAssociation field,
+            final Inclusion inclusion,
+            final Deque<String> ancestors) throws XMLStreamException {
+
+        val fieldName = field.getId();
+
+        if (field.getSpecification().containsFacet(ValueFacet.class)) {
+
+            val fieldNos = field.getSpecification();
+            if (fieldNos.getFullIdentifier() != null && fieldNos.getFullIdentifier().endsWith("XmlValue")) {
+                return;
+            }
+            val valueAssociation = (OneToOneAssociation) field;
+            if (valueAssociation.isNotPersisted()) {
+                return;
+            }
+
+            // gather the content first, as the element is written even if this fails part-way
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            String text = null;
+            try {
+                val value = valueAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+                attributes.put("feature", IsisSchema.FEATURE_VALUE);
+                attributes.put("datatype", IsisSchema.NS_PREFIX + ":" + value.getSpecification().getShortIdentifier());
+
+                final String valueStr;
+                val parseableFacet = fieldNos.getFacet(ParseableFacet.class);
+                val encodeableFacet = fieldNos.getFacet(EncodableFacet.class);
+                if (parseableFacet != null) {
+                    valueStr = parseableFacet.parseableTitle(value);
+                } else if (encodeableFacet != null) {
+                    valueStr = encodeableFacet.toEncodedString(value);
+                } else {
+                    valueStr = value.titleString();
+                }
+                if (valueStr.length() > 0) {
+                    text = valueStr;
+                } else {
+                    attributes.put("isEmpty", "true");
+                }
+            } catch (final Exception ex) {
+                log.warn("field '{}': getField() threw exception - skipping XML generation", fieldName);
+            }
+
+            writer.writeStartElement(prefix, fieldName, uri);
+            writeAnnotation(writer, inclusion);
+            for (val attribute : attributes.entrySet()) {
+                writeIsisAttribute(writer, attribute.getKey(), attribute.getValue());
+            }
+            if (text != null) {
+                writer.writeCharacters(text);
+            }
+            writer.writeEndElement();
+
+        } else if (field instanceof OneToOneAssociation) {
+
+            val oneToOneAssociation = (OneToOneAssociation) field;
+
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            ManagedObject referencedObject = null;
+            try {
+                referencedObject = oneToOneAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+                attributes.put("feature", IsisSchema.FEATURE_REFERENCE);
+                attributes.put("type", prefix + ":" + adapter.getSpecification().getFullIdentifier());
+                if (referencedObject == null) {
+                    attributes.put("isEmpty", "true");
+                }
+            } catch (final Exception ex) {
+                log.warn("field '{}': getAssociation() threw exception - skipping XML generation", fieldName);
+            }
+
+            writer.writeStartElement(prefix, fieldName, uri);
+            writeAnnotation(writer, inclusion);
+            for (val attribute : attributes.entrySet()) {
+                writeIsisAttribute(writer, attribute.getKey(), attribute.getValue());
+            }
+            if (referencedObject != null) {
+                writeIsisTitle(writer, referencedObject.titleString());
+                if (shouldFollow(inclusion, ancestors, referencedObject)
+                        && isNavigable(oneToOneAssociation)) {
+                    writeObject(writer, referencedObject, inclusion, ancestors);
+                }
+            }
+            writer.writeEndElement();
+
+        } else if (field instanceof OneToManyAssociation) {
+
+            val oneToManyAssociation = (OneToManyAssociation) field;
+
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            ManagedObject collection = null;
+            try {
+                collection = oneToManyAssociation.get(adapter, InteractionInitiatedBy.FRAMEWORK);
+                attributes.put("feature", IsisSchema.FEATURE_COLLECTION);
+                attributes.put("type", prefix + ":" + oneToManyAssociation.getSpecification().getFullIdentifier());
+                attributes.put("size", "" + CollectionFacet.elementCount(collection));
+            } catch (final Exception ex) {
+                log.warn("field '{}': get(obj) threw exception - skipping XML generation", fieldName);
+            }
+
+            writer.writeStartElement(prefix, fieldName, uri);
+            writeAnnotation(writer, inclusion);
+            for (val attribute : attributes.entrySet()) {
+                writeIsisAttribute(writer, attribute.getKey(), attribute.getValue());
+            }
+            if (collection != null && inclusion != null && ancestors.size() <= maxDepth) {
+                final Set<String> written = new LinkedHashSet<>();
+                for (val referencedObject : (Iterable<ManagedObject>) CollectionFacet.streamAdapters(collection)::iterator) {
+                    if (shouldFollow(inclusion, ancestors, referencedObject)
+                            && written.add(oidAsString(referencedObject))) {
+                        writeObject(writer, referencedObject, inclusion, ancestors);
+                    }
+                }
+            }
+            writer.writeEndElement();
+
+        } else {
+            log.info("field '{}' is unknown type; ignored", fieldName);
+        }
+    }
+
+    /**
+     * As per {@link XmlSnapshot}, references to types without any associations
+     * of their own are not followed, nor are those that are not persisted.
+     */
+    private static boolean isNavigable(final OneToOneAssociation oneToOneAssociation) {
+        return oneToOneAssociation.getSpecification().streamAssociations(MixedIn.INCLUDED).limit(1).count() > 0L
+                && !oneToOneAssociation.isNotPersisted();
+    }
+
+    private boolean shouldFollow(
+            final Inclusion inclusion,
+            final Deque<String> ancestors,
+            final ManagedObject referencedObject) {
+        if (inclusion == null) {
+            return false;
+        }
+        if (ancestors.size() > maxDepth) {
+            return false;
+        }
+        return !(skipCycles && ancestors.contains(oidAsString(referencedObject)));
+    }
+
+    private static void writeAnnotation(
+            final XMLStreamWriter writer,
+            final Inclusion inclusion) throws XMLStreamException {
+        if (inclusion != null && inclusion.annotation != null) {
+            writeIsisAttribute(writer, "annotation", IsisSchema.NS_PREFIX + ":" + inclusion.annotation);
+        }
+    }
+
+    private static void writeIsisAttribute(
+            final XMLStreamWriter writer,
+            final String localName,
+            final String value) throws XMLStreamException {
+        writer.writeAttribute(IsisSchema.NS_PREFIX, IsisSchema.NS_URI, localName, value);
+    }
+
+    private static void writeIsisTitle(
+            final XMLStreamWriter writer,
+            final String title) throws XMLStreamException {
+        writer.writeStartElement(IsisSchema.NS_PREFIX, "title", IsisSchema.NS_URI);
+        writer.writeCharacters(title);
+        writer.writeEndElement();
+    }
+
+    private String oidAsString(final ManagedObject adapter) {
+        if (adapter.getPojo() instanceof ViewModel) {
+            // as per XmlSnapshot, a fake oid for view models
+            return viewModelFakeOids.computeIfAbsent(adapter, __ -> "viewmodel-fakeoid-" + UUID.randomUUID().toString());
+        }
+        return ManagedObjects.stringifyElseFail(adapter);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.objectmanager.load;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class ObjectLoaderTest {
+
+    private ObjectSpecification entitySpec;
+    private ObjectSpecification valueSpec;
+    private ManagedObject entity1;
+    private ManagedObject entity3;
+    private ManagedObject value;
+    
+    private ObjectLoader objectLoader;
+
+    @BeforeEach
+    void setUp() {
+        entity1 = Mockito.mock(ManagedObject.class);
+        entity3 = Mockito.mock(ManagedObject.class);
+        value = Mockito.mock(ManagedObject.class);
+
+        val entityFacet = Mockito.mock(EntityFacet.class);
+        entitySpec = Mockito.mock(ObjectSpecification.class);
+        when(entitySpec.isEntity()).thenReturn(true);
+        when(entitySpec.containsFacet(EntityFacet.class)).thenReturn(true);
+        when(entitySpec.getFacet(EntityFacet.class)).thenReturn(entityFacet);
+        // entity "2" does not exist
+        when(entityFacet.fetchByIdentifiers(ArgumentMatchers.eq(entitySpec), ArgumentMatchers.any()))
+            .thenReturn(_Maps.unmodifiable("1", entity1, "3", entity3));
+
+        valueSpec = Mockito.mock(ObjectSpecification.class);
+
+        // like the default chain of handlers, fails for anything not known
+        objectLoader = request -> {
+            if(request.getObjectSpecification() == valueSpec) {
+                if("missing".equals(request.getObjectIdentifier())) {
+                    throw new ObjectNotFoundException(request.getObjectIdentifier());
+                }
+                return value;
+            }
+            throw _Exceptions.unrecoverableFormatted(
+                    "ObjectLoader failed to handle request %s", request);
+        };
+    }
+
+    @Test
+    void results_are_in_order_of_requests() {
+        val loaded = objectLoader.loadObjects(Arrays.asList(
+                ObjectLoader.Request.of(entitySpec, "3"),
+                ObjectLoader.Request.of(valueSpec, "x"),
+                ObjectLoader.Request.of(entitySpec, "1"),
+                ObjectLoader.Request.of(entitySpec, "3")));
+
+        assertEquals(Arrays.asList(entity3, value, entity1, entity3), loaded);
+    }
+
+    @Test
+    void null_missing_and_unknown_requests_result_in_null() {
+        val loaded = objectLoader.loadObjects(Arrays.asList(
+                null,
+                ObjectLoader.Request.of(entitySpec, "1"),
+                ObjectLoader.Request.of(null, "1"), // unknown logical type
+                ObjectLoader.Request.of(entitySpec, "2"),
+                ObjectLoader.Request.of(valueSpec, "missing")));
+
+        assertEquals(Arrays.asList(null, entity1, null, null, null), loaded);
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InjectionPoint;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ServiceInjectionPlanTest {
+
+    static class SomeService {}
+    static class SomePrototype {}
+    static class NotRegistered {}
+
+    static abstract class Base {
+        @Inject SomeService someServiceFromBase;
+    }
+
+    static class Target extends Base {
+        @Inject SomeService someService;
+        @Inject SomePrototype somePrototype;
+        @Inject Optional<NotRegistered> notRegisteredOptional;
+        @Autowired(required = false) NotRegistered notRegistered;
+        SomeService viaSetter;
+
+        @Inject
+        void setViaSetter(SomeService someService) {
+            this.viaSetter = someService;
+        }
+    }
+
+    static class TargetWithMissingDependency {
+        @Inject NotRegistered notRegistered;
+    }
+
+    static class TargetWithMultipleArguments {
+        SomeService someService;
+        SomePrototype somePrototype;
+
+        @Inject
+        void init(SomeService someService, SomePrototype somePrototype) {
+            this.someService = someService;
+            this.somePrototype = somePrototype;
+        }
+    }
+
+    static class TargetWithValue {
+        @Value("${foo:bar}") String foo;
+    }
+
+    private DefaultListableBeanFactory beanFactory;
+    private SomeService someService;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        someService = new SomeService();
+        beanFactory.registerSingleton("someService", someService);
+        val prototype = new RootBeanDefinition(SomePrototype.class);
+        prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        beanFactory.registerBeanDefinition("somePrototype", prototype);
+    }
+
+    @Test
+    void injectsFieldsUpTheHierarchy_andSetters() {
+        val plan = ServiceInjectionPlan.compile(Target.class);
+        assertFalse(plan.isRequiresSpring());
+
+        val target = new Target();
+        plan.injectInto(target, beanFactory, this::fail);
+
+        assertSame(someService, target.someService);
+        assertSame(someService, target.someServiceFromBase);
+        assertSame(someService, target.viaSetter);
+        assertTrue(target.somePrototype != null);
+        assertEquals(Optional.empty(), target.notRegisteredOptional);
+        assertNull(target.notRegistered);
+    }
+
+    @Test
+    void resolvesNonSingletons_onEachInjection() {
+        val plan = ServiceInjectionPlan.compile(Target.class);
+
+        val target1 = new Target();
+        val target2 = new Target();
+        plan.injectInto(target1, beanFactory, this::fail);
+        plan.injectInto(target2, beanFactory, this::fail);
+
+        assertSame(target1.someService, target2.someService);
+        assertNotSame(target1.somePrototype, target2.somePrototype);
+    }
+
+    @Test
+    void reportsNonResolvable() {
+        val plan = ServiceInjectionPlan.compile(TargetWithMissingDependency.class);
+
+        final List<InjectionPoint> notResolvable = new ArrayList<>();
+        plan.injectInto(new TargetWithMissingDependency(), beanFactory, notResolvable::add);
+
+        assertEquals(1, notResolvable.size());
+        assertEquals("notRegistered", notResolvable.get(0).getField().getName());
+    }
+
+    @Test
+    void injectsMethodsWithMultipleArguments() {
+        val plan = ServiceInjectionPlan.compile(TargetWithMultipleArguments.class);
+
+        val target = new TargetWithMultipleArguments();
+        plan.injectInto(target, beanFactory, this::fail);
+
+        assertSame(someService, target.someService);
+        assertTrue(target.somePrototype != null);
+    }
+
+    @Test
+    void rethrowsAmbiguous_ratherThanReportingNonResolvable() {
+        beanFactory.registerSingleton("someOtherService", new SomeService());
+        val plan = ServiceInjectionPlan.compile(Target.class);
+
+        final List<InjectionPoint> notResolvable = new ArrayList<>();
+        assertThrows(NoUniqueBeanDefinitionException.class, 
+                ()->plan.injectInto(new Target(), beanFactory, notResolvable::add));
+        assertTrue(notResolvable.isEmpty());
+    }
+
+    @Test
+    void delegatesToSpring_whenOtherAnnotationsPresent() {
+        assertTrue(ServiceInjectionPlan.compile(TargetWithValue.class).isRequiresSpring());
+    }
+
+    private void fail(InjectionPoint injectionPoint) {
+        throw new AssertionError("not resolvable: " + injectionPoint);
+    }
+
+}
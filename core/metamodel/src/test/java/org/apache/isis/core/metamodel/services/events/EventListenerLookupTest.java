@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.events;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.events.domain.ActionDomainEvent;
+import org.apache.isis.applib.events.domain.PropertyDomainEvent;
+
+import lombok.val;
+
+class EventListenerLookupTest {
+
+    public static class Customer {}
+
+    public static class PlaceOrderEvent extends ActionDomainEvent<Customer> {}
+    public static class CancelOrderEvent extends ActionDomainEvent<Customer> {}
+    public static class NameEvent extends PropertyDomainEvent<Customer, String> {}
+
+    public static class PlaceOrderSubscriber {
+        @EventListener(PlaceOrderEvent.class)
+        public void on(final PlaceOrderEvent event) {}
+    }
+
+    public static class AnyPropertySubscriber {
+        @EventListener
+        public void on(final PropertyDomainEvent<?, ?> event) {}
+    }
+
+    @Test
+    void only_event_types_with_listeners_are_observed() {
+        try(val applicationContext = new AnnotationConfigApplicationContext(PlaceOrderSubscriber.class)) {
+            val lookup = EventListenerLookup.of(applicationContext);
+
+            assertTrue(lookup.hasListenersFor(PlaceOrderEvent.class));
+            assertFalse(lookup.hasListenersFor(CancelOrderEvent.class));
+            assertFalse(lookup.hasListenersFor(NameEvent.class));
+        }
+    }
+
+    @Test
+    void listener_for_supertype_observes_subtypes() {
+        try(val applicationContext = new AnnotationConfigApplicationContext(AnyPropertySubscriber.class)) {
+            val lookup = EventListenerLookup.of(applicationContext);
+
+            assertTrue(lookup.hasListenersFor(NameEvent.class));
+            assertFalse(lookup.hasListenersFor(PlaceOrderEvent.class));
+        }
+    }
+
+    @Test
+    void programmatically_added_listener_is_observed() {
+        try(val applicationContext = new AnnotationConfigApplicationContext()) {
+            applicationContext.addApplicationListener(event -> {});
+            applicationContext.refresh();
+            val lookup = EventListenerLookup.of(applicationContext);
+
+            // a raw ApplicationListener receives every event
+            assertTrue(lookup.hasListenersFor(CancelOrderEvent.class));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.events;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.metamodel.services.events.EventListenerLookupTest.CancelOrderEvent;
+import org.apache.isis.core.metamodel.services.events.EventListenerLookupTest.PlaceOrderEvent;
+import org.apache.isis.core.metamodel.services.events.EventListenerLookupTest.PlaceOrderSubscriber;
+
+import lombok.val;
+
+class MetamodelEventServiceTest {
+
+    @Test
+    void events_fired_before_refresh_are_never_elided() {
+        try(val applicationContext = new AnnotationConfigApplicationContext()) {
+            applicationContext.register(PlaceOrderSubscriber.class);
+            val metamodelEventService = MetamodelEventService.builder()
+                    .publisher(applicationContext)
+                    .applicationContext(applicationContext)
+                    .build();
+
+            assertTrue(metamodelEventService.hasListenersFor(CancelOrderEvent.class));
+
+            applicationContext.refresh();
+            metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(applicationContext));
+
+            assertTrue(metamodelEventService.hasListenersFor(PlaceOrderEvent.class));
+            assertFalse(metamodelEventService.hasListenersFor(CancelOrderEvent.class));
+        }
+    }
+
+    @Test
+    void refresh_of_another_context_is_ignored() {
+        try(val applicationContext = new AnnotationConfigApplicationContext(PlaceOrderSubscriber.class);
+            val otherContext = new AnnotationConfigApplicationContext()) {
+            val metamodelEventService = MetamodelEventService.builder()
+                    .publisher(applicationContext)
+                    .applicationContext(applicationContext)
+                    .build();
+
+            metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(otherContext));
+
+            assertTrue(metamodelEventService.hasListenersFor(CancelOrderEvent.class));
+        }
+    }
+
+}
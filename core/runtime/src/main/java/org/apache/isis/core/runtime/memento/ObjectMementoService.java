@@ -18,6 +18,10 @@
  */
 package org.apache.isis.core.runtime.memento;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.apache.isis.applib.id.LogicalType;
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
@@ -39,6 +43,16 @@ public interface ObjectMementoService {
 
     ManagedObject reconstructObject(ObjectMemento memento);
 
+    /**
+     * Bulk variant of {@link #reconstructObject(ObjectMemento)}, in the order given; 
+     * implementations may load entities of the same type in bulk. 
+     */
+    default List<ManagedObject> reconstructObjects(@NonNull List<ObjectMemento> mementos) {
+        return mementos.stream()
+                .map(this::reconstructObject)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     ObjectMemento mementoForParameter(@NonNull ManagedObject paramAdapter);
     
 
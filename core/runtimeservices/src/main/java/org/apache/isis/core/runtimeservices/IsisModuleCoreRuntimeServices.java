@@ -28,6 +28,7 @@
 
 import org.apache.isis.core.codegen.bytebuddy.IsisModuleCoreCodegenByteBuddy;
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+import org.apache.isis.core.runtimeservices.authorization.AuthorizationDecisionCacheForInteraction;
 import org.apache.isis.core.runtimeservices.bookmarks.BookmarkServiceDefault;
 import org.apache.isis.core.runtimeservices.clock.ClockServiceDefault;
 import org.apache.isis.core.runtimeservices.command.CommandDtoFactoryDefault;
@@ -57,6 +58,7 @@
 import org.apache.isis.core.runtimeservices.scratchpad.ScratchpadDefault;
 import org.apache.isis.core.runtimeservices.session.InteractionFactoryDefault;
 import org.apache.isis.core.runtimeservices.sudo.SudoServiceDefault;
+import org.apache.isis.core.runtimeservices.title.TitleCacheDefault;
 import org.apache.isis.core.runtimeservices.transaction.TransactionServiceSpring;
 import org.apache.isis.core.runtimeservices.urlencoding.UrlEncodingServiceWithCompression;
 import org.apache.isis.core.runtimeservices.user.UserServiceDefault;
@@ -73,6 +75,7 @@
         IsisModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AuthorizationDecisionCacheForInteraction.class,
         BookmarkServiceDefault.class,
         EntityChangesPublisherDefault.class,
         EntityPropertyChangePublisherDefault.class,
@@ -99,6 +102,7 @@
         QueryResultsCacheDefault.class,
         ScratchpadDefault.class,
         SudoServiceDefault.class,
+        TitleCacheDefault.class,
         TransactionServiceSpring.class,
         UrlEncodingServiceWithCompression.class,
         UserProfileServiceDefault.class,
@@ -107,6 +111,10 @@
         XmlServiceDefault.class,
         XmlSnapshotServiceDefault.class,
 
+        // @Component's
+        AuthorizationDecisionCacheForInteraction.Decisions.class,
+        TitleCacheDefault.Titles.class,
+
         // @Controller
         RoutingServiceDefault.class,
 
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.authorization;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.InteractionScope;
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.interaction.session.InteractionTracker;
+import org.apache.isis.core.security.authorization.manager.AuthorizationDecisionCache;
+
+import lombok.NonNull;
+
+/**
+ * Per interaction tier of the {@link AuthorizationDecisionCache}; decisions 
+ * are discarded when the interaction ends. 
+ * 
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.AuthorizationDecisionCacheForInteraction")
+@Order(OrderPrecedence.EARLY)
+@Qualifier("Interaction")
+public class AuthorizationDecisionCacheForInteraction implements AuthorizationDecisionCache {
+
+    private final Provider<InteractionTracker> interactionTrackerProvider;
+    private final Provider<Decisions> decisionsProvider;
+
+    @Inject
+    public AuthorizationDecisionCacheForInteraction(
+            final Provider<InteractionTracker> interactionTrackerProvider,
+            final Provider<Decisions> decisionsProvider) {
+        this.interactionTrackerProvider = interactionTrackerProvider;
+        this.decisionsProvider = decisionsProvider;
+    }
+
+    @Override
+    public Optional<Boolean> lookup(final @NonNull Key key) {
+        return currentDecisions()
+                .map(decisions->decisions.decisionByKey.get(key));
+    }
+
+    @Override
+    public void put(final @NonNull Key key, final boolean permitted) {
+        currentDecisions()
+        .ifPresent(decisions->decisions.decisionByKey.put(key, permitted));
+    }
+
+    @Override
+    public void invalidateAll() {
+        currentDecisions()
+        .ifPresent(decisions->decisions.decisionByKey.clear());
+    }
+
+    // -- HELPER
+
+    private Optional<Decisions> currentDecisions() {
+        return interactionTrackerProvider.get().isInInteractionSession()
+                ? Optional.of(decisionsProvider.get())
+                : Optional.empty();
+    }
+
+    @Component
+    @Named("isis.runtimeservices.AuthorizationDecisionCacheForInteraction.Decisions")
+    @InteractionScope
+    public static class Decisions {
+        private final Map<Key, Boolean> decisionByKey = _Maps.newHashMap();
+    }
+
+}
@@ -19,8 +19,11 @@
 package org.apache.isis.core.runtimeservices.bookmarks;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -44,9 +47,12 @@
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 
+import lombok.NonNull;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * This service enables a serializable 'bookmark' to be created for an entity.
@@ -56,6 +62,7 @@
 @Order(OrderPrecedence.MIDPOINT)
 @Primary
 @Qualifier("Default")
+@Log4j2
 public class BookmarkServiceDefault implements BookmarkService, SerializingAdapter {
 
     @Inject private SpecificationLoader specificationLoader;
@@ -91,6 +98,34 @@ public Object lookup(Bookmark bookmark) {
         }
     }
 
+    @Override
+    public List<Object> lookupAll(final @NonNull Collection<Bookmark> bookmarks) {
+        final List<ObjectLoader.Request> objectLoadRequests = bookmarks.stream()
+                .map(bookmark->bookmark != null
+                        ? ObjectLoader.Request.of(
+                                specForBookmarkElseNull(bookmark),
+                                bookmark.getIdentifier())
+                        : null)
+                .collect(Collectors.toList());
+
+        return objectManager.loadObjects(objectLoadRequests).stream()
+                .map(adapter->adapter != null ? adapter.getPojo() : null)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Unlike a single {@link #lookup(Bookmark)}, a bookmark of an unknown 
+     * logical type does not fail the whole batch, but resolves to <code>null</code>.
+     */
+    private ObjectSpecification specForBookmarkElseNull(final Bookmark bookmark) {
+        try {
+            return specificationLoader.specForBookmark(bookmark).orElse(null);
+        } catch (RuntimeException e) {
+            log.debug("unknown logical type of bookmark {}", bookmark, e);
+            return null;
+        }
+    }
+
     @Override
     public Bookmark bookmarkFor(final Object domainObject) {
         if(domainObject == null) {
@@ -19,9 +19,11 @@
 package org.apache.isis.core.runtimeservices.command;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -193,9 +195,8 @@ private Bookmark doExecuteCommand(final CommandDto dto) {
 
             final ActionDto actionDto = (ActionDto) memberDto;
 
-            for (OidDto targetOidDto : targetOidDtos) {
+            for (val targetAdapter : targetAdaptersFor(targetOidDtos)) {
 
-                val targetAdapter = adapterFor(targetOidDto);
                 final ObjectAction objectAction = findObjectAction(targetAdapter, memberId);
 
                 // we pass 'null' for the mixedInAdapter; if this action _is_ a mixin then
@@ -232,16 +233,7 @@ private Bookmark doExecuteCommand(final CommandDto dto) {
 
             final PropertyDto propertyDto = (PropertyDto) memberDto;
 
-            for (OidDto targetOidDto : targetOidDtos) {
-
-                final Bookmark bookmark = Bookmark.from(targetOidDto);
-                final Object targetObject = bookmarkService.lookup(bookmark);
-
-                val targetAdapter = adapterFor(targetObject);
-
-                if(ManagedObjects.isNullOrUnspecifiedOrEmpty(targetAdapter)) {
-                    throw _Exceptions.unrecoverableFormatted("cannot recreate ManagedObject from bookmark %s", bookmark);
-                }
+            for (val targetAdapter : targetAdaptersFor(targetOidDtos)) {
 
                 final OneToOneAssociation property = findOneToOneAssociation(targetAdapter, memberId);
 
@@ -372,6 +364,26 @@ private static Stream<ParamDto> streamParamDtosFrom(final ActionDto actionDto) {
                 .orElseGet(Stream::empty);
     }
 
+    /**
+     * Looks up all targets upfront, so that entities of the same type are fetched in bulk.
+     */
+    private List<ManagedObject> targetAdaptersFor(final List<OidDto> targetOidDtos) {
+        final List<Bookmark> bookmarks = targetOidDtos.stream()
+                .map(Bookmark::from)
+                .collect(Collectors.toList());
+        final List<Object> targetObjects = bookmarkService.lookupAll(bookmarks);
+
+        final List<ManagedObject> targetAdapters = new ArrayList<>(bookmarks.size());
+        for (int i = 0; i < bookmarks.size(); i++) {
+            val targetAdapter = adapterFor(targetObjects.get(i));
+            if(ManagedObjects.isNullOrUnspecifiedOrEmpty(targetAdapter)) {
+                throw _Exceptions.unrecoverableFormatted("cannot recreate ManagedObject from bookmark %s", bookmarks.get(i));
+            }
+            targetAdapters.add(targetAdapter);
+        }
+        return targetAdapters;
+    }
+
     private ManagedObject adapterFor(final Object pojo) {
         if(pojo==null) {
             return ManagedObject.unspecified();
@@ -19,10 +19,13 @@
 package org.apache.isis.core.runtimeservices.i18n.po;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.apache.isis.applib.services.i18n.LocaleProvider;
@@ -42,8 +45,9 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    private final Map<Locale, TranslationTable> translationTableByLocale = new ConcurrentHashMap<>();
+    private final Map<Locale, Boolean> usesFallbackByLocale = new ConcurrentHashMap<>();
+    private final Map<ContextAndMsgId, LongAdder> missingTranslationCounts = new ConcurrentHashMap<>();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -90,6 +94,22 @@ void init() {
         }
     }
 
+    /**
+     * Not API
+     *
+     * <p>
+     *     Reads and caches the translations of the given locales up-front, rather than
+     *     lazily on first use by a user of that locale.
+     * </p>
+     */
+    void preload(final List<Locale> locales) {
+        for (final Locale locale : locales) {
+            final TranslationTable translationTable = readAndCacheTranslationsIfRequired(locale);
+            log.info("Preloaded {} translations for locale: {}{}",
+                    translationTable.getSize(), locale, translationTable.isUsesFallback() ? " (using fallback)" : "");
+        }
+    }
+
     @Override
     public String translate(final String context, final String msgId) {
         if(translationsResolver == null) {
@@ -116,9 +136,24 @@ String translate(final String context, final String msgId, final String msgIdPlu
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
+        final List<Locale> locales = _Lists.newArrayList(translationTableByLocale.keySet());
+        translationTableByLocale.clear();
         usesFallbackByLocale.clear();
+        missingTranslationCounts.clear();
         init();
+        // re-read the translations of locales already in use, so that users don't pay for this
+        preload(locales);
+    }
+
+    /**
+     * Not API
+     *
+     * @return the number of times that each translation has been requested but found to be missing
+     * (for locales that have translations of their own, ie not using the fallback)
+     */
+    Map<ContextAndMsgId, Long> getMissingTranslationCounts() {
+        return missingTranslationCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry->entry.getValue().sum()));
     }
 
     private String translate(
@@ -139,19 +174,17 @@ private String translate(
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final TranslationTable translationTable = readAndCacheTranslationsIfRequired(targetLocale);
 
         // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context, msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        final String translation = translationTable.lookup(context, msgId);
+        if (translation != null) {
             return translation;
         }
 
         // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
+        final String translationNoContext = translationTable.lookup("", msgId);
+        if (translationNoContext != null) {
             return translationNoContext;
         }
 
@@ -161,45 +194,52 @@ private String translate(
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
+        if(!translationTable.isUsesFallback()) {
+            final ContextAndMsgId key = new ContextAndMsgId(context, msgId, type);
+            missingTranslationCounts.computeIfAbsent(key, __->new LongAdder()).increment();
             logInfoIfNotPreviously("No translation found for: " + key);
         }
 
         return msgId;
     }
 
-
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private TranslationTable readAndCacheTranslationsIfRequired(final Locale locale) {
+        final TranslationTable translationTable = translationTableByLocale.get(locale);
+        return translationTable != null
+                ? translationTable // fast path, without locking
+                : translationTableByLocale.computeIfAbsent(locale, this::read);
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
-    }
-
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
+    private TranslationTable read(final Locale locale) {
         final List<String> contents = readPo(locale);
 
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         Block block = new Block();
         for (final String line : contents) {
             block = block.parseLine(line, translationsByKey);
         }
+        return new TranslationTable(
+                translationsByKey,
+                Boolean.TRUE.equals(usesFallbackByLocale.get(locale)));
+    }
+
+    @Override
+    void logTranslations() {
+        if(missingTranslationCounts.isEmpty()) {
+            return;
+        }
+        final StringBuilder buf = new StringBuilder();
+        buf.append("Missing translations (number of requests, context and msgId):");
+        getMissingTranslationCounts().entrySet().stream()
+        .sorted(Map.Entry.<ContextAndMsgId, Long>comparingByValue(Comparator.reverseOrder()))
+        .forEach(entry->buf
+                .append("\n").append(entry.getValue())
+                .append("\t").append(entry.getKey().getContext())
+                .append("\t").append(entry.getKey().getMsgId()));
+        log.info(buf.toString());
     }
 
     protected List<String> readPo(final Locale locale) {
@@ -18,7 +18,11 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -85,9 +89,7 @@ public void init() {
         }
 
         // switch to read mode
-        final PoReader poReader = new PoReader(this);
-        poReader.init();
-        po = poReader;
+        po = newPoReader();
 
         if(!systemEnvironment.isUnitTesting()) {
             onShutdown = po::logTranslations;
@@ -161,13 +163,34 @@ public void toggleMode() {
                 previousPoReader.clearCache();
                 po = previousPoReader;
             } else {
-                final PoReader poReader = new PoReader(this);
-                poReader.init();
-                po = poReader;
+                po = newPoReader();
             }
         }
     }
 
+    /**
+     * Not API
+     *
+     * @return the number of times that each translation has been requested but found to be missing,
+     * if in {@link Mode#READ read} mode
+     */
+    public Map<ContextAndMsgId, Long> getMissingTranslationCounts() {
+        if (!getMode().isRead()) {
+            return Collections.emptyMap();
+        }
+        return ((PoReader)po).getMissingTranslationCounts();
+    }
+
+    private PoReader newPoReader() {
+        final PoReader poReader = new PoReader(this);
+        poReader.init();
+        poReader.preload(configuration.getCore().getRuntimeServices().getTranslation().getPo().getPreloadLocales()
+                .stream()
+                .map(Locale::forLanguageTag)
+                .collect(Collectors.toList()));
+        return poReader;
+    }
+
     // -- DEPENDENCIES
 
     @Inject private IsisSystemEnvironment systemEnvironment;
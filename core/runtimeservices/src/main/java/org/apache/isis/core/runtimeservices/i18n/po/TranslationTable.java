@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.i18n.po;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.isis.commons.internal.base._Strings;
+
+import lombok.Getter;
+
+/**
+ * Immutable (and hence thread-safe) translations of a single locale, as read from its <i>.po</i> file.
+ *
+ * <p>
+ *     Indexed by context and then by msgId, so that lookups need not allocate a {@link ContextAndMsgId} key.
+ * </p>
+ */
+final class TranslationTable {
+
+    private final Map<String, Map<String, String>> translationByMsgIdByContext;
+
+    /**
+     * Whether these are the fallback translations, because none were found specific to the locale.
+     */
+    @Getter private final boolean usesFallback;
+
+    @Getter private final int size;
+
+    TranslationTable(final Map<ContextAndMsgId, String> translationsByKey, final boolean usesFallback) {
+        final Map<String, Map<String, String>> translationByMsgIdByContext = new HashMap<>();
+        int size = 0;
+        for (final Map.Entry<ContextAndMsgId, String> entry : translationsByKey.entrySet()) {
+            // trimmed once here, rather than on every lookup
+            final String translation = entry.getValue() != null ? entry.getValue().trim() : null;
+            if(_Strings.isNullOrEmpty(translation)) {
+                continue;
+            }
+            final ContextAndMsgId key = entry.getKey();
+            translationByMsgIdByContext
+                .computeIfAbsent(key.getContext(), context->new HashMap<>())
+                .put(key.getMsgId(), translation);
+            ++size;
+        }
+        translationByMsgIdByContext.replaceAll((context, translationByMsgId)->
+            Collections.unmodifiableMap(translationByMsgId));
+        this.translationByMsgIdByContext = Collections.unmodifiableMap(translationByMsgIdByContext);
+        this.usesFallback = usesFallback;
+        this.size = size;
+    }
+
+    /**
+     * @return the (non-empty) translation, or <tt>null</tt> if there is none
+     */
+    String lookup(final String context, final String msgId) {
+        final Map<String, String> translationByMsgId =
+                translationByMsgIdByContext.get(context != null ? context : "");
+        return translationByMsgId != null
+                ? translationByMsgId.get(msgId)
+                : null;
+    }
+
+}
@@ -71,9 +71,9 @@ protected JAXBContext jaxbContextForObject(final @NonNull Object domainObject) {
                 if (elementType!=null
                         && elementType.getAnnotation(XmlJavaTypeAdapter.class) == null) {
 
-                    return JAXBContext.newInstance(domainClass, elementType);
+                    return _Xml.jaxbContextFor(domainClass, elementType);
                 } else {
-                    return JAXBContext.newInstance(domainClass);
+                    return _Xml.jaxbContextFor(domainClass);
                 }
             } catch (Exception e) {
                 throw _Xml.verboseException("obtaining JAXBContext for a DomainObjectList", domainClass, e);
@@ -31,10 +31,12 @@
 
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
 import org.apache.isis.applib.services.publishing.spi.EntityChangesSubscriber;
 import org.apache.isis.applib.services.user.UserService;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.having.HasEnabling;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.isis.core.transaction.changetracking.HasEnlistedEntityChanges;
 
@@ -53,6 +55,7 @@ public class EntityChangesPublisherDefault implements EntityChangesPublisher {
     private final List<EntityChangesSubscriber> subscribers;
     private final ClockService clockService;
     private final UserService userService;
+    private final IsisConfiguration isisConfiguration;
     
     private Can<EntityChangesSubscriber> enabledSubscribers;
     
@@ -71,19 +74,31 @@ public void publishChangingEntities(HasEnlistedEntityChanges hasEnlistedEntityCh
         val currentTime = clockService.getClock().javaSqlTimestamp();
         val currentUser = userService.currentUserNameElseNobody();
         
+        val chunkSize = isisConfiguration.getCore().getRuntimeServices().getEntityChangesPublisher().getChunkSize();
+        if(chunkSize > 0) {
+            // each chunk is published before the next is created, so only one is held at a time
+            hasEnlistedEntityChanges.streamEntityChanges(currentTime, currentUser, chunkSize)
+            .forEach(this::publish);
+            return;
+        }
+        
         val entityChanges = hasEnlistedEntityChanges.getEntityChanges(currentTime, currentUser);
         
         if(entityChanges == null) {
             return;
         }
         
+        publish(entityChanges);
+    }
+    
+    // -- HELPER
+    
+    private void publish(final EntityChanges entityChanges) {
         for (val subscriber : enabledSubscribers) {
             subscriber.onChanging(entityChanges);
         }
     }
     
-    // -- HELPER
-    
     private boolean canPublish() {
         return enabledSubscribers.isNotEmpty();
     }
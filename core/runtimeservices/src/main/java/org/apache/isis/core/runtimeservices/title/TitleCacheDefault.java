@@ -0,0 +1,276 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.title;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.InteractionScope;
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.ExecutionContext;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.commons.internal.collections._LruCache.Statistics;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.interaction.session.InteractionTracker;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.services.title.TitleCache;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
+import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Remembers titles for the duration of the interaction and, if
+ * {@code isis.persistence.title-cache.scope} is <tt>application</tt>, also
+ * across interactions (for versioned entities only, per user and locale),
+ * keeping the most recently used entries up to
+ * {@code isis.persistence.title-cache.max-size}.
+ *
+ * <p>
+ * Because a title may be derived from other entities, once any entity is
+ * being changed no titles are remembered for the remainder of the
+ * interaction, and those remembered across interactions are all forgotten,
+ * both then and once the transaction completes.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.runtimeservices.TitleCacheDefault")
+@Order(OrderPrecedence.MIDPOINT)
+@Primary
+@Qualifier("Default")
+public class TitleCacheDefault implements TitleCache {
+
+    private final boolean enabled;
+    private final boolean applicationScoped;
+    private final Provider<InteractionTracker> interactionTrackerProvider;
+    private final Provider<Titles> titlesProvider;
+
+    /**
+     * Across interactions.
+     */
+    private final _LruCache<Key, VersionedTitle> titleByKey;
+
+    /**
+     * Of either tier.
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public TitleCacheDefault(
+            final IsisConfiguration isisConfiguration,
+            final Provider<InteractionTracker> interactionTrackerProvider,
+            final Provider<Titles> titlesProvider) {
+        this(isisConfiguration.getPersistence().getTitleCache(), interactionTrackerProvider, titlesProvider);
+    }
+
+    TitleCacheDefault(
+            final IsisConfiguration.Persistence.TitleCache config,
+            final Provider<InteractionTracker> interactionTrackerProvider,
+            final Provider<Titles> titlesProvider) {
+        this.enabled = config.isEnabled();
+        this.applicationScoped = config.getScope() == IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION;
+        this.interactionTrackerProvider = interactionTrackerProvider;
+        this.titlesProvider = titlesProvider;
+        this.titleByKey = _LruCache.ofMaxSize(config.getMaxSize());
+    }
+
+    @Override
+    public String titleOf(
+            final @NonNull ManagedObject entity,
+            final @NonNull Supplier<String> titleRenderer) {
+        if(!enabled
+                || !EntityUtil.isAttached(entity)) {
+            return titleRenderer.get();
+        }
+        val bookmark = ManagedObjects.bookmark(entity).orElse(null);
+        if(bookmark == null) {
+            return titleRenderer.get();
+        }
+        return titleOf(bookmark, versionOf(entity), titleRenderer);
+    }
+
+    String titleOf(
+            final @NonNull Bookmark bookmark,
+            final Object version,
+            final @NonNull Supplier<String> titleRenderer) {
+
+        val titles = currentTitles().orElse(null);
+        if(titles != null
+                && titles.changing) {
+            return titleRenderer.get();
+        }
+
+        val remembered = titles != null
+                ? titles.titleByBookmark.get(bookmark)
+                : null;
+        if(remembered != null
+                && remembered.isVersion(version)) {
+            hits.increment();
+            return remembered.getTitle();
+        }
+
+        val key = isRememberedAcrossInteractions(version)
+                ? keyFor(bookmark)
+                : null;
+        if(key != null) {
+            val rememberedAcross = titleByKey.get(key).orElse(null);
+            if(rememberedAcross != null
+                    && rememberedAcross.isVersion(version)) {
+                hits.increment();
+                if(titles != null) {
+                    titles.titleByBookmark.put(bookmark, rememberedAcross);
+                }
+                return rememberedAcross.getTitle();
+            }
+        }
+
+        misses.increment();
+        val title = titleRenderer.get();
+        if(title == null) {
+            return null;
+        }
+        val versionedTitle = VersionedTitle.of(version, title);
+        if(titles != null) {
+            titles.titleByBookmark.put(bookmark, versionedTitle);
+        }
+        if(key != null) {
+            titleByKey.put(key, versionedTitle);
+        }
+        return title;
+    }
+
+    @Override
+    public void invalidate(final @NonNull Bookmark bookmark) {
+        // any other entity's title might be derived from the one being changed
+        currentTitles()
+        .ifPresent(titles->{
+            titles.titleByBookmark.clear();
+            titles.changing = true;
+        });
+        titleByKey.clear();
+    }
+
+    /**
+     * Those titles remembered across interactions are forgotten once more when the transaction 
+     * changing any entity completes: until committed, concurrent interactions still see the  
+     * former state, and might have remembered titles rendered from it since {@link #invalidate(Bookmark)}.
+     */
+    @EventListener(TransactionAfterCompletionEvent.class)
+    public void onTransactionEnded(final TransactionAfterCompletionEvent event) {
+        val changing = currentTitles()
+                .map(titles->titles.changing)
+                .orElse(true);
+        if(changing) {
+            titleByKey.clear();
+        }
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        val acrossInteractions = titleByKey.getStatistics();
+        return Statistics.of(hits.sum(), misses.sum(), 
+                acrossInteractions.getEvictions(), acrossInteractions.getSize());
+    }
+
+    // -- HELPER
+
+    private boolean isRememberedAcrossInteractions(final Object version) {
+        // unless versioned, changes committed by other interactions could not be detected
+        return applicationScoped
+                && version != null;
+    }
+
+    private Key keyFor(final Bookmark bookmark) {
+        val executionContext = interactionTrackerProvider.get().currentExecutionContext();
+        return Key.of(
+                bookmark,
+                executionContext.map(ctx->ctx.getUser().getName()).orElse(null),
+                executionContext.map(ExecutionContext::getLocale).orElse(null));
+    }
+
+    private static Object versionOf(final ManagedObject entity) {
+        val entityFacet = entity.getSpecification().getFacet(EntityFacet.class);
+        return entityFacet != null
+                ? entityFacet.versionOf(entity.getPojo()).orElse(null)
+                : null;
+    }
+
+    private Optional<Titles> currentTitles() {
+        return interactionTrackerProvider.get().isInInteractionSession()
+                ? Optional.of(titlesProvider.get())
+                : Optional.empty();
+    }
+
+    /**
+     * Titles may be translated, or depend on the user viewing them.
+     */
+    @Value(staticConstructor = "of")
+    static class Key {
+        private final Bookmark bookmark;
+        private final String username;
+        private final Locale locale;
+    }
+
+    @Value(staticConstructor = "of")
+    static class VersionedTitle {
+        private final Object version;
+        private final String title;
+
+        boolean isVersion(final Object version) {
+            return Objects.equals(this.version, version);
+        }
+    }
+
+    @Component
+    @Named("isis.runtimeservices.TitleCacheDefault.Titles")
+    @InteractionScope
+    public static class Titles {
+        private final Map<Bookmark, VersionedTitle> titleByBookmark = _Maps.newHashMap();
+        /**
+         * Whether any entity is being changed within this interaction, in which case titles are
+         * rendered each time.
+         */
+        private boolean changing;
+    }
+
+}
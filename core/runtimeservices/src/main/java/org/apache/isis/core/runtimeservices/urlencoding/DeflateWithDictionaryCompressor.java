@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.urlencoding;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+
+import lombok.val;
+
+/**
+ * Package private compression scheme, as used by {@link UrlEncodingServiceWithCompression}.
+ *
+ * <p>
+ *     Compresses using a raw (header-less) deflate stream at its fastest level, primed with a
+ *     {@link #DICTIONARY dictionary} of strings commonly found in Java serialized mementos and
+ *     XML view model mementos.  Short inputs (which gzip does not compress at all) thus also
+ *     shrink, and there is no gzip header/trailer to pay for.
+ * </p>
+ *
+ * <p>
+ *     Uses the same prefix byte scheme as {@link _Bytes#compress(byte[])}, so that
+ *     {@link #decompress(byte[])} is also able to decompress anything produced by the former.
+ * </p>
+ *
+ * @since 2.0
+ */
+final class DeflateWithDictionaryCompressor {
+
+    /**
+     * Inputs shorter than this are passed through as is (without prefix);
+     * must be kept in sync with {@link _Bytes#compress(byte[])}.
+     */
+    private static final int MIN_LENGTH = 18;
+
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_GZIP = 1;
+    private static final byte COMPRESSION_DEFLATE_WITH_DICTIONARY = 2;
+
+    /**
+     * Deflate prefers matches that are near the end of the dictionary, so the most frequent
+     * fragments come last (the Java serialization of a {@link java.util.HashMap}, as used by
+     * {@code _Mementos}).  Changing the dictionary breaks decoding of previously encoded strings.
+     */
+    private static final byte[] DICTIONARY = (""
+            + "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"></"
+            + "java.time.LocalDateTimejava.time.Serjava.time.LocalDatejava.util.Date"
+            + "java.math.BigDecimalscaleintValLjava/math/BigInteger;"
+            + "java.lang.Booleanjava.lang.Enumjava.lang.Integerjava.lang.Long"
+            + "java.lang.NumbervaluexpLjava/lang/String;"
+            + "org.apache.isis.applib.services.bookmark.BookmarkidentifierlogicalTypeName"
+            + "java.util.HashMaploadFactorthresholdxp")
+            .getBytes(StandardCharsets.ISO_8859_1);
+
+    private static final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(()->
+        new Deflater(Deflater.BEST_SPEED, true));
+
+    private static final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(()->
+        new Inflater(true));
+
+    static byte[] compress(final byte[] input) {
+        if(input.length<MIN_LENGTH) {
+            return input;
+        }
+
+        val deflater = deflaters.get();
+        deflater.reset();
+        deflater.setDictionary(DICTIONARY);
+        deflater.setInput(input);
+        deflater.finish();
+
+        // leave room for the prefix byte, and for incompressible input to grow slightly
+        val buffer = new byte[input.length + 1];
+        val length = 1 + deflater.deflate(buffer, 1, buffer.length - 1);
+
+        if(!deflater.finished()
+                || length < MIN_LENGTH) { // would be mistaken for uncompressed input on decompression
+            return _Bytes.prepend(input, COMPRESSION_NONE);
+        }
+        buffer[0] = COMPRESSION_DEFLATE_WITH_DICTIONARY;
+        return length == buffer.length
+                ? buffer
+                : Arrays.copyOf(buffer, length);
+    }
+
+    static byte[] decompress(final byte[] input) {
+        if(input.length<MIN_LENGTH) {
+            return input;
+        }
+        switch (input[0]) {
+        case COMPRESSION_NONE:
+        case COMPRESSION_GZIP:
+            return _Bytes.decompress(input);
+        case COMPRESSION_DEFLATE_WITH_DICTIONARY:
+            return inflate(input);
+        default:
+            throw _Exceptions.unmatchedCase(input[0]);
+        }
+    }
+
+    // -- HELPER
+
+    private static byte[] inflate(final byte[] input) {
+        val inflater = inflaters.get();
+        inflater.reset();
+        inflater.setDictionary(DICTIONARY);
+        inflater.setInput(input, 1, input.length - 1);
+
+        val os = new ByteArrayOutputStream(input.length * 4);
+        val buffer = new byte[Math.max(256, input.length * 4)];
+        try {
+            while(!inflater.finished()) {
+                val n = inflater.inflate(buffer);
+                if(n == 0
+                        && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("truncated or corrupt compressed input");
+                }
+                os.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return os.toByteArray();
+    }
+
+}
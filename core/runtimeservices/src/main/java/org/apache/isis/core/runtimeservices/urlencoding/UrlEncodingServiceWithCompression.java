@@ -20,6 +20,7 @@
 
 import java.nio.charset.StandardCharsets;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -31,6 +32,10 @@
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
 import org.apache.isis.commons.internal.base._Bytes;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.UrlEncoding.Compression;
+
+import lombok.NonNull;
 
 @Service
 @Named("isis.runtimeservices.UrlEncodingServiceWithCompression")
@@ -39,14 +44,52 @@
 @Qualifier("Compression")
 public class UrlEncodingServiceWithCompression implements UrlEncodingService {
 
+    private static final _Bytes.BytesOperator asDeflatedWithDictionaryUrlBase64 = _Bytes.operator()
+            .andThen(bytes->bytes!=null ? DeflateWithDictionaryCompressor.compress(bytes) : null)
+            .andThen(_Bytes.asUrlBase64::apply);
+
+    private static final _Bytes.BytesOperator ofDeflatedWithDictionaryUrlBase64 = _Bytes.operator()
+            .andThen(_Bytes.ofUrlBase64::apply)
+            .andThen(bytes->bytes!=null ? DeflateWithDictionaryCompressor.decompress(bytes) : null);
+
+    private final _Bytes.BytesOperator encoder;
+
+    /**
+     * Uses {@link Compression#GZIP}.
+     */
+    public UrlEncodingServiceWithCompression() {
+        this(Compression.GZIP);
+    }
+
+    @Inject
+    public UrlEncodingServiceWithCompression(final IsisConfiguration configuration) {
+        this(configuration.getCore().getRuntimeServices().getUrlEncoding().getCompression());
+    }
+
+    public UrlEncodingServiceWithCompression(final @NonNull Compression compression) {
+        switch (compression) {
+        case DEFLATE_WITH_DICTIONARY:
+            this.encoder = asDeflatedWithDictionaryUrlBase64;
+            break;
+        case GZIP:
+        default:
+            this.encoder = _Bytes.asCompressedUrlBase64;
+            break;
+        }
+    }
+
     @Override
     public String encode(final byte[] bytes) {
-        return _Strings.ofBytes(_Bytes.asCompressedUrlBase64.apply(bytes), StandardCharsets.UTF_8);
+        return _Strings.ofBytes(encoder.apply(bytes), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Decodes strings encoded with any of the {@link Compression} schemes, irrespective of the
+     * one currently configured for encoding.
+     */
     @Override
     public byte[] decode(final String str) {
-        return _Bytes.ofCompressedUrlBase64.apply(_Strings.toBytes(str, StandardCharsets.UTF_8));
+        return ofDeflatedWithDictionaryUrlBase64.apply(_Strings.toBytes(str, StandardCharsets.UTF_8));
     }
 
 
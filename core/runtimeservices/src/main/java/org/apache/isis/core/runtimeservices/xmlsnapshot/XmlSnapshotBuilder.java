@@ -18,13 +18,19 @@
  */
 package org.apache.isis.core.runtimeservices.xmlsnapshot;
 
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.metamodel.util.snapshot.XmlSchema;
 import org.apache.isis.core.metamodel.util.snapshot.XmlSnapshot;
+import org.apache.isis.core.metamodel.util.snapshot.XmlSnapshotWriter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,6 +41,10 @@
  * XmlSnapshot snapshot = XmlSnapshotBuilder.create(customer).includePath(&quot;placeOfBirth&quot;).includePath(&quot;orders/product&quot;).build();
  * Element customerAsXml = snapshot.toXml();
  * </pre>
+ *
+ * <p>
+ * Alternatively, {@link #writeXml(OutputStream)} streams the same XML (using
+ * an {@link XmlSnapshotWriter}) without building a DOM first.
  */
 @RequiredArgsConstructor
 public class XmlSnapshotBuilder {
@@ -42,6 +52,8 @@ public class XmlSnapshotBuilder {
     private final SpecificationLoader specificationLoader;
     private final Object domainObject;
     private XmlSchema schema;
+    private int maxDepth = Integer.MAX_VALUE;
+    private boolean skipCycles = false;
 
     static class PathAndAnnotation {
         public PathAndAnnotation(final String path, final String annotation) {
@@ -69,18 +81,61 @@ public XmlSnapshotBuilder includePathAndAnnotation(final String path, final Stri
         return this;
     }
 
+    public XmlSnapshotBuilder maxDepth(final int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Only honoured by {@link #writeXml(OutputStream)}.
+     */
+    public XmlSnapshotBuilder skipCycles(final boolean skipCycles) {
+        this.skipCycles = skipCycles;
+        return this;
+    }
+
     public XmlSnapshot build() {
         final ManagedObject adapter = ManagedObject.of(specificationLoader::loadSpecification, domainObject);
         final XmlSnapshot snapshot = (schema != null) ? new XmlSnapshot(adapter, schema) : new XmlSnapshot(adapter);
         for (final XmlSnapshotBuilder.PathAndAnnotation paa : paths) {
-            if (paa.annotation != null) {
-                snapshot.include(paa.path, paa.annotation);
+            final String path = truncated(paa.path);
+            if (path.isEmpty()) {
+                continue;
+            }
+            if (paa.annotation != null && path.equals(paa.path)) {
+                snapshot.include(path, paa.annotation);
             } else {
-                snapshot.include(paa.path);
+                snapshot.include(path);
             }
         }
         return snapshot;
     }
 
+    public void writeXml(final OutputStream out) {
+        final ManagedObject adapter = ManagedObject.of(specificationLoader::loadSpecification, domainObject);
+        final XmlSnapshotWriter writer = (schema != null) ? new XmlSnapshotWriter(adapter, schema) : new XmlSnapshotWriter(adapter);
+        writer.setMaxDepth(maxDepth);
+        writer.setSkipCycles(skipCycles);
+        for (final XmlSnapshotBuilder.PathAndAnnotation paa : paths) {
+            writer.include(paa.path, paa.annotation);
+        }
+        try {
+            writer.writeTo(out);
+        } catch (XMLStreamException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+    /**
+     * The first {@link #maxDepth} segments of the path.
+     */
+    private String truncated(final String path) {
+        final String[] segments = path.split("/");
+        if (segments.length <= maxDepth) {
+            return path;
+        }
+        return String.join("/", Arrays.copyOf(segments, Math.max(maxDepth, 0)));
+    }
+
 
 }
\ No newline at end of file
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtimeservices.xmlsnapshot;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -75,11 +76,26 @@ public void includePathAndAnnotation(String path, String annotation) {
             builder.includePathAndAnnotation(path, annotation);
         }
 
+        @Override
+        public void setMaxDepth(int maxDepth) {
+            builder.maxDepth(maxDepth);
+        }
+
+        @Override
+        public void setSkipCycles(boolean skipCycles) {
+            builder.skipCycles(skipCycles);
+        }
+
         @Override
         public XmlSnapshotService.Snapshot build() {
             XmlSnapshot xmlSnapshot = builder.build();
             return xmlSnapshot;
         }
+
+        @Override
+        public void writeXml(OutputStream out) {
+            builder.writeXml(out);
+        }
     }
 
     /**
@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -242,6 +243,67 @@ protected List<String> readPo(final Locale locale) {
             // then
             assertThat(translated, is(equalTo("Something to translate")));
         }
+
+        @Test
+        public void missingTranslationsAreCounted() throws Exception {
+
+            // given
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add("#: someContext");
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgstr \"Objet d'art\"");
+                    return lines;
+                }
+            };
+
+            // when
+            poReader.translate("someContext", "Work of art");
+            poReader.translate("someContext", "Something to translate");
+            poReader.translate("someContext", "Something to translate");
+
+            // then
+            final Map<ContextAndMsgId, Long> missingTranslationCounts = poReader.getMissingTranslationCounts();
+            assertThat(missingTranslationCounts.size(), is(1));
+            assertThat(missingTranslationCounts.get(
+                    new ContextAndMsgId("someContext", "Something to translate", ContextAndMsgId.Type.REGULAR)), is(2L));
+        }
+    }
+
+    public static class Preload extends PoReaderTest {
+
+        @Test
+        public void readsEachLocaleOnlyOnce() throws Exception {
+
+            // given
+            final List<Locale> localesRead = _Lists.newArrayList();
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    localesRead.add(locale);
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add("#: someContext");
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgstr \"Objet d'art\"");
+                    return lines;
+                }
+            };
+
+            // when
+            poReader.preload(_Lists.of(Locale.UK, Locale.FRANCE));
+
+            // then
+            assertThat(localesRead, is(equalTo(_Lists.of(Locale.UK, Locale.FRANCE))));
+
+            // when
+            final String translated = poReader.translate("someContext", "Work of art");
+
+            // then
+            assertThat(translated, is(equalTo("Objet d'art")));
+            assertThat(localesRead.size(), is(2));
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.title;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.ExecutionContext;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.interaction.session.InteractionTracker;
+import org.apache.isis.core.transaction.events.TransactionAfterCompletionEvent;
+
+import lombok.val;
+
+class TitleCacheDefaultTest {
+
+    private final Bookmark customer = Bookmark.of("customer", "1");
+    private final Bookmark order = Bookmark.of("order", "1");
+
+    private IsisConfiguration.Persistence.TitleCache config;
+    private InteractionTracker interactionTracker;
+    private TitleCacheDefault.Titles titles;
+    private AtomicInteger renderings;
+
+    @BeforeEach
+    void setUp() {
+        config = new IsisConfiguration.Persistence.TitleCache();
+        interactionTracker = Mockito.mock(InteractionTracker.class);
+        Mockito.when(interactionTracker.isInInteractionSession()).thenReturn(true);
+        titles = new TitleCacheDefault.Titles();
+        renderings = new AtomicInteger();
+    }
+
+    private void runAs(final String username, final Locale locale) {
+        Mockito.when(interactionTracker.currentExecutionContext())
+        .thenReturn(Optional.of(ExecutionContext.ofUserWithSystemDefaults(UserMemento.ofName(username))
+                .withLocale(locale)));
+    }
+
+    private TitleCacheDefault titleCache() {
+        return new TitleCacheDefault(config, ()->interactionTracker, ()->titles);
+    }
+
+    private Supplier<String> renderer(final String title) {
+        return ()->{
+            renderings.incrementAndGet();
+            return title;
+        };
+    }
+
+    @Test
+    void remembered_within_interaction() {
+        val titleCache = titleCache();
+
+        assertEquals("Fred", titleCache.titleOf(customer, null, renderer("Fred")));
+        assertEquals("Fred", titleCache.titleOf(customer, null, renderer("Fred")));
+
+        assertEquals(1, renderings.get());
+        assertEquals(1L, titleCache.getStatistics().getHits());
+        assertEquals(1L, titleCache.getStatistics().getMisses());
+        assertEquals(.5, titleCache.getStatistics().getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void rendered_again_when_version_differs() {
+        val titleCache = titleCache();
+
+        assertEquals("Fred", titleCache.titleOf(customer, 1L, renderer("Fred")));
+        assertEquals("Freddy", titleCache.titleOf(customer, 2L, renderer("Freddy")));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void not_remembered_once_changing() {
+        val titleCache = titleCache();
+
+        titleCache.titleOf(customer, null, renderer("Fred"));
+        titleCache.invalidate(customer);
+        assertEquals("Freddy", titleCache.titleOf(customer, null, renderer("Freddy")));
+        assertEquals("Frederick", titleCache.titleOf(customer, null, renderer("Frederick")));
+
+        assertEquals(3, renderings.get());
+    }
+
+    @Test
+    void not_remembered_across_interactions_by_default() {
+        val titleCache = titleCache();
+
+        titleCache.titleOf(customer, 1L, renderer("Fred"));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        titleCache.titleOf(customer, 1L, renderer("Fred"));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void remembered_across_interactions_when_versioned() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        titleCache.titleOf(customer, 1L, renderer("Fred"));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        assertEquals("Fred", titleCache.titleOf(customer, 1L, renderer("Fred")));
+
+        assertEquals(1, renderings.get());
+        assertEquals(1, titleCache.getStatistics().getSize());
+    }
+
+    @Test
+    void not_remembered_across_interactions_when_not_versioned() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        titleCache.titleOf(customer, null, renderer("Fred"));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        titleCache.titleOf(customer, null, renderer("Fred"));
+
+        assertEquals(2, renderings.get());
+        assertEquals(0, titleCache.getStatistics().getSize());
+    }
+
+    @Test
+    void referencing_titles_not_remembered_once_referenced_is_changing() {
+        val titleCache = titleCache();
+
+        assertEquals("Order for Fred", titleCache.titleOf(order, null, renderer("Order for Fred")));
+        titleCache.invalidate(customer); // customer renamed, order itself unchanged
+        assertEquals("Order for Freddy", titleCache.titleOf(order, null, renderer("Order for Freddy")));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void referencing_titles_forgotten_across_interactions_once_referenced_is_changing() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        titleCache.titleOf(order, 1L, renderer("Order for Fred"));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        titleCache.invalidate(customer); // customer renamed, order version unchanged
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        assertEquals("Order for Freddy", titleCache.titleOf(order, 1L, renderer("Order for Freddy")));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void forgotten_across_interactions_once_changing_transaction_completes() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        val changingTitles = titles;
+        titleCache.invalidate(customer); // customer renamed, not yet committed
+
+        titles = new TitleCacheDefault.Titles(); // concurrent interaction, sees the former state
+        titleCache.titleOf(order, 1L, renderer("Order for Fred"));
+
+        titles = changingTitles;
+        titleCache.onTransactionEnded(TransactionAfterCompletionEvent.COMMITTED);
+
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        assertEquals("Order for Freddy", titleCache.titleOf(order, 1L, renderer("Order for Freddy")));
+
+        assertEquals(2, renderings.get());
+    }
+
+    @Test
+    void remembered_across_interactions_when_transaction_completes_without_change() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        titleCache.titleOf(order, 1L, renderer("Order for Fred"));
+        titleCache.onTransactionEnded(TransactionAfterCompletionEvent.COMMITTED);
+
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        assertEquals("Order for Fred", titleCache.titleOf(order, 1L, renderer("Order for Fred")));
+
+        assertEquals(1, renderings.get());
+    }
+
+    @Test
+    void remembered_across_interactions_per_user_and_locale() {
+        config.setScope(IsisConfiguration.Persistence.TitleCache.Scope.APPLICATION);
+        val titleCache = titleCache();
+
+        runAs("sven", Locale.ENGLISH);
+        titleCache.titleOf(customer, 1L, renderer("Fred"));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        runAs("sven", Locale.GERMAN);
+        assertEquals("Fritz", titleCache.titleOf(customer, 1L, renderer("Fritz")));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        runAs("dick", Locale.ENGLISH);
+        assertEquals("Fred (yours)", titleCache.titleOf(customer, 1L, renderer("Fred (yours)")));
+        titles = new TitleCacheDefault.Titles(); // next interaction
+        runAs("sven", Locale.ENGLISH);
+        assertEquals("Fred", titleCache.titleOf(customer, 1L, renderer("Fred")));
+
+        assertEquals(3, renderings.get());
+        assertEquals(3, titleCache.getStatistics().getSize());
+    }
+
+}
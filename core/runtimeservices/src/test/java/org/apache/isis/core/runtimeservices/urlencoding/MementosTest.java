@@ -39,6 +39,7 @@
 import org.apache.isis.commons.internal.memento._Mementos;
 import org.apache.isis.commons.internal.memento._Mementos.Memento;
 import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.UrlEncoding.Compression;
 
 class MementosTest {
 
@@ -47,12 +48,14 @@ static enum DOW {
     }
 
     UrlEncodingServiceWithCompression serviceWithCompression;
+    UrlEncodingServiceWithCompression serviceWithDictionaryCompression;
     UrlEncodingServiceUsingBaseEncodingAbstract serviceBaseEncoding;
     SerializingAdapter serializingAdapter;
 
     @BeforeEach
     void setUp() throws Exception {
         serviceWithCompression = new UrlEncodingServiceWithCompression();
+        serviceWithDictionaryCompression = new UrlEncodingServiceWithCompression(Compression.DEFLATE_WITH_DICTIONARY);
         serviceBaseEncoding = new UrlEncodingServiceUsingBaseEncodingAbstract(){};
 
         serializingAdapter = new SerializingAdapter() {
@@ -80,6 +83,11 @@ void roundtrip_with_compression() {
         roundtrip(serviceWithCompression);
     }
 
+    @Test
+    void roundtrip_with_dictionary_compression() {
+        roundtrip(serviceWithDictionaryCompression);
+    }
+
     private void roundtrip(UrlEncodingService codec) {
         final Memento memento = _Mementos.create(codec, serializingAdapter);
 
@@ -24,15 +24,18 @@
 
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingServiceUsingBaseEncodingAbstract;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.UrlEncoding.Compression;
 
 public class UrlEncodingServiceTest {
 
     UrlEncodingServiceWithCompression serviceWithCompression;
+    UrlEncodingServiceWithCompression serviceWithDictionaryCompression;
     UrlEncodingServiceUsingBaseEncodingAbstract serviceBaseEncoding;
 
     @BeforeEach
     public void setUp() throws Exception {
         serviceWithCompression = new UrlEncodingServiceWithCompression();
+        serviceWithDictionaryCompression = new UrlEncodingServiceWithCompression(Compression.DEFLATE_WITH_DICTIONARY);
         serviceBaseEncoding = new UrlEncodingServiceUsingBaseEncodingAbstract(){};
     }
 
@@ -46,9 +49,32 @@ public void roundtrip_with_compression() throws Exception {
         roundtrip(serviceWithCompression, true);
     }
 
+    @Test
+    public void roundtrip_with_dictionary_compression() throws Exception {
+        roundtrip(serviceWithDictionaryCompression, true);
+    }
+
+    @Test
+    public void dictionary_compression_is_more_compact_than_gzip() throws Exception {
+        final String encodedUsingGzip = serviceWithCompression.encodeString(ORIGINAL);
+        final String encodedUsingDictionary = serviceWithDictionaryCompression.encodeString(ORIGINAL);
+
+        assertTrue(encodedUsingDictionary.length() < encodedUsingGzip.length());
+    }
+
+    @Test
+    public void decodes_irrespective_of_compression_used_to_encode() throws Exception {
+        for(String original : new String[] {"", "short", ORIGINAL.substring(0, 100), ORIGINAL}) {
+            assertEquals(original, serviceWithDictionaryCompression.decodeToString(serviceWithCompression.encodeString(original)));
+            assertEquals(original, serviceWithCompression.decodeToString(serviceWithDictionaryCompression.encodeString(original)));
+        }
+    }
+
+    private static final String ORIGINAL = "0-theme-entityPageContainer-entity-rows-2-rowContents-1-col-tabGroups-1-panel-tabPanel-rows-1-rowContents-1-col-fieldSets-1-memberGroup-properties-1-property-scalarTypeContainer-scalarIfRegular-associatedActionLinksBelow-additionalLinkList-additionalLinkItem-0-additionalLink";
+
     private void roundtrip(UrlEncodingService service, boolean testIsCompressing) throws Exception {
 
-        final String original = "0-theme-entityPageContainer-entity-rows-2-rowContents-1-col-tabGroups-1-panel-tabPanel-rows-1-rowContents-1-col-fieldSets-1-memberGroup-properties-1-property-scalarTypeContainer-scalarIfRegular-associatedActionLinksBelow-additionalLinkList-additionalLinkItem-0-additionalLink";
+        final String original = ORIGINAL;
 
         final String encoded = service.encodeString(original);
         final String decoded = service.decodeToString(encoded);
@@ -21,9 +21,11 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.core.security.authentication.cache.VerifiedCredentialCache;
 import org.apache.isis.core.security.authentication.logout.LogoutMenu;
 import org.apache.isis.core.security.authentication.manager.AuthenticationManager;
 import org.apache.isis.core.security.authentication.standard.RandomCodeGeneratorDefault;
+import org.apache.isis.core.security.authorization.manager.AuthorizationDecisionCacheForApplication;
 import org.apache.isis.core.security.authorization.manager.AuthorizationManager;
 
 @Configuration
@@ -31,7 +33,9 @@
         // @Service's
         AuthenticationManager.class,
         AuthorizationManager.class,
+        AuthorizationDecisionCacheForApplication.class,
         LogoutMenu.class,
+        VerifiedCredentialCache.class,
 
         // @Component's
         RandomCodeGeneratorDefault.class,
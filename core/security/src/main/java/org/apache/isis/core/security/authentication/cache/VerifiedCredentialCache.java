@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authentication.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.commons.internal.collections._LruCache.Statistics;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.security.authentication.Authentication;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Remembers, for a short while, the {@link Authentication} resulting from
+ * credentials that were verified successfully, so that requests presenting the
+ * very same credentials again (as with HTTP Basic Auth) need not go through
+ * the (deliberately slow) authentication process each time.
+ * 
+ * <p>
+ *     Entries are keyed by a salted hash of the credentials presented; the 
+ *     credentials themselves are never held. Entries expire after 
+ *     {@code isis.security.credential-cache.time-to-live} milliseconds, and 
+ *     the least recently used are evicted beyond 
+ *     {@code isis.security.credential-cache.max-size} entries.
+ * </p>
+ * 
+ * <p>
+ *     Security modules should {@link #invalidate(String) invalidate} a user's
+ *     entries whenever that user's credentials or status change.
+ * </p>
+ * 
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.security.VerifiedCredentialCache")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class VerifiedCredentialCache {
+
+    @Getter private final boolean enabled;
+    private final byte[] salt;
+    private final _LruCache<String, Entry> entryByKey;
+
+    @Inject
+    public VerifiedCredentialCache(final IsisConfiguration isisConfiguration) {
+        this(isisConfiguration.getSecurity().getCredentialCache().isEnabled(),
+             isisConfiguration.getSecurity().getCredentialCache().getTimeToLive(),
+             isisConfiguration.getSecurity().getCredentialCache().getMaxSize(),
+             System::currentTimeMillis);
+    }
+
+    VerifiedCredentialCache(
+            final boolean enabled, 
+            final long timeToLiveMillis, 
+            final int maxSize, 
+            final @NonNull LongSupplier clock) {
+        this.enabled = enabled;
+        this.salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        this.entryByKey = _LruCache.ofMaxSizeAndTimeToLive(maxSize, timeToLiveMillis, clock);
+    }
+
+    /**
+     * The {@link Authentication} previously {@link #put(String, Authentication) put}
+     * for these credentials, if not yet expired or invalidated.
+     * 
+     * @param credentials - as presented, eg. the (encoded) HTTP Basic Auth digest
+     */
+    public Optional<Authentication> lookup(final @NonNull String credentials) {
+        if(!enabled) {
+            return Optional.empty();
+        }
+        return entryByKey.get(keyFor(credentials))
+                .map(Entry::getAuthentication);
+    }
+
+    /**
+     * Remembers the {@link Authentication} resulting from the successful
+     * verification of these credentials.
+     * 
+     * @param credentials - as presented, eg. the (encoded) HTTP Basic Auth digest
+     */
+    public void put(final @NonNull String credentials, final @NonNull Authentication authentication) {
+        if(!enabled) {
+            return;
+        }
+        entryByKey.put(keyFor(credentials), new Entry(authentication.getUserName(), authentication));
+    }
+
+    /**
+     * Discards any entries for the given user, to be called when the user's 
+     * credentials or status have changed.
+     */
+    public void invalidate(final @NonNull String userName) {
+        entryByKey.removeIf((key, entry)->Objects.equals(userName, entry.getUserName()));
+    }
+
+    public void invalidateAll() {
+        entryByKey.clear();
+    }
+
+    public Statistics getStatistics() {
+        return entryByKey.getStatistics();
+    }
+
+    // -- HELPER
+
+    private String keyFor(final String credentials) {
+        try {
+            val digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update(credentials.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+    @Value
+    private static class Entry {
+        private final String userName;
+        private final Authentication authentication;
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authorization.manager;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.services.user.RoleMemento;
+import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.core.security.authentication.Authentication;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Remembers the decisions of the {@link AuthorizationManager}, so that the 
+ * {@link org.apache.isis.core.security.authorization.Authorizor} need not be
+ * consulted over and over again for the same feature, when rendering a table 
+ * for instance.
+ * 
+ * <p>
+ *     All implementations are consulted in order, each serving as a tier 
+ *     (eg. per interaction, then application-scoped); a decision is remembered
+ *     by every tier.
+ * </p>
+ * 
+ * @since 2.0 {@index}
+ */
+public interface AuthorizationDecisionCache {
+
+    enum Mode {
+        VISIBILITY,
+        USABILITY
+    }
+
+    /**
+     * @return the decision remembered for the key, if any
+     */
+    Optional<Boolean> lookup(Key key);
+
+    void put(Key key, boolean permitted);
+
+    /**
+     * Discards all decisions, to be called whenever permissions have changed.
+     */
+    void invalidateAll();
+
+    /**
+     * Identifies a decision: the user (by name and roles), the feature and
+     * whether its visibility or usability was checked.
+     */
+    @Value(staticConstructor = "of")
+    final class Key {
+        private final @NonNull String userFingerprint;
+        private final @NonNull Identifier identifier;
+        private final @NonNull Mode mode;
+
+        public static Key of(
+                final @NonNull Authentication authentication, 
+                final @NonNull Identifier identifier, 
+                final @NonNull Mode mode) {
+            return of(fingerprintOf(authentication), identifier, mode);
+        }
+
+        private static String fingerprintOf(final Authentication authentication) {
+            val user = authentication.getUser();
+            return authentication.getUserName() + "|" 
+                    + _NullSafe.stream(user.getRoles())
+                        .map(RoleMemento::getName)
+                        .sorted()
+                        .collect(Collectors.joining(","));
+        }
+    }
+
+}
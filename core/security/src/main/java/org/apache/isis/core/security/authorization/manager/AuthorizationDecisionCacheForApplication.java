@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authorization.manager;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+
+/**
+ * Application-scoped tier of the {@link AuthorizationDecisionCache}, 
+ * enabled by {@code isis.security.authorization-cache.enabled}.
+ * 
+ * <p>
+ *     Decisions expire after {@code isis.security.authorization-cache.time-to-live}
+ *     milliseconds; the least recently used are evicted beyond 
+ *     {@code isis.security.authorization-cache.max-size} entries.
+ * </p>
+ * 
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.security.AuthorizationDecisionCacheForApplication")
+@Order(OrderPrecedence.LATE)
+@Qualifier("Application")
+public class AuthorizationDecisionCacheForApplication implements AuthorizationDecisionCache {
+
+    private final boolean enabled;
+    private final _LruCache<Key, Boolean> permittedByKey;
+
+    @Inject
+    public AuthorizationDecisionCacheForApplication(final IsisConfiguration isisConfiguration) {
+        this(isisConfiguration.getSecurity().getAuthorizationCache().isEnabled(),
+             isisConfiguration.getSecurity().getAuthorizationCache().getTimeToLive(),
+             isisConfiguration.getSecurity().getAuthorizationCache().getMaxSize(),
+             System::currentTimeMillis);
+    }
+
+    AuthorizationDecisionCacheForApplication(
+            final boolean enabled, 
+            final long timeToLiveMillis, 
+            final int maxSize, 
+            final @NonNull LongSupplier clock) {
+        this.enabled = enabled;
+        this.permittedByKey = _LruCache.ofMaxSizeAndTimeToLive(maxSize, timeToLiveMillis, clock);
+    }
+
+    @Override
+    public Optional<Boolean> lookup(final @NonNull Key key) {
+        if(!enabled) {
+            return Optional.empty();
+        }
+        return permittedByKey.get(key);
+    }
+
+    @Override
+    public void put(final @NonNull Key key, final boolean permitted) {
+        if(!enabled) {
+            return;
+        }
+        permittedByKey.put(key, permitted);
+    }
+
+    @Override
+    public void invalidateAll() {
+        permittedByKey.clear();
+    }
+
+}
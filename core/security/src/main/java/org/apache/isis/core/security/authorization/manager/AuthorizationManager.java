@@ -19,6 +19,9 @@
 
 package org.apache.isis.core.security.authorization.manager;
 
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -31,11 +34,19 @@
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.services.sudo.SudoService;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.security.authentication.Authentication;
 import org.apache.isis.core.security.authorization.Authorizor;
+import org.apache.isis.core.security.authorization.manager.AuthorizationDecisionCache.Key;
+import org.apache.isis.core.security.authorization.manager.AuthorizationDecisionCache.Mode;
+
+import lombok.val;
 
 /**
  * Authorizes the user in the current session view and use members of an object.
+ * <p>
+ * Decisions of the {@link Authorizor} are remembered by the 
+ * {@link AuthorizationDecisionCache}(s), consulted in order.
  */
 @Service
 @Named("isis.security.AuthorizationManager")
@@ -45,10 +56,14 @@
 public class AuthorizationManager {
 
     private final Authorizor authorizor;
+    private final Can<AuthorizationDecisionCache> decisionCaches;
 
     @Inject
-    public AuthorizationManager(Authorizor authorizor) {
+    public AuthorizationManager(
+            final Authorizor authorizor,
+            final List<AuthorizationDecisionCache> decisionCaches) {
         this.authorizor = authorizor;
+        this.decisionCaches = Can.ofCollection(decisionCaches);
     }
 
     /**
@@ -68,10 +83,9 @@ public boolean isUsable(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isUsable(authentication, identifier)) {
-            return true;
-        }
-        return false;
+        return decide(
+                Key.of(authentication, identifier, Mode.USABILITY),
+                ()->authorizor.isUsable(authentication, identifier));
     }
 
     /**
@@ -95,14 +109,29 @@ public boolean isVisible(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isVisible(authentication, identifier)) {
-            return true;
-        }
-        return false;
+        return decide(
+                Key.of(authentication, identifier, Mode.VISIBILITY),
+                ()->authorizor.isVisible(authentication, identifier));
     }
 
     // -- HELPER
 
+    private boolean decide(final Key key, final BooleanSupplier authorizorDecision) {
+        for (int i = 0; i < decisionCaches.size(); i++) {
+            val cached = decisionCaches.getElseFail(i).lookup(key);
+            if(cached.isPresent()) {
+                // also remember with the tiers consulted before
+                for (int j = 0; j < i; j++) {
+                    decisionCaches.getElseFail(j).put(key, cached.get());
+                }
+                return cached.get();
+            }
+        }
+        val permitted = authorizorDecision.getAsBoolean();
+        decisionCaches.forEach(decisionCache->decisionCache.put(key, permitted));
+        return permitted;
+    }
+
     private static boolean containsSudoSuperuserRole(
             final @Nullable Authentication session) {
         if(session==null || session.getUser()==null) {
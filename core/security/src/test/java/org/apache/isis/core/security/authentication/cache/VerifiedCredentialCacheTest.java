@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authentication.cache;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.security.authentication.Authentication;
+import org.apache.isis.core.security.authentication.standard.SimpleAuthentication;
+
+public class VerifiedCredentialCacheTest {
+
+    private AtomicLong now;
+    private VerifiedCredentialCache cache;
+    private Authentication fooAuthentication;
+
+    @Before
+    public void setUp() throws Exception {
+        now = new AtomicLong(1_000L);
+        cache = new VerifiedCredentialCache(true, 100L, 2, now::get);
+        fooAuthentication = SimpleAuthentication.validOf(UserMemento.ofName("foo"));
+    }
+
+    @Test
+    public void lookup_whenPut() throws Exception {
+        cache.put("Zm9vOmJhcg==", fooAuthentication);
+
+        assertThat(cache.lookup("Zm9vOmJhcg=="), is(Optional.of(fooAuthentication)));
+        assertThat(cache.lookup("Zm9vOmJheg=="), is(Optional.<Authentication>empty()));
+        assertThat(cache.getStatistics().getHits(), is(1L));
+        assertThat(cache.getStatistics().getMisses(), is(1L));
+    }
+
+    @Test
+    public void lookup_whenExpired() throws Exception {
+        cache.put("Zm9vOmJhcg==", fooAuthentication);
+        now.addAndGet(100L);
+
+        assertThat(cache.lookup("Zm9vOmJhcg=="), is(Optional.<Authentication>empty()));
+        assertThat(cache.getStatistics().getSize(), is(0));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed_whenFull() throws Exception {
+        cache.put("a", fooAuthentication);
+        cache.put("b", fooAuthentication);
+        cache.lookup("a");
+        cache.put("c", fooAuthentication);
+
+        assertThat(cache.lookup("a").isPresent(), is(true));
+        assertThat(cache.lookup("b").isPresent(), is(false));
+        assertThat(cache.lookup("c").isPresent(), is(true));
+    }
+
+    @Test
+    public void invalidate_byUserName() throws Exception {
+        final Authentication barAuthentication = SimpleAuthentication.validOf(UserMemento.ofName("bar"));
+        cache.put("a", fooAuthentication);
+        cache.put("b", barAuthentication);
+
+        cache.invalidate("foo");
+
+        assertThat(cache.lookup("a").isPresent(), is(false));
+        assertThat(cache.lookup("b"), is(Optional.of(barAuthentication)));
+    }
+
+    @Test
+    public void whenDisabled() throws Exception {
+        cache = new VerifiedCredentialCache(false, 100L, 2, now::get);
+        cache.put("a", fooAuthentication);
+
+        assertThat(cache.lookup("a").isPresent(), is(false));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authorization.manager;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.security.authentication.Authentication;
+import org.apache.isis.core.security.authentication.standard.SimpleAuthentication;
+import org.apache.isis.core.security.authorization.Authorizor;
+
+public class AuthorizationManager_decisionCacheTest {
+
+    static class Customer {}
+
+    private AtomicInteger authorizorCalls;
+    private AtomicLong now;
+    private AuthorizationDecisionCacheForApplication applicationCache;
+    private AuthorizationManager authorizationManager;
+
+    private final Identifier nameProperty = Identifier.propertyOrCollectionIdentifier(
+            LogicalType.fqcn(Customer.class), "name");
+    private final Authentication fooAuthentication = 
+            SimpleAuthentication.validOf(UserMemento.ofNameAndRoleNames("foo", "clerk"));
+
+    @Before
+    public void setUp() throws Exception {
+        authorizorCalls = new AtomicInteger();
+        now = new AtomicLong(1_000L);
+        applicationCache = new AuthorizationDecisionCacheForApplication(true, 100L, 10, now::get);
+
+        authorizationManager = new AuthorizationManager(new Authorizor() {
+            @Override
+            public boolean isVisible(Authentication authentication, Identifier identifier) {
+                authorizorCalls.incrementAndGet();
+                return true;
+            }
+            @Override
+            public boolean isUsable(Authentication authentication, Identifier identifier) {
+                authorizorCalls.incrementAndGet();
+                return false;
+            }
+        }, Arrays.asList(applicationCache));
+    }
+
+    @Test
+    public void consultsAuthorizorOncePerUserFeatureAndMode() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(authorizationManager.isVisible(fooAuthentication, nameProperty), is(true));
+            assertThat(authorizationManager.isUsable(fooAuthentication, nameProperty), is(false));
+        }
+        assertThat(authorizorCalls.get(), is(2));
+    }
+
+    @Test
+    public void consultsAuthorizor_forOtherRoles() throws Exception {
+        final Authentication fooAsManager = 
+                SimpleAuthentication.validOf(UserMemento.ofNameAndRoleNames("foo", "manager"));
+
+        authorizationManager.isVisible(fooAuthentication, nameProperty);
+        authorizationManager.isVisible(fooAsManager, nameProperty);
+
+        assertThat(authorizorCalls.get(), is(2));
+    }
+
+    @Test
+    public void consultsAuthorizor_whenExpiredOrInvalidated() throws Exception {
+        authorizationManager.isVisible(fooAuthentication, nameProperty);
+        now.addAndGet(100L);
+        authorizationManager.isVisible(fooAuthentication, nameProperty);
+        applicationCache.invalidateAll();
+        authorizationManager.isVisible(fooAuthentication, nameProperty);
+
+        assertThat(authorizorCalls.get(), is(3));
+    }
+
+}
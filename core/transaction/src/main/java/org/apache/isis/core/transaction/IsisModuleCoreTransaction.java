@@ -23,12 +23,14 @@
 
 import org.apache.isis.core.transaction.changetracking.EntityChangeTrackerDefault;
 import org.apache.isis.core.transaction.changetracking.events.TimestampService;
+import org.apache.isis.core.transaction.entitycache.EntityCacheDefault;
 
 @Configuration
 @Import({
         // @Service's
         TimestampService.class,
         EntityChangeTrackerDefault.class,
+        EntityCacheDefault.class,
 })
 public class IsisModuleCoreTransaction {
 
@@ -18,10 +18,14 @@
  */
 package org.apache.isis.core.transaction.changetracking;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -31,12 +35,14 @@
 import org.apache.isis.applib.services.iactn.SequenceType;
 import org.apache.isis.applib.services.publishing.spi.EntityChanges;
 import org.apache.isis.commons.internal.base._NullSafe;
-import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Multimaps;
 import org.apache.isis.commons.internal.collections._Multimaps.ListMultimap;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.schema.chg.v2.ChangesDto;
+import org.apache.isis.schema.chg.v2.ChunkDto;
 import org.apache.isis.schema.chg.v2.ObjectsDto;
 import org.apache.isis.schema.common.v2.OidsDto;
 
@@ -74,6 +80,85 @@ public static EntityChanges createChangingEntities(
         return changingEntities;
     }
 
+    /**
+     * As per {@link #createChangingEntities(java.sql.Timestamp, String, EntityChangeTrackerDefault)}, but split
+     * into chunks of (at most) <code>chunkSize</code> entities (in the order enlisted), sharing the same
+     * transaction sequence number.
+     *
+     * <p>
+     *     The DTO of each chunk is only created when the chunk is consumed.
+     * </p>
+     */
+    public static Stream<EntityChanges> streamChangingEntities(
+            final java.sql.Timestamp completedAt,
+            final String userName,
+            final EntityChangeTrackerDefault entityChangeTracker,
+            final int chunkSize) {
+
+        // take a copy of enlisted adapters, as above; the chunks are created while subscribers run, so cannot be
+        // taken from the enlisted map itself. This copy only references the enlisted adapters, it is the DTOs
+        // (and their oids) that are created chunk by chunk.
+        final List<Map.Entry<ManagedObject, EntityChangeKind>> enlisted = new ArrayList<>(
+                entityChangeTracker.getChangeKindByEnlistedAdapter().entrySet());
+
+        if(enlisted.isEmpty()) {
+            return Stream.empty();
+        }
+
+        val interaction = entityChangeTracker.currentInteraction();
+
+        return streamChangingEntities(
+                completedAt,
+                userName,
+                interaction.getInteractionId(),
+                interaction.next(SequenceType.TRANSACTION),
+                entityChangeTracker.numberEntitiesLoaded(),
+                entityChangeTracker.numberAuditedEntityPropertiesModified(),
+                enlisted,
+                chunkSize);
+    }
+
+    static Stream<EntityChanges> streamChangingEntities(
+            final java.sql.Timestamp completedAt,
+            final String userName,
+            final UUID interactionId,
+            final int transactionSequenceNum,
+            final int numberEntitiesLoaded,
+            final int numberEntityPropertiesModified,
+            final List<Map.Entry<ManagedObject, EntityChangeKind>> enlisted,
+            final int chunkSize) {
+
+        if(chunkSize < 1) {
+            throw _Exceptions.illegalArgument("chunkSize must be positive, got %d", chunkSize);
+        }
+
+        final int numberOfChunks = (enlisted.size() + chunkSize - 1) / chunkSize;
+
+        return IntStream.range(0, numberOfChunks)
+        .mapToObj(chunkSequenceNum->{
+            val chunk = enlisted.subList(
+                    chunkSequenceNum * chunkSize,
+                    Math.min(enlisted.size(), (chunkSequenceNum + 1) * chunkSize));
+            val lastChunk = chunkSequenceNum == numberOfChunks - 1;
+            return new SimpleChangingEntities(
+                    interactionId, transactionSequenceNum,
+                    chunkSequenceNum, lastChunk,
+                    userName, completedAt,
+                    numberEntitiesLoaded,
+                    numberEntityPropertiesModified,
+                    ()->{
+                        val changesDto = newDto(
+                                interactionId, transactionSequenceNum,
+                                userName, completedAt,
+                                numberEntitiesLoaded,
+                                numberEntityPropertiesModified,
+                                chunk);
+                        changesDto.setChunk(newChunkDto(chunkSequenceNum, lastChunk));
+                        return changesDto;
+                    });
+        });
+    }
+
     // -- HELPER
 
     private static EntityChanges newChangingEntities(
@@ -89,6 +174,7 @@ private static EntityChanges newChangingEntities(
 
         return new SimpleChangingEntities(
                     interactionId, nextEventSequence,
+                    0, true,
                     userName, completedAt,
                     numberEntitiesLoaded,
                     numberEntityPropertiesModified,
@@ -97,7 +183,7 @@ private static EntityChanges newChangingEntities(
                             userName, completedAt,
                             numberEntitiesLoaded,
                             numberEntityPropertiesModified,
-                            changeKindByEnlistedAdapter));
+                            changeKindByEnlistedAdapter.entrySet()));
     }
 
     private static ChangesDto newDto(
@@ -105,11 +191,11 @@ private static ChangesDto newDto(
             final String userName, final java.sql.Timestamp completedAt,
             final int numberEntitiesLoaded,
             final int numberEntityPropertiesModified,
-            final Map<ManagedObject, EntityChangeKind> changeKindByEnlistedAdapter) {
+            final Iterable<Map.Entry<ManagedObject, EntityChangeKind>> enlisted) {
 
         // calculate the inverse of 'changesByAdapter'
-        final ListMultimap<EntityChangeKind, ManagedObject> adaptersByChange =
-            _Maps.invertToListMultimap(changeKindByEnlistedAdapter);
+        final ListMultimap<EntityChangeKind, ManagedObject> adaptersByChange = _Multimaps.newListMultimap();
+        enlisted.forEach(entry->adaptersByChange.putElement(entry.getValue(), entry.getKey()));
 
         val objectsDto = new ObjectsDto();
 
@@ -123,7 +209,7 @@ private static ChangesDto newDto(
         val changesDto = new ChangesDto();
 
         changesDto.setMajorVersion("2");
-        changesDto.setMinorVersion("0");
+        changesDto.setMinorVersion("1");
 
         changesDto.setInteractionId(interactionId.toString());
         changesDto.setSequence(transactionSequenceNum);
@@ -135,6 +221,13 @@ private static ChangesDto newDto(
         return changesDto;
     }
 
+    private static ChunkDto newChunkDto(final int chunkSequenceNum, final boolean lastChunk) {
+        val chunkDto = new ChunkDto();
+        chunkDto.setSequence(chunkSequenceNum);
+        chunkDto.setLast(lastChunk);
+        return chunkDto;
+    }
+
     private static OidsDto oidsDtoFor(
             final ListMultimap<EntityChangeKind, ManagedObject> adaptersByChange,
             final EntityChangeKind kind) {
@@ -152,6 +245,4 @@ private static OidsDto oidsDtoFor(
         return oidsDto;
     }
 
-
-
 }
@@ -39,6 +39,7 @@
 import org.apache.isis.applib.annotation.InteractionScope;
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.events.lifecycle.AbstractLifecycleEvent;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactn.InteractionContext;
@@ -66,10 +67,13 @@
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.services.title.TitleCache;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
 import org.apache.isis.core.metamodel.spec.feature.MixedIn;
 import org.apache.isis.core.transaction.changetracking.events.IsisTransactionPlaceholder;
+import org.apache.isis.core.transaction.entitycache.EntityCache;
 import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.AccessLevel;
@@ -99,6 +103,8 @@
     @Inject private EntityChangesPublisher entityChangesPublisher;
     @Inject private EventBusService eventBusService;
     @Inject private Provider<InteractionContext> interactionContextProvider;
+    @Inject private EntityCache entityCache;
+    @Inject private TitleCache titleCache;
 
     /**
      * Used for auditing: this contains the pre- values of every property of every object enlisted.
@@ -118,6 +124,13 @@
     @Getter(AccessLevel.PACKAGE)
     private final Map<ManagedObject, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Entities (enabled for caching) that were updated or deleted, to be evicted from the {@link EntityCache}.
+     * <p>
+     * Collected upfront, as deleted entities can no longer be identified once the transaction commits.
+     */
+    private final Set<Bookmark> bookmarksToEvict = _Sets.newLinkedHashSet();
+
     private boolean isEnlisted(final @NonNull ManagedObject adapter) {
         return changeKindByEnlistedAdapter.containsKey(adapter);
     }
@@ -179,9 +192,30 @@ private boolean isEntityEnabledForChangePublishing(final @NonNull ManagedObject
     /** TRANSACTION END BOUNDARY */
     @TransactionalEventListener(TransactionBeforeCompletionEvent.class)
     public void onPreCommit(TransactionBeforeCompletionEvent event) {
+        evictFromEntityCache();
         whilePublishing();
         postPublishing();
     }
+
+    private void enlistForEntityCacheEviction(final @NonNull ManagedObject entity) {
+        if(entityCache == null
+                || !entityCache.isCachingEnabled(entity.getSpecification())) {
+            return;
+        }
+        ManagedObjects.bookmark(entity).ifPresent(bookmarksToEvict::add);
+    }
+
+    private void invalidateTitle(final @NonNull ManagedObject entity) {
+        if(titleCache == null) {
+            return;
+        }
+        ManagedObjects.bookmark(entity).ifPresent(titleCache::invalidate);
+    }
+
+    private void evictFromEntityCache() {
+        bookmarksToEvict.forEach(entityCache::evict);
+        bookmarksToEvict.clear();
+    }
     
     private void whilePublishing() {
         log.debug("about to publish entity changes");
@@ -213,6 +247,14 @@ public EntityChanges getEntityChanges(
         return ChangingEntitiesFactory.createChangingEntities(timestamp, userName, this);
     }
 
+    @Override
+    public Stream<EntityChanges> streamEntityChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final int chunkSize) {
+        return ChangingEntitiesFactory.streamChangingEntities(timestamp, userName, this, chunkSize);
+    }
+
     Interaction currentInteraction() {
         return interactionContextProvider.get().currentInteractionElseFail();
     }
@@ -338,6 +380,8 @@ public void enlistCreated(ManagedObject entity) {
 
     @Override
     public void enlistDeleting(ManagedObject entity) {
+        enlistForEntityCacheEviction(entity);
+        invalidateTitle(entity);
         enlistDeletingInternal(entity);
         CallbackFacet.Util.callCallback(entity, RemovingCallbackFacet.class);
         postLifecycleEventIfRequired(entity, RemovingLifecycleEventFacet.class);
@@ -346,6 +390,8 @@ public void enlistDeleting(ManagedObject entity) {
     @Override
     public void enlistUpdating(ManagedObject entity) {
         val hasAlreadyBeenEnlisted = isEnlisted(entity);
+        enlistForEntityCacheEviction(entity);
+        invalidateTitle(entity);
         // we call this come what may;
         // additional properties may now have been changed, and the changeKind for publishing might also be modified
         enlistUpdatingInternal(entity);
@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.transaction.changetracking;
 
+import java.util.stream.Stream;
+
 import javax.annotation.Nullable;
 
 import org.apache.isis.applib.services.publishing.spi.EntityChanges;
@@ -26,5 +28,11 @@ public interface HasEnlistedEntityChanges {
 
     @Nullable
     EntityChanges getEntityChanges(java.sql.Timestamp timestamp, String userName);
+
+    /**
+     * As per {@link #getEntityChanges(java.sql.Timestamp, String)}, but split into chunks of (at most)
+     * <code>chunkSize</code> entities, each chunk created only as the stream is consumed.
+     */
+    Stream<EntityChanges> streamEntityChanges(java.sql.Timestamp timestamp, String userName, int chunkSize);
     
 }
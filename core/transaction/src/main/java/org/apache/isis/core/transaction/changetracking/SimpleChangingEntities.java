@@ -38,6 +38,8 @@ class SimpleChangingEntities implements EntityChanges {
 
     private UUID transactionUuid;
     private final int sequence;
+    private final int chunkSequence;
+    private final boolean lastChunk;
     private final String userName;
     private final Timestamp completedAt;
     private final int numberEntitiesLoaded;
@@ -47,6 +49,8 @@ class SimpleChangingEntities implements EntityChanges {
     public SimpleChangingEntities(
             final @NonNull UUID transactionUuid,
             final int sequence,
+            final int chunkSequence,
+            final boolean lastChunk,
             final @NonNull String userName,
             final @NonNull Timestamp completedAt,
             final int numberEntitiesLoaded,
@@ -55,6 +59,8 @@ public SimpleChangingEntities(
 
         this.transactionUuid = transactionUuid;
         this.sequence = sequence;
+        this.chunkSequence = chunkSequence;
+        this.lastChunk = lastChunk;
         this.userName = userName;
         this.completedAt = completedAt;
         this.numberEntitiesLoaded = numberEntitiesLoaded;
@@ -72,6 +78,16 @@ public int getSequence() {
         return sequence;
     }
 
+    @Override
+    public int getChunkSequence() {
+        return chunkSequence;
+    }
+
+    @Override
+    public boolean isLastChunk() {
+        return lastChunk;
+    }
+
     /**
      * The date/time at which this set of enlisted objects was created
      * (approx the completion time of the transaction).
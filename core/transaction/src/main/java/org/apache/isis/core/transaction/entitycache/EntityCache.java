@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.entitycache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Bounded, cross-transaction record of the entities (by {@link Bookmark}, 
+ * that is logical type plus identifier) known to exist, for those entity 
+ * types that opt-in using {@code @DomainObject(entityCaching=ENABLED)}.
+ * 
+ * <p>
+ * The entities' state itself is held by the persistence layer's own 
+ * (second-level) cache; this allows the persistence layer to resolve a cached 
+ * entity without first checking the database for its existence.
+ * 
+ * <p>
+ * Entries are evicted when the {@link org.apache.isis.core.transaction.changetracking.EntityChangeTracker}
+ * sees the entity being updated or deleted.
+ *
+ * @since 2.0 {@index}
+ */
+public interface EntityCache {
+
+    /**
+     * Whether instances of the given entity type are to be cached.
+     */
+    boolean isCachingEnabled(ObjectSpecification entitySpec);
+
+    /**
+     * If the entity is known to exist, attempts to resolve it using the 
+     * persistence layer's own cache.
+     * 
+     * <p>
+     * Counts as a hit only if the entity is both known and resolved; 
+     * if known but not resolved, it is evicted.
+     * 
+     * @param fromCache - resolves the entity without consulting the database, 
+     * if it can
+     */
+    <T> Optional<T> lookup(Bookmark bookmark, Function<Bookmark, Optional<T>> fromCache);
+
+    /**
+     * Records the entity as known to exist, having been fetched from the database.
+     */
+    void put(Bookmark bookmark);
+
+    void evict(Bookmark bookmark);
+
+    void evictAll();
+
+    _LruCache.Statistics getStatistics();
+
+}
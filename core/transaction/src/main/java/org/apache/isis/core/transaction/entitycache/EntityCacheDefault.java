@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.entitycache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.collections._LruCache;
+import org.apache.isis.commons.internal.collections._LruCache.Statistics;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityCachingFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+
+/**
+ * Keeps the most recently used entries, up to 
+ * {@code isis.persistence.entity-cache.max-size}.
+ * 
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.transaction.EntityCacheDefault")
+@Order(OrderPrecedence.MIDPOINT)
+@Primary
+@Qualifier("Default")
+public class EntityCacheDefault implements EntityCache {
+
+    private final boolean enabled;
+    private final _LruCache<Bookmark, Boolean> known;
+
+    @Inject
+    public EntityCacheDefault(final IsisConfiguration isisConfiguration) {
+        this(isisConfiguration.getPersistence().getEntityCache().isEnabled(),
+             isisConfiguration.getPersistence().getEntityCache().getMaxSize());
+    }
+
+    EntityCacheDefault(final boolean enabled, final int maxSize) {
+        this.enabled = enabled;
+        this.known = _LruCache.ofMaxSize(maxSize);
+    }
+
+    @Override
+    public boolean isCachingEnabled(final ObjectSpecification entitySpec) {
+        return enabled
+                && EntityCachingFacet.isCachingEnabled(entitySpec);
+    }
+
+    @Override
+    public <T> Optional<T> lookup(
+            final @NonNull Bookmark bookmark, 
+            final @NonNull Function<Bookmark, Optional<T>> fromCache) {
+        return known.get(bookmark, __->fromCache.apply(bookmark));
+    }
+
+    @Override
+    public void put(final @NonNull Bookmark bookmark) {
+        known.put(bookmark, Boolean.TRUE);
+    }
+
+    @Override
+    public void evict(final @NonNull Bookmark bookmark) {
+        known.remove(bookmark);
+    }
+
+    @Override
+    public void evictAll() {
+        known.clear();
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return known.getStatistics();
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.changetracking;
+
+import java.sql.Timestamp;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.annotation.EntityChangeKind;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.schema.common.v2.OidDto;
+
+public class ChangingEntitiesFactoryTest {
+
+    private final UUID interactionId = UUID.randomUUID();
+    private final Timestamp completedAt = new Timestamp(0L);
+
+    @Test
+    public void splits_enlisted_entities_into_chunks_in_order_enlisted() {
+        final List<Map.Entry<ManagedObject, EntityChangeKind>> enlisted = new ArrayList<>();
+        enlisted.add(entry("1", EntityChangeKind.CREATE));
+        enlisted.add(entry("2", EntityChangeKind.UPDATE));
+        enlisted.add(entry("3", EntityChangeKind.DELETE));
+        enlisted.add(entry("4", EntityChangeKind.CREATE));
+        enlisted.add(entry("5", EntityChangeKind.UPDATE));
+
+        final List<EntityChanges> chunks = ChangingEntitiesFactory.streamChangingEntities(
+                completedAt, "sven", interactionId, 3, 10, 20, enlisted, 2)
+                .collect(Collectors.toList());
+
+        assertEquals(3, chunks.size());
+
+        for (int i = 0; i < chunks.size(); i++) {
+            final EntityChanges chunk = chunks.get(i);
+            assertEquals(interactionId, chunk.getInteractionId());
+            assertEquals(3, chunk.getSequence());
+            assertEquals(i, chunk.getChunkSequence());
+            assertEquals(i == 2, chunk.isLastChunk());
+            assertEquals(10, chunk.getNumberLoaded());
+            assertEquals(20, chunk.getNumberPropertiesModified());
+            assertEquals(i, chunk.getDto().getChunk().getSequence());
+            assertEquals(i == 2, chunk.getDto().getChunk().isLast());
+            assertEquals("1", chunk.getDto().getMinorVersion());
+        }
+
+        assertEquals(Arrays.asList("1"), ids(chunks.get(0).getDto().getObjects().getCreated().getOid()));
+        assertEquals(Arrays.asList("2"), ids(chunks.get(0).getDto().getObjects().getUpdated().getOid()));
+        assertEquals(Arrays.asList("3"), ids(chunks.get(1).getDto().getObjects().getDeleted().getOid()));
+        assertEquals(Arrays.asList("4"), ids(chunks.get(1).getDto().getObjects().getCreated().getOid()));
+        assertEquals(Arrays.asList("5"), ids(chunks.get(2).getDto().getObjects().getUpdated().getOid()));
+        assertEquals(1, chunks.get(2).getNumberUpdated());
+        assertEquals(0, chunks.get(2).getNumberCreated());
+    }
+
+    @Test
+    public void single_chunk_if_fewer_entities_than_chunk_size() {
+        final List<Map.Entry<ManagedObject, EntityChangeKind>> enlisted = new ArrayList<>();
+        enlisted.add(entry("1", EntityChangeKind.CREATE));
+
+        final List<EntityChanges> chunks = ChangingEntitiesFactory.streamChangingEntities(
+                completedAt, "sven", interactionId, 0, 0, 0, enlisted, 100)
+                .collect(Collectors.toList());
+
+        assertEquals(1, chunks.size());
+        assertEquals(0, chunks.get(0).getChunkSequence());
+        assertTrue(chunks.get(0).isLastChunk());
+    }
+
+    @Test
+    public void chunks_are_created_lazily() {
+        final List<Map.Entry<ManagedObject, EntityChangeKind>> enlisted = new ArrayList<>();
+        enlisted.add(entry("1", EntityChangeKind.CREATE));
+        enlisted.add(entry("2", EntityChangeKind.CREATE));
+
+        final Optional<EntityChanges> first = ChangingEntitiesFactory.streamChangingEntities(
+                completedAt, "sven", interactionId, 0, 0, 0, enlisted, 1)
+                .findFirst();
+
+        assertTrue(first.isPresent());
+        assertFalse(first.get().isLastChunk());
+    }
+
+    // -- HELPER
+
+    private static Map.Entry<ManagedObject, EntityChangeKind> entry(
+            final String id,
+            final EntityChangeKind changeKind) {
+        final ManagedObject entity = mock(ManagedObject.class);
+        when(entity.getRootOid()).thenReturn(Optional.of(Oid.Factory.ofBookmark(Bookmark.of("demo.Customer", id))));
+        return new AbstractMap.SimpleEntry<>(entity, changeKind);
+    }
+
+    private static List<String> ids(final List<OidDto> oids) {
+        return oids.stream().map(OidDto::getId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.entitycache;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EntityCacheDefaultTest {
+
+    private final Bookmark customer1 = Bookmark.of("demo.Customer", "1");
+    private final Bookmark customer2 = Bookmark.of("demo.Customer", "2");
+    private final Bookmark customer3 = Bookmark.of("demo.Customer", "3");
+
+    @Test
+    public void unknown_entities_are_misses_without_consulting_the_persistence_layer() {
+        final EntityCacheDefault cache = new EntityCacheDefault(true, 10);
+
+        final Optional<Object> entity = cache.lookup(customer1, bookmark->{
+            throw new AssertionError("should not be called");
+        });
+
+        assertFalse(entity.isPresent());
+        assertEquals(0L, cache.getStatistics().getHits());
+        assertEquals(1L, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    public void known_entities_are_hits() {
+        final EntityCacheDefault cache = new EntityCacheDefault(true, 10);
+        cache.put(customer1);
+
+        final Optional<Object> entity = cache.lookup(customer1, bookmark->Optional.of("customer1"));
+
+        assertEquals(Optional.of("customer1"), entity);
+        assertEquals(1L, cache.getStatistics().getHits());
+        assertEquals(1.0, cache.getStatistics().getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void known_entities_not_resolved_are_evicted() {
+        final EntityCacheDefault cache = new EntityCacheDefault(true, 10);
+        cache.put(customer1);
+
+        assertFalse(cache.lookup(customer1, bookmark->Optional.empty()).isPresent());
+
+        assertEquals(0, cache.getStatistics().getSize());
+        assertEquals(1L, cache.getStatistics().getMisses());
+        assertEquals(1L, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void least_recently_used_are_evicted_when_full() {
+        final EntityCacheDefault cache = new EntityCacheDefault(true, 2);
+        cache.put(customer1);
+        cache.put(customer2);
+        cache.lookup(customer1, bookmark->Optional.of("customer1"));
+        cache.put(customer3);
+
+        assertEquals(2, cache.getStatistics().getSize());
+        assertTrue(cache.lookup(customer1, bookmark->Optional.of("customer1")).isPresent());
+        assertFalse(cache.lookup(customer2, bookmark->Optional.of("customer2")).isPresent());
+        assertTrue(cache.lookup(customer3, bookmark->Optional.of("customer3")).isPresent());
+    }
+
+    @Test
+    public void evicted_entities_are_misses() {
+        final EntityCacheDefault cache = new EntityCacheDefault(true, 10);
+        cache.put(customer1);
+        cache.put(customer2);
+
+        cache.evict(customer1);
+        assertFalse(cache.lookup(customer1, bookmark->Optional.of("customer1")).isPresent());
+
+        cache.evictAll();
+        assertFalse(cache.lookup(customer2, bookmark->Optional.of("customer2")).isPresent());
+        assertEquals(2L, cache.getStatistics().getEvictions());
+    }
+
+}
@@ -31,12 +31,17 @@
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
 import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdoRepository;
+import org.apache.isis.extensions.commandlog.impl.writebehind.CommandLogWriteBehind;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
+ * Persists completed commands that changed the state of the system, either
+ * within the current transaction or (if enabled) in the background using the
+ * {@link CommandLogWriteBehind}.
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -48,6 +53,7 @@
 public class CommandSubscriberForJdo implements CommandSubscriber {
 
     @Inject final CommandJdoRepository commandJdoRepository;
+    @Inject final CommandLogWriteBehind commandLogWriteBehind;
 
     @Override
     public void onCompleted(Command command) {
@@ -56,6 +62,10 @@ public void onCompleted(Command command) {
             return;
         }
 
+        if(commandLogWriteBehind.offer(command)) {
+            return;
+        }
+
         val existingCommandJdoIfAny =
                 commandJdoRepository.findByInteractionId(command.getInteractionId());
         if(existingCommandJdoIfAny.isPresent()) {
@@ -22,9 +22,13 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.extensions.commandlog.impl.archive.CommandLogArchive;
+import org.apache.isis.extensions.commandlog.impl.archive.CommandLogRetentionService;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandDtoConverter;
 import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
 import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdoRepository;
 import org.apache.isis.extensions.commandlog.impl.ui.CommandServiceMenu;
+import org.apache.isis.extensions.commandlog.impl.writebehind.CommandLogWriteBehind;
 import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
 import org.apache.isis.testing.fixtures.applib.modules.ModuleWithFixtures;
 import org.apache.isis.testing.fixtures.applib.teardown.jdo.TeardownFixtureJdoAbstract;
@@ -39,7 +43,11 @@
         , CommandServiceMenu.class
 
         // @Service's
+        , CommandDtoConverter.class
         , CommandJdo.TableColumnOrderDefault.class
+        , CommandLogArchive.class
+        , CommandLogRetentionService.class
+        , CommandLogWriteBehind.class
 })
 @ComponentScan(
         basePackageClasses= {
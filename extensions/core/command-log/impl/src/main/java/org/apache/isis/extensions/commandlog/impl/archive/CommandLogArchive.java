@@ -0,0 +1,346 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.archive;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.services.commanddto.conmap.UserDataKeys;
+import org.apache.isis.applib.util.JaxbUtil;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.ReplayState;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.cmd.v2.CommandsDto;
+import org.apache.isis.schema.cmd.v2.MapDto;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * File based archive of {@link CommandJdo command}s that have been moved out
+ * of the command log table by the {@link CommandLogRetentionService}.
+ *
+ * <p>
+ *     Each batch is written as a gzip compressed {@link CommandsDto} XML
+ *     document. The file name records the timestamps of the oldest and the
+ *     most recent command within, so that searches only need to open the files
+ *     overlapping the requested period.
+ * </p>
+ *
+ * <p>
+ *     Commands read back from the archive are <i>not</i> persistent; their
+ *     {@link CommandJdo#getParent() parent} is not retained.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.commandLog.CommandLogArchive")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class CommandLogArchive {
+
+    static final String FILE_PREFIX = "commands-";
+    static final String FILE_SUFFIX = ".xml.gz";
+
+    private static final String REPLAY_STATE =
+            CommandLogArchive.class.getName() + "#" + "REPLAY_STATE";
+
+    @Getter
+    private final Path directory;
+
+    @Inject
+    public CommandLogArchive(final IsisConfiguration isisConfiguration) {
+        this(Paths.get(isisConfiguration.getExtensions().getCommandLog().getRetention().getArchiveDirectory()));
+    }
+
+    CommandLogArchive(final @NonNull Path directory) {
+        this.directory = directory;
+    }
+
+    // -- WRITE
+
+    /**
+     * Writes the given commands (expected to be ordered by timestamp, oldest
+     * first) to a new archive file.
+     *
+     * <p>
+     *     The file is written to a temporary name and then moved into place,
+     *     so a partially written batch is never visible to searches.
+     * </p>
+     *
+     * @return the archive file written
+     */
+    public Path write(final @NonNull List<CommandJdo> commands) throws IOException {
+        if(commands.isEmpty()) {
+            throw _Exceptions.illegalArgument("nothing to archive");
+        }
+
+        val commandsDto = new CommandsDto();
+        for (val command : commands) {
+            commandsDto.getCommandDto().add(asArchivedDto(command));
+        }
+
+        val first = commands.get(0);
+        val last = commands.get(commands.size()-1);
+        val fileName = FILE_PREFIX
+                + first.getTimestamp().getTime() + "-"
+                + last.getTimestamp().getTime() + "-"
+                + first.getInteractionIdStr()
+                + FILE_SUFFIX;
+
+        Files.createDirectories(directory);
+        val tempFile = directory.resolve(fileName + ".tmp");
+        try(Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8)) {
+            JaxbUtil.toXml(commandsDto, writer);
+        } catch (javax.xml.bind.JAXBException e) {
+            Files.deleteIfExists(tempFile);
+            throw new IOException(e);
+        }
+        val file = directory.resolve(fileName);
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        return file;
+    }
+
+    private static CommandDto asArchivedDto(final CommandJdo command) {
+        val dto = CommandDtoUtils.clone(command.getCommandDto());
+        val timings = CommandDtoUtils.timingsFor(dto);
+        timings.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(command.getStartedAt()));
+        timings.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(command.getCompletedAt()));
+        CommandDtoUtils.setUserData(dto, UserDataKeys.RESULT, command.getResult());
+        CommandDtoUtils.setUserData(dto, UserDataKeys.EXCEPTION, command.getException());
+        if(command.getReplayState() != null) {
+            CommandDtoUtils.setUserData(dto, REPLAY_STATE, command.getReplayState().name());
+        }
+        if(dto.getUserData() == null) {
+            // read back using the replay constructor, which expects user data to be present
+            dto.setUserData(new MapDto());
+        }
+        return dto;
+    }
+
+    // -- SEARCH
+
+    /**
+     * Searches the archive for commands with a timestamp within the (inclusive)
+     * period, most recent first.
+     *
+     * @param from - or <tt>null</tt> if unbounded
+     * @param to - or <tt>null</tt> if unbounded
+     * @param filter - further restricts the commands returned
+     */
+    public List<CommandJdo> find(
+            final @Nullable Timestamp from,
+            final @Nullable Timestamp to,
+            final @NonNull Predicate<CommandJdo> filter) {
+        return find(from, to, filter, null);
+    }
+
+    /**
+     * As {@link #find(Timestamp, Timestamp, Predicate)}, returning at most
+     * <tt>limit</tt> commands.
+     *
+     * <p>
+     *     Files are read most recent first, and no more are read once the
+     *     remaining files can only hold commands older than those already
+     *     found.
+     * </p>
+     *
+     * @param limit - or <tt>null</tt> if unbounded
+     */
+    public List<CommandJdo> find(
+            final @Nullable Timestamp from,
+            final @Nullable Timestamp to,
+            final @NonNull Predicate<CommandJdo> filter,
+            final @Nullable Integer limit) {
+
+        if(!Files.isDirectory(directory)
+                || limit != null && limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // keyed by interactionId; a batch is archived again if the job fails after writing its file
+        final Map<String, CommandJdo> found = new LinkedHashMap<>();
+        for (val file : filesOverlapping(from, to)) {
+            if(limit != null
+                    && found.size() >= limit
+                    && rangeOf(file).get()[1] <= oldestOfMostRecent(found, limit)) {
+                break;
+            }
+            for (val dto : read(file)) {
+                val command = new CommandJdo(dto, replayStateOf(dto), 0);
+                if(isWithin(command, from, to)
+                        && filter.test(command)) {
+                    found.putIfAbsent(command.getInteractionIdStr(), command);
+                }
+            }
+        }
+        val mostRecentFirst = found.values().stream()
+                .sorted(Comparator.comparing(CommandJdo::getTimestamp).reversed());
+        return (limit != null
+                    ? mostRecentFirst.limit(limit)
+                    : mostRecentFirst)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Searches the (entire) archive for the most recent command matching the
+     * filter, reading no further files once one is found.
+     *
+     * <p>
+     *     Intended for filters matching at most one command, such as by
+     *     interactionId; otherwise use {@link #find(Timestamp, Timestamp, Predicate, Integer)}.
+     * </p>
+     */
+    public Optional<CommandJdo> findFirst(final @NonNull Predicate<CommandJdo> filter) {
+        if(!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        for (val file : filesOverlapping(null, null)) {
+            for (val dto : read(file)) {
+                val command = new CommandJdo(dto, replayStateOf(dto), 0);
+                if(filter.test(command)) {
+                    return Optional.of(command);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isWithin(
+            final CommandJdo command,
+            final @Nullable Timestamp from,
+            final @Nullable Timestamp to) {
+        return (from == null || !command.getTimestamp().before(from))
+            && (to == null || !command.getTimestamp().after(to));
+    }
+
+    /**
+     * The epoch millis of the <tt>limit</tt>-th most recent command found.
+     */
+    private static long oldestOfMostRecent(final Map<String, CommandJdo> found, final int limit) {
+        return found.values().stream()
+                .map(command -> command.getTimestamp().getTime())
+                .sorted(Comparator.reverseOrder())
+                .skip(limit - 1)
+                .findFirst()
+                .orElse(Long.MIN_VALUE);
+    }
+
+    /**
+     * Most recent first, by the timestamp of the most recent command within.
+     */
+    private List<Path> filesOverlapping(
+            final @Nullable Timestamp from,
+            final @Nullable Timestamp to) {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        val range = rangeOf(file);
+                        if(!range.isPresent()) {
+                            return false;
+                        }
+                        return (from == null || range.get()[1] >= from.getTime())
+                            && (to == null || range.get()[0] <= to.getTime());
+                    })
+                    .sorted(Comparator.comparing((Path file) -> rangeOf(file).get()[1])
+                            .reversed())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+    /**
+     * The epoch millis of the oldest and the most recent command in the file,
+     * parsed from its name.
+     */
+    static Optional<long[]> rangeOf(final Path file) {
+        val fileName = file.getFileName().toString();
+        if(!fileName.startsWith(FILE_PREFIX)
+                || !fileName.endsWith(FILE_SUFFIX)) {
+            return Optional.empty();
+        }
+        val parts = fileName.substring(FILE_PREFIX.length()).split("-", 3);
+        if(parts.length < 3) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new long[] {Long.parseLong(parts[0]), Long.parseLong(parts[1])});
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<CommandDto> read(final Path file) {
+        try(val reader = new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)) {
+            return JaxbUtil.fromXml(reader, CommandsDto.class)
+                    .presentElseFail()
+                    .getCommandDto();
+        } catch (Exception e) {
+            log.warn("skipping unreadable command log archive file {}", file, e);
+            return new ArrayList<>();
+        }
+    }
+
+    private static ReplayState replayStateOf(final CommandDto dto) {
+        val replayState = CommandDtoUtils.getUserData(dto, REPLAY_STATE);
+        return replayState != null
+                ? ReplayState.valueOf(replayState)
+                : null;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.archive;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Moves completed {@link CommandJdo command}s older than the configured
+ * retention period out of the command log table and into the
+ * {@link CommandLogArchive archive}, keeping the table (and so the finders of
+ * {@link CommandJdoRepository}) small.
+ *
+ * <p>
+ *     Intended to be called periodically in the background, eg from a quartz
+ *     job (see the quartz extension) calling {@link #archiveExpired()} within
+ *     an interaction, the same way the command replay secondary's job does.
+ * </p>
+ *
+ * <p>
+ *     The replay high-water mark is never archived: only commands strictly
+ *     older than the most recently replayed (and most recently completed)
+ *     command are candidates.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.commandLog.CommandLogRetentionService")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class CommandLogRetentionService {
+
+    final IsisConfiguration isisConfiguration;
+    final CommandJdoRepository commandJdoRepository;
+    final CommandLogArchive commandLogArchive;
+    final TransactionService transactionService;
+    final ClockService clockService;
+
+    /**
+     * Archives expired commands in batches of the configured size, each batch
+     * committed in its own transaction, stopping once there are no more
+     * candidates or the configured maximum number of batches per run has been
+     * reached.
+     *
+     * @return the number of commands archived
+     */
+    public int archiveExpired() {
+        val config = isisConfiguration.getExtensions().getCommandLog().getRetention();
+        val cutoff = archiveCutoff(config.getMaxAgeDays());
+
+        int archived = 0;
+        for (int batch = 0; batch < config.getMaxBatchesPerRun(); batch++) {
+            val commands = commandJdoRepository.findCompletedBefore(cutoff, config.getBatchSize());
+            if(commands.isEmpty()) {
+                break;
+            }
+            try {
+                // written before the rows are removed; should the removal fail, the rows are simply archived again
+                commandLogArchive.write(commands);
+            } catch (IOException e) {
+                log.error("failed to write command log archive, abandoning run", e);
+                break;
+            }
+            commandJdoRepository.removeAll(commands);
+            transactionService.nextTransaction();
+            archived += commands.size();
+        }
+        if(archived > 0) {
+            log.info("archived {} commands older than {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    Timestamp archiveCutoff(final int maxAgeDays) {
+        val maxAgeCutoff = clockService.getEpochMillis() - TimeUnit.DAYS.toMillis(maxAgeDays);
+        // the candidates are strictly before the cutoff, so either high-water mark itself is retained
+        val replayedCutoff = commandJdoRepository.findMostRecentReplayed()
+                .map(hwm -> Math.min(hwm.getTimestamp().getTime(), maxAgeCutoff))
+                .orElse(maxAgeCutoff);
+        val cutoff = commandJdoRepository.findMostRecentCompleted()
+                .map(hwm -> Math.min(hwm.getTimestamp().getTime(), replayedCutoff))
+                .orElse(replayedCutoff);
+        return new Timestamp(cutoff);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.jdo;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.jdo.AttributeConverter;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2.IsisCommandDtoCompressedConverter;
+import org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2.IsisCommandDtoConverter;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+/**
+ * Stores {@link CommandJdo#getCommandDto()} as plain XML or, if
+ * <code>isis.extensions.command-log.compress-command-dto</code> is set, as
+ * compressed XML. Either form is read, so the setting can be changed without
+ * migrating the rows already stored.
+ *
+ * <p>
+ *     Being a managed bean, this (configured) instance is registered with
+ *     DataNucleus in place of one it would otherwise instantiate itself (which
+ *     would store plain XML).
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.commandLog.CommandDtoConverter")
+@Order(OrderPrecedence.MIDPOINT)
+public class CommandDtoConverter implements AttributeConverter<CommandDto, String> {
+
+    private static final IsisCommandDtoConverter PLAIN = new IsisCommandDtoConverter();
+    private static final IsisCommandDtoConverter COMPRESSED = new IsisCommandDtoCompressedConverter();
+
+    private final boolean compress;
+
+    public CommandDtoConverter() {
+        this(false);
+    }
+
+    @Inject
+    public CommandDtoConverter(final IsisConfiguration isisConfiguration) {
+        this(isisConfiguration.getExtensions().getCommandLog().isCompressCommandDto());
+    }
+
+    CommandDtoConverter(final boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public String convertToDatastore(final CommandDto attributeValue) {
+        return (compress ? COMPRESSED : PLAIN).toDatastoreType(attributeValue);
+    }
+
+    @Override
+    public CommandDto convertToAttribute(final String datastoreValue) {
+        return PLAIN.toMemberType(datastoreValue);
+    }
+
+}
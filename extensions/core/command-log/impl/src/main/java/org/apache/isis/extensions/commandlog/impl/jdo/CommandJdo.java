@@ -88,6 +88,11 @@
             value="SELECT "
                     + "FROM org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo "
                     + "WHERE interactionIdStr == :interactionIdStr "),
+    @javax.jdo.annotations.Query(
+            name="findByInteractionIdStrIn",
+            value="SELECT "
+                    + "FROM org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo "
+                    + "WHERE :interactionIdStrs.contains(interactionIdStr) "),
     @javax.jdo.annotations.Query(
             name="findByParent",
             value="SELECT "
@@ -220,6 +225,14 @@
                     + "WHERE replayState == 'PENDING' "
                     + "ORDER BY this.timestamp ASC "
                     + "RANGE 0,10"),    // same as batch size
+    // candidates for archiving, oldest first; the caller limits the range to the batch size
+    @javax.jdo.annotations.Query(
+            name="findCompletedBefore",
+            value="SELECT "
+                    + "FROM org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo "
+                    + "WHERE timestamp < :before "
+                    + "   && completedAt != null "
+                    + "ORDER BY this.timestamp ASC"),
 //        @javax.jdo.annotations.Query(
 //                name="findReplayableInErrorMostRecent",
 //                value="SELECT "
@@ -467,6 +480,7 @@ public static class LogicalMemberIdentifierDomainEvent extends PropertyDomainEve
     public static class CommandDtoDomainEvent extends PropertyDomainEvent<CommandDto> { }
     @javax.jdo.annotations.Persistent
     @javax.jdo.annotations.Column(allowsNull="true", jdbcType="CLOB")
+    @javax.jdo.annotations.Convert(CommandDtoConverter.class)
     @Property(domainEvent = CommandDtoDomainEvent.class)
     @PropertyLayout(multiLine = 9)
     @Getter @Setter
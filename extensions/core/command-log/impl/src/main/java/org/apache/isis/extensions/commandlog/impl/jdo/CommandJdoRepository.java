@@ -23,10 +23,14 @@
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -46,6 +50,7 @@
 import org.apache.isis.applib.services.iactn.InteractionContext;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.extensions.commandlog.impl.archive.CommandLogArchive;
 import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.cmd.v2.CommandsDto;
@@ -71,6 +76,12 @@ public class CommandJdoRepository {
     @Inject final Provider<InteractionContext> interactionContextProvider;
     @Inject final Provider<RepositoryService> repositoryServiceProvider;
     @Inject final JdoSupportService jdoSupport;
+    @Inject final CommandLogArchive commandLogArchive;
+
+    /**
+     * The number of commands returned by the <i>findRecentXxx</i> finders.
+     */
+    private static final int RECENT_LIMIT = 30;
 
     public List<CommandJdo> findByFromAndTo(
             final @Nullable LocalDate from,
@@ -99,6 +110,20 @@ public List<CommandJdo> findByFromAndTo(
         return repositoryService().allMatches(query);
     }
 
+    /**
+     * As {@link #findByFromAndTo(LocalDate, LocalDate)}, optionally also
+     * searching the {@link CommandLogArchive archive}.
+     */
+    public List<CommandJdo> findByFromAndTo(
+            final @Nullable LocalDate from,
+            final @Nullable LocalDate to,
+            final boolean includeArchive) {
+        val current = findByFromAndTo(from, to);
+        return includeArchive
+                ? withArchived(current, from, to, command -> true, null)
+                : current;
+    }
+
 
     public Optional<CommandJdo> findByInteractionId(final UUID interactionId) {
         return repositoryService().firstMatch(
@@ -106,6 +131,37 @@ public Optional<CommandJdo> findByInteractionId(final UUID interactionId) {
                     .withParameter("interactionIdStr", interactionId.toString()));
     }
 
+    /**
+     * As {@link #findByInteractionId(UUID)}, for many interactions with a single query.
+     */
+    public List<CommandJdo> findByInteractionIds(final Collection<UUID> interactionIds) {
+        if(interactionIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        val interactionIdStrs = interactionIds.stream()
+                .map(UUID::toString)
+                .collect(Collectors.toList());
+        return repositoryService().allMatches(
+                Query.named(CommandJdo.class, "findByInteractionIdStrIn")
+                    .withParameter("interactionIdStrs", interactionIdStrs));
+    }
+
+    /**
+     * As {@link #findByInteractionId(UUID)}, optionally falling back to
+     * searching the (entire) {@link CommandLogArchive archive}.
+     */
+    public Optional<CommandJdo> findByInteractionId(
+            final UUID interactionId,
+            final boolean includeArchive) {
+        val current = findByInteractionId(interactionId);
+        if(current.isPresent() || !includeArchive) {
+            return current;
+        }
+        val interactionIdStr = interactionId.toString();
+        return commandLogArchive.findFirst(
+                command -> interactionIdStr.equals(command.getInteractionIdStr()));
+    }
+
     public List<CommandJdo> findByParent(final CommandJdo parent) {
         return repositoryService().allMatches(
                 Query.named(CommandJdo.class, "findByParent")
@@ -158,6 +214,21 @@ public List<CommandJdo> findByTargetAndFromAndTo(
         return repositoryService().allMatches(query);
     }
 
+    /**
+     * As {@link #findByTargetAndFromAndTo(Bookmark, LocalDate, LocalDate)},
+     * optionally also searching the {@link CommandLogArchive archive}.
+     */
+    public List<CommandJdo> findByTargetAndFromAndTo(
+            final Bookmark target,
+            final @Nullable LocalDate from,
+            final @Nullable LocalDate to,
+            final boolean includeArchive) {
+        val current = findByTargetAndFromAndTo(target, from, to);
+        return includeArchive
+                ? withArchived(current, from, to, command -> target.equals(command.getTarget()), null)
+                : current;
+    }
+
     private static Timestamp toTimestampStartOfDayWithOffset(
             final @Nullable LocalDate dt,
             final int daysOffset) {
@@ -183,6 +254,61 @@ public List<CommandJdo> findRecentByTarget(final Bookmark target) {
                     .withParameter("target", target));
     }
 
+    /**
+     * As {@link #findRecentByUsername(String)}, topping up from the
+     * {@link CommandLogArchive archive} if requested and too few recent
+     * commands remain in the command log table.
+     */
+    public List<CommandJdo> findRecentByUsername(
+            final String username,
+            final boolean includeArchive) {
+        val current = findRecentByUsername(username);
+        return includeArchive && current.size() < RECENT_LIMIT
+                ? withArchived(current, null, null, command -> username.equals(command.getUsername()), RECENT_LIMIT)
+                : current;
+    }
+
+    /**
+     * As {@link #findRecentByTarget(Bookmark)}, topping up from the
+     * {@link CommandLogArchive archive} if requested and too few recent
+     * commands remain in the command log table.
+     */
+    public List<CommandJdo> findRecentByTarget(
+            final Bookmark target,
+            final boolean includeArchive) {
+        val current = findRecentByTarget(target);
+        return includeArchive && current.size() < RECENT_LIMIT
+                ? withArchived(current, null, null, command -> target.equals(command.getTarget()), RECENT_LIMIT)
+                : current;
+    }
+
+    /**
+     * Appends the matching archived commands to those found in the command
+     * log table; archived commands are always older than those remaining in the
+     * table, so the most-recent-first ordering is preserved.
+     */
+    private List<CommandJdo> withArchived(
+            final List<CommandJdo> current,
+            final @Nullable LocalDate from,
+            final @Nullable LocalDate to,
+            final Predicate<CommandJdo> filter,
+            final @Nullable Integer limit) {
+
+        if(limit != null
+                && current.size() >= limit) {
+            return current.stream().limit(limit).collect(Collectors.toList());
+        }
+        val archived = commandLogArchive.find(
+                toTimestampStartOfDayWithOffset(from, 0),
+                toTimestampStartOfDayWithOffset(to, 1),
+                filter,
+                limit != null
+                    ? limit - current.size()
+                    : null);
+        return Stream.concat(current.stream(), archived.stream())
+                .collect(Collectors.toList());
+    }
+
 
     /**
      * Intended to support the replay of commands on a secondary instance of
@@ -297,6 +423,22 @@ public Optional<CommandJdo> findMostRecentCompleted() {
     }
 
 
+    /**
+     * Candidates for archiving: completed commands with a timestamp strictly
+     * before that specified, oldest first.
+     *
+     * @param before - exclusive upper bound
+     * @param batchSize - the maximum number of commands to return
+     */
+    public List<CommandJdo> findCompletedBefore(
+            final Timestamp before,
+            final int batchSize) {
+        return repositoryService().allMatches(
+                Query.named(CommandJdo.class, "findCompletedBefore")
+                    .withParameter("before", before)
+                    .withRange(QueryRange.limit(batchSize)));
+    }
+
     public List<CommandJdo> findNotYetReplayed() {
         return repositoryService().allMatches(
                 Query.named(CommandJdo.class, "findNotYetReplayed"));
@@ -353,6 +495,22 @@ public void persist(final CommandJdo commandJdo) {
         repositoryService().persist(commandJdo);
     }
 
+    /**
+     * Removes the specified commands, first detaching any remaining child
+     * commands (whose {@link CommandJdo#getParent() parent} would otherwise
+     * refer to a removed row).
+     */
+    public void removeAll(final List<CommandJdo> commandJdos) {
+        for (val commandJdo : commandJdos) {
+            for (val child : findByParent(commandJdo)) {
+                child.setParent(null);
+            }
+        }
+        for (val commandJdo : commandJdos) {
+            repositoryService().remove(commandJdo);
+        }
+    }
+
     public void truncateLog() {
         repositoryService().removeAll(CommandJdo.class);
     }
@@ -0,0 +1,372 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.writebehind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.interaction.session.InteractionFactory;
+import org.apache.isis.extensions.commandlog.impl.CommandSubscriberForJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdoRepository;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Optionally persists completed {@link Command}s in the background, on behalf
+ * of {@link CommandSubscriberForJdo}, so that the interactions executing them
+ * do not pay for the insert (nor for looking up any previously persisted
+ * command or parent).
+ *
+ * <p>
+ *     Commands are handed to a bounded queue, which is flushed periodically,
+ *     each batch persisted in its own transaction of a background interaction
+ *     (so that the inserts are flushed together, allowing DataNucleus to
+ *     batch the statements). Duplicates are detected in memory while queued,
+ *     and by the primary key of the command log table once persisted; the
+ *     parents of the commands of a batch are looked up with a single query.
+ * </p>
+ *
+ * <p>
+ *     Should a batch fail, its commands are retried one by one, so that a
+ *     single bad command cannot prevent the others from being persisted.
+ *     Commands still queued on shutdown are flushed when this bean is
+ *     {@link #stop() stopped}, which happens before any bean (in particular
+ *     the persistence manager factory) is destroyed.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.commandLog.CommandLogWriteBehind")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class CommandLogWriteBehind implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+    /**
+     * Stopped after any lifecycle beans of a higher phase (such as the web
+     * server, no longer accepting requests), and in any case before the
+     * context destroys its beans.
+     */
+    static final int PHASE = 0;
+
+    /**
+     * Persists a batch of queued commands, failing as a whole.
+     */
+    @FunctionalInterface
+    interface BatchWriter {
+        void write(List<Entry> batch) throws Exception;
+    }
+
+    @Value
+    static class Entry {
+        Command command;
+        long enqueuedAt;
+    }
+
+    /**
+     * Snapshot of the activity of the write-behind queue.
+     */
+    @Value
+    public static class Statistics {
+        /** commands currently waiting to be persisted */
+        int queued;
+        /** commands accepted onto the queue */
+        long enqueued;
+        /** commands persisted from the queue */
+        long written;
+        /** commands that could not be persisted, and have been dropped */
+        long failed;
+        /** commands ignored as already queued */
+        long duplicates;
+        /** commands rejected because the queue was full (and so persisted by the caller instead) */
+        long overflowed;
+        /** milliseconds that the oldest queued command has been waiting */
+        long lag;
+        /** the longest time (in milliseconds) that any command waited before being persisted */
+        long maxLag;
+    }
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BatchWriter batchWriter;
+    private final LongSupplier clock;
+
+    private final BlockingQueue<Entry> queue;
+    private final Set<UUID> queuedInteractionIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    @Inject
+    public CommandLogWriteBehind(
+            final IsisConfiguration isisConfiguration,
+            final CommandJdoRepository commandJdoRepository,
+            final Provider<InteractionFactory> interactionFactoryProvider,
+            final Provider<TransactionService> transactionServiceProvider) {
+        this(isisConfiguration.getExtensions().getCommandLog().getWriteBehind(),
+                batch -> interactionFactoryProvider.get().runAnonymous(() ->
+                    transactionServiceProvider.get().runTransactional(Propagation.REQUIRES_NEW, () ->
+                        persistAll(commandJdoRepository, batch))
+                    .optionalElseFail()),
+                System::currentTimeMillis);
+    }
+
+    CommandLogWriteBehind(
+            final IsisConfiguration.Extensions.CommandLog.WriteBehind config,
+            final @NonNull BatchWriter batchWriter,
+            final @NonNull LongSupplier clock) {
+        this.enabled = config.isEnabled();
+        this.batchSize = Math.max(1, config.getBatchSize());
+        this.flushIntervalMillis = config.getFlushInterval();
+        this.batchWriter = batchWriter;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+    }
+
+    /**
+     * Unless {@link #isEnabled() enabled} with a positive flush interval, does not start, so that
+     * commands are persisted by the caller.
+     */
+    @Override
+    public synchronized void start() {
+        if(!enabled
+                || scheduler != null) {
+            return;
+        }
+        if(flushIntervalMillis <= 0) {
+            log.warn("command log write-behind not started, as the flush interval ({}ms) is not positive",
+                    flushIntervalMillis);
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "isis-commandlog-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(
+                this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background flushes, then flushes whatever is still queued.
+     */
+    @Override
+    public void stop() {
+        final ScheduledExecutorService scheduler;
+        synchronized (this) {
+            scheduler = this.scheduler;
+            this.scheduler = null;
+        }
+        if(scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if(!scheduler.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    log.warn("timed out waiting for the command log write-behind flush to complete");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the completed command to be persisted in the background.
+     *
+     * @return <tt>false</tt> if not {@link #isEnabled() enabled}, not
+     * {@link #isRunning() running} or if the queue is full, in which case the
+     * caller should persist the command itself.
+     */
+    public boolean offer(final @NonNull Command command) {
+        if(!enabled
+                || !isRunning()) {
+            return false;
+        }
+        if(!queuedInteractionIds.add(command.getInteractionId())) {
+            // this isn't expected to happen ... we just log the fact if it does
+            duplicates.incrementAndGet();
+            log.debug("ignoring command {}, already queued", command.getInteractionId());
+            return true;
+        }
+        val entry = new Entry(command, clock.getAsLong());
+        if(!queue.offer(entry)) {
+            queuedInteractionIds.remove(command.getInteractionId());
+            overflowed.incrementAndGet();
+            return false;
+        }
+        if(!isRunning()
+                && queue.remove(entry)) {
+            // stopped meanwhile, perhaps after the final flush
+            queuedInteractionIds.remove(command.getInteractionId());
+            return false;
+        }
+        enqueued.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Persists all queued commands, in batches.
+     */
+    public synchronized void flush() {
+        try {
+            final List<Entry> batch = new ArrayList<>(batchSize);
+            while(queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                for (val entry : batch) {
+                    queuedInteractionIds.remove(entry.getCommand().getInteractionId());
+                }
+                batch.clear();
+            }
+        } catch (Throwable ex) {
+            // must not propagate, as that would cancel all subsequent scheduled flushes
+            log.error("failed to flush the command log write-behind queue", ex);
+        }
+    }
+
+    private void write(final List<Entry> batch) {
+        try {
+            batchWriter.write(batch);
+            written(batch);
+        } catch (Exception batchFailure) {
+            log.warn("failed to persist batch of {} commands, retrying one by one", batch.size(), batchFailure);
+            for (val entry : batch) {
+                val single = Collections.singletonList(entry);
+                try {
+                    batchWriter.write(single);
+                    written(single);
+                } catch (Exception ex) {
+                    failed.incrementAndGet();
+                    log.error("failed to persist command {}, dropping it", entry.getCommand().getInteractionId(), ex);
+                }
+            }
+        }
+    }
+
+    private void written(final List<Entry> entries) {
+        val now = clock.getAsLong();
+        for (val entry : entries) {
+            maxLag.accumulateAndGet(now - entry.getEnqueuedAt(), Math::max);
+        }
+        written.addAndGet(entries.size());
+    }
+
+    public Statistics getStatistics() {
+        val oldest = queue.peek();
+        return new Statistics(
+                queue.size(),
+                enqueued.get(),
+                written.get(),
+                failed.get(),
+                duplicates.get(),
+                overflowed.get(),
+                oldest != null ? Math.max(0L, clock.getAsLong() - oldest.getEnqueuedAt()) : 0L,
+                maxLag.get());
+    }
+
+    // -- HELPER
+
+    private static void persistAll(
+            final CommandJdoRepository commandJdoRepository,
+            final List<Entry> batch) {
+
+        final Map<UUID, CommandJdo> commandJdoById = new LinkedHashMap<>();
+        for (val entry : batch) {
+            val command = entry.getCommand();
+            commandJdoById.put(command.getInteractionId(), new CommandJdo(command));
+        }
+
+        // parents not within this batch are looked up all at once
+        val parentIdsToLookup = batch.stream()
+                .map(entry -> entry.getCommand().getParent())
+                .filter(Objects::nonNull)
+                .map(Command::getInteractionId)
+                .filter(parentId -> !commandJdoById.containsKey(parentId))
+                .collect(Collectors.toSet());
+        final Map<UUID, CommandJdo> parentJdoById = commandJdoRepository.findByInteractionIds(parentIdsToLookup)
+                .stream()
+                .collect(Collectors.toMap(CommandJdo::getInteractionId, parentJdo -> parentJdo));
+        parentJdoById.putAll(commandJdoById);
+
+        for (val entry : batch) {
+            val command = entry.getCommand();
+            val parent = command.getParent();
+            val commandJdo = commandJdoById.get(command.getInteractionId());
+            commandJdo.setParent(parent != null ? parentJdoById.get(parent.getInteractionId()) : null);
+            commandJdoRepository.persist(commandJdo);
+        }
+    }
+
+}
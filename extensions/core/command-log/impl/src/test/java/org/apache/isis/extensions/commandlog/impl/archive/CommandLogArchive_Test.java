@@ -0,0 +1,186 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.archive;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.ReplayState;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+
+import lombok.val;
+
+public class CommandLogArchive_Test {
+
+    @TempDir Path tempDir;
+
+    CommandLogArchive archive;
+
+    @BeforeEach
+    public void setUp() {
+        archive = new CommandLogArchive(tempDir.resolve("archive"));
+    }
+
+    @Test
+    public void when_no_archive_yet() {
+        Assertions.assertThat(archive.find(null, null, command -> true)).isEmpty();
+    }
+
+    @Test
+    public void roundtrip() throws Exception {
+        val first = command("sven", "customer:1", 1_000L);
+        val second = command("dick", "customer:2", 2_000L);
+        second.setResult(Bookmark.parse("order:3").orElse(null));
+        second.setReplayState(ReplayState.OK);
+
+        val file = archive.write(Arrays.asList(first, second));
+
+        Assertions.assertThat(CommandLogArchive.rangeOf(file).get()).containsExactly(1_000L, 2_000L);
+
+        val found = archive.find(null, null, command -> true);
+        Assertions.assertThat(found).extracting(CommandJdo::getInteractionIdStr)
+                .containsExactly(second.getInteractionIdStr(), first.getInteractionIdStr());
+
+        val archivedSecond = found.get(0);
+        Assertions.assertThat(archivedSecond.getUsername()).isEqualTo("dick");
+        Assertions.assertThat(archivedSecond.getTarget()).isEqualTo(second.getTarget());
+        Assertions.assertThat(archivedSecond.getTimestamp()).isEqualTo(second.getTimestamp());
+        Assertions.assertThat(archivedSecond.getCompletedAt()).isEqualTo(second.getCompletedAt());
+        Assertions.assertThat(archivedSecond.getResult()).isEqualTo(second.getResult());
+        Assertions.assertThat(archivedSecond.getReplayState()).isEqualTo(ReplayState.OK);
+    }
+
+    @Test
+    public void find_filters_by_period_and_predicate() throws Exception {
+        archive.write(Arrays.asList(
+                command("sven", "customer:1", 1_000L),
+                command("dick", "customer:1", 2_000L)));
+        archive.write(Arrays.asList(
+                command("sven", "customer:2", 5_000L)));
+
+        Assertions.assertThat(archive.find(new Timestamp(1_500L), null, command -> true))
+                .extracting(CommandJdo::getUsername)
+                .containsExactly("sven", "dick");
+        Assertions.assertThat(archive.find(null, new Timestamp(1_500L), command -> true))
+                .extracting(CommandJdo::getUsername)
+                .containsExactly("sven");
+        Assertions.assertThat(archive.find(null, null, command -> "sven".equals(command.getUsername())))
+                .extracting(CommandJdo::getTimestamp)
+                .containsExactly(new Timestamp(5_000L), new Timestamp(1_000L));
+    }
+
+    @Test
+    public void batch_archived_twice_is_found_once() throws Exception {
+        val command = command("sven", "customer:1", 1_000L);
+        archive.write(Arrays.asList(command));
+        archive.write(Arrays.asList(command, command("sven", "customer:1", 2_000L)));
+
+        Assertions.assertThat(archive.find(null, null, c -> true)).hasSize(2);
+    }
+
+    @Test
+    public void find_with_limit_returns_most_recent_across_files() throws Exception {
+        archive.write(Arrays.asList(
+                command("sven", "customer:1", 1_000L),
+                command("sven", "customer:1", 2_000L)));
+        archive.write(Arrays.asList(
+                command("sven", "customer:1", 3_000L),
+                command("dick", "customer:1", 4_000L)));
+
+        Assertions.assertThat(archive.find(null, null, command -> "sven".equals(command.getUsername()), 2))
+                .extracting(CommandJdo::getTimestamp)
+                .containsExactly(new Timestamp(3_000L), new Timestamp(2_000L));
+    }
+
+    @Test
+    public void find_with_limit_does_not_read_older_files_once_reached() throws Exception {
+        archive.write(Arrays.asList(command("sven", "customer:1", 5_000L)));
+        // misnamed as if older, so is only found if actually read
+        val olderFile = archive.write(Arrays.asList(command("sven", "customer:1", 9_000L)));
+        Files.move(olderFile, olderFile.resolveSibling(
+                olderFile.getFileName().toString().replace("9000-9000", "1000-2000")));
+
+        Assertions.assertThat(archive.find(null, null, command -> true, 1))
+                .extracting(CommandJdo::getTimestamp)
+                .containsExactly(new Timestamp(5_000L));
+        Assertions.assertThat(archive.find(null, null, command -> true))
+                .extracting(CommandJdo::getTimestamp)
+                .containsExactly(new Timestamp(9_000L), new Timestamp(5_000L));
+    }
+
+    @Test
+    public void findFirst_stops_at_first_match() throws Exception {
+        val older = command("sven", "customer:1", 1_000L);
+        archive.write(Arrays.asList(older));
+        val newer = command("sven", "customer:1", 5_000L);
+        archive.write(Arrays.asList(newer));
+
+        Assertions.assertThat(archive.findFirst(command -> "sven".equals(command.getUsername())))
+                .get()
+                .extracting(CommandJdo::getInteractionIdStr)
+                .isEqualTo(newer.getInteractionIdStr());
+        Assertions.assertThat(archive.findFirst(command -> older.getInteractionIdStr().equals(command.getInteractionIdStr())))
+                .get()
+                .extracting(CommandJdo::getTimestamp)
+                .isEqualTo(new Timestamp(1_000L));
+        Assertions.assertThat(archive.findFirst(command -> false)).isEmpty();
+    }
+
+    private static CommandJdo command(final String username, final String target, final long timestamp) {
+        val interactionId = UUID.randomUUID().toString();
+        val bookmark = Bookmark.parse(target).orElseThrow(IllegalArgumentException::new);
+
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(interactionId);
+        dto.setUser(username);
+        dto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(timestamp)));
+        dto.setTargets(new OidsDto());
+        dto.getTargets().getOid().add(bookmark.toOidDto());
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        dto.setMember(actionDto);
+
+        val command = new CommandJdo();
+        command.setInteractionIdStr(interactionId);
+        command.setUsername(username);
+        command.setTimestamp(new Timestamp(timestamp));
+        command.setTarget(bookmark);
+        command.setLogicalMemberIdentifier(actionDto.getLogicalMemberIdentifier());
+        command.setCommandDto(dto);
+        command.setStartedAt(new Timestamp(timestamp + 10));
+        command.setCompletedAt(new Timestamp(timestamp + 20));
+        return command;
+    }
+
+}
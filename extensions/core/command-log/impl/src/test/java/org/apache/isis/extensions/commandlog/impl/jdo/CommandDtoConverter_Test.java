@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.jdo;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+public class CommandDtoConverter_Test {
+
+    CommandDtoConverter converter;
+    CommandDtoConverter compressingConverter;
+    CommandDto commandDto;
+
+    @BeforeEach
+    public void setUp() {
+        converter = new CommandDtoConverter();
+        compressingConverter = new CommandDtoConverter(true);
+
+        commandDto = new CommandDto();
+        commandDto.setMajorVersion("2");
+        commandDto.setMinorVersion("0");
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        commandDto.setUser("sven");
+        commandDto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(1_000L)));
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        commandDto.setMember(actionDto);
+    }
+
+    @Test
+    public void stores_plain_xml_by_default() {
+        val stored = converter.convertToDatastore(commandDto);
+
+        Assertions.assertThat(stored).isEqualTo(CommandDtoUtils.toXml(commandDto));
+        Assertions.assertThat(CommandDtoUtils.toXml(converter.convertToAttribute(stored)))
+            .isEqualTo(CommandDtoUtils.toXml(commandDto));
+    }
+
+    @Test
+    public void stores_compressed_xml_when_configured() {
+        val stored = compressingConverter.convertToDatastore(commandDto);
+
+        Assertions.assertThat(stored).doesNotStartWith("<");
+        Assertions.assertThat(CommandDtoUtils.toXml(compressingConverter.convertToAttribute(stored)))
+            .isEqualTo(CommandDtoUtils.toXml(commandDto));
+    }
+
+    @Test
+    public void reads_either_form_whatever_configured() {
+        val plain = converter.convertToDatastore(commandDto);
+        val compressed = compressingConverter.convertToDatastore(commandDto);
+
+        Assertions.assertThat(CommandDtoUtils.toXml(compressingConverter.convertToAttribute(plain)))
+            .isEqualTo(CommandDtoUtils.toXml(commandDto));
+        Assertions.assertThat(CommandDtoUtils.toXml(converter.convertToAttribute(compressed)))
+            .isEqualTo(CommandDtoUtils.toXml(commandDto));
+    }
+
+    @Test
+    public void null_either_way() {
+        Assertions.assertThat(converter.convertToDatastore(null)).isNull();
+        Assertions.assertThat(converter.convertToAttribute(null)).isNull();
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.writebehind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
+
+public class CommandLogWriteBehind_Test {
+
+    IsisConfiguration.Extensions.CommandLog.WriteBehind config;
+    AtomicLong clock;
+    List<List<UUID>> batchesWritten;
+    UUID failing;
+
+    @BeforeEach
+    public void setUp() {
+        config = new IsisConfiguration.Extensions.CommandLog.WriteBehind();
+        config.setEnabled(true);
+        config.setQueueCapacity(5);
+        config.setBatchSize(2);
+        config.setFlushInterval(60_000L); // flushed explicitly
+        clock = new AtomicLong(1_000L);
+        batchesWritten = new ArrayList<>();
+    }
+
+    private CommandLogWriteBehind writeBehind() {
+        val writeBehind = writeBehindNotStarted();
+        writeBehind.start();
+        return writeBehind;
+    }
+
+    private CommandLogWriteBehind writeBehindNotStarted() {
+        return new CommandLogWriteBehind(config, batch -> {
+            val interactionIds = batch.stream()
+                    .map(entry -> entry.getCommand().getInteractionId())
+                    .collect(Collectors.toList());
+            if(interactionIds.contains(failing)) {
+                throw new IllegalStateException("duplicate key");
+            }
+            batchesWritten.add(interactionIds);
+        }, clock::get);
+    }
+
+    @Test
+    public void when_disabled_is_not_accepted() {
+        config.setEnabled(false);
+        val writeBehind = writeBehind();
+
+        Assertions.assertThat(writeBehind.offer(new Command(UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    public void when_not_running_is_not_accepted() {
+        val writeBehind = writeBehindNotStarted();
+
+        Assertions.assertThat(writeBehind.offer(new Command(UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    public void when_stopped_is_not_accepted() {
+        val writeBehind = writeBehind();
+        writeBehind.stop();
+
+        Assertions.assertThat(writeBehind.offer(new Command(UUID.randomUUID()))).isFalse();
+        Assertions.assertThat(writeBehind.getStatistics().getQueued()).isZero();
+    }
+
+    @Test
+    public void when_flush_interval_not_positive_is_not_started() {
+        config.setFlushInterval(0L);
+        val writeBehind = writeBehind();
+
+        Assertions.assertThat(writeBehind.isRunning()).isFalse();
+        Assertions.assertThat(writeBehind.offer(new Command(UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    public void flushes_in_batches() {
+        val writeBehind = writeBehind();
+        val ids = offer(writeBehind, 3);
+
+        clock.set(1_250L);
+        writeBehind.flush();
+
+        Assertions.assertThat(batchesWritten).containsExactly(
+                ids.subList(0, 2),
+                ids.subList(2, 3));
+        val statistics = writeBehind.getStatistics();
+        Assertions.assertThat(statistics.getQueued()).isZero();
+        Assertions.assertThat(statistics.getWritten()).isEqualTo(3);
+        Assertions.assertThat(statistics.getMaxLag()).isEqualTo(250L);
+    }
+
+    @Test
+    public void duplicates_are_ignored_while_queued() {
+        val writeBehind = writeBehind();
+        val command = new Command(UUID.randomUUID());
+
+        Assertions.assertThat(writeBehind.offer(command)).isTrue();
+        Assertions.assertThat(writeBehind.offer(command)).isTrue();
+        writeBehind.flush();
+
+        Assertions.assertThat(batchesWritten).containsExactly(
+                Collections.singletonList(command.getInteractionId()));
+        Assertions.assertThat(writeBehind.getStatistics().getDuplicates()).isEqualTo(1);
+    }
+
+    @Test
+    public void when_full_is_not_accepted() {
+        val writeBehind = writeBehind();
+        offer(writeBehind, 5);
+
+        Assertions.assertThat(writeBehind.offer(new Command(UUID.randomUUID()))).isFalse();
+        Assertions.assertThat(writeBehind.getStatistics().getOverflowed()).isEqualTo(1);
+    }
+
+    @Test
+    public void lag_of_oldest_queued() {
+        val writeBehind = writeBehind();
+        offer(writeBehind, 1);
+        clock.set(1_100L);
+        offer(writeBehind, 1);
+
+        clock.set(1_500L);
+        Assertions.assertThat(writeBehind.getStatistics().getLag()).isEqualTo(500L);
+    }
+
+    @Test
+    public void failed_batch_is_retried_one_by_one() {
+        val writeBehind = writeBehind();
+        val ids = offer(writeBehind, 2);
+        failing = ids.get(0);
+
+        writeBehind.flush();
+
+        Assertions.assertThat(batchesWritten).containsExactly(ids.subList(1, 2));
+        val statistics = writeBehind.getStatistics();
+        Assertions.assertThat(statistics.getWritten()).isEqualTo(1);
+        Assertions.assertThat(statistics.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void stop_flushes_queue() {
+        val writeBehind = writeBehind();
+        val ids = offer(writeBehind, 1);
+
+        writeBehind.stop();
+
+        Assertions.assertThat(batchesWritten).containsExactly(ids);
+    }
+
+    private static List<UUID> offer(final CommandLogWriteBehind writeBehind, final int count) {
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            val command = new Command(UUID.randomUUID());
+            Assertions.assertThat(writeBehind.offer(command)).isTrue();
+            ids.add(command.getInteractionId());
+        }
+        return ids;
+    }
+
+}
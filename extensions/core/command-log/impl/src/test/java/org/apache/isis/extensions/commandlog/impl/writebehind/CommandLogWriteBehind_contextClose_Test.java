@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.impl.writebehind;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
+
+public class CommandLogWriteBehind_contextClose_Test {
+
+    /**
+     * Stands in for the persistence manager factory, no longer usable once destroyed.
+     */
+    static class Datastore implements DisposableBean {
+        final List<UUID> persisted = new CopyOnWriteArrayList<>();
+        volatile boolean destroyed;
+
+        void persist(final UUID interactionId) {
+            if(destroyed) {
+                throw new IllegalStateException("datastore already destroyed");
+            }
+            persisted.add(interactionId);
+        }
+
+        @Override
+        public void destroy() {
+            destroyed = true;
+        }
+    }
+
+    @Configuration
+    static class Config {
+
+        // as in production, the datastore is looked up lazily, so is not a declared dependency
+        @Bean
+        CommandLogWriteBehind commandLogWriteBehind(final ObjectProvider<Datastore> datastoreProvider) {
+            val config = new IsisConfiguration.Extensions.CommandLog.WriteBehind();
+            config.setEnabled(true);
+            config.setFlushInterval(60_000L);
+            return new CommandLogWriteBehind(config, batch -> {
+                for (val entry : batch) {
+                    datastoreProvider.getObject().persist(entry.getCommand().getInteractionId());
+                }
+            }, System::currentTimeMillis);
+        }
+
+        @Bean
+        Datastore datastore() {
+            return new Datastore();
+        }
+    }
+
+    @Test
+    public void queued_commands_are_persisted_when_context_closed() {
+        val context = new AnnotationConfigApplicationContext(Config.class);
+        val writeBehind = context.getBean(CommandLogWriteBehind.class);
+        val datastore = context.getBean(Datastore.class);
+        Assertions.assertThat(writeBehind.isRunning()).isTrue();
+
+        val command = new Command(UUID.randomUUID());
+        Assertions.assertThat(writeBehind.offer(command)).isTrue();
+        Assertions.assertThat(datastore.persisted).isEmpty();
+
+        context.close();
+
+        Assertions.assertThat(datastore.destroyed).isTrue();
+        Assertions.assertThat(datastore.persisted).containsExactly(command.getInteractionId());
+        Assertions.assertThat(writeBehind.getStatistics().getFailed()).isZero();
+        Assertions.assertThat(writeBehind.isRunning()).isFalse();
+    }
+
+}
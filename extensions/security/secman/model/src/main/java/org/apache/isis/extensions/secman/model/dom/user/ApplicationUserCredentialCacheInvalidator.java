@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.model.dom.user;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.core.security.authentication.cache.VerifiedCredentialCache;
+import org.apache.isis.extensions.secman.api.user.ApplicationUser;
+
+import lombok.val;
+
+/**
+ * Discards any {@link VerifiedCredentialCache verified credentials} of a user 
+ * that is locked, unlocked, renamed, deleted or has its account type changed.
+ * <p>
+ * Password changes are taken care of by the 
+ * {@link org.apache.isis.extensions.secman.api.user.ApplicationUserRepository#updatePassword(ApplicationUser, String) repository}.
+ * 
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.secman.ApplicationUserCredentialCacheInvalidator")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class ApplicationUserCredentialCacheInvalidator {
+
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    @Inject
+    public ApplicationUserCredentialCacheInvalidator(final VerifiedCredentialCache verifiedCredentialCache) {
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    @EventListener(ApplicationUser.ActionDomainEvent.class)
+    public void on(final ApplicationUser.ActionDomainEvent event) {
+        if(!affectsCredentials(event)) {
+            return;
+        }
+        // both before (for the former user name) and after execution (as a concurrent request may have re-cached)
+        if(event.getEventPhase().isExecutingOrLater()) {
+            val user = (ApplicationUser) event.getSubject();
+            if(user.getUsername() != null) {
+                verifiedCredentialCache.invalidate(user.getUsername());
+            }
+        }
+    }
+
+    private static boolean affectsCredentials(final ApplicationUser.ActionDomainEvent event) {
+        return event instanceof ApplicationUser.LockDomainEvent
+                || event instanceof ApplicationUser.UnlockDomainEvent
+                || event instanceof ApplicationUser.UpdateUsernameDomainEvent
+                || event instanceof ApplicationUser.UpdateAccountTypeDomainEvent
+                || event instanceof ApplicationUser.DeleteDomainEvent;
+    }
+
+}
@@ -40,6 +40,7 @@
 import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.security.authentication.cache.VerifiedCredentialCache;
 import org.apache.isis.extensions.secman.api.SecmanConfiguration;
 import org.apache.isis.extensions.secman.api.encryption.PasswordEncryptionService;
 import org.apache.isis.extensions.secman.api.events.UserCreatedEvent;
@@ -64,6 +65,7 @@
     @Inject private Optional<PasswordEncryptionService> passwordEncryptionService; // empty if no candidate is available
 	@Inject protected IsisConfiguration isisConfiguration;
     @Inject private EventBusService eventBusService;  
+    @Inject private VerifiedCredentialCache verifiedCredentialCache;
  
     @Inject private javax.inject.Provider<QueryResultsCache> queryResultsCacheProvider;
     
@@ -228,6 +230,7 @@ public boolean updatePassword(
         val encrypter = passwordEncryptionService.orElseThrow(_Exceptions::unexpectedCodeReach);
         user.setEncryptedPassword(encrypter.encrypt(password));
         repository.persistAndFlush(user);
+        verifiedCredentialCache.invalidate(user.getUsername());
         return true;
     }
     
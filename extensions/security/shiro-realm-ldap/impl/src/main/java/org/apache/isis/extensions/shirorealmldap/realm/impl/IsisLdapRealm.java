@@ -34,6 +34,7 @@
 
 import org.apache.shiro.authz.AuthorizationInfo;
 import org.apache.shiro.authz.SimpleAuthorizationInfo;
+import org.apache.shiro.cache.Cache;
 import org.apache.shiro.config.Ini;
 import org.apache.shiro.realm.ldap.DefaultLdapRealm;
 import org.apache.shiro.realm.ldap.LdapContextFactory;
@@ -78,6 +79,11 @@
  * ldapRealm.userExtractedAttribute=street,country
  * ldapRealm.permissionByGroupAttribute=attribute:Folder.{street}:Read,attribute:Portfolio.{country}
  * ldapRealm.permissionByUserAttribute=attribute:Folder.{street}:Read,attribute:Portfolio.{country}
+ * ldapRealm.userIdAttribute=uid
+ *
+ * # authorization info per principal is cached for 60s by default
+ * ldapRealm.authorizationCacheTimeToLive = 60000
+ * ldapRealm.authorizationCacheMaxSize = 1000
  *
  * # optional mapping from physical groups to logical application roles
  * ldapRealm.rolesByGroup = \
@@ -133,6 +139,11 @@
  * See the sample for group and user attribute and mapping.
  * <p/>
  * </p>
+ * <p>
+ * The authorization info of each principal is looked up using a single system connection
+ * (pooled by the context factory, see {@link org.apache.shiro.realm.ldap.JndiLdapContextFactory#setPoolingEnabled(boolean)}),
+ * and is then cached for {@link #setAuthorizationCacheTimeToLive(long) a while}.
+ * </p>
  *
  * @since 1.x {@index}
  */
@@ -187,20 +198,36 @@ public class IsisLdapRealm extends DefaultLdapRealm {
 
     private PermissionToRoleMapper permissionToRoleMapper;
 
+    /**
+     * The attribute identifying the user's own entry (within {@link #searchUserBase})
+     */
+    private String userIdAttribute = "uid";
+
     /**
      * cn attribute
      */
     private String cnAttribute = "cn";
 
+    private long authorizationCacheTimeToLive = 60_000L;
+    private int authorizationCacheMaxSize = 1_000;
+
     public IsisLdapRealm() {
         setGroupObjectClass("groupOfUniqueNames");
         setUniqueMemberAttribute("uniqueMember");
         setUniqueMemberAttributeValueTemplate("uid={0}");
+        setAuthorizationCachingEnabled(true);
+        setAuthorizationCache(newAuthorizationCache());
     }
 
     /**
      * Get groups from LDAP.
      *
+     * <p>
+     * Roles and group permissions are resolved from a single search for the groups the user
+     * is a member of, and user permissions from a single search for the user's own entry,
+     * both using the same (pooled) system connection.
+     * </p>
+     *
      * @param principals         the principals of the Subject whose AuthenticationInfo should
      *                           be queried from the LDAP server.
      * @param ldapContextFactory factory used to retrieve LDAP connections.
@@ -210,33 +237,52 @@ public IsisLdapRealm() {
      */
     @Override
     protected AuthorizationInfo queryForAuthorizationInfo(final PrincipalCollection principals, final LdapContextFactory ldapContextFactory) throws NamingException {
-        final Set<String> roleNames = getRoles(principals, ldapContextFactory);
-        SimpleAuthorizationInfo simpleAuthorizationInfo = new SimpleAuthorizationInfo(roleNames);
-        Set<String> stringPermissions = permsFor(roleNames);
         final String username = (String) getAvailablePrincipal(principals);
-        final LdapContext finalLdapContext = ldapContextFactory.getSystemLdapContext();
-        stringPermissions.addAll(getPermissionForUser(username, finalLdapContext));
-        stringPermissions.addAll(getPermissionForRole(username, finalLdapContext));
-        simpleAuthorizationInfo.setStringPermissions(stringPermissions);
 
-        return simpleAuthorizationInfo;
+        LdapContext systemLdapCtx = null;
+        try {
+            systemLdapCtx = ldapContextFactory.getSystemLdapContext();
+
+            final Set<String> roleNames = _Sets.newLinkedHashSet();
+            final Set<String> groupPermissions = _Sets.newLinkedHashSet();
+            searchGroupsOf(username, systemLdapCtx, roleNames, groupPermissions);
+
+            SimpleAuthorizationInfo simpleAuthorizationInfo = new SimpleAuthorizationInfo(roleNames);
+            Set<String> stringPermissions = permsFor(roleNames);
+            stringPermissions.addAll(permissionsForUser(username, systemLdapCtx));
+            stringPermissions.addAll(groupPermissions);
+            simpleAuthorizationInfo.setStringPermissions(stringPermissions);
+
+            return simpleAuthorizationInfo;
+        } catch (AuthenticationException ex) {
+            // principal was not authenticated on LDAP
+            return new SimpleAuthorizationInfo(Collections.emptySet());
+        } finally {
+            LdapUtils.closeContext(systemLdapCtx);
+        }
     }
 
-    private Set<String>
-    getPermissionForRole(String username, LdapContext ldapContext)
-            throws NamingException {
-        final Set<String> permissions = _Sets.newLinkedHashSet();
+    /**
+     * Searches for the groups the user is a member of, collecting the corresponding roles and
+     * the permissions mapped from the groups' attributes.
+     */
+    private void searchGroupsOf(
+            final String userName, final LdapContext ldapCtx,
+            final Set<String> roleNames, final Set<String> permissions) throws NamingException {
 
-        Set<String> groups = groupFor(username, ldapContext);
-        final NamingEnumeration<SearchResult> searchResultEnum = ldapContext.search(searchBase,
-                "objectClass=" + groupObjectClass, SUBTREE_SCOPE);
-        while (searchResultEnum.hasMore()) {
-            final SearchResult group = searchResultEnum.next();
-            if (memberOf(group, groups)) {
+        final String memberValue = uniqueMemberAttributeValuePrefix + userName + uniqueMemberAttributeValueSuffix;
+        final NamingEnumeration<SearchResult> searchResultEnum = ldapCtx.search(searchBase,
+                "(&(objectClass=" + groupObjectClass + ")(" + uniqueMemberAttribute + "={0}))",
+                new Object[] {memberValue}, SUBTREE_SCOPE);
+        try {
+            while (searchResultEnum.hasMore()) {
+                final SearchResult group = searchResultEnum.next();
+                addRoleIfMember(userName, group, roleNames);
                 addPermIfFound(group, permissions, groupExtractedAttribute, permissionByGroupAttribute);
             }
+        } finally {
+            searchResultEnum.close();
         }
-        return permissions;
     }
 
     protected Set<String> groupFor(final String userName, final LdapContext ldapCtx)
@@ -257,25 +303,26 @@ protected boolean memberOf(SearchResult group, Set<String> groups) throws Naming
         return groups.contains(groupName);
     }
 
-    private Collection<String> getPermissionForUser(
-            String username,
-            LdapContext ldapContextFactory) throws NamingException {
-
-        try {
-            return permUser(username, ldapContextFactory);
-        } catch (org.apache.shiro.authc.AuthenticationException ex) {
+    /**
+     * The permissions mapped from the attributes of the user's own entry.
+     */
+    private Collection<String> permissionsForUser(final String userName, final LdapContext systemLdapCtx)
+            throws NamingException {
+        if (userObjectClass == null
+                || permissionByUserAttribute.isEmpty()) {
             return Collections.emptySet();
         }
-    }
-
-    private Collection<String> permUser(String username, LdapContext systemLdapCtx)
-            throws NamingException {
         final Set<String> permissions = _Sets.newLinkedHashSet();
-        final NamingEnumeration<SearchResult> searchResultEnum = systemLdapCtx.search(
-                searchUserBase, "objectClass=" + userObjectClass, SUBTREE_SCOPE);
-        while (searchResultEnum.hasMore()) {
-            final SearchResult group = searchResultEnum.next();
-            addPermIfFound(group, permissions, userExtractedAttribute, permissionByUserAttribute);
+        final NamingEnumeration<SearchResult> searchResultEnum = systemLdapCtx.search(searchUserBase,
+                "(&(objectClass=" + userObjectClass + ")(" + userIdAttribute + "={0}))",
+                new Object[] {userName}, SUBTREE_SCOPE);
+        try {
+            while (searchResultEnum.hasMore()) {
+                final SearchResult user = searchResultEnum.next();
+                addPermIfFound(user, permissions, userExtractedAttribute, permissionByUserAttribute);
+            }
+        } finally {
+            searchResultEnum.close();
         }
         return permissions;
     }
@@ -308,31 +355,6 @@ private void addPermIfFound(
         }
     }
 
-    private Set<String> getRoles(final PrincipalCollection principals, final LdapContextFactory ldapContextFactory) throws NamingException {
-        final String username = (String) getAvailablePrincipal(principals);
-
-        LdapContext systemLdapCtx = null;
-        try {
-            systemLdapCtx = ldapContextFactory.getSystemLdapContext();
-            return rolesFor(username, systemLdapCtx);
-        } catch (AuthenticationException ex) {
-            // principal was not authenticated on LDAP
-            return Collections.emptySet();
-        } finally {
-            LdapUtils.closeContext(systemLdapCtx);
-        }
-    }
-
-    private Set<String> rolesFor(final String userName, final LdapContext ldapCtx) throws NamingException {
-        final Set<String> roleNames = _Sets.newLinkedHashSet();
-        final NamingEnumeration<SearchResult> searchResultEnum = ldapCtx.search(searchBase, "objectClass=" + groupObjectClass, SUBTREE_SCOPE);
-        while (searchResultEnum.hasMore()) {
-            final SearchResult group = searchResultEnum.next();
-            addRoleIfMember(userName, group, roleNames);
-        }
-        return roleNames;
-    }
-
     private void addRoleIfMember(final String userName, final SearchResult group, final Set<String> roleNames) throws NamingException {
         final NamingEnumeration<? extends Attribute> attributeEnum = group.getAttributes().getAll();
         while (attributeEnum.hasMore()) {
@@ -495,8 +517,37 @@ public void setUserObjectClass(String userObjectClass) {
         this.userObjectClass = userObjectClass;
     }
 
+    public void setUserIdAttribute(String userIdAttribute) {
+        this.userIdAttribute = userIdAttribute;
+    }
+
     public void setCnAttribute(String cnAttribute) {
         this.cnAttribute = cnAttribute;
     }
 
+    /**
+     * How long (in milliseconds) the authorization info of a principal is cached, at most;
+     * if not positive, falls back to the cache (if any) of the configured
+     * {@link org.apache.shiro.cache.CacheManager}.
+     */
+    public void setAuthorizationCacheTimeToLive(long authorizationCacheTimeToLive) {
+        this.authorizationCacheTimeToLive = authorizationCacheTimeToLive;
+        setAuthorizationCache(newAuthorizationCache());
+    }
+
+    /**
+     * The maximum number of principals whose authorization info is cached; the least recently
+     * used are evicted first.
+     */
+    public void setAuthorizationCacheMaxSize(int authorizationCacheMaxSize) {
+        this.authorizationCacheMaxSize = authorizationCacheMaxSize;
+        setAuthorizationCache(newAuthorizationCache());
+    }
+
+    private Cache<Object, AuthorizationInfo> newAuthorizationCache() {
+        return authorizationCacheTimeToLive > 0
+                ? new TimeToLiveCache<>(authorizationCacheTimeToLive, authorizationCacheMaxSize, System::currentTimeMillis)
+                : null;
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.shirorealmldap.realm.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.apache.shiro.cache.Cache;
+
+import org.apache.isis.commons.internal.collections._LruCache;
+
+/**
+ * A bounded {@link Cache} whose entries expire a fixed time after they were put;
+ * the least recently used entries are evicted first.
+ *
+ * <p>
+ * Used by {@link IsisLdapRealm} to hold the authorization info of each principal.
+ *
+ * @since 2.0
+ */
+class TimeToLiveCache<K, V> implements Cache<K, V> {
+
+    private final _LruCache<K, V> valueByKey;
+
+    TimeToLiveCache(final long timeToLiveMillis, final int maxSize, final LongSupplier clock) {
+        this.valueByKey = _LruCache.ofMaxSizeAndTimeToLive(maxSize, timeToLiveMillis, clock);
+    }
+
+    @Override
+    public V get(final K key) {
+        return valueByKey.get(key).orElse(null);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        return valueByKey.put(key, value).orElse(null);
+    }
+
+    @Override
+    public V remove(final K key) {
+        return valueByKey.remove(key).orElse(null);
+    }
+
+    @Override
+    public void clear() {
+        valueByKey.clear();
+    }
+
+    @Override
+    public int size() {
+        return valueByKey.size();
+    }
+
+    @Override
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(valueByKey.keys()));
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableList(valueByKey.values());
+    }
+
+}
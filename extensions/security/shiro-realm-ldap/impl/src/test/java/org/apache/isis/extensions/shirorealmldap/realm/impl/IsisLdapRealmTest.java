@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.shirorealmldap.realm.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.commons.internal.collections._Sets;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+
+public class IsisLdapRealmTest {
+
+    private InMemoryDirectoryServer server;
+    private AtomicInteger searches;
+    private IsisLdapRealm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        searches = new AtomicInteger();
+
+        final InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig("o=mojo");
+        config.addAdditionalBindCredentials("cn=admin", "secret");
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                searches.incrementAndGet();
+            }
+        });
+        server = new InMemoryDirectoryServer(config);
+        server.add("dn: o=mojo", "objectClass: organization", "o: mojo");
+        server.add("dn: ou=users,o=mojo", "objectClass: organizationalUnit", "ou: users");
+        server.add("dn: ou=groups,o=mojo", "objectClass: organizationalUnit", "ou: groups");
+        server.add("dn: uid=joe,ou=users,o=mojo", "objectClass: inetOrgPerson", "uid: joe", "street: Main");
+        server.add("dn: uid=bob,ou=users,o=mojo", "objectClass: inetOrgPerson", "uid: bob", "street: Elm");
+        server.add("dn: cn=LDN_USERS,ou=groups,o=mojo", "objectClass: groupOfUniqueNames", "cn: LDN_USERS",
+                "country: UK",
+                "uniqueMember: uid=joe,ou=users,o=mojo",
+                "uniqueMember: uid=bob,ou=users,o=mojo");
+        server.add("dn: cn=GLOBAL_ADMIN,ou=groups,o=mojo", "objectClass: groupOfUniqueNames", "cn: GLOBAL_ADMIN",
+                "country: US",
+                "uniqueMember: uid=bob,ou=users,o=mojo");
+        server.startListening();
+
+        final IsisLdapContextFactory contextFactory = new IsisLdapContextFactory();
+        contextFactory.setUrl("ldap://localhost:" + server.getListenPort());
+        contextFactory.setSystemUsername("cn=admin");
+        contextFactory.setSystemPassword("secret");
+        contextFactory.setSystemAuthenticationMechanism("simple");
+
+        realm = new IsisLdapRealm();
+        realm.setContextFactory(contextFactory);
+        realm.setSearchBase("ou=groups,o=mojo");
+        realm.setUniqueMemberAttributeValueTemplate("uid={0},ou=users,o=mojo");
+        realm.setSearchUserBase("ou=users,o=mojo");
+        realm.setUserObjectClass("inetOrgPerson");
+        realm.setUserExtractedAttribute("street");
+        realm.setPermissionByUserAttribute("attribute:Folder.{street}:Read");
+        realm.setGroupExtractedAttribute("country");
+        realm.setPermissionByGroupAttribute("attribute:Portfolio.{country}");
+        realm.setPermissionsByRole("LDN_USERS = *:ToDoItem:*:*; GLOBAL_ADMIN = *");
+
+        searches.set(0);
+    }
+
+    @After
+    public void tearDown() {
+        server.shutDown(true);
+    }
+
+    @Test
+    public void roles_and_permissions_of_user() throws Exception {
+
+        final AuthorizationInfo info = realm.queryForAuthorizationInfo(principalsOf("joe"), realm.getContextFactory());
+
+        assertThat(info.getRoles(), is(equalTo(_Sets.of("LDN_USERS"))));
+        assertThat(info.getStringPermissions(), is(equalTo(_Sets.of(
+                "*:ToDoItem:*:*",
+                "attribute:Folder.Main:Read",
+                "attribute:Portfolio.UK"))));
+
+        // one search for the groups, one for the user's own entry
+        assertThat(searches.get(), is(2));
+    }
+
+    @Test
+    public void permissions_from_other_users_attributes_are_not_granted() throws Exception {
+
+        final AuthorizationInfo info = realm.queryForAuthorizationInfo(principalsOf("bob"), realm.getContextFactory());
+
+        assertThat(info.getRoles(), is(equalTo(_Sets.of("LDN_USERS", "GLOBAL_ADMIN"))));
+        assertThat(info.getStringPermissions(), is(equalTo(_Sets.of(
+                "*:ToDoItem:*:*",
+                "*",
+                "attribute:Folder.Elm:Read",
+                "attribute:Portfolio.UK",
+                "attribute:Portfolio.US"))));
+    }
+
+    @Test
+    public void authorization_info_is_cached() {
+
+        final PrincipalCollection joe = principalsOf("joe");
+
+        assertThat(realm.hasRole(joe, "LDN_USERS"), is(true));
+        assertThat(realm.hasRole(joe, "GLOBAL_ADMIN"), is(false));
+        assertThat(realm.isPermitted(joe, "attribute:Folder.Main:Read"), is(true));
+
+        assertThat(searches.get(), is(2));
+    }
+
+    @Test
+    public void authorization_info_is_not_cached_when_disabled() {
+        realm.setAuthorizationCacheTimeToLive(0);
+
+        final PrincipalCollection joe = principalsOf("joe");
+
+        assertThat(realm.hasRole(joe, "LDN_USERS"), is(true));
+        assertThat(realm.hasRole(joe, "LDN_USERS"), is(true));
+
+        assertThat(searches.get(), is(4));
+    }
+
+    private PrincipalCollection principalsOf(final String userName) {
+        return new SimplePrincipalCollection(userName, realm.getName());
+    }
+
+}
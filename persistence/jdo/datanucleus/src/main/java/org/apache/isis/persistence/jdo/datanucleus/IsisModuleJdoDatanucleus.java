@@ -19,20 +19,25 @@
 package org.apache.isis.persistence.jdo.datanucleus;
 
 import javax.inject.Provider;
+import javax.jdo.AttributeConverter;
 import javax.jdo.JDOException;
 import javax.jdo.PersistenceManagerFactory;
 import javax.sql.DataSource;
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
+import org.datanucleus.api.jdo.JDOTypeConverter;
 import org.datanucleus.metadata.PersistenceUnitMetaData;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.util.ClassUtils;
 
 import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.commons.internal.assertions._Assert;
@@ -109,6 +114,7 @@ public LocalPersistenceManagerFactoryBean getLocalPersistenceManagerFactoryBean(
             final EventBusService eventBusService,
             final Provider<EntityChangeTracker> entityChangeTrackerProvider,
             final IsisBeanTypeRegistry beanTypeRegistry,
+            final ObjectProvider<AttributeConverter<?, ?>> attributeConverters,
             final DnSettings dnSettings) {
         
         _Assert.assertNotNull(dataSource, "a datasource is required");
@@ -121,6 +127,7 @@ protected PersistenceManagerFactory newPersistenceManagerFactory(java.util.Map<?
                 val pu = createDefaultPersistenceUnit(beanTypeRegistry);
                 val pmf = new JDOPersistenceManagerFactory(pu, props);
                 pmf.setConnectionFactory(dataSource);
+                registerAttributeConverters(attributeConverters, pmf);
                 integrateWithApplicationLayer(metaModelContext, eventBusService, entityChangeTrackerProvider, pmf);
                 return pmf;
             }
@@ -245,6 +252,33 @@ private static PersistenceUnitMetaData createDefaultPersistenceUnit (
         return pumd;
     }
     
+    /**
+     * Registers any {@link AttributeConverter}s that are managed beans, by their class name, 
+     * so that DataNucleus uses these (configured) instances for members annotated with 
+     * {@code @Convert(<converter class>)}, rather than instantiating the converters itself.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void registerAttributeConverters(
+            final ObjectProvider<AttributeConverter<?, ?>> attributeConverters,
+            final JDOPersistenceManagerFactory pmf) {
+
+        val typeManager = pmf.getNucleusContext().getTypeManager();
+
+        attributeConverters.orderedStream()
+        .forEach(attributeConverter->{
+            val converterClass = ClassUtils.getUserClass(attributeConverter);
+            val memberAndDatastoreType = GenericTypeResolver
+                    .resolveTypeArguments(converterClass, AttributeConverter.class);
+            typeManager.registerConverter(
+                    converterClass.getName(), 
+                    new JDOTypeConverter(attributeConverter), 
+                    memberAndDatastoreType != null ? memberAndDatastoreType[0] : null, 
+                    memberAndDatastoreType != null ? memberAndDatastoreType[1] : null, 
+                    false, 
+                    null);
+        });
+    }
+
     private static void integrateWithApplicationLayer(
             final MetaModelContext metaModelContext,
             final EventBusService eventBusService,
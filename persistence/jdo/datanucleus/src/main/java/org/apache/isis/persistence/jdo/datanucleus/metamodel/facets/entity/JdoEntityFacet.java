@@ -19,20 +19,31 @@
 package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOHelper;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.IdentityType;
+import javax.jdo.identity.SingleFieldIdentity;
 
+import org.datanucleus.api.jdo.JDODataStoreCache;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.exceptions.NucleusObjectNotFoundException;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 
 import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.isis.applib.query.AllInstancesQuery;
 import org.apache.isis.applib.query.NamedQuery;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.exceprecog.Category;
 import org.apache.isis.applib.services.exceprecog.ExceptionRecognizerService;
 import org.apache.isis.applib.services.repository.EntityState;
@@ -53,6 +64,7 @@
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
+import org.apache.isis.core.transaction.entitycache.EntityCache;
 import org.apache.isis.persistence.jdo.datanucleus.entities.DnEntityStateProvider;
 import org.apache.isis.persistence.jdo.datanucleus.metamodel.JdoMetamodelUtil;
 import org.apache.isis.persistence.jdo.datanucleus.oid.JdoObjectIdSerializer;
@@ -71,6 +83,7 @@
     @Inject private TransactionService txService;
     @Inject private ObjectManager objectManager;
     @Inject private ExceptionRecognizerService exceptionRecognizerService;
+    @Inject private EntityCache entityCache;
 
     public JdoEntityFacet(
             final FacetHolder holder) {
@@ -137,7 +150,22 @@ public ManagedObject fetchByIdentifier(
             val entityClass = entitySpec.getCorrespondingClass();
             val fetchPlan = persistenceManager.getFetchPlan();
             fetchPlan.addGroup(FetchGroup.DEFAULT);
-            entityPojo = persistenceManager.getObjectById(entityClass, primaryKey);
+
+            val entityCache = getEntityCache();
+            if(entityCache.isCachingEnabled(entitySpec)) {
+                val bookmark = Bookmark.of(rootOid.getLogicalTypeName(), identifier);
+                entityPojo = entityCache
+                        .lookup(bookmark, __->fetchFromLevel2Cache(persistenceManager, entityClass, primaryKey))
+                        .orElse(null);
+                if(entityPojo == null) {
+                    entityPojo = persistenceManager.getObjectById(entityClass, primaryKey);
+                    if(entityPojo != null) {
+                        entityCache.put(bookmark);
+                    }
+                }
+            } else {
+                entityPojo = persistenceManager.getObjectById(entityClass, primaryKey);
+            }
 
         } catch (final RuntimeException e) {
 
@@ -161,6 +189,83 @@ public ManagedObject fetchByIdentifier(
         return ManagedObject.identified(actualEntitySpec, entityPojo, rootOid);
     }
 
+    /**
+     * Fetches the entities not held by the {@link EntityCache} using 
+     * {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)};
+     * if any of these cannot be found, falls back to fetching those one by one.
+     */
+    @Override
+    public Map<String, ManagedObject> fetchByIdentifiers(
+            final @NonNull ObjectSpecification entitySpec,
+            final @NonNull Can<String> identifiers) {
+
+        _Assert.assertTrue(entitySpec.isEntity());
+
+        log.debug("fetchEntities; logicalType={}, identifiers={}", entitySpec.getLogicalTypeName(), identifiers);
+
+        val persistenceManager = getPersistenceManager();
+        val entityClass = entitySpec.getCorrespondingClass();
+        val fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+
+        val entityCache = getEntityCache();
+        val cachingEnabled = entityCache.isCachingEnabled(entitySpec);
+
+        final Map<String, Object> entityPojosByIdentifier = new HashMap<>();
+        final Map<String, Object> objectIdsToFetch = new LinkedHashMap<>();
+
+        for (val identifier : identifiers) {
+            val rootOid = Oid.Factory.root(entitySpec.getLogicalType(), identifier);
+            val primaryKey = JdoObjectIdSerializer.toJdoObjectId(entitySpec, rootOid);
+            if(cachingEnabled) {
+                val cached = entityCache.lookup(
+                        Bookmark.of(rootOid.getLogicalTypeName(), identifier), 
+                        __->fetchFromLevel2Cache(persistenceManager, entityClass, primaryKey));
+                if(cached.isPresent()) {
+                    entityPojosByIdentifier.put(identifier, cached.get());
+                    continue;
+                }
+            }
+            objectIdsToFetch.put(identifier, newObjectId(persistenceManager, entityClass, primaryKey));
+        }
+
+        if(!objectIdsToFetch.isEmpty()) {
+            try {
+                val iterator = persistenceManager.getObjectsById(objectIdsToFetch.values(), true).iterator();
+                for (val identifier : objectIdsToFetch.keySet()) {
+                    entityPojosByIdentifier.put(identifier, iterator.next());
+                }
+            } catch (JDOObjectNotFoundException | NucleusObjectNotFoundException e) {
+                // at least one is missing
+                objectIdsToFetch.forEach((identifier, objectId)->{
+                    try {
+                        entityPojosByIdentifier.put(identifier, persistenceManager.getObjectById(objectId, true));
+                    } catch (JDOObjectNotFoundException | NucleusObjectNotFoundException ex) {
+                        // ignore
+                    }
+                });
+            }
+            if(cachingEnabled) {
+                objectIdsToFetch.keySet().stream()
+                .filter(entityPojosByIdentifier::containsKey)
+                .forEach(identifier->entityCache.put(Bookmark.of(entitySpec.getLogicalTypeName(), identifier)));
+            }
+        }
+
+        final Map<String, ManagedObject> entitiesByIdentifier = new LinkedHashMap<>();
+        for (val identifier : identifiers) {
+            val entityPojo = entityPojosByIdentifier.get(identifier);
+            if(entityPojo == null) {
+                continue;
+            }
+            val actualEntitySpec = getSpecificationLoader().loadSpecification(entityPojo.getClass());
+            getServiceInjector().injectServicesInto(entityPojo); // might be redundant
+            entitiesByIdentifier.put(identifier, ManagedObject.identified(actualEntitySpec, entityPojo, 
+                    Oid.Factory.root(entitySpec.getLogicalType(), identifier)));
+        }
+        return entitiesByIdentifier;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query) {
         if(!spec.isEntity()) {
@@ -306,6 +411,11 @@ public EntityState getEntityState(Object pojo) {
         return DnEntityStateProvider.entityState(pojo);
     }
 
+    @Override
+    public Optional<Object> versionOf(Object pojo) {
+        return Optional.ofNullable(JDOHelper.getVersion(pojo));
+    }
+
     @Override
     public <T> T detach(T pojo) {
         return getPersistenceManager().detachCopy(pojo);
@@ -313,6 +423,54 @@ public <T> T detach(T pojo) {
 
     // -- HELPER
 
+    /**
+     * If held by DataNucleus' level 2 cache, returns the entity without 
+     * validating its existence against the database. 
+     */
+    private static Optional<Object> fetchFromLevel2Cache(
+            final PersistenceManager persistenceManager,
+            final Class<?> entityClass,
+            final Object primaryKey) {
+        val dataStoreCache = persistenceManager.getPersistenceManagerFactory().getDataStoreCache();
+        if(!(dataStoreCache instanceof JDODataStoreCache)) {
+            return Optional.empty();
+        }
+        val objectId = newObjectId(persistenceManager, entityClass, primaryKey);
+        if(!((JDODataStoreCache) dataStoreCache).getLevel2Cache().containsOid(objectId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(persistenceManager.getObjectById(objectId, false));
+    }
+
+    /**
+     * Resolves the primary key (as decoded by {@link JdoObjectIdSerializer}) to 
+     * an object id, the same way {@link PersistenceManager#getObjectById(Class, Object)} 
+     * does; in particular, the key of a datastore identity is not a valid 
+     * object id string by itself.
+     */
+    private static Object newObjectId(
+            final PersistenceManager persistenceManager,
+            final Class<?> entityClass,
+            final Object primaryKey) {
+        if(primaryKey instanceof SingleFieldIdentity) {
+            return primaryKey;
+        }
+        if(primaryKey instanceof String
+                && !((String) primaryKey).contains("[OID]")
+                && isDatastoreIdentity(persistenceManager, entityClass)) {
+            return persistenceManager.newObjectIdInstance(entityClass, primaryKey + "[OID]" + entityClass.getName());
+        }
+        return persistenceManager.newObjectIdInstance(entityClass, primaryKey);
+    }
+
+    private static boolean isDatastoreIdentity(
+            final PersistenceManager persistenceManager,
+            final Class<?> entityClass) {
+        val typeMetadata = persistenceManager.getPersistenceManagerFactory().getMetadata(entityClass.getName());
+        return typeMetadata != null
+                && typeMetadata.getIdentityType() == IdentityType.DATASTORE;
+    }
+
     private static boolean isPersistableType(Class<?> type) {
         return Persistable.class.isAssignableFrom(type);
     }
@@ -337,6 +495,13 @@ private PersistenceManager getPersistenceManager() {
         return pmf.getPersistenceManagerFactory().getPersistenceManager();
     }
 
+    private EntityCache getEntityCache() {
+        if(entityCache==null) {
+            getFacetHolder().getServiceInjector().injectServicesInto(this);
+        }
+        return entityCache;
+    }
+
     private TransactionalProcessor getTransactionalProcessor() {
         if(txService==null) {
             getFacetHolder().getServiceInjector().injectServicesInto(this);
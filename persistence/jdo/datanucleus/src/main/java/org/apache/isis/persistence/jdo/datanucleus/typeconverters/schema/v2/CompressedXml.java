@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.commons.internal.base._Bytes;
+
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Compact text representation of the XML of a DTO, for storage in the same
+ * (CLOB) columns that otherwise hold the plain XML.
+ *
+ * <p>
+ *     The compressed form is the gzip compressed, base64 encoded XML, prefixed
+ *     with {@link #PREFIX_V1}. As XML never starts with that prefix, plain XML
+ *     (as written by earlier versions) can be read alongside; any future
+ *     encoding is to use a new prefix.
+ * </p>
+ *
+ * @since 2.0
+ */
+@UtilityClass
+class CompressedXml {
+
+    static final String PREFIX_V1 = "isis:gz1:";
+
+    static String compress(final @Nullable String xml) {
+        if(xml == null) {
+            return null;
+        }
+        try {
+            val bos = new ByteArrayOutputStream(xml.length() / 8 + 64);
+            try(val gzip = new GZIPOutputStream(bos)) {
+                gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+            }
+            return PREFIX_V1 + Base64.getEncoder().encodeToString(bos.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * @param datastoreValue - either plain or compressed XML
+     * @return plain XML
+     */
+    static String toXml(final @Nullable String datastoreValue) {
+        if(datastoreValue == null
+                || !datastoreValue.startsWith(PREFIX_V1)) {
+            return datastoreValue;
+        }
+        val compressed = Base64.getDecoder().decode(datastoreValue.substring(PREFIX_V1.length()));
+        try(val gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(_Bytes.of(gzip), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
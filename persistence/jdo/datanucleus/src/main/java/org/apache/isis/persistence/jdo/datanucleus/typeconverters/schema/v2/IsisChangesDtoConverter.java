@@ -24,6 +24,9 @@
 import org.apache.isis.schema.chg.v2.ChangesDto;
 
 /**
+ * Stores the DTO as XML; reads both plain XML and the compressed form
+ * written by {@link IsisChangesDtoCompressedConverter}.
+ *
  * @since 2.0 {@index}
  */
 public class IsisChangesDtoConverter implements TypeConverter<ChangesDto, String>{
@@ -40,7 +43,7 @@ public String toDatastoreType(final ChangesDto memberValue) {
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? ChangesDtoUtils.fromXml(datastoreValue)
+                ? ChangesDtoUtils.fromXml(CompressedXml.toXml(datastoreValue))
                         : null;
     }
 
@@ -0,0 +1,44 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
+
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+/**
+ * Stores the DTO as gzip compressed (and base64 encoded) XML, typically a
+ * fraction of the size of the plain XML; reads both forms, so can be applied
+ * to a column already holding plain XML.
+ *
+ * <p>
+ *     Opt in per column using
+ *     <code>@Extension(vendorName="datanucleus", key="type-converter-name", value="isis.commanddtov2-compressedstring")</code>.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public class IsisCommandDtoCompressedConverter extends IsisCommandDtoConverter {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String toDatastoreType(final CommandDto memberValue) {
+        return CompressedXml.compress(super.toDatastoreType(memberValue));
+    }
+
+}
@@ -24,6 +24,9 @@
 import org.apache.isis.schema.cmd.v2.CommandDto;
 
 /**
+ * Stores the DTO as XML; reads both plain XML and the compressed form
+ * written by {@link IsisCommandDtoCompressedConverter}.
+ *
  * @since 2.0 {@index}
  */
 public class IsisCommandDtoConverter implements TypeConverter<CommandDto, String>{
@@ -40,7 +43,7 @@ public String toDatastoreType(final CommandDto memberValue) {
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? CommandDtoUtils.fromXml(datastoreValue)
+                ? CommandDtoUtils.fromXml(CompressedXml.toXml(datastoreValue))
                         : null;
     }
 
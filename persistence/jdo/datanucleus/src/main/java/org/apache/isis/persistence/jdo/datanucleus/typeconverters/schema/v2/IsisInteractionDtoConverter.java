@@ -24,6 +24,9 @@
 import org.apache.isis.schema.ixn.v2.InteractionDto;
 
 /**
+ * Stores the DTO as XML; reads both plain XML and the compressed form
+ * written by {@link IsisInteractionDtoCompressedConverter}.
+ *
  * @since 2.0 {@index}
  */
 public class IsisInteractionDtoConverter implements TypeConverter<InteractionDto, String>{
@@ -40,7 +43,7 @@ public String toDatastoreType(final InteractionDto memberValue) {
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? InteractionDtoUtils.fromXml(datastoreValue)
+                ? InteractionDtoUtils.fromXml(CompressedXml.toXml(datastoreValue))
                         : null;
     }
 
@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.cmd.v2.ParamDto;
+import org.apache.isis.schema.cmd.v2.ParamsDto;
+import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+import org.apache.isis.schema.common.v2.ValueType;
+
+import lombok.val;
+
+class IsisCommandDtoCompressedConverterTest {
+
+    private final IsisCommandDtoConverter plainConverter = new IsisCommandDtoConverter();
+    private final IsisCommandDtoCompressedConverter compressedConverter = new IsisCommandDtoCompressedConverter();
+
+    @Test
+    void roundtrip() {
+        val commandDto = newCommandDto();
+
+        val stored = compressedConverter.toDatastoreType(commandDto);
+
+        assertTrue(stored.startsWith(CompressedXml.PREFIX_V1));
+        assertEquals(
+                CommandDtoUtils.toXml(commandDto),
+                CommandDtoUtils.toXml(compressedConverter.toMemberType(stored)));
+    }
+
+    @Test
+    void is_smaller_than_plain_xml() {
+        val commandDto = newCommandDto();
+
+        val plain = plainConverter.toDatastoreType(commandDto);
+        val compressed = compressedConverter.toDatastoreType(commandDto);
+
+        assertTrue(compressed.length() < plain.length() / 2,
+                () -> String.format("compressed %d chars, plain %d chars", compressed.length(), plain.length()));
+    }
+
+    @Test
+    void reads_plain_xml_alongside() {
+        val commandDto = newCommandDto();
+        val plain = plainConverter.toDatastoreType(commandDto);
+        val compressed = compressedConverter.toDatastoreType(commandDto);
+
+        // either converter reads either form
+        assertEquals(plain, plainConverter.toDatastoreType(compressedConverter.toMemberType(plain)));
+        assertEquals(plain, plainConverter.toDatastoreType(plainConverter.toMemberType(compressed)));
+    }
+
+    @Test
+    void when_null() {
+        assertNull(compressedConverter.toDatastoreType(null));
+        assertNull(compressedConverter.toMemberType(null));
+    }
+
+    private static CommandDto newCommandDto() {
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUser("sven");
+        dto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(1_000L)));
+
+        val target = new OidDto();
+        target.setType("customer.Customer");
+        target.setId("123");
+        dto.setTargets(new OidsDto());
+        dto.getTargets().getOid().add(target);
+
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        actionDto.setMemberIdentifier("customer.dom.Customer#placeOrder()");
+        actionDto.setParameters(new ParamsDto());
+        for (int i = 0; i < 5; i++) {
+            val paramDto = new ParamDto();
+            paramDto.setName("quantity" + i);
+            paramDto.setType(ValueType.INT);
+            paramDto.setInt(i);
+            actionDto.getParameters().getParameter().add(paramDto);
+        }
+        dto.setMember(actionDto);
+        return dto;
+    }
+
+}
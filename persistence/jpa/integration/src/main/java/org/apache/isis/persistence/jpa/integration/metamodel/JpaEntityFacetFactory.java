@@ -18,13 +18,23 @@
  */
 package org.apache.isis.persistence.jpa.integration.metamodel;
 
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.springframework.data.jpa.repository.JpaContext;
 
@@ -32,6 +42,7 @@
 import org.apache.isis.applib.query.AllInstancesQuery;
 import org.apache.isis.applib.query.NamedQuery;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.registry.ServiceRegistry;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
@@ -51,6 +62,7 @@
 import org.apache.isis.core.metamodel.facets.object.entity.PersistenceStandard;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.transaction.entitycache.EntityCache;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -149,7 +161,23 @@ public ManagedObject fetchByIdentifier(
             
             val primaryKey = getObjectIdSerializer().parse(identifier);
             val entityManager = getEntityManager();
-            val entityPojo = entityManager.find(entityClass, primaryKey);
+            
+            Object entityPojo;
+            val entityCache = getEntityCache();
+            if(entityCache.isCachingEnabled(entitySpec)) {
+                val bookmark = Bookmark.of(entitySpec.getLogicalTypeName(), identifier);
+                entityPojo = entityCache
+                        .lookup(bookmark, __->fetchFromLevel2Cache(entityManager, primaryKey))
+                        .orElse(null);
+                if(entityPojo == null) {
+                    entityPojo = entityManager.find(entityClass, primaryKey);
+                    if(entityPojo != null) {
+                        entityCache.put(bookmark);
+                    }
+                }
+            } else {
+                entityPojo = entityManager.find(entityClass, primaryKey);
+            }
             
             if (entityPojo == null) {
                 throw new ObjectNotFoundException(""+identifier);
@@ -158,6 +186,82 @@ public ManagedObject fetchByIdentifier(
             return ManagedObject.of(entitySpec, entityPojo);
         }
 
+        /**
+         * Fetches the entities not held by the {@link EntityCache} using a single 
+         * query, restricting the primary key to the identifiers given; 
+         * entity types that have no single id attribute (eg. use an {@code @IdClass}) 
+         * are fetched one by one.
+         */
+        @Override
+        public Map<String, ManagedObject> fetchByIdentifiers(
+                final @NonNull ObjectSpecification entitySpec,
+                final @NonNull Can<String> identifiers) {
+            
+            final String idAttributeName = getSingleIdAttributeName().orElse(null);
+            if(idAttributeName == null) {
+                return EntityFacet.super.fetchByIdentifiers(entitySpec, identifiers);
+            }
+            
+            log.debug("fetchEntities; logicalType={}, identifiers={}", entitySpec.getLogicalTypeName(), identifiers);
+            
+            final EntityManager entityManager = getEntityManager();
+            final EntityCache entityCache = getEntityCache();
+            final boolean cachingEnabled = entityCache.isCachingEnabled(entitySpec);
+            
+            final Map<String, Object> entityPojosByIdentifier = new HashMap<>();
+            final Map<Object, String> identifiersToFetchByPrimaryKey = new LinkedHashMap<>();
+            
+            for (String identifier : identifiers) {
+                final Object primaryKey = getObjectIdSerializer().parse(identifier);
+                if(cachingEnabled) {
+                    final Optional<Object> cached = entityCache.lookup(
+                            Bookmark.of(entitySpec.getLogicalTypeName(), identifier), 
+                            __->fetchFromLevel2Cache(entityManager, primaryKey));
+                    if(cached.isPresent()) {
+                        entityPojosByIdentifier.put(identifier, cached.get());
+                        continue;
+                    }
+                }
+                identifiersToFetchByPrimaryKey.put(primaryKey, identifier);
+            }
+            
+            if(!identifiersToFetchByPrimaryKey.isEmpty()) {
+                
+                final Class<Object> type = _Casts.uncheckedCast(entityClass); 
+                final CriteriaQuery<Object> cr = entityManager.getCriteriaBuilder().createQuery(type);
+                final Root<Object> root = cr.from(type);
+                cr.select(root)
+                    .where(root.get(idAttributeName).in(identifiersToFetchByPrimaryKey.keySet()));
+                
+                final PersistenceUnitUtil persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+                
+                // identifiers not found are simply absent from the query's result
+                entityManager.createQuery(cr).getResultStream()
+                .forEach(entityPojo->{
+                    final String identifier = identifiersToFetchByPrimaryKey.get(persistenceUnitUtil.getIdentifier(entityPojo));
+                    if(identifier != null) {
+                        entityPojosByIdentifier.put(identifier, entityPojo);
+                    }
+                });
+                
+                if(cachingEnabled) {
+                    identifiersToFetchByPrimaryKey.values().stream()
+                    .filter(entityPojosByIdentifier::containsKey)
+                    .forEach(identifier->entityCache.put(Bookmark.of(entitySpec.getLogicalTypeName(), identifier)));
+                }
+            }
+            
+            final Map<String, ManagedObject> entitiesByIdentifier = new LinkedHashMap<>();
+            for (String identifier : identifiers) {
+                final Object entityPojo = entityPojosByIdentifier.get(identifier);
+                if(entityPojo == null) {
+                    continue;
+                }
+                entitiesByIdentifier.put(identifier, ManagedObject.of(entitySpec, entityPojo));
+            }
+            return entitiesByIdentifier;
+        }
+
         @Override
         public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query) {
             
@@ -306,12 +410,42 @@ public boolean isProxyEnhancement(Method method) {
             return false;
         }
 
+        /**
+         * Reads the entity's {@code @Version} attribute, if any.
+         */
+        @Override
+        public Optional<Object> versionOf(Object pojo) {
+            if(pojo==null
+                    || !entityClass.isAssignableFrom(pojo.getClass())) {
+                return Optional.empty();
+            }
+            return getVersionMember()
+                    .map(member->readMember(member, pojo));
+        }
+
         @Override
         public <T> T detach(T pojo) {
             getEntityManager().detach(pojo);
             return pojo;
         }
         
+        // -- HELPER
+        
+        /**
+         * If held by the JPA provider's shared (second level) cache, returns the entity 
+         * without validating its existence against the database. 
+         */
+        private Optional<Object> fetchFromLevel2Cache(
+                final EntityManager entityManager,
+                final Object primaryKey) {
+            val cache = entityManager.getEntityManagerFactory().getCache();
+            if(cache == null
+                    || !cache.contains(entityClass, primaryKey)) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(entityManager.find(entityClass, primaryKey));
+        }
+        
         // -- JPA METAMODEL
         
         private final _Lazy<Optional<EntityType<?>>> jpaEntityTypeRef = _Lazy.threadSafe(this::queryJpaMetamodel);
@@ -329,6 +463,55 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
             .findFirst();
         }
         
+        /** name of the id attribute, unless the primary key spans multiple attributes (eg. uses an {@code @IdClass}) */
+        private Optional<String> getSingleIdAttributeName() {
+            final EntityType<?> entityType = getJpaEntityType(); 
+            if(!entityType.hasSingleIdAttribute()) {
+                return Optional.empty();
+            }
+            return entityType.getSingularAttributes()
+                    .stream()
+                    .filter(SingularAttribute::isId)
+                    .<String>map(SingularAttribute::getName)
+                    .findFirst();
+        }
+        
+        private final _Lazy<Optional<Member>> versionMemberRef = _Lazy.threadSafe(this::findVersionMember);
+        
+        private Optional<Member> getVersionMember() {
+            return versionMemberRef.get();
+        }
+        
+        /** the field or getter of the entity's {@code @Version} attribute, if any */
+        private Optional<Member> findVersionMember() {
+            final EntityType<?> entityType = getJpaEntityType(); 
+            if(!entityType.hasVersionAttribute()) {
+                return Optional.empty();
+            }
+            return entityType.getSingularAttributes()
+                    .stream()
+                    .filter(SingularAttribute::isVersion)
+                    .<Member>map(SingularAttribute::getJavaMember)
+                    .filter(member->member instanceof Field || member instanceof Method)
+                    .findFirst()
+                    .map(JpaEntityFacet::makeAccessible);
+        }
+        
+        private static Member makeAccessible(final Member member) {
+            ((AccessibleObject)member).setAccessible(true);
+            return member;
+        }
+        
+        private static Object readMember(final Member member, final Object pojo) {
+            try {
+                return member instanceof Field
+                        ? ((Field)member).get(pojo)
+                        : ((Method)member).invoke(pojo);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+        }
+        
         // -- OBJECT ID SERIALIZATION
         
         private final _Lazy<JpaObjectIdSerializer<Object>> objectIdSerializerRef = _Lazy.threadSafe(this::createObjectIdSerializer);
@@ -352,6 +535,10 @@ protected EntityManager getEntityManager() {
             return getJpaContext().getEntityManagerByManagedType(entityClass);
         }
         
+        protected EntityCache getEntityCache() {
+            return serviceRegistry.lookupServiceElseFail(EntityCache.class);
+        }
+        
         protected PersistenceUnitUtil getPersistenceUnitUtil(EntityManager entityManager) {
             return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
         }
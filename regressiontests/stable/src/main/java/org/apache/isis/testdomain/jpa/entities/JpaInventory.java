@@ -28,6 +28,7 @@
 import javax.persistence.JoinColumn;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
+import javax.persistence.Version;
 
 import org.apache.isis.applib.annotation.DomainObject;
 import org.apache.isis.applib.annotation.Property;
@@ -64,6 +65,9 @@ public String title() {
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     @Property
     @Column(nullable = true)
     private @Getter @Setter String name;
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.model.rendering;
+
+import java.math.BigDecimal;
+
+import javax.validation.constraints.Digits;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.apache.isis.applib.annotation.Action;
+import org.apache.isis.applib.annotation.DomainObject;
+import org.apache.isis.applib.annotation.Editing;
+import org.apache.isis.applib.annotation.Nature;
+import org.apache.isis.applib.annotation.Property;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Has hidden (depending on its state) and disabled members, to compare
+ * domain object representations rendered by the RO viewer.
+ */
+@XmlRootElement(name = "RenderingDemo")
+@XmlType
+@XmlAccessorType(XmlAccessType.FIELD)
+@DomainObject(nature=Nature.VIEW_MODEL, objectType="regressiontests.RenderingDemo", editing=Editing.ENABLED)
+public class RenderingDemo {
+
+    @Property
+    @XmlElement @Getter @Setter private String name;
+
+    @Property
+    @XmlElement @Getter @Setter private String nickname;
+    public boolean hideNickname() {
+        return nickname == null;
+    }
+
+    @Property(editing=Editing.DISABLED, editingDisabledReason="calculated")
+    @XmlElement @Getter @Setter private String code;
+
+    @Property
+    @Digits(integer=10, fraction=2)
+    @XmlElement @Getter @Setter private BigDecimal amount;
+
+    @Action
+    public RenderingDemo rename(final String name) {
+        setName(name);
+        return this;
+    }
+
+    @Action
+    public RenderingDemo reset() {
+        setName(null);
+        return this;
+    }
+    public boolean hideReset() {
+        return true;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import java.util.Arrays;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.bookmark.BookmarkService;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.jdo.entities.JdoBook;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import static org.apache.isis.testdomain.persistence.jdo._TestFixtures.setUp3Books;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = { 
+                Configuration_usingJdo.class,
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JdoBookmarkLookupTest extends IsisIntegrationTestAbstract {
+
+    @Inject private BookmarkService bookmarkService;
+
+    @Test
+    void lookupAll_shouldPreserveOrder() {
+
+        setUp3Books(repositoryService);
+
+        val books = repositoryService.allInstances(JdoBook.class);
+        assertEquals(3, books.size());
+
+        val bookmarks = Arrays.asList(
+                bookmarkService.bookmarkForElseThrow(books.get(2)),
+                bookmarkService.bookmarkForElseThrow(books.get(0)),
+                bookmarkService.bookmarkForElseThrow(books.get(1)),
+                bookmarkService.bookmarkForElseThrow(books.get(0)));
+
+        val lookedUp = bookmarkService.lookupAll(bookmarks);
+
+        assertEquals(Arrays.asList(books.get(2), books.get(0), books.get(1), books.get(0)), lookedUp);
+    }
+
+    @Test
+    void lookupAll_shouldResolveNullMissingAndUnknownToNull() {
+
+        setUp3Books(repositoryService);
+
+        val books = repositoryService.allInstances(JdoBook.class);
+        val bookmark = bookmarkService.bookmarkForElseThrow(books.get(0));
+        val missing = Bookmark.of(bookmark.getLogicalTypeName(), 
+                bookmark.getIdentifier().replaceFirst("\\d+", "999999"));
+        val unknown = Bookmark.of("testdomain.jdo.Unknown", bookmark.getIdentifier()); 
+
+        val lookedUp = bookmarkService.lookupAll(Arrays.asList(
+                null, missing, bookmark, unknown));
+
+        assertEquals(Arrays.asList(null, null, books.get(0), null), lookedUp);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.extensions.commandlog.impl.IsisModuleExtCommandLogImpl;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.ReplayState;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.cmd.v2.MapDto;
+import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+import org.apache.isis.schema.common.v2.PeriodDto;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Round trip of {@link CommandJdo#getCommandDto()} through the database, stored as plain XML by default.
+ * @see JdoCommandDtoStorageTest_compressed
+ */
+@SpringBootTest(
+        classes = { 
+                Configuration_usingJdo.class,
+                IsisModuleExtCommandLogImpl.class,
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JdoCommandDtoStorageTest extends IsisIntegrationTestAbstract {
+
+    @Inject private JdoSupportService jdoSupport;
+
+    @Test
+    void commandDto_shouldBeStoredAsPlainXml_andReadBack() {
+
+        val commandDto = newCommandDto();
+        val commandJdo = repositoryService.persistAndFlush(
+                new CommandJdo(commandDto, ReplayState.UNDEFINED, 0));
+
+        val stored = storedCommandDto(jdoSupport, commandDto);
+        assertEquals(CommandDtoUtils.toXml(commandDto), stored);
+
+        assertEquals(CommandDtoUtils.toXml(commandDto), CommandDtoUtils.toXml(readBack(jdoSupport, commandJdo)));
+    }
+
+    // -- HELPER
+
+    static CommandDto newCommandDto() {
+        val commandDto = new CommandDto();
+        commandDto.setMajorVersion("2");
+        commandDto.setMinorVersion("0");
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        commandDto.setUser("sven");
+        commandDto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(1_000L)));
+
+        val oidDto = new OidDto();
+        oidDto.setType("testdomain.jdo.Book");
+        oidDto.setId("1");
+        commandDto.setTargets(new OidsDto());
+        commandDto.getTargets().getOid().add(oidDto);
+
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("testdomain.jdo.Book#changeName");
+        commandDto.setMember(actionDto);
+
+        val timings = new PeriodDto();
+        timings.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(1_000L)));
+        timings.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(2_000L)));
+        commandDto.setTimings(timings);
+        commandDto.setUserData(new MapDto());
+        return commandDto;
+    }
+
+    /**
+     * The column's value, as held by the database.
+     */
+    static String storedCommandDto(final JdoSupportService jdoSupport, final CommandDto commandDto) {
+        val query = jdoSupport.getPersistenceManager().newQuery("javax.jdo.query.SQL",
+                "SELECT \"commandDto\" FROM \"isisExtensionsCommandLog\".\"Command\" WHERE \"interactionId\" = ?");
+        query.setResultClass(String.class);
+        query.setUnique(true);
+        val stored = (String) query.execute(commandDto.getInteractionId());
+        assertTrue(stored != null && !stored.isEmpty());
+        return stored;
+    }
+
+    /**
+     * The command DTO, re-read from the database.
+     */
+    static CommandDto readBack(final JdoSupportService jdoSupport, final CommandJdo commandJdo) {
+        jdoSupport.getPersistenceManager().refresh(commandJdo);
+        return commandJdo.getCommandDto();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jdo;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.extensions.commandlog.impl.IsisModuleExtCommandLogImpl;
+import org.apache.isis.extensions.commandlog.impl.jdo.CommandJdo;
+import org.apache.isis.extensions.commandlog.impl.jdo.ReplayState;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import static org.apache.isis.testdomain.persistence.jdo.JdoCommandDtoStorageTest.newCommandDto;
+import static org.apache.isis.testdomain.persistence.jdo.JdoCommandDtoStorageTest.readBack;
+import static org.apache.isis.testdomain.persistence.jdo.JdoCommandDtoStorageTest.storedCommandDto;
+
+import lombok.val;
+
+/**
+ * Round trip of {@link CommandJdo#getCommandDto()} through the database, stored compressed as configured.
+ * @see JdoCommandDtoStorageTest
+ */
+@SpringBootTest(
+        classes = { 
+                Configuration_usingJdo.class,
+                IsisModuleExtCommandLogImpl.class,
+        },
+        properties = {
+                "isis.extensions.command-log.compress-command-dto=true",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JdoCommandDtoStorageTest_compressed extends IsisIntegrationTestAbstract {
+
+    @Inject private JdoSupportService jdoSupport;
+
+    @Test
+    void commandDto_shouldBeStoredCompressed_andReadBack() {
+
+        val commandDto = newCommandDto();
+        val commandJdo = repositoryService.persistAndFlush(
+                new CommandJdo(commandDto, ReplayState.UNDEFINED, 0));
+
+        val stored = storedCommandDto(jdoSupport, commandDto);
+        assertFalse(stored.startsWith("<"));
+        assertFalse(stored.contains(commandDto.getInteractionId()));
+
+        assertEquals(CommandDtoUtils.toXml(commandDto), CommandDtoUtils.toXml(readBack(jdoSupport, commandJdo)));
+    }
+
+}
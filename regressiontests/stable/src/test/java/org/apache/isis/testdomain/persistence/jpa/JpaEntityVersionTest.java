@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jpa;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.entities.JpaBook;
+import org.apache.isis.testdomain.jpa.entities.JpaInventory;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import static org.apache.isis.testdomain.persistence.jpa._TestFixtures.setUp3Books;
+
+import lombok.val;
+
+@SpringBootTest(
+        classes = { 
+                Configuration_usingJpa.class,
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JpaEntityVersionTest extends IsisIntegrationTestAbstract {
+
+    @Inject private SpecificationLoader specificationLoader;
+    @Inject private JpaSupportService jpaSupport;
+
+    @Test
+    void versionOf_shouldChange_whenVersionedEntityIsUpdated() {
+
+        setUp3Books(repositoryService);
+
+        val inventory = repositoryService.allInstances(JpaInventory.class).get(0);
+        val entityFacet = entityFacetFor(JpaInventory.class);
+
+        val version = entityFacet.versionOf(inventory);
+        assertTrue(version.isPresent());
+
+        inventory.setName("Changed Inventory");
+        jpaSupport.getEntityManagerElseFail(JpaInventory.class).flush();
+
+        assertTrue(entityFacet.versionOf(inventory).isPresent());
+        assertNotEquals(version, entityFacet.versionOf(inventory));
+    }
+
+    @Test
+    void versionOf_shouldBeEmpty_whenEntityIsNotVersioned() {
+
+        setUp3Books(repositoryService);
+
+        val book = repositoryService.allInstances(JpaBook.class).get(0);
+
+        assertFalse(entityFacetFor(JpaBook.class).versionOf(book).isPresent());
+    }
+
+    // -- HELPER
+
+    private EntityFacet entityFacetFor(final Class<?> entityClass) {
+        return specificationLoader.loadSpecification(entityClass).getFacet(EntityFacet.class);
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.rest;
+
+import java.math.BigDecimal;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.interactions.managed.ManagedProperty;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.testdomain.conf.Configuration_headless;
+import org.apache.isis.testdomain.model.rendering.Configuration_usingRendering;
+import org.apache.isis.testdomain.model.rendering.RenderingDemo;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.isis.viewer.restfulobjects.applib.Rel;
+import org.apache.isis.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.isis.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.isis.viewer.restfulobjects.rendering.IsisModuleRestfulObjectsRendering;
+import org.apache.isis.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectLinkTo;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectRenderingPlans;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.ObjectPropertyReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.domaintypes.DomainTypeReprRenderer;
+import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.isis.viewer.restfulobjects.viewer.resources.DomainObjectResourceServerside;
+import org.apache.isis.viewer.restfulobjects.viewer.resources.ResourceDescriptor;
+
+import lombok.val;
+
+/**
+ * The members of a domain object rendered using its (cached) rendering plan
+ * are the same as rendered without one, consulting the metamodel instead.
+ */
+@SpringBootTest(
+        classes = { 
+                Configuration_headless.class,
+                Configuration_usingRendering.class,
+                DomainObjectRenderingPlanTest.TestSetup.class
+        }, 
+        properties = {
+                "isis.core.meta-model.introspector.mode=FULL",
+                "isis.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+        })
+@TestPropertySource({
+    IsisPresets.SilenceMetaModel,
+    IsisPresets.SilenceProgrammingModel
+})
+class DomainObjectRenderingPlanTest extends IsisIntegrationTestAbstract {
+
+    @Inject private ObjectManager objectManager;
+    @Inject private DomainObjectResourceServerside domainObjectResourceServerside;
+    @Inject private DomainObjectRenderingPlans domainObjectRenderingPlans;
+
+    @Configuration
+    @Import({
+        IsisModuleRestfulObjectsRendering.class,
+        DomainObjectResourceServerside.class
+    })
+    static class TestSetup {
+
+    }
+
+    private IResourceContext resourceContext;
+
+    @BeforeEach
+    void setUp() {
+        val resourceDescriptor = ResourceDescriptor
+                .of(RepresentationType.DOMAIN_OBJECT, Where.OBJECT_FORMS, RepresentationService.Intent.ALREADY_PERSISTENT);
+        resourceContext = domainObjectResourceServerside.resourceContextForTesting(resourceDescriptor, /*params*/null);
+    }
+
+    @Test
+    void members_rendered_using_plan_are_same_as_rendered_generically() {
+
+        val demo = demo("Fred", null);
+        val objectAdapter = objectManager.adapt(demo);
+
+        val members = renderUsingPlan(objectAdapter).getRepresentation("members");
+
+        assertPropertiesSameAsRenderedGenerically(objectAdapter, members);
+
+        // hidden, as depends on state
+        assertFalse(members.mapHas("nickname"));
+        // disabled, the reason being rendered
+        assertEquals("calculated", members.getString("code.disabledReason"));
+        // format, as per the plan of the (value) property
+        assertEquals("big-decimal(12,2)", members.getString("amount.format"));
+        // hidden action
+        assertTrue(members.mapHas("rename"));
+        assertFalse(members.mapHas("reset"));
+    }
+
+    @Test
+    void plan_reused_for_every_object_of_specification() {
+
+        val hidingNickname = objectManager.adapt(demo("Fred", null));
+        val showingNickname = objectManager.adapt(demo("Frederick", "Freddy"));
+
+        val plan = domainObjectRenderingPlans.planFor(hidingNickname.getSpecification());
+        val first = renderUsingPlan(hidingNickname);
+        val members = renderUsingPlan(showingNickname).getRepresentation("members");
+        val again = renderUsingPlan(hidingNickname);
+
+        assertSame(plan, domainObjectRenderingPlans.planFor(showingNickname.getSpecification()));
+
+        // visibility still checked for every object
+        assertPropertiesSameAsRenderedGenerically(showingNickname, members);
+        assertEquals("Freddy", members.getString("nickname.value"));
+        assertEquals(first.asJsonNode(), again.asJsonNode());
+    }
+
+    @Test
+    void domain_type_link_same_as_rendered_generically() {
+
+        val spec = objectManager.adapt(demo("Fred", null)).getSpecification();
+
+        val href = DomainTypeReprRenderer
+                .newLinkToBuilder(resourceContext, Rel.DOMAIN_TYPE, spec)
+                .build()
+                .getString("href");
+
+        assertEquals(href, resourceContext.urlFor(domainObjectRenderingPlans.planFor(spec).getDomainTypeUrl()));
+    }
+
+    // -- HELPER
+
+    private RenderingDemo demo(final String name, final String nickname) {
+        val demo = factoryService.viewModel(RenderingDemo.class);
+        demo.setName(name);
+        demo.setNickname(nickname);
+        demo.setCode("ABC");
+        demo.setAmount(new BigDecimal("123.45"));
+        return demo;
+    }
+
+    private JsonRepresentation renderUsingPlan(final ManagedObject objectAdapter) {
+        return new DomainObjectReprRenderer(resourceContext, null, JsonRepresentation.newMap())
+                .with(objectAdapter)
+                .includesSelf()
+                .render();
+    }
+
+    private void assertPropertiesSameAsRenderedGenerically(
+            final ManagedObject objectAdapter,
+            final JsonRepresentation members) {
+
+        objectAdapter.getSpecification().streamAssociations(MixedIn.INCLUDED)
+        .filter(OneToOneAssociation.class::isInstance)
+        .map(OneToOneAssociation.class::cast)
+        .forEach(property->{
+            val visible = property
+                    .isVisible(objectAdapter, resourceContext.getInteractionInitiatedBy(), resourceContext.getWhere())
+                    .isAllowed();
+            if(!visible) {
+                assertFalse(members.mapHas(property.getId()), property.getId());
+                return;
+            }
+            val generic = new ObjectPropertyReprRenderer(
+                        resourceContext,
+                        LinkFollowSpecs.create(resourceContext.getFollowLinks()).follow("members[" + property.getId() + "]"),
+                        property.getId(),
+                        JsonRepresentation.newMap())
+                    .with(ManagedProperty.of(objectAdapter, property, resourceContext.getWhere()))
+                    .usingLinkTo(new DomainObjectLinkTo().usingUrlBase(resourceContext))
+                    .render();
+            assertEquals(generic.asJsonNode(), members.getRepresentation(property.getId()).asJsonNode(), property.getId());
+        });
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.inject.Inject;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.util.snapshot.XmlSnapshot;
+import org.apache.isis.core.metamodel.util.snapshot.XmlSnapshotWriter;
+import org.apache.isis.testdomain.conf.Configuration_headless;
+import org.apache.isis.testdomain.model.snapshot.Configuration_usingSnapshots;
+import org.apache.isis.testdomain.model.snapshot.SnapshotCustomer;
+import org.apache.isis.testdomain.model.snapshot.SnapshotOrder;
+import org.apache.isis.testdomain.model.snapshot.SnapshotOrderLine;
+import org.apache.isis.testdomain.model.snapshot.SnapshotProduct;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * The (streaming) {@link XmlSnapshotWriter} writes the same XML as the
+ * (DOM based) {@link XmlSnapshot}.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_headless.class,
+                Configuration_usingSnapshots.class
+        },
+        properties = {
+                "isis.core.meta-model.introspector.mode=FULL",
+                "isis.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+        })
+@TestPropertySource({
+    IsisPresets.SilenceMetaModel,
+    IsisPresets.SilenceProgrammingModel
+})
+class XmlSnapshotWriterTest extends IsisIntegrationTestAbstract {
+
+    @Inject private ObjectManager objectManager;
+
+    @Test
+    void writes_same_xml_as_snapshot_without_inclusions() {
+        val order = order(line("apple", 1), line("pear", 2));
+
+        assertSameXml(order);
+    }
+
+    @Test
+    void writes_same_xml_as_snapshot_with_references_and_collections_included() {
+        val order = order(line("apple", 1), line("pear", 2), line("plum", 3));
+
+        assertSameXml(order, "customer", "lines/product");
+    }
+
+    @Test
+    void writes_object_appearing_twice_within_collection_only_once() {
+        val line = line("apple", 1);
+        val order = order(line, line("pear", 2), line);
+
+        // written once, as by the snapshot (merging any further appearance into the first)
+        assertEquals(2, linesOf(snapshotXml(order, "lines")).getElementsByTagNameNS("*", "SnapshotOrderLine").getLength());
+        assertEquals(2, linesOf(writtenXml(order, "lines")).getElementsByTagNameNS("*", "SnapshotOrderLine").getLength());
+
+        assertSameXml(order, "lines");
+        assertSameXml(order, "lines/product");
+    }
+
+    // -- HELPER
+
+    private SnapshotOrder order(final SnapshotOrderLine... lines) {
+        val customer = new SnapshotCustomer();
+        customer.setName("Fred");
+        val order = new SnapshotOrder();
+        order.setNumber("ORD-1");
+        order.setCustomer(customer);
+        for (val line : lines) {
+            order.getLines().add(line);
+        }
+        return order;
+    }
+
+    private SnapshotOrderLine line(final String productName, final int quantity) {
+        val product = new SnapshotProduct();
+        product.setName(productName);
+        product.setPrice(1.5 * quantity);
+        val line = new SnapshotOrderLine();
+        line.setProduct(product);
+        line.setQuantity(quantity);
+        return line;
+    }
+
+    private void assertSameXml(final SnapshotOrder order, final String... paths) {
+        assertEquals(
+                canonical(snapshotXml(order, paths).getDocumentElement()),
+                canonical(writtenXml(order, paths).getDocumentElement()));
+    }
+
+    private Document snapshotXml(final SnapshotOrder order, final String... paths) {
+        val snapshot = new XmlSnapshot(objectManager.adapt(order));
+        for (val path : paths) {
+            snapshot.include(path);
+        }
+        return snapshot.getXmlDocument();
+    }
+
+    @SneakyThrows
+    private Document writtenXml(final SnapshotOrder order, final String... paths) {
+        val writer = new XmlSnapshotWriter(objectManager.adapt(order));
+        for (val path : paths) {
+            writer.include(path);
+        }
+        val out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+
+        val factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static Element linesOf(final Document document) {
+        return (Element) document.getDocumentElement().getElementsByTagNameNS("*", "lines").item(0);
+    }
+
+    /**
+     * Renders the element independent of where namespaces are declared, and
+     * of the order of attributes.
+     */
+    private static String canonical(final Element element) {
+        val buf = new StringBuilder();
+        appendCanonical(buf, element, 0);
+        return buf.toString();
+    }
+
+    private static void appendCanonical(final StringBuilder buf, final Element element, final int indent) {
+        for (int i = 0; i < indent; i++) {
+            buf.append("  ");
+        }
+        buf.append('{').append(element.getNamespaceURI()).append('}').append(element.getLocalName());
+
+        final Map<String, String> attributes = new TreeMap<>();
+        val attributeNodes = element.getAttributes();
+        for (int i = 0; i < attributeNodes.getLength(); i++) {
+            val attribute = attributeNodes.item(i);
+            if(XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                continue;
+            }
+            attributes.put("{" + attribute.getNamespaceURI() + "}" + attribute.getLocalName(), attribute.getNodeValue());
+        }
+        buf.append(' ').append(attributes);
+
+        val children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            val child = children.item(i);
+            if(child.getNodeType() == Node.TEXT_NODE
+                    && !child.getNodeValue().trim().isEmpty()) {
+                buf.append(" \"").append(child.getNodeValue()).append('"');
+            }
+        }
+        buf.append('\n');
+
+        for (int i = 0; i < children.getLength(); i++) {
+            val child = children.item(i);
+            if(child.getNodeType() == Node.ELEMENT_NODE) {
+                appendCanonical(buf, (Element) child, indent + 1);
+            }
+        }
+    }
+
+}
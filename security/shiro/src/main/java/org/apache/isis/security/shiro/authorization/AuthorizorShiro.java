@@ -18,6 +18,8 @@
  */
 package org.apache.isis.security.shiro.authorization;
 
+import java.util.Map;
+
 import javax.inject.Named;
 
 import org.apache.shiro.SecurityUtils;
@@ -30,11 +32,13 @@
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.security.authentication.Authentication;
 import org.apache.isis.core.security.authentication.Authenticator;
 import org.apache.isis.core.security.authorization.Authorizor;
 import org.apache.isis.security.shiro.context.ShiroSecurityContext;
 
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -55,17 +59,23 @@
 @Qualifier("Shiro")
 public class AuthorizorShiro implements Authorizor {
 
+    /**
+     * The read and write permission strings, as computed once per feature.
+     */
+    private final Map<Identifier, PermissionStrings> permissionStringsByIdentifier = 
+            _Maps.newConcurrentHashMap();
+
     @Override
     public boolean isVisible(final Authentication authentication, final Identifier identifier) {
-        return isPermitted(authentication.getUserName(), identifier, "r");
+        return isPermitted(authentication.getUserName(), permissionStringsFor(identifier).getRead());
     }
 
     @Override
     public boolean isUsable(final Authentication authentication, final Identifier identifier) {
-        return isPermitted(authentication.getUserName(), identifier, "w");
+        return isPermitted(authentication.getUserName(), permissionStringsFor(identifier).getWrite());
     }
 
-    private boolean isPermitted(String userName, Identifier identifier, String qualifier) {
+    private boolean isPermitted(String userName, String permission) {
 
         RealmSecurityManager securityManager = getSecurityManager();
         if(securityManager == null) {
@@ -75,7 +85,6 @@ private boolean isPermitted(String userName, Identifier identifier, String quali
         }
 
         final Subject subject = SecurityUtils.getSubject();
-        final String permission = asPermissionsString(identifier) + ":" + qualifier;
 
         try {
             //_Assert.assertEquals(userName, subject.getPrincipal().toString()); ... does not work
@@ -85,9 +94,24 @@ private boolean isPermitted(String userName, Identifier identifier, String quali
         }
     }
 
-    private String asPermissionsString(Identifier identifier) {
-        val logicalTypeName = identifier.getLogicalType().getLogicalTypeNameFormatted(":", ":");
-        return logicalTypeName + ":" + identifier.getMemberName();
+    private PermissionStrings permissionStringsFor(Identifier identifier) {
+        return permissionStringsByIdentifier.computeIfAbsent(identifier, PermissionStrings::of);
+    }
+
+    @Value
+    private static class PermissionStrings {
+        private final String read;
+        private final String write;
+
+        static PermissionStrings of(Identifier identifier) {
+            val permissionsString = asPermissionsString(identifier);
+            return new PermissionStrings(permissionsString + ":r", permissionsString + ":w");
+        }
+
+        private static String asPermissionsString(Identifier identifier) {
+            val logicalTypeName = identifier.getLogicalType().getLogicalTypeNameFormatted(":", ":");
+            return logicalTypeName + ":" + identifier.getMemberName();
+        }
     }
 
     // -- DEPS
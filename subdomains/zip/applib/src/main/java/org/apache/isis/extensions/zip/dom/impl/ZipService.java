@@ -18,26 +18,36 @@
  */
 package org.apache.isis.extensions.zip.dom.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.exceptions.UnrecoverableException;
-import org.apache.isis.commons.internal.base._Bytes;
 
 import lombok.Data;
+import lombok.NonNull;
 import lombok.val;
 
 @Service
 public class ZipService {
 
+    private static final int BUFFER_SIZE = 8 * 1024;
+
     @Data
     public static class FileAndName {
         private final String name;
@@ -49,25 +59,25 @@ public static class FileAndName {
      * we explicitly provide the name to use (in the ZipEntry).
      */
     public byte[] zipNamedFiles(final List<FileAndName> fileAndNameList) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        zipNamedFiles(fileAndNameList.stream(), baos);
+        return baos.toByteArray();
+    }
 
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final ZipOutputStream zos = new ZipOutputStream(baos);
-
-            for (val fileAndName : fileAndNameList) {
-                zos.putNextEntry(new ZipEntry(fileAndName.getName()));
-                
-                try(val fis = new FileInputStream(fileAndName.getFile())){
-                    zos.write(_Bytes.of(fis));
-                }
-                
-                zos.closeEntry();
-            }
-            zos.close();
-            return baos.toByteArray();
-        } catch (final IOException ex) {
-            throw new UnrecoverableException("Unable to create zip", ex);
-        }
+    /**
+     * As per {@link #zipNamedFiles(List)}, but streaming the archive to the given {@link OutputStream},
+     * reading each file only when its entry is written.
+     *
+     * <p>
+     *     The {@link OutputStream} is not closed.
+     * </p>
+     */
+    public void zipNamedFiles(final Stream<FileAndName> fileAndNames, final OutputStream target) {
+        zipNamedContent(fileAndNames
+                .map(fileAndName -> new ContentAndName(
+                        fileAndName.getName(),
+                        () -> new FileInputStream(fileAndName.getFile()))),
+                target);
     }
 
     /**
@@ -93,23 +103,147 @@ public static class BytesAndName {
      * @param bytesAndNameList
      */
     public byte[] zipNamedBytes(final List<BytesAndName> bytesAndNameList) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        zipNamedBytes(bytesAndNameList.stream(), baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * As per {@link #zipNamedBytes(List)}, but streaming the archive to the given {@link OutputStream}.
+     *
+     * <p>
+     *     The {@link OutputStream} is not closed.
+     * </p>
+     */
+    public void zipNamedBytes(final Stream<BytesAndName> bytesAndNames, final OutputStream target) {
+        zipNamedContent(bytesAndNames
+                .map(ban -> new ContentAndName(
+                        ban.getName(),
+                        () -> new ByteArrayInputStream(ban.getBytes()))),
+                target);
+    }
+
+    // -- STREAMING
+
+    /**
+     * Supplies the content of a single zip entry, called only once that entry is about to be written.
+     */
+    @FunctionalInterface
+    public static interface ContentSupplier {
+        InputStream open() throws IOException;
+    }
+
+    @Data
+    public static class ContentAndName {
+        private final String name;
+        private final ContentSupplier content;
+    }
+
+    /**
+     * Writes a zip archive directly to the given {@link OutputStream}, without buffering the archive in memory.
+     *
+     * <p>
+     *     The entries are consumed lazily, each entry's content only being opened (and then closed)
+     *     when it is written.  Thus, provided the {@link Stream} is itself lazy (for example, loading
+     *     each {@link org.apache.isis.applib.value.Blob} on demand), at most one entry's content
+     *     needs to be held in memory at any time.
+     * </p>
+     *
+     * <p>
+     *     The {@link OutputStream} is not closed, only finished (the zip's central directory is written),
+     *     so that the caller (eg a servlet response) remains in control of it.
+     * </p>
+     */
+    public void zipNamedContent(
+            final @NonNull Stream<ContentAndName> contentAndNames,
+            final @NonNull OutputStream target) {
+        zipNamedContent(contentAndNames, target, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * As per {@link #zipNamedContent(Stream, OutputStream)}, with the given compression level
+     * (0-9, or {@link Deflater#DEFAULT_COMPRESSION}).
+     *
+     * <p>
+     *     Already compressed content (images, PDFs, other archives) gains little from deflating;
+     *     a low level such as {@link Deflater#BEST_SPEED} trades archive size for throughput.
+     * </p>
+     */
+    public void zipNamedContent(
+            final @NonNull Stream<ContentAndName> contentAndNames,
+            final @NonNull OutputStream target,
+            final int compressionLevel) {
 
-        final byte[] bytes;
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final ZipOutputStream zos = new ZipOutputStream(baos);
+        try(val zos = new ZipOutputStream(new NonClosingOutputStream(target))) {
+            zos.setLevel(compressionLevel);
 
-            for (final BytesAndName ban : bytesAndNameList) {
-                zos.putNextEntry(new ZipEntry(ban.getName()));
-                zos.write(ban.getBytes());
+            val buffer = new byte[BUFFER_SIZE];
+            val iterator = contentAndNames.iterator();
+            while(iterator.hasNext()) {
+                val contentAndName = iterator.next();
+                zos.putNextEntry(new ZipEntry(contentAndName.getName()));
+                try(val is = contentAndName.getContent().open()) {
+                    copy(is, zos, buffer);
+                }
                 zos.closeEntry();
             }
-            zos.close();
-            bytes = baos.toByteArray();
+            zos.finish();
         } catch (final IOException ex) {
             throw new UnrecoverableException("Unable to create zip", ex);
+        } finally {
+            contentAndNames.close();
+        }
+    }
+
+    /**
+     * As per {@link #zipNamedContent(Stream, OutputStream)}, but writing to a {@link WritableByteChannel}.
+     *
+     * <p>
+     *     The channel is not closed.
+     * </p>
+     */
+    public void zipNamedContent(
+            final @NonNull Stream<ContentAndName> contentAndNames,
+            final @NonNull WritableByteChannel target) {
+        zipNamedContent(contentAndNames, target, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * As per {@link #zipNamedContent(Stream, WritableByteChannel)}, with the given compression level
+     * (0-9, or {@link Deflater#DEFAULT_COMPRESSION}).
+     */
+    public void zipNamedContent(
+            final @NonNull Stream<ContentAndName> contentAndNames,
+            final @NonNull WritableByteChannel target,
+            final int compressionLevel) {
+        zipNamedContent(contentAndNames, Channels.newOutputStream(target), compressionLevel);
+    }
+
+    // -- HELPER
+
+    private static void copy(final InputStream is, final OutputStream os, final byte[] buffer) throws IOException {
+        int n;
+        while((n = is.read(buffer)) != -1) {
+            os.write(buffer, 0, n);
+        }
+    }
+
+    /**
+     * Flushes rather than closes the underlying stream, so that closing the {@link ZipOutputStream}
+     * (which also releases its {@link Deflater}) leaves the caller's stream open.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(final OutputStream out) {
+            super(out);
+        }
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+        @Override
+        public void close() throws IOException {
+            flush();
         }
-        return bytes;
     }
 
 }
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.zip.dom.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.val;
+
+class ZipServiceTest {
+
+    @TempDir Path tempDir;
+
+    ZipService zipService;
+    Map<String, byte[]> contentByName;
+
+    @BeforeEach
+    void setUp() {
+        zipService = new ZipService();
+
+        contentByName = new LinkedHashMap<>();
+        contentByName.put("a.txt", "hello world".getBytes(StandardCharsets.UTF_8));
+        contentByName.put("empty.txt", new byte[0]);
+        contentByName.put("dir/random.bin", randomBytes(100_000)); // spans several buffers
+    }
+
+    @Test
+    void zipNamedBytes_round_trip() throws IOException {
+        val zip = zipService.zipNamedBytes(Arrays.asList(
+                bytesAndName("a.txt"), bytesAndName("empty.txt"), bytesAndName("dir/random.bin")));
+
+        Assertions.assertThat(unzip(zip)).containsExactlyEntriesOf(contentByName);
+    }
+
+    @Test
+    void zipNamedFiles_round_trip() throws IOException {
+        val a = write("tmp-1", contentByName.get("a.txt"));
+        val empty = write("tmp-2", contentByName.get("empty.txt"));
+        val random = write("tmp-3", contentByName.get("dir/random.bin"));
+
+        val zip = zipService.zipNamedFiles(Arrays.asList(
+                new ZipService.FileAndName("a.txt", a),
+                new ZipService.FileAndName("empty.txt", empty),
+                new ZipService.FileAndName("dir/random.bin", random)));
+
+        Assertions.assertThat(unzip(zip)).containsExactlyEntriesOf(contentByName);
+    }
+
+    @Test
+    void zipNamedContent_round_trip_at_every_compression_level() throws IOException {
+        for (val level : new int[] {Deflater.DEFAULT_COMPRESSION, Deflater.NO_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION}) {
+            val baos = new ByteArrayOutputStream();
+            zipService.zipNamedContent(contentAndNames(), baos, level);
+
+            Assertions.assertThat(unzip(baos.toByteArray())).containsExactlyEntriesOf(contentByName);
+        }
+    }
+
+    @Test
+    void zipNamedContent_to_channel_round_trip() throws IOException {
+        val baos = new ByteArrayOutputStream();
+        zipService.zipNamedContent(contentAndNames(), Channels.newChannel(baos), Deflater.BEST_SPEED);
+
+        Assertions.assertThat(unzip(baos.toByteArray())).containsExactlyEntriesOf(contentByName);
+    }
+
+    @Test
+    void zipNamedContent_compression_level_applies_to_channel() throws IOException {
+        val compressible = new byte[100_000]; // all zeros
+
+        val stored = new ByteArrayOutputStream();
+        zipService.zipNamedContent(Stream.of(new ZipService.ContentAndName("zeros.bin", () -> new ByteArrayInputStream(compressible))),
+                Channels.newChannel(stored), Deflater.NO_COMPRESSION);
+        val deflated = new ByteArrayOutputStream();
+        zipService.zipNamedContent(Stream.of(new ZipService.ContentAndName("zeros.bin", () -> new ByteArrayInputStream(compressible))),
+                Channels.newChannel(deflated), Deflater.BEST_COMPRESSION);
+
+        Assertions.assertThat(stored.size()).isGreaterThan(compressible.length);
+        Assertions.assertThat(deflated.size()).isLessThan(compressible.length / 10);
+    }
+
+    @Test
+    void zipNamedContent_opens_each_entry_lazily_and_leaves_target_open() throws IOException {
+        val opened = new AtomicInteger();
+        val closed = new AtomicBoolean();
+        val target = new ByteArrayOutputStream() {
+            @Override public void close() { closed.set(true); }
+        };
+
+        zipService.zipNamedContent(
+                contentByName.entrySet().stream()
+                .map(entry -> new ZipService.ContentAndName(entry.getKey(), () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(entry.getValue());
+                })),
+                target);
+
+        Assertions.assertThat(opened.get()).isEqualTo(contentByName.size());
+        Assertions.assertThat(closed.get()).isFalse();
+        Assertions.assertThat(unzip(target.toByteArray())).containsExactlyEntriesOf(contentByName);
+    }
+
+    // -- HELPER
+
+    private ZipService.BytesAndName bytesAndName(final String name) {
+        return new ZipService.BytesAndName(name, contentByName.get(name));
+    }
+
+    private Stream<ZipService.ContentAndName> contentAndNames() {
+        return contentByName.entrySet().stream()
+                .map(entry -> new ZipService.ContentAndName(entry.getKey(), () -> new ByteArrayInputStream(entry.getValue())));
+    }
+
+    private File write(final String fileName, final byte[] bytes) throws IOException {
+        return Files.write(tempDir.resolve(fileName), bytes).toFile();
+    }
+
+    private static Map<String, byte[]> unzip(final byte[] zip) throws IOException {
+        val contentByName = new LinkedHashMap<String, byte[]>();
+        try(val zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for(ZipEntry entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+                val bytes = new ByteArrayOutputStream();
+                val buffer = new byte[8 * 1024];
+                int n;
+                while((n = zis.read(buffer)) != -1) {
+                    bytes.write(buffer, 0, n);
+                }
+                contentByName.put(entry.getName(), bytes.toByteArray());
+            }
+        }
+        return contentByName;
+    }
+
+    private static byte[] randomBytes(final int length) {
+        val bytes = new byte[length];
+        new Random(42L).nextBytes(bytes);
+        return bytes;
+    }
+
+}
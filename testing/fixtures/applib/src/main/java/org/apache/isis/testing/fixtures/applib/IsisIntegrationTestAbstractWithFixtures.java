@@ -33,14 +33,31 @@
 import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
 import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
 import org.apache.isis.testing.fixtures.applib.modules.ModuleWithFixturesService;
+import org.apache.isis.testing.fixtures.applib.snapshot.FixtureSnapshots;
 import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
 
+import lombok.val;
+
 public abstract class IsisIntegrationTestAbstractWithFixtures extends IsisIntegrationTestAbstract {
 
     protected void run(final FixtureScript... fixtureScriptList) {
         this.fixtureScripts.run(fixtureScriptList);
     }
 
+    /**
+     * As {@link #run(FixtureScript...)}, but if a {@link FixtureSnapshots} service
+     * is available then restores the database state from the previous run of the
+     * same fixture scripts, if any, rather than running them again.
+     */
+    protected void runWithSnapshot(final FixtureScript... fixtureScriptList) {
+        val fixtureSnapshots = serviceRegistry.lookupService(FixtureSnapshots.class);
+        if(fixtureSnapshots.isPresent()) {
+            fixtureSnapshots.get().run(this.fixtureScripts, fixtureScriptList);
+        } else {
+            this.fixtureScripts.run(fixtureScriptList);
+        }
+    }
+
     protected <T> T runBuilder(final BuilderScriptAbstract<T> fixtureScript) {
         return this.fixtureScripts.runBuilderScript(fixtureScript);
     }
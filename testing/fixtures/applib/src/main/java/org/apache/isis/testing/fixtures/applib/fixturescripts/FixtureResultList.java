@@ -102,6 +102,29 @@ public List<FixtureResult> getResults() {
         return Collections.unmodifiableList(list);
     }
 
+    int size() {
+        return list.size();
+    }
+
+    /**
+     * Adds the results of another list (from the given index onwards), as
+     * used when forking and subsequently joining an {@link FixtureScript.ExecutionContext}.
+     */
+    void addAll(final FixtureResultList other, final int fromIndex) {
+        for (final FixtureResult fixtureResult : other.list.subList(fromIndex, other.list.size())) {
+            list.add(fixtureResult);
+            fixtureResultByKey.put(fixtureResult.getKey(), fixtureResult);
+        }
+        for (final FixtureScript fixtureScript : other.fixtureScriptList) {
+            if(!fixtureScriptList.contains(fixtureScript)) {
+                fixtureScriptList.add(fixtureScript);
+            }
+        }
+        other.itemNumberByScript.forEach((script, itemNumber) ->
+            itemNumberByScript.computeIfAbsent(script, __ -> new AtomicInteger())
+                .accumulateAndGet(itemNumber.get(), Math::max));
+    }
+
 
 
     // -- nextItemFor
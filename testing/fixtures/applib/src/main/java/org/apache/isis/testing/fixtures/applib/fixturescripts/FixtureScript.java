@@ -26,6 +26,13 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -169,9 +176,19 @@ public static ExecutionContext create(final ExecutionParameters executionParamet
         }
 
         private ExecutionContext(final ExecutionParameters executionParameters, final FixtureScripts fixtureScripts) {
+            this(executionParameters, fixtureScripts, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        private ExecutionContext(
+                final ExecutionParameters executionParameters,
+                final FixtureScripts fixtureScripts,
+                final Map<Class<? extends FixtureScript>, Execution> fixtureScriptByClass,
+                final Map<FixtureScript, Execution> fixtureScriptByValue) {
             this.fixtureScripts = fixtureScripts;
             fixtureResultList = new FixtureResultList(fixtureScripts, this);
             this.executionParameters = executionParameters;
+            this.fixtureScriptByClass = fixtureScriptByClass;
+            this.fixtureScriptByValue = fixtureScriptByValue;
         }
 
         @Programmatic
@@ -438,6 +455,149 @@ public void executeChildren(
             fixtureScripts.forEach(fixtureScript -> executeChild(callingFixtureScript, fixtureScript));
         }
 
+        @Programmatic
+        public void executeChildrenInParallel(
+                final FixtureScript callingFixtureScript,
+                final PersonaWithBuilderScript<?>... personaWithBuilderScripts) {
+            final List<FixtureScript> fixtureScripts = _Lists.newArrayList();
+            for (PersonaWithBuilderScript<?> builder : personaWithBuilderScripts) {
+                fixtureScripts.add(builder.builder());
+            }
+            executeChildrenInParallel(callingFixtureScript, fixtureScripts);
+        }
+
+        @Programmatic
+        public void executeChildrenInParallel(
+                final FixtureScript callingFixtureScript,
+                final FixtureScript... fixtureScripts) {
+            executeChildrenInParallel(callingFixtureScript, Arrays.asList(fixtureScripts));
+        }
+
+        /**
+         * Executes the child {@link FixtureScript fixture script}s concurrently, each within an interaction and
+         * transaction of its own, using the {@link FixtureScripts#getParallelExecutorService() executor service} of
+         * {@link FixtureScripts}.
+         *
+         * <p>
+         *     The prerequisites of any child implementing {@link WithPrereqs} (such as the builder script of a
+         *     {@link PersonaWithBuilderScript persona}) are executed first, one after the other, within a single
+         *     transaction that is committed before any of the children are started.  Provided that the
+         *     {@link FixtureScripts.MultipleExecutionStrategy multiple execution strategy} in use is one of the
+         *     <i>execute once</i> strategies, the children then find their prerequisites already executed.  Apart from
+         *     their prerequisites, the children (and the fixture scripts that they in turn execute) must be
+         *     independent of each other: a fixture script executed by more than one of them is executed only once
+         *     (by whichever gets to it first, the others waiting for it to complete), but what it created is not
+         *     visible to the others.
+         * </p>
+         *
+         * <p>
+         *     Each child sees the results of the fixture scripts executed before it by this context, but not those of
+         *     the siblings it runs alongside.  The results are added to this context in the order that the children
+         *     were provided, irrespective of the order in which they completed.
+         * </p>
+         *
+         * <p>
+         *     Because each child commits its own transaction, none of them will see changes made by the calling
+         *     transaction that have yet to be committed.
+         * </p>
+         */
+        @Programmatic
+        public void executeChildrenInParallel(
+                final FixtureScript callingFixtureScript,
+                final List<FixtureScript> fixtureScripts) {
+
+            if(fixtureScripts.isEmpty()) {
+                return;
+            }
+            final ExecutorService executor = this.fixtureScripts.getParallelExecutorService();
+
+            final List<WithPrereqs<?>> withPrereqs = fixtureScripts.stream()
+                    .filter(WithPrereqs.class::isInstance)
+                    .map(fixtureScript -> (WithPrereqs<?>) fixtureScript)
+                    .collect(Collectors.toList());
+            if(!withPrereqs.isEmpty()) {
+                final ExecutionContext fork = fork();
+                awaitAll(Collections.singletonList(executor.submit(()->
+                    this.fixtureScripts.runWithinOwnInteractionAndTransaction(()->
+                        withPrereqs.forEach(fixtureScript -> {
+                            callingFixtureScript.serviceInjector.injectServicesInto(fixtureScript);
+                            fixtureScript.execPrereqs(fork);
+                        })))));
+                join(fork);
+            }
+
+            final List<ExecutionContext> forks = _Lists.newArrayList();
+            final List<Future<?>> futures = _Lists.newArrayList();
+            for (final FixtureScript childFixtureScript : fixtureScripts) {
+                final ExecutionContext fork = fork();
+                forks.add(fork);
+                futures.add(executor.submit(()->
+                    this.fixtureScripts.runWithinOwnInteractionAndTransaction(()->
+                        fork.executeChild(callingFixtureScript, childFixtureScript))));
+            }
+            awaitAll(futures);
+            forks.forEach(this::join);
+        }
+
+        /**
+         * Waits for all to complete (even if some fail), then rethrows the
+         * first failure, if any.
+         */
+        private static void awaitAll(final List<Future<?>> futures) {
+            RuntimeException failure = null;
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw _Exceptions.unrecoverable(e);
+                } catch (ExecutionException e) {
+                    if(failure == null) {
+                        failure = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : _Exceptions.unrecoverable(e.getCause());
+                    }
+                }
+            }
+            if(failure != null) {
+                throw failure;
+            }
+        }
+
+        // -- fork, join
+
+        private int inheritedResultCount;
+        private int inheritedExecutedCount;
+
+        /**
+         * A copy of this context, to execute a fixture script on another thread.
+         *
+         * <p>
+         *     The fixture scripts executed once (by class or by value) are shared with this context, so that no fork
+         *     executes a fixture script that this context or another fork has already executed.
+         * </p>
+         */
+        private ExecutionContext fork() {
+            final ExecutionContext fork = new ExecutionContext(
+                    executionParameters, fixtureScripts, fixtureScriptByClass, fixtureScriptByValue);
+            fork.fixtureResultList.addAll(fixtureResultList, 0);
+            fork.previouslyExecuted.addAll(previouslyExecuted);
+            fork.userData.putAll(userData);
+            fork.inheritedResultCount = fixtureResultList.size();
+            fork.inheritedExecutedCount = previouslyExecuted.size();
+            return fork;
+        }
+
+        /**
+         * Adds whatever a {@link #fork() fork} did to this context.
+         */
+        private void join(final ExecutionContext fork) {
+            fixtureResultList.addAll(fork.fixtureResultList, fork.inheritedResultCount);
+            previouslyExecuted.addAll(
+                    fork.previouslyExecuted.subList(fork.inheritedExecutedCount, fork.previouslyExecuted.size()));
+            userData.putAll(fork.userData);
+        }
+
         /**
          * Executes a child {@link FixtureScript fixture script}, injecting services into it first, and (for any results
          * that are {@link FixtureScript.ExecutionContext#addResult(FixtureScript, Object)} added),
@@ -501,30 +661,13 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             final FixtureScripts.MultipleExecutionStrategy executionStrategy =
                     determineExecutionStrategy(childFixtureScript);
 
-            FixtureScript previouslyExecutedScript;
             switch (executionStrategy) {
 
             case EXECUTE_ONCE_BY_CLASS:
-                previouslyExecutedScript = fixtureScriptByClass.get(childFixtureScript.getClass());
-                if (previouslyExecutedScript == null) {
-                    if (childFixtureScript instanceof WithPrereqs) {
-                        final WithPrereqs<?> withPrereqs = (WithPrereqs<?>) childFixtureScript;
-                        withPrereqs.execPrereqs(this);
-                    }
-                }
-                // the prereqs might now result in a match, so we check again.
-                previouslyExecutedScript = fixtureScriptByClass.get(childFixtureScript.getClass());
-                if (previouslyExecutedScript == null) {
-                    childFixtureScript.execute(this);
-                    this.previouslyExecuted.add(childFixtureScript);
-                    fixtureScriptByClass.put(childFixtureScript.getClass(), childFixtureScript);
-                    return childFixtureScript;
-                } else {
-                    return _Casts.uncheckedCast(previouslyExecutedScript);
-                }
+                return executeChildOnce(fixtureScriptByClass, childFixtureScript.getClass(), childFixtureScript);
 
             case EXECUTE_ONCE_BY_VALUE:
-                return executeChildIfNotAlreadyWithValueSemantics(childFixtureScript);
+                return executeChildOnce(fixtureScriptByValue, childFixtureScript, childFixtureScript);
 
             case EXECUTE:
                 childFixtureScript.execute(this);
@@ -549,23 +692,73 @@ private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy deter
             return executionStrategy;
         }
 
-        private <T extends FixtureScript> T executeChildIfNotAlreadyWithValueSemantics(final T childFixtureScript) {
-            FixtureScript previouslyExecutedScript = fixtureScriptByValue.get(childFixtureScript);
-            if (previouslyExecutedScript == null) {
+        /**
+         * Executes the child unless already executed (or being executed, by a {@link #fork() fork}) under the given
+         * key, in which case the script executed is returned instead (once it has completed).
+         *
+         * <p>
+         *     The key is reserved before the child is executed, so that forks sharing a child execute it only once.
+         *     Note that the other forks are only told that it has executed, any objects it created are not visible
+         *     to them until the executing fork commits; hence shared children that need to be seen should rather be
+         *     {@link WithPrereqs prerequisites}.
+         * </p>
+         */
+        private <K, T extends FixtureScript> T executeChildOnce(
+                final Map<K, Execution> executionByKey,
+                final K key,
+                final T childFixtureScript) {
+
+            if (!executionByKey.containsKey(key)) {
                 if (childFixtureScript instanceof WithPrereqs) {
                     final WithPrereqs<?> withPrereqs = (WithPrereqs<?>) childFixtureScript;
                     withPrereqs.execPrereqs(this);
                 }
             }
-            // the prereqs might now result in a match, so we check again.
-            previouslyExecutedScript = fixtureScriptByValue.get(childFixtureScript);
-            if (previouslyExecutedScript == null) {
+            // the prereqs might now result in a match, so we check again (reserving the key if not)
+            final Execution execution = new Execution();
+            final Execution previousExecution = executionByKey.putIfAbsent(key, execution);
+            if (previousExecution != null) {
+                if (!previousExecution.isReentrant()) {
+                    return _Casts.uncheckedCast(previousExecution.await());
+                }
+                // nested within its own execution, so (as ever) executed again
                 childFixtureScript.execute(this);
                 this.previouslyExecuted.add(childFixtureScript);
-                fixtureScriptByValue.put(childFixtureScript, childFixtureScript);
                 return childFixtureScript;
-            } else {
-                return _Casts.uncheckedCast(previouslyExecutedScript);
+            }
+
+            try {
+                childFixtureScript.execute(this);
+            } catch (RuntimeException | Error ex) {
+                executionByKey.remove(key, execution);
+                execution.completeExceptionally(ex);
+                throw ex;
+            }
+            this.previouslyExecuted.add(childFixtureScript);
+            execution.complete(childFixtureScript);
+            return childFixtureScript;
+        }
+
+        /**
+         * The execution of a fixture script executed once (by class or by value), that other {@link #fork() fork}s
+         * wait on while it is in progress.
+         */
+        private static final class Execution extends CompletableFuture<FixtureScript> {
+
+            private final Thread thread = Thread.currentThread();
+
+            boolean isReentrant() {
+                return !isDone() && thread == Thread.currentThread();
+            }
+
+            FixtureScript await() {
+                try {
+                    return join();
+                } catch (CompletionException ex) {
+                    throw ex.getCause() instanceof RuntimeException
+                            ? (RuntimeException) ex.getCause()
+                            : _Exceptions.unrecoverable(ex.getCause());
+                }
             }
         }
 
@@ -596,15 +789,15 @@ public List<FixtureScript> getPreviouslyExecuted() {
 
         /**
          * used and populated only if the {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_CLASS}
-         * strategy is in use.
+         * strategy is in use; concurrent, as shared with any {@link #fork() fork}s.
          */
-        private final Map<Class<? extends FixtureScript>, FixtureScript> fixtureScriptByClass = _Maps.newLinkedHashMap();
+        private final Map<Class<? extends FixtureScript>, Execution> fixtureScriptByClass;
 
         /**
          * used and populated only if the {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_VALUE}
-         * strategy is in use.
+         * strategy is in use; concurrent, as shared with any {@link #fork() fork}s.
          */
-        private final Map<FixtureScript, FixtureScript> fixtureScriptByValue = _Maps.newLinkedHashMap();
+        private final Map<FixtureScript, Execution> fixtureScriptByValue;
 
 
 
@@ -25,6 +25,8 @@
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -50,6 +52,7 @@
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.services.title.TitleService;
 import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.ThrowingRunnable;
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.interaction.session.InteractionFactory;
@@ -485,6 +488,30 @@ String titleOf(final FixtureResult fixtureResult) {
         return object != null? titleService.titleOf(object): "(null)";
     }
 
+    /**
+     * The {@link ExecutorService} used by
+     * {@link FixtureScript.ExecutionContext#executeChildrenInParallel(FixtureScript, List)} to obtain the threads
+     * on which to execute the fixture scripts.
+     *
+     * <p>
+     * The default executor service is the common pool.
+     * </p>
+     */
+    @Getter @Setter
+    @Programmatic
+    private ExecutorService parallelExecutorService = ForkJoinPool.commonPool();
+
+    /**
+     * Used to execute fixture scripts in parallel, each on a thread of its own,
+     * and therefore needing an interaction and a transaction of its own.
+     */
+    void runWithinOwnInteractionAndTransaction(final ThrowingRunnable runnable) {
+        isisInteractionFactory.runAnonymous(()->{
+            transactionService.runWithinCurrentTransactionElseCreateNew(runnable)
+            .optionalElseFail();
+        });
+    }
+
     // -- HELPERS - LOCAL
 
     private static FixtureScript toSingleScript(FixtureScript[] fixtureScriptList) {
@@ -0,0 +1,238 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.snapshot;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * The contents of the tables of an in-memory H2 or HSQLDB database, which can
+ * be written back to that same database.
+ *
+ * <p>
+ *     Only the rows are captured, not the schema; restoring relies on the
+ *     tables being unchanged in the meantime.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class DatabaseSnapshot {
+
+    @RequiredArgsConstructor
+    enum Dialect {
+        H2("jdbc:h2:mem:",
+                "SET REFERENTIAL_INTEGRITY FALSE",
+                "SET REFERENTIAL_INTEGRITY TRUE"),
+        HSQLDB("jdbc:hsqldb:mem:",
+                "SET DATABASE REFERENTIAL INTEGRITY FALSE",
+                "SET DATABASE REFERENTIAL INTEGRITY TRUE");
+
+        private final String urlPrefix;
+        private final String disableReferentialIntegrity;
+        private final String enableReferentialIntegrity;
+
+        static Optional<Dialect> of(final DatabaseMetaData metaData) throws SQLException {
+            val url = metaData.getURL();
+            for (val dialect : values()) {
+                if(url != null && url.startsWith(dialect.urlPrefix)) {
+                    return Optional.of(dialect);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    @Value
+    static class Table {
+        private final String schema;
+        private final String name;
+        private final List<String> columns;
+        private final List<Object[]> rows;
+
+        String qualifiedName() {
+            return schema != null
+                    ? quoted(schema) + "." + quoted(name)
+                    : quoted(name);
+        }
+
+        String insertStatement() {
+            return "INSERT INTO " + qualifiedName()
+                    + " (" + columns.stream().map(DatabaseSnapshot::quoted).collect(Collectors.joining(", ")) + ")"
+                    + " VALUES (" + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        }
+    }
+
+    private final Dialect dialect;
+    @Getter
+    private final List<Table> tables;
+
+    public int getRowCount() {
+        return tables.stream().mapToInt(table -> table.getRows().size()).sum();
+    }
+
+    // -- CAPTURE
+
+    /**
+     * Reads every user table of the database, other than those excluded.
+     *
+     * @return empty if the connection is not to an in-memory H2 or HSQLDB database
+     */
+    static Optional<DatabaseSnapshot> capture(
+            final Connection connection,
+            final Collection<String> excludedTables) throws SQLException {
+
+        val metaData = connection.getMetaData();
+        val dialect = Dialect.of(metaData);
+        if(!dialect.isPresent()) {
+            return Optional.empty();
+        }
+
+        val tables = new ArrayList<Table>();
+        for (val tableId : tableIdsOf(metaData)) {
+            if(excludedTables.stream().anyMatch(tableId[1]::equalsIgnoreCase)) {
+                continue;
+            }
+            tables.add(read(connection, tableId[0], tableId[1]));
+        }
+        return Optional.of(new DatabaseSnapshot(dialect.get(), Collections.unmodifiableList(tables)));
+    }
+
+    private static List<String[]> tableIdsOf(final DatabaseMetaData metaData) throws SQLException {
+        val tableIds = new ArrayList<String[]>();
+        try(ResultSet rs = metaData.getTables(null, null, "%", new String[] {"TABLE"})) {
+            while(rs.next()) {
+                val schema = rs.getString("TABLE_SCHEM");
+                if("INFORMATION_SCHEMA".equalsIgnoreCase(schema)
+                        || "SYSTEM_LOBS".equalsIgnoreCase(schema)) {
+                    continue;
+                }
+                tableIds.add(new String[] {schema, rs.getString("TABLE_NAME")});
+            }
+        }
+        return tableIds;
+    }
+
+    private static Table read(
+            final Connection connection,
+            final String schema,
+            final String name) throws SQLException {
+
+        val columns = new ArrayList<String>();
+        val rows = new ArrayList<Object[]>();
+        val table = new Table(schema, name, columns, rows);
+
+        try(Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery("SELECT * FROM " + table.qualifiedName())) {
+
+            val rsmd = rs.getMetaData();
+            val columnCount = rsmd.getColumnCount();
+            for(int i=1; i<=columnCount; i++) {
+                columns.add(rsmd.getColumnName(i));
+            }
+            while(rs.next()) {
+                val row = new Object[columnCount];
+                for(int i=0; i<columnCount; i++) {
+                    row[i] = detached(rs.getObject(i+1));
+                }
+                rows.add(row);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * LOBs are only valid for as long as the connection (or transaction) that
+     * read them, so are copied.
+     */
+    private static Object detached(final Object value) throws SQLException {
+        if(value instanceof Blob) {
+            val blob = (Blob) value;
+            return blob.getBytes(1, (int) blob.length());
+        }
+        if(value instanceof Clob) {
+            val clob = (Clob) value;
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+
+    // -- RESTORE
+
+    /**
+     * Replaces the contents of each of the captured tables with the rows
+     * captured.
+     *
+     * <p>
+     *     Referential integrity is suspended meanwhile, so tables can be
+     *     processed in any order.
+     * </p>
+     */
+    void restoreTo(final Connection connection) throws SQLException {
+        try(Statement statement = connection.createStatement()) {
+            statement.execute(dialect.disableReferentialIntegrity);
+            try {
+                for (val table : tables) {
+                    statement.executeUpdate("DELETE FROM " + table.qualifiedName());
+                }
+                for (val table : tables) {
+                    insert(connection, table);
+                }
+            } finally {
+                statement.execute(dialect.enableReferentialIntegrity);
+            }
+        }
+    }
+
+    private static void insert(final Connection connection, final Table table) throws SQLException {
+        if(table.getRows().isEmpty()) {
+            return;
+        }
+        try(PreparedStatement statement = connection.prepareStatement(table.insertStatement())) {
+            for (val row : table.getRows()) {
+                for(int i=0; i<row.length; i++) {
+                    statement.setObject(i+1, row[i]);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static String quoted(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.snapshot;
+
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
+
+/**
+ * Avoids re-running the same set of fixture scripts over and over (typically
+ * once per integration test), by capturing the state of the database the first
+ * time they run and restoring that state on subsequent requests.
+ *
+ * <p>
+ *     The set of fixture scripts is identified by value (as per
+ *     {@link FixtureScripts.MultipleExecutionStrategy#EXECUTE_ONCE_BY_VALUE}),
+ *     so is only snapshotted if each of them overrides {@link Object#equals(Object)};
+ *     otherwise the fixture scripts are simply run. Fixture scripts whose
+ *     behaviour depends on some other state should not be run through this service.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface FixtureSnapshots {
+
+    /**
+     * Either restores the snapshot taken after an earlier run of the same set
+     * of fixture scripts, or (if there is none) runs them using the provided
+     * {@link FixtureScripts} and takes a snapshot.
+     */
+    void run(FixtureScripts fixtureScripts, FixtureScript... fixtureScriptList);
+
+    /**
+     * Discards all snapshots taken so far.
+     */
+    void clear();
+
+}
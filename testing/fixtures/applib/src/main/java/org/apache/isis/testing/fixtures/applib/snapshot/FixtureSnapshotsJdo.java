@@ -0,0 +1,187 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.snapshot;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.interaction.session.InteractionFactory;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScripts;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Implementation of {@link FixtureSnapshots} for JDO, capturing and restoring
+ * the rows of an in-memory H2 or HSQLDB database through the
+ * {@link JdoSupportService#getPersistenceManager() persistence manager}'s
+ * connection.
+ *
+ * <p>
+ *     Not imported by default; integration tests that want to use it should
+ *     import this class into their Spring context, and then call
+ *     <code>runWithSnapshot(...)</code> rather than <code>run(...)</code>.
+ *     Snapshots are held in memory, so live as long as the (cached) Spring
+ *     context does; as the fixture script classes cannot change within that
+ *     time, snapshots are never invalidated (other than by {@link #clear()}).
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.test.FixtureSnapshotsJdo")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Jdo")
+@Log4j2
+public class FixtureSnapshotsJdo implements FixtureSnapshots {
+
+    @Inject private IsisConfiguration isisConfiguration;
+    @Inject private InteractionFactory isisInteractionFactory;
+    @Inject private TransactionService transactionService;
+    @Inject private JdoSupportService jdoSupport;
+
+    private final Map<List<Object>, DatabaseSnapshot> snapshotByKey = new ConcurrentHashMap<>();
+
+    @Override
+    public void run(final FixtureScripts fixtureScripts, final FixtureScript... fixtureScriptList) {
+
+        val settings = isisConfiguration.getTesting().getFixtures().getSnapshots();
+        if(!settings.isEnabled()) {
+            fixtureScripts.run(fixtureScriptList);
+            return;
+        }
+
+        val key = keyFor(fixtureScriptList).orElse(null);
+        if(key == null) {
+            log.debug("fixture scripts without value semantics, no snapshot taken");
+            fixtureScripts.run(fixtureScriptList);
+            return;
+        }
+
+        val snapshot = snapshotByKey.get(key);
+        if(snapshot != null) {
+            log.debug("restoring snapshot of {} rows for {}", snapshot.getRowCount(), key);
+            withConnection(connection -> {
+                snapshot.restoreTo(connection);
+                return null;
+            });
+            evictCaches();
+            return;
+        }
+
+        fixtureScripts.run(fixtureScriptList);
+
+        final Optional<DatabaseSnapshot> database = withConnection(connection ->
+                DatabaseSnapshot.capture(connection, settings.getExcludedTables()));
+        if(!database.isPresent()) {
+            log.debug("not an in-memory H2 or HSQLDB database, no snapshot taken");
+            return;
+        }
+        snapshotByKey.put(key, database.get());
+    }
+
+    @Override
+    public void clear() {
+        snapshotByKey.clear();
+    }
+
+    // -- HELPERS
+
+    /**
+     * Fixture scripts are identified by value, so empty unless all of them have
+     * value semantics: two instances of a class that does not override
+     * {@link Object#equals(Object)} might be parameterised differently.
+     */
+    static Optional<List<Object>> keyFor(final FixtureScript... fixtureScriptList) {
+        val key = new ArrayList<Object>();
+        for (val fixtureScript : fixtureScriptList) {
+            if(!hasValueSemantics(fixtureScript.getClass())) {
+                return Optional.empty();
+            }
+            key.add(fixtureScript);
+        }
+        return Optional.of(key);
+    }
+
+    private static boolean hasValueSemantics(final Class<?> cls) {
+        try {
+            return cls.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionCallback<T> {
+        T doWith(Connection connection) throws SQLException;
+    }
+
+    private <T> T withConnection(final ConnectionCallback<T> callback) {
+        return isisInteractionFactory.callAnonymous(()->
+            transactionService.callWithinCurrentTransactionElseCreateNew(()->{
+                val pm = jdoSupport.getPersistenceManager();
+                pm.flush();
+                val dataStoreConnection = pm.getDataStoreConnection();
+                try {
+                    val connectionObj = dataStoreConnection.getNativeConnection();
+                    if(!(connectionObj instanceof Connection)) {
+                        throw _Exceptions.unrecoverableFormatted(
+                                "not a JDBC connection: %s", Objects.toString(connectionObj));
+                    }
+                    return callback.doWith((Connection) connectionObj);
+                } finally {
+                    dataStoreConnection.close();
+                }
+            })
+        )
+        .optionalElseFail()
+        .orElse(null);
+    }
+
+    /**
+     * The restored rows were written behind the back of DataNucleus, so any
+     * objects it has cached are stale.
+     */
+    private void evictCaches() {
+        isisInteractionFactory.runAnonymous(()->{
+            jdoSupport.getPersistenceManager().evictAll();
+            jdoSupport.getPersistenceManagerFactory().getDataStoreCache().evictAll();
+        });
+    }
+
+}
@@ -18,13 +18,30 @@
  */
 package org.apache.isis.testing.fixtures.applib.fixturescripts;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.commons.functional.ThrowingRunnable;
+import org.apache.isis.testing.fixtures.applib.api.WithPrereqs;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ExecutionContextTest {
 
@@ -124,4 +141,185 @@ public void whenPresent() throws Exception {
     }
 
 
+    public static class ExecuteChildrenInParallel extends ExecutionContextTest {
+
+        static final List<String> executed = new CopyOnWriteArrayList<>();
+        static CountDownLatch bothCustomersStarted;
+
+        static class Country extends FixtureScript {
+            @Override protected void execute(final ExecutionContext executionContext) {
+                executed.add("Country");
+            }
+        }
+
+        static abstract class CustomerAbstract extends FixtureScript implements WithPrereqs<Object> {
+            @Override public BuilderScriptAbstract<Object> setPrereq(final Block<Object> prereq) {
+                return null;
+            }
+            @Override public void execPrereqs(final ExecutionContext executionContext) {
+                executionContext.executeChild(this, new Country());
+            }
+            @Override protected void execute(final ExecutionContext executionContext) {
+                bothCustomersStarted.countDown();
+                try {
+                    // each customer only completes once the other is running alongside it
+                    assertTrue(bothCustomersStarted.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                executed.add(getClass().getSimpleName());
+            }
+        }
+
+        static class Customer1 extends CustomerAbstract {}
+        static class Customer2 extends CustomerAbstract {}
+
+        static CountDownLatch bothParentsStarted;
+        static final List<FixtureScript> grandchildrenReturned = new CopyOnWriteArrayList<>();
+
+        static class Grandchild extends FixtureScript {
+            @Override public boolean equals(final Object obj) {
+                return obj instanceof Grandchild;
+            }
+            @Override public int hashCode() {
+                return Grandchild.class.hashCode();
+            }
+            @Override protected void execute(final ExecutionContext executionContext) {
+                executed.add("Grandchild");
+                try {
+                    // give the other parent every chance to look it up while still executing
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        static abstract class ParentAbstract extends FixtureScript {
+            @Override protected void execute(final ExecutionContext executionContext) {
+                bothParentsStarted.countDown();
+                try {
+                    assertTrue(bothParentsStarted.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                grandchildrenReturned.add(executionContext.executeChildT(this, new Grandchild()));
+                executed.add(getClass().getSimpleName());
+            }
+        }
+
+        static class Parent1 extends ParentAbstract {}
+        static class Parent2 extends ParentAbstract {}
+
+        static class Failing extends FixtureScript {
+            @Override protected void execute(final ExecutionContext executionContext) {
+                throw new IllegalStateException("failed");
+            }
+        }
+
+        private ExecutorService executor;
+        private FixtureScripts fixtureScripts;
+        private FixtureScript parent;
+        private FixtureScript.ExecutionContext executionContext;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            executed.clear();
+            grandchildrenReturned.clear();
+            bothCustomersStarted = new CountDownLatch(2);
+            bothParentsStarted = new CountDownLatch(2);
+            executor = Executors.newFixedThreadPool(2);
+
+            fixtureScripts = Mockito.mock(FixtureScripts.class);
+            Mockito.when(fixtureScripts.getParallelExecutorService()).thenReturn(executor);
+            Mockito.when(fixtureScripts.getMultipleExecutionStrategy())
+                .thenReturn(FixtureScripts.MultipleExecutionStrategy.EXECUTE_ONCE_BY_CLASS);
+            Mockito.doAnswer(invocation -> {
+                invocation.<ThrowingRunnable>getArgument(0).run();
+                return null;
+            }).when(fixtureScripts).runWithinOwnInteractionAndTransaction(Mockito.any());
+
+            final ServiceInjector serviceInjector = Mockito.mock(ServiceInjector.class);
+            Mockito.doAnswer(invocation -> {
+                invocation.<FixtureScript>getArgument(0).serviceInjector = serviceInjector;
+                return null;
+            }).when(serviceInjector).injectServicesInto(Mockito.any(FixtureScript.class));
+            parent = new Country();
+            parent.serviceInjector = serviceInjector;
+            executionContext = FixtureScript.ExecutionContext.create(new ExecutionParameters(null), fixtureScripts);
+        }
+
+        @AfterEach
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        public void prereqs_executed_once_and_first() throws Exception {
+            executionContext.executeChildrenInParallel(parent, new Customer1(), new Customer2());
+
+            assertThat(executed.size(), is(3));
+            assertThat(executed.get(0), is("Country"));
+            // prereqs in a transaction of their own, then one per child
+            Mockito.verify(fixtureScripts, Mockito.times(3)).runWithinOwnInteractionAndTransaction(Mockito.any());
+        }
+
+        @Test
+        public void results_joined_in_order_provided() throws Exception {
+            executionContext.executeChildrenInParallel(parent, new Customer1(), new Customer2());
+
+            final List<String> previouslyExecuted = executionContext.getPreviouslyExecuted().stream()
+                    .map(fixtureScript -> fixtureScript.getClass().getSimpleName())
+                    .collect(Collectors.toList());
+            assertThat(previouslyExecuted, is(Arrays.asList("Country", "Customer1", "Customer2")));
+        }
+
+        @Test
+        public void executed_once_map_is_shared_with_forks() throws Exception {
+            executionContext.executeChildrenInParallel(parent, new Customer1(), new Customer2());
+
+            executionContext.executeChild(parent, new Customer1());
+            executionContext.executeChild(parent, new Country());
+
+            assertThat(executed.size(), is(3));
+        }
+
+        @Test
+        public void shared_child_executed_once_by_class() throws Exception {
+            executionContext.executeChildrenInParallel(parent, new Parent1(), new Parent2());
+
+            assertSharedChildExecutedOnce();
+        }
+
+        @Test
+        public void shared_child_executed_once_by_value() throws Exception {
+            Mockito.when(fixtureScripts.getMultipleExecutionStrategy())
+                .thenReturn(FixtureScripts.MultipleExecutionStrategy.EXECUTE_ONCE_BY_VALUE);
+
+            executionContext.executeChildrenInParallel(parent, new Parent1(), new Parent2());
+
+            assertSharedChildExecutedOnce();
+        }
+
+        private void assertSharedChildExecutedOnce() {
+            assertThat(executed.stream().filter("Grandchild"::equals).count(), is(1L));
+            assertThat(executed.size(), is(3));
+            // the parent that did not execute it is handed the one that did
+            assertThat(grandchildrenReturned.size(), is(2));
+            assertTrue(grandchildrenReturned.get(0) == grandchildrenReturned.get(1));
+        }
+
+        @Test
+        public void failure_rethrown_once_others_have_completed() throws Exception {
+            bothCustomersStarted = new CountDownLatch(1);
+
+            final IllegalStateException ex = assertThrows(IllegalStateException.class, ()->
+                executionContext.executeChildrenInParallel(parent, new Failing(), new Customer1()));
+
+            assertThat(ex.getMessage(), is("failed"));
+            assertThat(executed, is(Arrays.asList("Country", "Customer1")));
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.snapshot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import lombok.val;
+
+class DatabaseSnapshotTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:DatabaseSnapshotTest");
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA \"app\"");
+            statement.execute("CREATE TABLE \"app\".\"Customer\" (\"id\" BIGINT PRIMARY KEY, \"name\" VARCHAR(50), \"notes\" CLOB)");
+            statement.execute("CREATE TABLE \"app\".\"Order\" (\"id\" BIGINT PRIMARY KEY, "
+                    + "\"customer_id\" BIGINT REFERENCES \"app\".\"Customer\"(\"id\"))");
+            statement.execute("CREATE TABLE \"SEQUENCE_TABLE\" (\"NEXT_VAL\" BIGINT)");
+            statement.execute("INSERT INTO \"app\".\"Customer\" VALUES (1, 'Fred', 'likes tea')");
+            statement.execute("INSERT INTO \"app\".\"Order\" VALUES (10, 1)");
+            statement.execute("INSERT INTO \"SEQUENCE_TABLE\" VALUES (11)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void restores_captured_rows() throws SQLException {
+
+        // given
+        val snapshot = DatabaseSnapshot.capture(connection, Arrays.asList("SEQUENCE_TABLE")).get();
+        assertThat(snapshot.getRowCount(), is(2));
+
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM \"app\".\"Order\"");
+            statement.execute("UPDATE \"app\".\"Customer\" SET \"name\" = 'Mary'");
+            statement.execute("INSERT INTO \"app\".\"Customer\" VALUES (2, 'Bill', null)");
+            statement.execute("UPDATE \"SEQUENCE_TABLE\" SET \"NEXT_VAL\" = 20");
+        }
+
+        // when
+        snapshot.restoreTo(connection);
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM \"app\".\"Customer\""), is(1L));
+        assertThat(string("SELECT \"name\" FROM \"app\".\"Customer\" WHERE \"id\" = 1"), is("Fred"));
+        assertThat(string("SELECT \"notes\" FROM \"app\".\"Customer\" WHERE \"id\" = 1"), is("likes tea"));
+        assertThat(count("SELECT \"customer_id\" FROM \"app\".\"Order\" WHERE \"id\" = 10"), is(1L));
+
+        // excluded tables are left alone
+        assertThat(count("SELECT \"NEXT_VAL\" FROM \"SEQUENCE_TABLE\""), is(20L));
+    }
+
+    @Test
+    void restore_leaves_referential_integrity_enforced() throws SQLException {
+
+        // given
+        val snapshot = DatabaseSnapshot.capture(connection, Collections.emptyList()).get();
+
+        // when
+        snapshot.restoreTo(connection);
+
+        // then
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"app\".\"Order\" VALUES (11, 99)");
+            throw new AssertionError("expected referential integrity violation");
+        } catch (SQLException expected) {
+            // ok
+        }
+    }
+
+    @Test
+    void only_supports_in_memory_databases() throws SQLException {
+        try(Connection fileConnection = DriverManager.getConnection("jdbc:h2:./target/DatabaseSnapshotTest")) {
+            assertThat(DatabaseSnapshot.capture(fileConnection, Collections.emptyList()).isPresent(), is(false));
+        }
+    }
+
+    private long count(final String sql) throws SQLException {
+        try(Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private String string(final String sql) throws SQLException {
+        try(Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testing.fixtures.applib.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.isis.testing.fixtures.applib.fixturescripts.FixtureScript;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+class FixtureSnapshotsJdoTest {
+
+    @RequiredArgsConstructor
+    static class CustomerScript extends FixtureScript {
+        private final String name;
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode(callSuper = false)
+    static class OrderScript extends FixtureScript {
+        private final int quantity;
+        @Override
+        protected void execute(final ExecutionContext executionContext) {
+        }
+    }
+
+    @Test
+    void scripts_with_value_semantics_are_keyed_by_value() {
+        assertThat(FixtureSnapshotsJdo.keyFor(new OrderScript(1)),
+                is(FixtureSnapshotsJdo.keyFor(new OrderScript(1))));
+        assertThat(FixtureSnapshotsJdo.keyFor(new OrderScript(1)),
+                is(not(FixtureSnapshotsJdo.keyFor(new OrderScript(2)))));
+    }
+
+    @Test
+    void scripts_without_value_semantics_are_not_keyed() {
+        assertThat(FixtureSnapshotsJdo.keyFor(new CustomerScript("Fred")).isPresent(), is(false));
+        assertThat(FixtureSnapshotsJdo.keyFor(new OrderScript(1), new CustomerScript("Fred")).isPresent(), is(false));
+    }
+
+}
@@ -44,5 +44,28 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Non-blocking alternative to {@link #awaitClose()}: the callback is run
+     * once this channel is closed, or immediately if it is closed already.
+     *
+     * <p>
+     * The default waits for the close on a thread of its own; implementations
+     * should override this to run the callback from {@link #close()} instead.
+     * </p>
+     */
+    default void whenClosed(final Runnable callback) {
+        final Thread waiter = new Thread(()->{
+            try {
+                awaitClose();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            callback.run();
+        }, "SseChannel-" + getId() + "-whenClosed");
+        waiter.setDaemon(true);
+        waiter.start();
+    }
+
 
 }
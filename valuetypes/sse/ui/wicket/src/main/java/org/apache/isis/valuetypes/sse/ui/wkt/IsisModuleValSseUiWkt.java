@@ -24,6 +24,7 @@
 import org.apache.isis.valuetypes.sse.metamodel.IsisModuleValSseMetaModel;
 import org.apache.isis.valuetypes.sse.ui.wkt.markup.ListeningMarkupPanelFactoriesForWicket;
 import org.apache.isis.valuetypes.sse.ui.wkt.services.SseServiceDefault;
+import org.apache.isis.valuetypes.sse.ui.wkt.webmodule.SseBroadcaster;
 import org.apache.isis.valuetypes.sse.ui.wkt.webmodule.WebModuleServerSentEvents;
 
 /**
@@ -40,6 +41,7 @@
 
         // @Service's
         SseServiceDefault.class,
+        SseBroadcaster.class,
         WebModuleServerSentEvents.class
 })
 public class IsisModuleValSseUiWkt {
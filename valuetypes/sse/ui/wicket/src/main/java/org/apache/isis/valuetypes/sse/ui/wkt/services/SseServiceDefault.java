@@ -22,11 +22,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
@@ -41,7 +40,6 @@
 
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.services.xactn.TransactionService;
-import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.interaction.session.InteractionFactory;
 import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
 import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
@@ -203,40 +201,27 @@ private static class EventStreamDefault implements SseChannel {
         @Getter final Class<?> sourceType;
 
         private final CountDownLatch latch = new CountDownLatch(1);
-        private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+
+        // copy-on-write, as listeners are iterated on every fired event but rarely added or removed
+        private final List<Predicate<SseSource>> listeners = new CopyOnWriteArrayList<>();
+        private final List<Runnable> closeCallbacks = new CopyOnWriteArrayList<>();
 
         @Override
         public void fire(SseSource source) {
 
-            final List<Predicate<SseSource>> defensiveCopyOfListeners;
-
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
-                }
-                defensiveCopyOfListeners = _Lists.newArrayList(listeners);
-
+            if(!isActive()) {
+                return;
             }
 
-            log.debug("about to fire events to {} listeners", ()->defensiveCopyOfListeners.size());
+            log.debug("about to fire events to {} listeners", ()->listeners.size());
 
-            final List<Predicate<SseSource>> markedForRemoval = _Lists.newArrayList();
-
-            defensiveCopyOfListeners.forEach(listener->{
+            // iterates over a snapshot, so no need to lock
+            for(val listener : listeners) {
                 val retain = listener.test(source);
                 if(!retain) {
-                    markedForRemoval.add(listener);
-                }
-            });
-
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
+                    listeners.remove(listener);
                 }
-                listeners.removeAll(markedForRemoval);
             }
-
-
         }
 
         @Override
@@ -251,9 +236,14 @@ public void listenWhile(Predicate<SseSource> listener) {
         @Override
         public void close() {
             synchronized ($LOCK) {
+                if(!isActive()) {
+                    return;
+                }
                 listeners.clear();
                 latch.countDown();
             }
+            closeCallbacks.forEach(Runnable::run);
+            closeCallbacks.clear();
         }
 
         private boolean isActive() {
@@ -265,6 +255,17 @@ public void awaitClose() throws InterruptedException {
             latch.await();
         }
 
+        @Override
+        public void whenClosed(Runnable callback) {
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return;
+                }
+            }
+            callback.run();
+        }
+
     }
 
 
@@ -20,7 +20,6 @@
 
 import java.io.IOException;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -30,10 +29,8 @@
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.apache.isis.applib.value.Markup;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.context._Context;
-import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
 import org.apache.isis.valuetypes.sse.applib.service.SseService;
 
 import static org.apache.isis.commons.internal.base._With.requires;
@@ -55,11 +52,13 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private SseBroadcaster sseBroadcaster;
 
     @Override
     public void init() throws ServletException {
         super.init();
         requires(sseService, "sseService");
+        requires(sseBroadcaster, "sseBroadcaster");
     }
 
     @Override
@@ -86,14 +85,15 @@ protected void doGet(HttpServletRequest request, HttpServletResponse response) t
             return;
         }
         
+        // no thread is parked per client; events are pushed by the broadcaster
         asyncContext(request)
         .ifPresent(asyncContext->{
-
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
-            
+            try {
+                sseBroadcaster.subscribe(eventStream, asyncContext);
+            } catch (IOException e) {
+                log.warn("failed to subscribe to event stream {}", eventStream.getId(), e);
+                asyncContext.complete();
+            }
         });
 
     }
@@ -119,56 +119,6 @@ private boolean flushBuffer(HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
-
-        val response = asyncContext.getResponse();
-        val marshaller = new Markup.JaxbToStringAdapter();
-
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                val writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                val payload = marshaller.marshal(Markup.valueOfHtml(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening                
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
-        }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext. 
-        asyncContext.complete();
-
-    }
-
     private Optional<Class<?>> parseEventStreamType(HttpServletRequest request) {
         val eventStreamId = request.getParameter("eventStream");
         if(_Strings.isNullOrEmpty(eventStreamId)) {
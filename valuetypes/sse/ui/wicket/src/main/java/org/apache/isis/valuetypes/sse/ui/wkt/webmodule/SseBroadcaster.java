@@ -0,0 +1,298 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Named;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.value.Markup;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Delivers the events of each {@link SseChannel} to all of its connected
+ * clients, without holding on to a (container) thread per client.
+ *
+ * <p>
+ *     Each channel has a single listener, which marshals every event exactly
+ *     once and hands the resulting bytes to each client. Clients write
+ *     through a non-blocking {@link WriteListener}; events that cannot be
+ *     written yet are buffered per client, up to
+ *     {@link #MAX_PENDING_EVENTS_PER_CLIENT}, after which the oldest are
+ *     dropped. As every event carries the complete markup, a slow client only
+ *     misses intermediate states.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.val.SseBroadcaster")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SseBroadcaster {
+
+    public static final int MAX_PENDING_EVENTS_PER_CLIENT = 16;
+
+    private final Map<UUID, FanOut> fanOutsByChannelId = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final LongAdder droppedEventCount = new LongAdder();
+
+    /**
+     * Starts delivering the channel's events to the client of the given
+     * (asynchronous) request, until either the channel closes or the client
+     * goes away.
+     */
+    public void subscribe(
+            final @NonNull SseChannel channel,
+            final @NonNull AsyncContext asyncContext) throws IOException {
+
+        val client = new Client(asyncContext, asyncContext.getResponse().getOutputStream());
+        asyncContext.addListener(client);
+        // switches the response to non-blocking mode, before any event is offered
+        client.out.setWriteListener(client);
+
+        final FanOut fanOut = fanOutsByChannelId.compute(channel.getId(), (id, existing)->{
+            val fanOutForChannel = existing!=null
+                    ? existing
+                    : new FanOut(channel);
+            fanOutForChannel.clients.add(client);
+            client.fanOut = fanOutForChannel;
+            return fanOutForChannel;
+        });
+        connectionCount.incrementAndGet();
+
+        // registering with the channel must happen outside of above compute,
+        // as the close callback (removing from the map) might run immediately
+        fanOut.listenOnce();
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of clients currently connected, over all channels.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Number of events dropped so far, because clients did not keep up.
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * The lag of the slowest client currently connected, as the number of
+     * events buffered for it (at most {@link #MAX_PENDING_EVENTS_PER_CLIENT}).
+     */
+    public int getMaxPendingEventCount() {
+        return fanOutsByChannelId.values().stream()
+                .flatMap(fanOut->fanOut.clients.stream())
+                .mapToInt(client->client.pendingCount)
+                .max()
+                .orElse(0);
+    }
+
+    // -- HELPER
+
+    private static byte[] toFrame(final SseSource source) throws Exception {
+        val payload = new Markup.JaxbToStringAdapter().marshal(Markup.valueOfHtml(source.getPayload()));
+        return ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @RequiredArgsConstructor
+    private final class FanOut {
+
+        private final SseChannel channel;
+        private final List<Client> clients = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean listening = new AtomicBoolean();
+
+        void listenOnce() {
+            if(listening.compareAndSet(false, true)) {
+                channel.listenWhile(this::broadcast);
+                channel.whenClosed(this::completeAll);
+            }
+        }
+
+        private boolean broadcast(final SseSource source) {
+            if(fanOutsByChannelId.get(channel.getId()) != this) {
+                return false; // stop listening
+            }
+            final byte[] frame;
+            try {
+                frame = toFrame(source);
+            } catch (Exception e) {
+                log.warn("failed to marshal event of {}", channel.getSourceType(), e);
+                return true; // continue listening
+            }
+            for (val client : clients) {
+                client.offer(frame);
+            }
+            return true; // continue listening
+        }
+
+        void remove(final Client client) {
+            clients.remove(client);
+            fanOutsByChannelId.computeIfPresent(channel.getId(), (id, fanOut)->
+                fanOut == this && clients.isEmpty()
+                    ? null
+                    : fanOut);
+        }
+
+        private void completeAll() {
+            fanOutsByChannelId.remove(channel.getId(), this);
+            clients.forEach(Client::close);
+        }
+
+    }
+
+    private final class Client implements WriteListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final Deque<byte[]> pending = new ArrayDeque<>();
+        private volatile int pendingCount;
+        private boolean closed;
+        private volatile FanOut fanOut;
+
+        Client(final AsyncContext asyncContext, final ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        synchronized void offer(final byte[] frame) {
+            if(closed) {
+                return;
+            }
+            if(pending.size() >= MAX_PENDING_EVENTS_PER_CLIENT) {
+                pending.pollFirst();
+                droppedEventCount.increment();
+            }
+            pending.addLast(frame);
+            writePending();
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            writePending();
+        }
+
+        /**
+         * Writes as much as possible without blocking; the container calls
+         * {@link #onWritePossible()} once more can be written.
+         */
+        private void writePending() {
+            try {
+                while(!pending.isEmpty()
+                        && out.isReady()) {
+                    out.write(pending.pollFirst());
+                }
+                if(pending.isEmpty()
+                        && out.isReady()) {
+                    out.flush();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("failed to write to client, disconnecting", e);
+                close();
+            } finally {
+                pendingCount = pending.size();
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if(closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+                pendingCount = 0;
+            }
+            connectionCount.decrementAndGet();
+            if(fanOut!=null) {
+                fanOut.remove(this);
+            }
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed
+            }
+        }
+
+        // -- WRITE LISTENER
+
+        @Override
+        public void onError(final Throwable t) {
+            close();
+        }
+
+        // -- ASYNC LISTENER
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // no-op
+        }
+
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.value.Markup;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class SseBroadcasterTest {
+
+    private SseBroadcaster broadcaster;
+    private FakeChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new SseBroadcaster();
+        channel = new FakeChannel(true);
+    }
+
+    @Test
+    void fans_out_every_event_to_all_subscribers() throws IOException {
+
+        val first = subscribe();
+        val second = subscribe();
+        val third = subscribe();
+
+        channel.fire(source("a"));
+        channel.fire(source("b"));
+
+        assertEquals(1, channel.listeners.size()); // single listener per channel
+        assertEquals(3, broadcaster.getConnectionCount());
+        for (val client : new FakeClient[] {first, second, third}) {
+            assertEquals(Arrays.asList("a", "b"), client.out.payloads());
+        }
+    }
+
+    @Test
+    void drops_oldest_events_of_slow_subscriber_once_its_buffer_is_full() throws IOException {
+
+        val fast = subscribe();
+        val slow = subscribe();
+        slow.out.ready = false;
+
+        val eventCount = SseBroadcaster.MAX_PENDING_EVENTS_PER_CLIENT + 4;
+        for (int i = 0; i < eventCount; i++) {
+            channel.fire(source("event-" + i));
+        }
+
+        // the fast subscriber is not held back
+        assertEquals(eventCount, fast.out.payloads().size());
+        assertEquals(0, slow.out.payloads().size());
+        assertEquals(SseBroadcaster.MAX_PENDING_EVENTS_PER_CLIENT, broadcaster.getMaxPendingEventCount());
+        assertEquals(4, broadcaster.getDroppedEventCount());
+
+        // once writable again, the slow subscriber receives the most recent events only
+        slow.out.ready = true;
+        slow.out.writeListener.onWritePossible();
+
+        assertEquals(SseBroadcaster.MAX_PENDING_EVENTS_PER_CLIENT, slow.out.payloads().size());
+        assertEquals("event-4", slow.out.payloads().get(0));
+        assertEquals("event-" + (eventCount - 1), slow.out.payloads().get(SseBroadcaster.MAX_PENDING_EVENTS_PER_CLIENT - 1));
+        assertEquals(0, broadcaster.getMaxPendingEventCount());
+    }
+
+    @Test
+    void cleans_up_when_subscriber_goes_away() throws IOException {
+
+        val leaving = subscribe();
+        val staying = subscribe();
+
+        leaving.asyncListener.onComplete(new AsyncEvent(leaving.asyncContext));
+        channel.fire(source("a"));
+
+        assertEquals(1, broadcaster.getConnectionCount());
+        assertEquals(0, leaving.out.payloads().size());
+        assertEquals(Collections.singletonList("a"), staying.out.payloads());
+
+        staying.asyncListener.onTimeout(new AsyncEvent(staying.asyncContext));
+
+        assertEquals(0, broadcaster.getConnectionCount());
+        // no one is left, so the channel's listener stops listening
+        assertFalse(channel.listeners.get(0).test(source("b")));
+    }
+
+    @Test
+    void completes_all_subscribers_when_channel_closes() throws IOException {
+
+        val first = subscribe();
+        val second = subscribe();
+
+        channel.close();
+        channel.fire(source("a"));
+
+        assertEquals(0, broadcaster.getConnectionCount());
+        verify(first.asyncContext).complete();
+        verify(second.asyncContext).complete();
+        assertEquals(0, first.out.payloads().size());
+        assertEquals(0, second.out.payloads().size());
+    }
+
+    @Test
+    void completes_all_subscribers_when_channel_closes_without_close_callbacks() throws IOException {
+
+        channel = new FakeChannel(false); // relies on SseChannel's default whenClosed
+        val client = subscribe();
+
+        channel.close();
+
+        verify(client.asyncContext, timeout(5_000)).complete();
+    }
+
+    @Test
+    void subscribing_to_closed_channel_completes_immediately() throws IOException {
+
+        channel.close();
+        val client = subscribe();
+
+        assertEquals(0, broadcaster.getConnectionCount());
+        verify(client.asyncContext).complete();
+    }
+
+    // -- HELPER
+
+    private FakeClient subscribe() throws IOException {
+        val client = new FakeClient();
+        broadcaster.subscribe(channel, client.asyncContext);
+        client.captureAsyncListener();
+        return client;
+    }
+
+    private static SseSource source(final String payload) {
+        return new SseSource() {
+            @Override public void run(final SseChannel channel) {}
+            @Override public String getPayload() { return payload; }
+        };
+    }
+
+    private static class FakeChannel implements SseChannel {
+
+        @Getter private final UUID id = UUID.randomUUID();
+        private final List<Predicate<SseSource>> listeners = new ArrayList<>();
+        private final List<Runnable> closeCallbacks = new ArrayList<>();
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final boolean supportsCloseCallbacks;
+        private volatile boolean closed;
+
+        FakeChannel(final boolean supportsCloseCallbacks) {
+            this.supportsCloseCallbacks = supportsCloseCallbacks;
+        }
+
+        @Override
+        public Class<?> getSourceType() {
+            return SseSource.class;
+        }
+
+        @Override
+        public void listenWhile(final Predicate<SseSource> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void fire(final SseSource source) {
+            if(!closed) {
+                listeners.removeIf(listener->!listener.test(source));
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            listeners.clear();
+            closeCallbacks.forEach(Runnable::run);
+            latch.countDown();
+        }
+
+        @Override
+        public void awaitClose() throws InterruptedException {
+            latch.await();
+        }
+
+        @Override
+        public void whenClosed(final Runnable callback) {
+            if(!supportsCloseCallbacks) {
+                SseChannel.super.whenClosed(callback);
+            } else if(closed) {
+                callback.run();
+            } else {
+                closeCallbacks.add(callback);
+            }
+        }
+
+    }
+
+    private static class FakeClient {
+
+        private final FakeOutputStream out = new FakeOutputStream();
+        private final AsyncContext asyncContext = mock(AsyncContext.class);
+        private AsyncListener asyncListener;
+
+        FakeClient() throws IOException {
+            val response = mock(ServletResponse.class);
+            when(response.getOutputStream()).thenReturn(out);
+            when(asyncContext.getResponse()).thenReturn(response);
+        }
+
+        void captureAsyncListener() {
+            val captor = ArgumentCaptor.forClass(AsyncListener.class);
+            verify(asyncContext).addListener(captor.capture());
+            asyncListener = captor.getValue();
+        }
+
+    }
+
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private WriteListener writeListener;
+        private boolean ready = true;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) {
+            bytes.write(b);
+        }
+
+        /**
+         * The (unmarshalled) payloads of the events written so far.
+         */
+        List<String> payloads() {
+            val written = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+            return Stream.of(written.split("\n\n"))
+                    .filter(frame->!frame.isEmpty())
+                    .map(frame->frame.substring("data: ".length()))
+                    .map(FakeOutputStream::unmarshal)
+                    .collect(Collectors.toList());
+        }
+
+        @SneakyThrows
+        private static String unmarshal(final String data) {
+            return new Markup.JaxbToStringAdapter().unmarshal(data).asHtml();
+        }
+
+    }
+
+}
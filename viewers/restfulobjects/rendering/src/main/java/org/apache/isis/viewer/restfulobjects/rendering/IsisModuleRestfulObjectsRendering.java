@@ -23,6 +23,7 @@
 
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
 import org.apache.isis.viewer.restfulobjects.applib.IsisModuleViewerRestfulObjectsApplib;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.DomainObjectRenderingPlans;
 import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.JsonValueEncoder;
 import org.apache.isis.viewer.restfulobjects.rendering.service.RepresentationService;
 import org.apache.isis.viewer.restfulobjects.rendering.service.acceptheader.AcceptHeaderServiceForRest;
@@ -59,6 +60,7 @@
         ContentNegotiationServiceOrgApacheIsisV2.class,
         ContentNegotiationServiceOrgApacheIsisV1.class, // to intercept client requests and respond with HTTP 501 (no longer supported)
         ContentNegotiationServiceXRoDomainType.class,
+        DomainObjectRenderingPlans.class,
         JsonValueEncoder.class,
         RepresentationService.class,
         SwaggerServiceDefault.class,
@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.viewer.restfulobjects.rendering.domainobjects.JsonValueEncoder.JsonValueConverter;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * What the {@link DomainObjectReprRenderer} needs to know about the members of
+ * an {@link ObjectSpecification}, resolved from the metamodel once (see
+ * {@link DomainObjectRenderingPlans}) rather than for every object rendered:
+ * the members in order, and for each property its value converter and format.
+ *
+ * <p>
+ * Whether a member is visible (or usable) depends on the object and the user,
+ * so is still checked for every object rendered.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DomainObjectRenderingPlan {
+
+    @Getter private final ObjectSpecification objectSpecification;
+
+    /**
+     * Relative URL of the domain type's representation.
+     */
+    @Getter private final String domainTypeUrl;
+
+    @Getter private final Can<PropertyPlan> properties;
+    @Getter private final Can<MemberPlan<OneToManyAssociation>> collections;
+    @Getter private final Can<MemberPlan<ObjectAction>> actions;
+
+    static DomainObjectRenderingPlan compile(
+            final @NonNull ObjectSpecification objectSpecification,
+            final @NonNull JsonValueEncoder jsonValueEncoder) {
+
+        final List<ObjectAssociation> associations = objectSpecification
+                .streamAssociations(MixedIn.INCLUDED)
+                .collect(Collectors.toList());
+
+        val properties = associations.stream()
+                .filter(OneToOneAssociation.class::isInstance)
+                .map(OneToOneAssociation.class::cast)
+                .map(property->PropertyPlan.compile(property, jsonValueEncoder))
+                .collect(Can.toCan());
+
+        val collections = associations.stream()
+                .filter(OneToManyAssociation.class::isInstance)
+                .map(OneToManyAssociation.class::cast)
+                .map(MemberPlan::new)
+                .collect(Can.toCan());
+
+        val actions = objectSpecification
+                .streamActions(MixedIn.INCLUDED)
+                .map(MemberPlan::new)
+                .collect(Can.toCan());
+
+        return new DomainObjectRenderingPlan(
+                objectSpecification,
+                "domain-types/" + objectSpecification.getLogicalTypeName(),
+                properties,
+                collections,
+                actions);
+    }
+
+    public static class MemberPlan<T extends ObjectMember> {
+
+        @Getter private final T member;
+
+        /**
+         * Path of the member's representation, as followed by <tt>x-ro-follow-links</tt>.
+         */
+        @Getter private final String followPath;
+
+        MemberPlan(final T member) {
+            this.member = member;
+            this.followPath = "members[" + member.getId() + "]";
+        }
+    }
+
+    public static final class PropertyPlan extends MemberPlan<OneToOneAssociation> {
+
+        /**
+         * The compile time type of the property, which the remaining
+         * information has been resolved against.
+         */
+        @Getter private final ObjectSpecification valueSpec;
+
+        @Getter private final boolean value;
+
+        /**
+         * The converter registered for the compile time type of a value
+         * property, if any.
+         */
+        @Getter private final JsonValueConverter valueConverter;
+
+        @Getter private final String format;
+        @Getter private final String formatIfNull;
+
+        @Getter private final boolean renderEagerly;
+
+        private PropertyPlan(final OneToOneAssociation property, final JsonValueEncoder jsonValueEncoder) {
+            super(property);
+            this.valueSpec = property.getSpecification();
+            this.value = valueSpec.getFacet(ValueFacet.class) != null;
+            this.valueConverter = value
+                    ? jsonValueEncoder.converterFor(valueSpec)
+                    : null;
+            this.format = ObjectPropertyReprRenderer.formatFor(property, valueSpec);
+            this.formatIfNull = ObjectPropertyReprRenderer.formatFor(property, null);
+            this.renderEagerly = ObjectPropertyReprRenderer.renderEagerly(property);
+        }
+
+        static PropertyPlan compile(final OneToOneAssociation property, final JsonValueEncoder jsonValueEncoder) {
+            return new PropertyPlan(property, jsonValueEncoder);
+        }
+    }
+
+}
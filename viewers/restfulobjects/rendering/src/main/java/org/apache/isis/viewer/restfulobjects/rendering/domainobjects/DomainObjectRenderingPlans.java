@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
+
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Compiles a {@link DomainObjectRenderingPlan} for each
+ * {@link ObjectSpecification} when first rendered, reused for all subsequent
+ * requests.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.viewer.ro.DomainObjectRenderingPlans")
+@Order(OrderPrecedence.MIDPOINT)
+@Primary
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class DomainObjectRenderingPlans {
+
+    private final JsonValueEncoder jsonValueEncoder;
+
+    private final Map<ObjectSpecification, DomainObjectRenderingPlan> planBySpec = _Maps.newConcurrentHashMap();
+
+    public DomainObjectRenderingPlan planFor(final @NonNull ObjectSpecification objectSpecification) {
+        return planBySpec.computeIfAbsent(objectSpecification,
+                spec->DomainObjectRenderingPlan.compile(spec, jsonValueEncoder));
+    }
+
+}
@@ -18,12 +18,10 @@
  */
 package org.apache.isis.viewer.restfulobjects.rendering.domainobjects;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.isis.applib.annotation.DomainServiceLayout;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.Consent;
 import org.apache.isis.core.metamodel.facets.object.domainservicelayout.DomainServiceLayoutFacet;
 import org.apache.isis.core.metamodel.facets.object.title.TitleFacet;
@@ -34,9 +32,7 @@
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
-import org.apache.isis.core.metamodel.spec.feature.MixedIn;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
-import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
@@ -126,6 +122,7 @@ public boolean isArgs() {
 
     private ObjectAdapterLinkTo linkToBuilder;
     private ManagedObject objectAdapter;
+    private DomainObjectRenderingPlan plan;
     private Mode mode = Mode.REGULAR;
 
     public DomainObjectReprRenderer(
@@ -148,13 +145,10 @@ public DomainObjectReprRenderer usingLinkToBuilder(final ObjectAdapterLinkTo obj
     @Override
     public DomainObjectReprRenderer with(final ManagedObject objectAdapter) {
         this.objectAdapter = objectAdapter;
-        String domainTypeHref = DomainTypeReprRenderer
-                .newLinkToBuilder(
-                        getResourceContext(), 
-                        Rel.DOMAIN_TYPE, 
-                        objectAdapter.getSpecification())
-                .build()
-                .getString("href");
+        this.plan = resourceContext.getServiceRegistry()
+                .lookupServiceElseFail(DomainObjectRenderingPlans.class)
+                .planFor(objectAdapter.getSpecification());
+        String domainTypeHref = resourceContext.urlFor(plan.getDomainTypeUrl());
         addMediaTypeParams(X_RO_DOMAIN_TYPE, domainTypeHref);
         return this;
     }
@@ -287,22 +281,16 @@ private void addLinkToUp() {
     private DomainObjectReprRenderer withMembers(final ManagedObject objectAdapter) {
         final JsonRepresentation appendTo =
                 mode.isUpdatePropertiesLinkArgs() ? representation : JsonRepresentation.newMap();
-        final List<ObjectAssociation> associations = objectAdapter.getSpecification()
-                .streamAssociations(MixedIn.INCLUDED)
-                .collect(Collectors.toList());
 
-        addProperties(objectAdapter, appendTo, associations);
+        addProperties(objectAdapter, appendTo, plan.getProperties());
 
         if(!resourceContext.objectPropertyValuesOnly()) {
             if (!mode.isArgs() ) {
-                addCollections(objectAdapter, appendTo, associations);
+                addCollections(objectAdapter, appendTo, plan.getCollections());
             }
 
             if (mode.isRegular()) {
-                final Stream<ObjectAction> actions = objectAdapter.getSpecification()
-                        .streamActions(MixedIn.INCLUDED);
-
-                addActions(objectAdapter, actions, appendTo);
+                addActions(objectAdapter, plan.getActions(), appendTo);
             }
         }
         if(!mode.isUpdatePropertiesLinkArgs()) {
@@ -311,25 +299,26 @@ private DomainObjectReprRenderer withMembers(final ManagedObject objectAdapter)
         return this;
     }
 
-    private void addProperties(final ManagedObject objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
-        for (final ObjectAssociation assoc : associations) {
+    private void addProperties(
+            final ManagedObject objectAdapter,
+            final JsonRepresentation members,
+            final Can<DomainObjectRenderingPlan.PropertyPlan> propertyPlans) {
+        for (final DomainObjectRenderingPlan.PropertyPlan propertyPlan : propertyPlans) {
+            final OneToOneAssociation property = propertyPlan.getMember();
 
             if (mode.checkVisibility()) {
-                final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
+                final Consent visibility = property.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
                 if (!visibility.isAllowed()) {
                     continue;
                 }
             }
-            if (!(assoc instanceof OneToOneAssociation)) {
-                continue;
-            }
 
-            final OneToOneAssociation property = (OneToOneAssociation) assoc;
-            final LinkFollowSpecs linkFollowerForProp = getLinkFollowSpecs().follow("members[" + property.getId() + "]");
+            final LinkFollowSpecs linkFollowerForProp = getLinkFollowSpecs().follow(propertyPlan.getFollowPath());
             final JsonRepresentation propertyRepresentation = JsonRepresentation.newMap();
             final ObjectPropertyReprRenderer renderer =
                     new ObjectPropertyReprRenderer(getResourceContext(), linkFollowerForProp, property.getId(), propertyRepresentation);
             renderer.with(ManagedProperty.of(objectAdapter, property, resourceContext.getWhere())).usingLinkTo(linkToBuilder);
+            renderer.withPlan(propertyPlan);
 
             if (mode.isArgs()) {
                 renderer.asArguments();
@@ -342,28 +331,25 @@ private void addProperties(final ManagedObject objectAdapter, final JsonRepresen
             final JsonRepresentation propertyRepr = resourceContext.objectPropertyValuesOnly()
                     ? propertyValueRepresentation.getRepresentation("value")
                             : propertyValueRepresentation;
-                    members.mapPut(assoc.getId(), propertyRepr);
+                    members.mapPut(property.getId(), propertyRepr);
         }
     }
 
-    private void addCollections(final ManagedObject objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
-        for (final ObjectAssociation assoc : associations) {
+    private void addCollections(
+            final ManagedObject objectAdapter,
+            final JsonRepresentation members,
+            final Can<DomainObjectRenderingPlan.MemberPlan<OneToManyAssociation>> collectionPlans) {
+        for (final DomainObjectRenderingPlan.MemberPlan<OneToManyAssociation> collectionPlan : collectionPlans) {
+            final OneToManyAssociation collection = collectionPlan.getMember();
 
             if (mode.checkVisibility()) {
-                final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
+                final Consent visibility = collection.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
                 if (!visibility.isAllowed()) {
                     continue;
                 }
             }
 
-            if (!(assoc instanceof OneToManyAssociation)) {
-                continue;
-            }
-
-            final OneToManyAssociation collection = (OneToManyAssociation) assoc;
-
-            final LinkFollowSpecs linkFollowerForColl = getLinkFollowSpecs().follow(
-                    "members[" + collection.getId() + "]");
+            final LinkFollowSpecs linkFollowerForColl = getLinkFollowSpecs().follow(collectionPlan.getFollowPath());
             final JsonRepresentation collectionRepresentation = JsonRepresentation.newMap();
             final ObjectCollectionReprRenderer renderer =
                     new ObjectCollectionReprRenderer(getResourceContext(), linkFollowerForColl, collection.getId(), collectionRepresentation);
@@ -375,22 +361,23 @@ private void addCollections(final ManagedObject objectAdapter, final JsonReprese
                 renderer.asEventSerialization();
             }
 
-            members.mapPut(assoc.getId(), renderer.render());
+            members.mapPut(collection.getId(), renderer.render());
         }
     }
 
     private void addActions(
             final ManagedObject objectAdapter, 
-            final Stream<ObjectAction> actions, 
+            final Can<DomainObjectRenderingPlan.MemberPlan<ObjectAction>> actionPlans, 
             final JsonRepresentation members) {
 
-        actions
-        .filter(action->{
-            final Consent visibility = action.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
+        actionPlans.stream()
+        .filter(actionPlan->{
+            final Consent visibility = actionPlan.getMember().isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
             return visibility.isAllowed();
         })
-        .forEach(action->{
-            final LinkFollowSpecs linkFollowSpecs = getLinkFollowSpecs().follow("members["+action.getId()+"]");
+        .forEach(actionPlan->{
+            final ObjectAction action = actionPlan.getMember();
+            final LinkFollowSpecs linkFollowSpecs = getLinkFollowSpecs().follow(actionPlan.getFollowPath());
             final ObjectActionReprRenderer renderer = 
                     new ObjectActionReprRenderer(getResourceContext(), linkFollowSpecs, action.getId(), 
                             JsonRepresentation.newMap());
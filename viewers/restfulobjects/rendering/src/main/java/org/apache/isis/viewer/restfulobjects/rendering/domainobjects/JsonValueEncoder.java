@@ -140,8 +140,23 @@ public Object appendValueAndFormat(
             String format,
             boolean suppressExtensions) {
 
-        val cls = objectSpecification.getCorrespondingClass();
-        val jsonValueConverter = converterByClass.get(cls);
+        return appendValueAndFormat(
+                converterFor(objectSpecification), 
+                objectAdapter, objectSpecification, repr, format, suppressExtensions);
+    }
+
+    /**
+     * As {@link #appendValueAndFormat(ManagedObject, ObjectSpecification, JsonRepresentation, String, boolean)},
+     * with the converter already resolved using {@link #converterFor(ObjectSpecification)}.
+     */
+    Object appendValueAndFormat(
+            @Nullable JsonValueConverter jsonValueConverter,
+            ManagedObject objectAdapter,
+            ObjectSpecification objectSpecification,
+            JsonRepresentation repr,
+            String format,
+            boolean suppressExtensions) {
+
         if(jsonValueConverter != null) {
             return jsonValueConverter.appendValueAndFormat(objectAdapter, format, repr, suppressExtensions);
         } else {
@@ -161,6 +176,14 @@ public Object appendValueAndFormat(
         }
     }
 
+    /**
+     * The converter registered for the value type, if any.
+     */
+    @Nullable
+    JsonValueConverter converterFor(final @NonNull ObjectSpecification objectSpecification) {
+        return converterByClass.get(objectSpecification.getCorrespondingClass());
+    }
+
     @Nullable
     public Object asObject(final @NonNull ManagedObject adapter, final String format) {
         
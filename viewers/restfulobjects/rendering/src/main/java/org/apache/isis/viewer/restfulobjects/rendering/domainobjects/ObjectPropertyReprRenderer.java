@@ -34,6 +34,7 @@
 import org.apache.isis.core.metamodel.facets.value.bigdecimal.BigDecimalValueFacet;
 import org.apache.isis.core.metamodel.facets.value.biginteger.BigIntegerValueFacet;
 import org.apache.isis.core.metamodel.interactions.managed.ManagedProperty;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.isis.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.isis.viewer.restfulobjects.applib.Rel;
@@ -48,6 +49,8 @@
 public class ObjectPropertyReprRenderer 
 extends AbstractObjectMemberReprRenderer<ObjectPropertyReprRenderer, OneToOneAssociation> {
 
+    private DomainObjectRenderingPlan.PropertyPlan plan;
+
     public ObjectPropertyReprRenderer(IResourceContext context) {
         this(context, null, null, JsonRepresentation.newMap());
     }
@@ -61,6 +64,15 @@ public ObjectPropertyReprRenderer(
                 Where.OBJECT_FORMS);
     }
 
+    /**
+     * Use what has been resolved upfront for the property, rather than
+     * consulting the metamodel while rendering.
+     */
+    ObjectPropertyReprRenderer withPlan(final DomainObjectRenderingPlan.PropertyPlan plan) {
+        this.plan = plan;
+        return this;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -90,31 +102,18 @@ private Object addValue(final LinkFollowSpecs linkFollower) {
         // use the runtime type if we have a value, else the compile time type of the member otherwise
         val spec = valueAdapterIfAny != null? valueAdapterIfAny.getSpecification(): objectMember.getSpecification();
 
-        val valueFacet = spec.getFacet(ValueFacet.class);
-        if (valueFacet != null) {
-            String format = null;
-            final Class<?> specClass = spec.getCorrespondingClass();
-            if(specClass == java.math.BigDecimal.class) {
-                // look for facet on member, else on the value's spec
-                final BigDecimalValueFacet bigDecimalValueFacet =
-                        getFacet(BigDecimalValueFacet.class,
-                                objectMember,
-                                valueAdapterIfAny != null? valueAdapterIfAny.getSpecification(): null);
-                if(bigDecimalValueFacet != null) {
-                    final Integer precision = bigDecimalValueFacet.getPrecision();
-                    final Integer scale = bigDecimalValueFacet.getScale();
-                    format = String.format("big-decimal(%d,%d)", precision, scale);
-                }
-            } else if(specClass == java.math.BigInteger.class) {
-                // look for facet on member, else on the value's spec
-                final BigIntegerValueFacet bigIntegerValueFacet =
-                        getFacet(BigIntegerValueFacet.class,
-                                objectMember,
-                                valueAdapterIfAny != null? valueAdapterIfAny.getSpecification(): null);
-                if(bigIntegerValueFacet != null) {
-                    format = String.format("big-integer");
-                }
+        // the plan (if any) is resolved against the compile time type
+        if (plan != null
+                && plan.getValueSpec() == spec) {
+            if(plan.isValue()) {
+                return jsonValueEncoder.appendValueAndFormat(
+                        plan.getValueConverter(),
+                        valueAdapterIfAny, spec, representation,
+                        valueAdapterIfAny != null ? plan.getFormat() : plan.getFormatIfNull(),
+                        resourceContext.suppressMemberExtensions());
             }
+        } else if (spec.getFacet(ValueFacet.class) != null) {
+            final String format = formatFor(objectMember, valueAdapterIfAny != null? spec: null);
             return jsonValueEncoder.appendValueAndFormat(valueAdapterIfAny, spec, representation, format, resourceContext.suppressMemberExtensions());
         }
 
@@ -149,10 +148,44 @@ private Object addValue(final LinkFollowSpecs linkFollower) {
     }
 
     private boolean renderEagerly() {
-        final DefaultViewFacet defaultViewFacet = objectMember.getFacet(DefaultViewFacet.class);
+        return plan != null
+                ? plan.isRenderEagerly()
+                : renderEagerly(objectMember);
+    }
+
+    static boolean renderEagerly(final OneToOneAssociation property) {
+        final DefaultViewFacet defaultViewFacet = property.getFacet(DefaultViewFacet.class);
         return defaultViewFacet != null && Objects.equals(defaultViewFacet.value(), "table");
     }
 
+    /**
+     * The format of a value property, if any.
+     *
+     * @param valueSpecIfAny - the specification of the property's value, or <tt>null</tt> if there is no value
+     */
+    static String formatFor(final OneToOneAssociation property, final ObjectSpecification valueSpecIfAny) {
+        final Class<?> specClass = (valueSpecIfAny != null ? valueSpecIfAny : property.getSpecification())
+                .getCorrespondingClass();
+        if(specClass == java.math.BigDecimal.class) {
+            // look for facet on member, else on the value's spec
+            final BigDecimalValueFacet bigDecimalValueFacet =
+                    getFacet(BigDecimalValueFacet.class, property, valueSpecIfAny);
+            if(bigDecimalValueFacet != null) {
+                final Integer precision = bigDecimalValueFacet.getPrecision();
+                final Integer scale = bigDecimalValueFacet.getScale();
+                return String.format("big-decimal(%d,%d)", precision, scale);
+            }
+        } else if(specClass == java.math.BigInteger.class) {
+            // look for facet on member, else on the value's spec
+            final BigIntegerValueFacet bigIntegerValueFacet =
+                    getFacet(BigIntegerValueFacet.class, property, valueSpecIfAny);
+            if(bigIntegerValueFacet != null) {
+                return String.format("big-integer");
+            }
+        }
+        return null;
+    }
+
     private static <T extends Facet> T getFacet(Class<T> facetType, FacetHolder... holders) {
         for (FacetHolder holder : holders) {
             if(holder == null) {
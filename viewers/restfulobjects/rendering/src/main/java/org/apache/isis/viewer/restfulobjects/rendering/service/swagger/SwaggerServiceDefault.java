@@ -18,11 +18,16 @@
  */
 package org.apache.isis.viewer.restfulobjects.rendering.service.swagger;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
@@ -31,29 +36,67 @@
 import org.apache.isis.applib.services.swagger.SwaggerService;
 import org.apache.isis.applib.services.swagger.Visibility;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.config.RestEasyConfiguration;
 import org.apache.isis.core.config.viewer.wicket.WebAppContextPath;
+import org.apache.isis.core.interaction.session.InteractionFactory;
+import org.apache.isis.core.metamodel.events.MetamodelEvent;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.viewer.restfulobjects.rendering.service.swagger.internal.SwaggerSpecGenerator;
 
+import lombok.Value;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+import io.swagger.models.Swagger;
 
+/**
+ * Generating a spec walks the entire metamodel, so the generated spec is
+ * cached for each {@link Visibility} (and its rendering for each
+ * {@link Format}) for as long as the metamodel is unchanged.
+ */
 @Service
 @Named("isis.metamodel.swaggerServiceDefault")
 @Order(OrderPrecedence.MIDPOINT)
 @Primary
 @Qualifier("Default")
+@Log4j2
 public class SwaggerServiceDefault implements SwaggerService {
 
     private final SwaggerSpecGenerator swaggerSpecGenerator;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionFactory isisInteractionFactory;
+    private final IsisConfiguration isisConfiguration;
     private final String basePath;
 
+    private final Map<Visibility, Cached<Swagger>> modelByVisibility = new ConcurrentHashMap<>();
+    private final Map<SpecKey, Cached<String>> specByKey = new ConcurrentHashMap<>();
+
+    @Value
+    private static class SpecKey {
+        private final Visibility visibility;
+        private final Format format;
+    }
+
+    @Value
+    private static class Cached<T> {
+        private final long metamodelVersion;
+        private final T value;
+    }
+
     @Inject
     public SwaggerServiceDefault(
             final SwaggerSpecGenerator swaggerSpecGenerator,
+            final SpecificationLoader specificationLoader,
+            final InteractionFactory isisInteractionFactory,
+            final IsisConfiguration isisConfiguration,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.specificationLoader = specificationLoader;
+        this.isisInteractionFactory = isisInteractionFactory;
+        this.isisConfiguration = isisConfiguration;
 
         val restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         val restfulBase = webAppContextPath.prependContextPath(restfulPath);
@@ -65,7 +108,67 @@ public SwaggerServiceDefault(
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+
+        val metamodelVersion = metamodelVersion();
+        return specByKey.compute(new SpecKey(visibility, format), (key, cached) -> {
+            if(cached != null && cached.getMetamodelVersion() == metamodelVersion) {
+                return cached;
+            }
+            val model = modelFor(visibility, metamodelVersion);
+            return new Cached<>(model.getMetamodelVersion(), swaggerSpecGenerator.format(model.getValue(), format));
+        })
+        .getValue();
+    }
+
+    private Cached<Swagger> modelFor(final Visibility visibility, final long metamodelVersion) {
+        return modelByVisibility.compute(visibility, (key, cached) -> {
+            if(cached != null && cached.getMetamodelVersion() == metamodelVersion) {
+                return cached;
+            }
+            val model = swaggerSpecGenerator.generateModel(basePath, visibility);
+            // generating may itself have introspected further types
+            return new Cached<>(metamodelVersion(), model);
+        });
+    }
+
+    /**
+     * Changes whenever a specification is added to, or reloaded into, the
+     * metamodel; far cheaper to calculate than the spec itself.
+     */
+    private long metamodelVersion() {
+        val specs = specificationLoader.snapshotSpecifications();
+        long version = specs.size();
+        for (val spec : specs) {
+            version = 31 * version + System.identityHashCode(spec);
+        }
+        return version;
+    }
+
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent event) {
+
+        modelByVisibility.clear();
+        specByKey.clear();
+
+        if(event.isPostMetamodel()
+                && isisConfiguration.getViewer().getRestfulobjects().getSwagger().isPregenerate()) {
+            CompletableFuture.runAsync(this::pregenerate)
+            .exceptionally(ex -> {
+                log.warn("failed to pregenerate swagger specs", ex);
+                return null;
+            });
+        }
+    }
+
+    private void pregenerate() {
+        isisInteractionFactory.runAnonymous(()->{
+            for (val visibility : Visibility.values()) {
+                for (val format : Format.values()) {
+                    generateSwaggerSpec(visibility, format);
+                }
+            }
+        });
+        log.info("pregenerated swagger specs");
     }
 
 }
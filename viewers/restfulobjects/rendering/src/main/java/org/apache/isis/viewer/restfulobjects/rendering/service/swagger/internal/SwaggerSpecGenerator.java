@@ -59,8 +59,24 @@ public String generate(
             final Visibility visibility,
             final Format format) {
 
+        return format(generateModel(basePath, visibility), format);
+    }
+
+    /**
+     * Walks the metamodel to build the spec, independently of the
+     * {@link Format} it is ultimately rendered as.
+     */
+    public Swagger generateModel(
+            final String basePath,
+            final Visibility visibility) {
+
         final Generation generation = newGeneration(basePath, visibility);
-        final Swagger swagger = generation.generate();
+        return generation.generate();
+    }
+
+    public String format(
+            final Swagger swagger,
+            final Format format) {
 
         switch (format) {
         case JSON:
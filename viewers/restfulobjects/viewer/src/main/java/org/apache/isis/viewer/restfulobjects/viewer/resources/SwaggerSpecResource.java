@@ -28,8 +28,11 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.springframework.stereotype.Component;
 
@@ -50,6 +53,7 @@ public class SwaggerSpecResource {
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
@@ -65,7 +69,7 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
+    public Response swaggerPrivate() {
         return swagger(Visibility.PRIVATE);
     }
 
@@ -75,7 +79,7 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
+    public Response swaggerPrototyping() {
         return swagger(Visibility.PRIVATE_WITH_PROTOTYPING);
     }
 
@@ -85,17 +89,37 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
+    public Response swaggerPublic() {
         return swagger(Visibility.PUBLIC);
     }
 
-    private String swagger(final Visibility visibility) {
+    /**
+     * The spec is cached (until the metamodel changes) by the {@link SwaggerService},
+     * so is tagged so that clients can avoid downloading it again.
+     */
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
         val callable = new MyCallable(swaggerService, visibility, format);
 
         val spec = isisInteractionFactory.callAnonymous(callable);
-        return spec;
+
+        val entityTag = entityTagFor(spec, format);
+        val notModified = request.evaluatePreconditions(entityTag);
+        if(notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(spec)
+                .type(format == Format.YAML ? "text/yaml" : MediaType.APPLICATION_JSON)
+                .tag(entityTag)
+                .build();
+    }
+
+    private static EntityTag entityTagFor(final String spec, final Format format) {
+        // the hash of a (cached) string is itself cached, so this is cheap
+        return new EntityTag(format.name().toLowerCase()
+                + "-" + Integer.toHexString(spec.hashCode())
+                + "-" + Integer.toHexString(spec.length()));
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -27,6 +27,7 @@
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.security.authentication.cache.VerifiedCredentialCache;
 import org.apache.isis.core.security.authentication.manager.AuthenticationManager;
 
 import lombok.val;
@@ -36,19 +37,31 @@ public abstract class AuthenticationStrategyAbstract implements AuthenticationSt
     public static final int STATUS_UNAUTHORIZED = 401;
     
     private AuthenticationManager authenticationManager;
+    private VerifiedCredentialCache verifiedCredentialCache;
     
     protected AuthenticationManager getAuthenticationManager(ServletRequest servletRequest) {
         if(authenticationManager==null) {
-            val servletContext = getServletContext(servletRequest);
-            val webApplicationContext = WebApplicationContextUtils.getWebApplicationContext(servletContext);
-            if(webApplicationContext==null) {
-                throw _Exceptions.illegalState("Requires a WebApplicationContext (Spring).");
-            }
-            authenticationManager = webApplicationContext.getBean(AuthenticationManager.class);
+            authenticationManager = getBean(servletRequest, AuthenticationManager.class);
         }
         return authenticationManager;
     }
 
+    protected VerifiedCredentialCache getVerifiedCredentialCache(ServletRequest servletRequest) {
+        if(verifiedCredentialCache==null) {
+            verifiedCredentialCache = getBean(servletRequest, VerifiedCredentialCache.class);
+        }
+        return verifiedCredentialCache;
+    }
+
+    private <T> T getBean(ServletRequest servletRequest, Class<T> requiredType) {
+        val servletContext = getServletContext(servletRequest);
+        val webApplicationContext = WebApplicationContextUtils.getWebApplicationContext(servletContext);
+        if(webApplicationContext==null) {
+            throw _Exceptions.illegalState("Requires a WebApplicationContext (Spring).");
+        }
+        return webApplicationContext.getBean(requiredType);
+    }
+
     protected HttpSession getHttpSession(ServletRequest servletRequest) {
         val httpServletRequest = (HttpServletRequest) servletRequest;
         return httpServletRequest.getSession();
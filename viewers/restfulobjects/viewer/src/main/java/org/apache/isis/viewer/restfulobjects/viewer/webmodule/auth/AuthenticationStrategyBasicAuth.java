@@ -30,12 +30,17 @@
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.security.authentication.AuthenticationRequestPassword;
 import org.apache.isis.core.security.authentication.Authentication;
+import org.apache.isis.core.security.authentication.cache.VerifiedCredentialCache;
 
 import lombok.val;
 
 /**
  * Implements the HTTP Basic Auth protocol; does not bind the
  * {@link Authentication} onto the {@link HttpSession}.
+ * <p>
+ * Verified credentials are remembered for a short while by the
+ * {@link VerifiedCredentialCache}, so that clients repeatedly presenting the same
+ * credentials are not authenticated anew with each request.
  */
 public class AuthenticationStrategyBasicAuth extends AuthenticationStrategyAbstract {
 
@@ -62,6 +67,15 @@ public Authentication lookupValid(
             return null;
         }
 
+        val authenticationManager = super.getAuthenticationManager(httpServletRequest);
+        val verifiedCredentialCache = super.getVerifiedCredentialCache(httpServletRequest);
+
+        val cachedAuthentication = verifiedCredentialCache.lookup(digest)
+                .filter(authenticationManager::isSessionValid);
+        if(cachedAuthentication.isPresent()) {
+            return cachedAuthentication.get();
+        }
+
         val userAndPassword = unencoded(digest);
         val matcher = USER_AND_PASSWORD_REGEX.matcher(userAndPassword);
         if (!matcher.matches()) {
@@ -72,8 +86,10 @@ public Authentication lookupValid(
         val password = matcher.group(2);
 
         val authenticationRequestPwd = new AuthenticationRequestPassword(user, password);
-        val authenticationManager = super.getAuthenticationManager(httpServletRequest);
         val authentication = authenticationManager.authenticate(authenticationRequestPwd);
+        if(authentication != null) {
+            verifiedCredentialCache.put(digest, authentication);
+        }
         return authentication;
     }
 
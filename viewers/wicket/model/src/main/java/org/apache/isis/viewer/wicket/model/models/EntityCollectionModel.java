@@ -148,14 +148,14 @@ public enum Variant {
             @Override
             List<ManagedObject> load(EntityCollectionModel colModel) {
 
-                return loadElementsOneByOne(colModel).collect(Collectors.toList());
+                return loadElementsInBulk(colModel).collect(Collectors.toList());
             }
 
 
-            private Stream<ManagedObject> loadElementsOneByOne(final EntityCollectionModel model) {
+            private Stream<ManagedObject> loadElementsInBulk(final EntityCollectionModel model) {
 
-                return stream(model.mementoList)
-                        .map(model.getCommonContext()::reconstructObject)
+                return stream(model.getMementoService()
+                        .reconstructObjects(_NullSafe.stream(model.mementoList).collect(Collectors.toList())))
                         .filter(_NullSafe::isPresent);
             }
 
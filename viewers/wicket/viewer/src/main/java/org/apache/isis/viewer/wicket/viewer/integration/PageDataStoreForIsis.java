@@ -0,0 +1,382 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.integration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.pageStore.IDataStore;
+
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stores the serialized pages of each session compressed, in a ring held
+ * within a memory-mapped file of bounded size (so off-heap); once a ring is
+ * full, the least recently stored pages are evicted to make room.
+ *
+ * <p>
+ *     Used instead of Wicket's <code>DiskDataStore</code> if enabled, see
+ *     <code>isis.viewer.wicket.page-store.enabled</code>.
+ * </p>
+ *
+ * @since 2.0
+ */
+@Log4j2
+public class PageDataStoreForIsis implements IDataStore {
+
+    private static final MetaDataKey<PageDataStoreForIsis> KEY = new MetaDataKey<PageDataStoreForIsis>() {
+        private static final long serialVersionUID = 1L;
+    };
+
+    /**
+     * The page data store of the given application, if it is one of these.
+     */
+    public static Optional<PageDataStoreForIsis> lookup(final @NonNull Application application) {
+        return Optional.ofNullable(application.getMetaData(KEY));
+    }
+
+    static void register(final Application application, final PageDataStoreForIsis dataStore) {
+        application.setMetaData(KEY, dataStore);
+    }
+
+    @Getter private final Path directory;
+    @Getter private final int maxSizePerSession;
+    private final int compressionLevel;
+
+    private final ConcurrentMap<String, SessionRing> ringBySessionId = new ConcurrentHashMap<>();
+
+    public PageDataStoreForIsis(
+            final @NonNull Path directory,
+            final int maxSizePerSession,
+            final int compressionLevel) {
+        this.directory = directory;
+        this.maxSizePerSession = maxSizePerSession;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public byte[] getData(final String sessionId, final int id) {
+        val ring = ringBySessionId.get(sessionId);
+        return ring != null
+                ? ring.get(id)
+                : null;
+    }
+
+    @Override
+    public void storeData(final String sessionId, final int id, final byte[] data) {
+        val compressed = compress(data, compressionLevel);
+        val ring = ringBySessionId.computeIfAbsent(sessionId, this::newRing);
+        if(!ring.put(id, compressed, data.length)) {
+            log.warn("page {} of session {} is larger ({} bytes compressed) than the page store allows per session; not stored",
+                    id, sessionId, compressed.length);
+        }
+    }
+
+    @Override
+    public void removeData(final String sessionId, final int id) {
+        val ring = ringBySessionId.get(sessionId);
+        if(ring != null) {
+            ring.remove(id);
+        }
+    }
+
+    @Override
+    public void removeData(final String sessionId) {
+        val ring = ringBySessionId.remove(sessionId);
+        if(ring != null) {
+            if(log.isDebugEnabled()) {
+                log.debug("session {} page store: {}", sessionId, ring.getStatistics());
+            }
+            ring.close();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ringBySessionId.keySet().forEach(this::removeData);
+    }
+
+    @Override
+    public boolean isReplicated() {
+        return false;
+    }
+
+    @Override
+    public boolean canBeAsynchronous() {
+        return true;
+    }
+
+    // -- STATISTICS
+
+    public Optional<Statistics> getStatistics(final String sessionId) {
+        return Optional.ofNullable(ringBySessionId.get(sessionId))
+                .map(SessionRing::getStatistics);
+    }
+
+    /**
+     * Statistics of every session currently holding pages, keyed by session id.
+     */
+    public Map<String, Statistics> getStatistics() {
+        final Map<String, Statistics> statisticsBySessionId = new LinkedHashMap<>();
+        ringBySessionId.forEach((sessionId, ring)->statisticsBySessionId.put(sessionId, ring.getStatistics()));
+        return statisticsBySessionId;
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int pages;
+        /**
+         * Size of the pages held, as stored (compressed).
+         */
+        private final long storedBytes;
+        /**
+         * Size of the pages held, as serialized (uncompressed).
+         */
+        private final long serializedBytes;
+
+        public double getHitRatio() {
+            final long lookups = hits + misses;
+            return lookups > 0L
+                    ? (double) hits / lookups
+                    : 0.;
+        }
+    }
+
+    // -- HELPER
+
+    private SessionRing newRing(final String sessionId) {
+        val file = directory.resolve(fileNameFor(sessionId));
+        try {
+            Files.createDirectories(directory);
+            return new SessionRing(file, maxSizePerSession);
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable("failed to create page store file " + file, e);
+        }
+    }
+
+    /**
+     * Named by the (hex encoded, so also unique on case-insensitive file systems) 
+     * hash of the session id, as session ids are not necessarily valid file names.
+     */
+    static String fileNameFor(final String sessionId) {
+        val hash = _Hashes.digest(_Hashes.Algorithm.SHA256, sessionId.getBytes(StandardCharsets.UTF_8))
+                .orElseThrow(()->_Exceptions.unrecoverable("no SHA-256 digest available"));
+        return String.format("%064x", new BigInteger(1, hash)) + ".pages";
+    }
+
+    static byte[] compress(final byte[] data, final int compressionLevel) {
+        val deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            val out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            val chunk = new byte[8192];
+            while(!deflater.finished()) {
+                final int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] decompress(final byte[] compressed, final int length) throws DataFormatException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            val data = new byte[length];
+            int offset = 0;
+            while(offset < length && !inflater.finished()) {
+                final int inflated = inflater.inflate(data, offset, length - offset);
+                if(inflated == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("truncated page data");
+                }
+                offset += inflated;
+            }
+            return data;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * The pages of a single session, written one after the other into a
+     * memory-mapped file, wrapping around to the start once its end is reached;
+     * any pages overwritten by doing so are evicted.
+     */
+    static final class SessionRing {
+
+        private static final class Slot {
+            private final int offset;
+            private final int length;
+            private final int serializedLength;
+
+            Slot(final int offset, final int length, final int serializedLength) {
+                this.offset = offset;
+                this.length = length;
+                this.serializedLength = serializedLength;
+            }
+
+            boolean overlaps(final int otherOffset, final int otherLength) {
+                return offset < otherOffset + otherLength
+                        && otherOffset < offset + length;
+            }
+        }
+
+        private final Path file;
+        private final int capacity;
+        private final MappedByteBuffer buffer;
+
+        /**
+         * in order of being stored, oldest first
+         */
+        private final LinkedHashMap<Integer, Slot> slotByPageId = new LinkedHashMap<>();
+        private int head;
+
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long storedBytes;
+        private long serializedBytes;
+
+        SessionRing(final Path file, final int capacity) throws IOException {
+            this.file = file;
+            this.capacity = capacity;
+            try(RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(capacity);
+                // the mapping remains valid once the channel is closed
+                this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+        }
+
+        synchronized boolean put(final int pageId, final byte[] compressed, final int serializedLength) {
+            remove(pageId);
+            final int length = compressed.length;
+            if(length > capacity) {
+                return false;
+            }
+            if(head + length > capacity) {
+                head = 0;
+            }
+            evictOverlapping(head, length);
+
+            val view = buffer.duplicate();
+            ((Buffer) view).position(head);
+            view.put(compressed);
+
+            slotByPageId.put(pageId, new Slot(head, length, serializedLength));
+            storedBytes += length;
+            serializedBytes += serializedLength;
+            head += length;
+            return true;
+        }
+
+        synchronized byte[] get(final int pageId) {
+            val slot = slotByPageId.get(pageId);
+            if(slot == null) {
+                misses++;
+                return null;
+            }
+            final ByteBuffer view = buffer.duplicate();
+            ((Buffer) view).position(slot.offset);
+            val compressed = new byte[slot.length];
+            view.get(compressed);
+            try {
+                val data = decompress(compressed, slot.serializedLength);
+                hits++;
+                return data;
+            } catch (DataFormatException e) {
+                log.warn("unable to decompress page {} from {}", pageId, file, e);
+                remove(pageId);
+                misses++;
+                return null;
+            }
+        }
+
+        synchronized void remove(final int pageId) {
+            val slot = slotByPageId.remove(pageId);
+            if(slot != null) {
+                release(slot);
+            }
+        }
+
+        synchronized Statistics getStatistics() {
+            return Statistics.of(hits, misses, evictions, slotByPageId.size(), storedBytes, serializedBytes);
+        }
+
+        synchronized void close() {
+            slotByPageId.clear();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // on some platforms a file cannot be deleted while still mapped
+                file.toFile().deleteOnExit();
+            }
+        }
+
+        private void evictOverlapping(final int offset, final int length) {
+            final Iterator<Slot> slots = slotByPageId.values().iterator();
+            while(slots.hasNext()) {
+                val slot = slots.next();
+                if(slot.overlaps(offset, length)) {
+                    slots.remove();
+                    release(slot);
+                    evictions++;
+                }
+            }
+        }
+
+        private void release(final Slot slot) {
+            storedBytes -= slot.length;
+            serializedBytes -= slot.serializedLength;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.integration;
+
+import java.nio.file.Paths;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.DefaultPageManagerProvider;
+import org.apache.wicket.pageStore.IDataStore;
+
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Stores pages using a {@link PageDataStoreForIsis}, otherwise (serializer,
+ * in-memory cache, asynchronous writes) as per Wicket's defaults.
+ *
+ * @since 2.0
+ */
+public class PageManagerProviderForIsis extends DefaultPageManagerProvider {
+
+    private final IsisConfiguration.Viewer.Wicket.PageStore pageStoreConfig;
+
+    public PageManagerProviderForIsis(
+            final Application application,
+            final @NonNull IsisConfiguration.Viewer.Wicket.PageStore pageStoreConfig) {
+        super(application);
+        this.pageStoreConfig = pageStoreConfig;
+    }
+
+    @Override
+    protected IDataStore newDataStore() {
+        val parentDirectory = pageStoreConfig.getDirectory()
+                .map(Paths::get)
+                .orElseGet(()->application.getStoreSettings().getFileStoreFolder().toPath());
+        val dataStore = new PageDataStoreForIsis(
+                parentDirectory.resolve(application.getName() + "-pagestore"),
+                pageStoreConfig.getMaxSizePerSessionKb() * 1024,
+                pageStoreConfig.getCompressionLevel());
+        PageDataStoreForIsis.register(application, dataStore);
+        return dataStore;
+    }
+
+}
@@ -19,6 +19,8 @@
 package org.apache.isis.viewer.wicket.viewer.services.mementos;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -38,6 +40,7 @@
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
@@ -157,6 +160,40 @@ public ManagedObject reconstructObject(@Nullable ObjectMemento memento) {
         throw _Exceptions.unrecoverableFormatted("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    /**
+     * Entities (to be looked up by their identifier) are loaded in bulk, 
+     * any other mementos one by one.
+     */
+    @Override
+    public List<ManagedObject> reconstructObjects(final @NonNull List<ObjectMemento> mementos) {
+
+        final List<ManagedObject> reconstructed = new ArrayList<>(mementos.size());
+        final List<Integer> entityIndexes = new ArrayList<>();
+        final List<ObjectLoader.Request> entityLoadRequests = new ArrayList<>();
+
+        for (int i = 0; i < mementos.size(); i++) {
+            val memento = mementos.get(i);
+            val entityLoadRequest = memento instanceof ObjectMementoAdapter
+                    ? ((ObjectMementoAdapter) memento).delegate.entityLoadRequestIfAny(specificationLoader)
+                    : Optional.<ObjectLoader.Request>empty();
+            if(entityLoadRequest.isPresent()) {
+                entityIndexes.add(i);
+                entityLoadRequests.add(entityLoadRequest.get());
+                reconstructed.add(null); // filled in below
+            } else {
+                reconstructed.add(reconstructObject(memento));
+            }
+        }
+
+        if(!entityLoadRequests.isEmpty()) {
+            val entities = objectManager.loadObjects(entityLoadRequests);
+            for (int j = 0; j < entityIndexes.size(); j++) {
+                reconstructed.set(entityIndexes.get(j), entities.get(j));
+            }
+        }
+        return reconstructed;
+    }
+
 //TODO 2x remove if no longer required for debugging ...    
     private void assertSingleton(ManagedObject adapter) {
 //        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
@@ -19,17 +19,26 @@
 
 package org.apache.isis.viewer.wicket.viewer.services.mementos;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.apache.isis.applib.id.HasLogicalType;
 import org.apache.isis.applib.id.LogicalType;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.hint.HintIdProvider;
+import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -37,6 +46,7 @@
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facets.object.encodeable.EncodableFacet;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -431,6 +441,14 @@ private ObjectMementoWkt(@NonNull final ManagedObject adapter) {
         init(adapter);
     }
 
+    /**
+     * Used by the {@link SerializationProxy} only, which then populates the remaining fields.
+     */
+    private ObjectMementoWkt(Cardinality cardinality, LogicalType logicalType) {
+        this.cardinality = cardinality;
+        this.logicalType = logicalType;
+    }
+
     private ObjectMementoWkt(LogicalType logicalType, String encodableValue) {
         this.cardinality = Cardinality.SCALAR;
         this.logicalType = logicalType;
@@ -522,6 +540,25 @@ ManagedObject reconstructObject(MetaModelContext mmc) {
         return cardinality.asAdapter(this, mmc);
     }
 
+    /**
+     * If this memento is for an entity to be looked up by its identifier, 
+     * the corresponding request, allowing entities to be loaded in bulk.
+     */
+    Optional<ObjectLoader.Request> entityLoadRequestIfAny(SpecificationLoader specificationLoader) {
+        if(cardinality != Cardinality.SCALAR
+                || recreateStrategy != RecreateStrategy.LOOKUP
+                || _NullSafe.isEmpty(persistentOidStr)) {
+            return Optional.empty();
+        }
+        val spec = specificationLoader.specForLogicalType(logicalType).orElse(null);
+        if(spec == null
+                || !spec.isEntity()) {
+            return Optional.empty();
+        }
+        val rootOid = Oid.unmarshaller().unmarshal(persistentOidStr, RootOid.class);
+        return Optional.of(ObjectLoader.Request.of(spec, rootOid.getIdentifier()));
+    }
+
     @Override
     public int hashCode() {
         return cardinality.hashCode(this);
@@ -569,5 +606,193 @@ private void ensureScalar() {
         getCardinality().ensure(Cardinality.SCALAR);
     }
 
+    // -- SERIALIZATION PROXY
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+
+    /**
+     * Wicket serializes entire page trees (holding many of these mementos) into its page store,
+     * so rather than relying on default serialization (which writes every field, including the
+     * redundant {@link #bookmark}), this writes a compact form, as follows:
+     * <ul>
+     * <li>one byte for the kind of memento ({@link Cardinality} and {@link RecreateStrategy}) and flags,</li>
+     * <li>the {@link LogicalType}, which - provided the same instance is shared (as it is by all
+     * mementos of the same {@link ObjectSpecification}) - is written in full only once per stream,
+     * subsequent mementos merely referencing it,</li>
+     * <li>for {@link RecreateStrategy#LOOKUP}, the identifier only, with the logical type name omitted
+     * from the OID if it is that of the {@link LogicalType} (as is usually the case); the
+     * {@link Bookmark} is derived from the OID when read back.</li>
+     * </ul>
+     */
+    private static final class SerializationProxy implements Externalizable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final byte VERSION = 1;
+
+        private static final byte KIND_ENCODEABLE = 0;
+        private static final byte KIND_LOOKUP = 1;
+        private static final byte KIND_SERIALIZABLE = 2;
+        private static final byte KIND_VECTOR = 3;
+        private static final byte KIND_MASK = 0x0f;
+
+        /** LOOKUP only: the OID's logical type name is that of the memento's logical type */
+        private static final byte FLAG_OID_OF_LOGICAL_TYPE = 0x10;
+        /** LOOKUP only: a hint-id is present */
+        private static final byte FLAG_HINT_ID = 0x20;
+        /** LOOKUP only: a bookmark is present */
+        private static final byte FLAG_BOOKMARK = 0x40;
+
+        private ObjectMementoWkt memento;
+
+        /**
+         * Required by {@link Externalizable}.
+         */
+        public SerializationProxy() {
+        }
+
+        private SerializationProxy(final ObjectMementoWkt memento) {
+            this.memento = memento;
+        }
+
+        @Override
+        public void writeExternal(final ObjectOutput out) throws IOException {
+            out.writeByte(VERSION);
+            if(memento.cardinality == Cardinality.VECTOR) {
+                out.writeByte(KIND_VECTOR);
+                out.writeObject(memento.logicalType);
+                writeLength(out, memento.list.size());
+                for(val element : memento.list) {
+                    out.writeObject(element);
+                }
+                return;
+            }
+            switch (memento.recreateStrategy) {
+            case ENCODEABLE:
+                out.writeByte(KIND_ENCODEABLE);
+                out.writeObject(memento.logicalType);
+                writeString(out, memento.encodableValue);
+                return;
+            case LOOKUP:
+                val oidPrefix = memento.getLogicalTypeName() + ":";
+                val isOidOfLogicalType = memento.persistentOidStr.startsWith(oidPrefix);
+                out.writeByte(KIND_LOOKUP
+                        | (isOidOfLogicalType ? FLAG_OID_OF_LOGICAL_TYPE : 0)
+                        | (memento.hintId != null ? FLAG_HINT_ID : 0)
+                        | (memento.bookmark != null ? FLAG_BOOKMARK : 0));
+                out.writeObject(memento.logicalType);
+                writeString(out, isOidOfLogicalType
+                        ? memento.persistentOidStr.substring(oidPrefix.length())
+                        : memento.persistentOidStr);
+                if(memento.hintId != null) {
+                    writeString(out, memento.hintId);
+                }
+                return;
+            case SERIALIZABLE:
+                out.writeByte(KIND_SERIALIZABLE);
+                out.writeObject(memento.logicalType);
+                writeLength(out, memento.serializedObject.length);
+                out.write(memento.serializedObject);
+                return;
+            default:
+                throw _Exceptions.unmatchedCase(memento.recreateStrategy);
+            }
+        }
+
+        @Override
+        public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+            val version = in.readByte();
+            if(version != VERSION) {
+                throw new InvalidObjectException("unsupported ObjectMementoWkt serial form version " + version);
+            }
+            val kindAndFlags = in.readByte();
+            val logicalType = (LogicalType) in.readObject();
+            switch (kindAndFlags & KIND_MASK) {
+            case KIND_VECTOR:
+                val size = readLength(in);
+                val list = new ArrayList<ObjectMementoWkt>(size);
+                for(int i=0; i<size; ++i) {
+                    list.add(_Casts.uncheckedCast(in.readObject()));
+                }
+                memento = new ObjectMementoWkt(list, logicalType);
+                return;
+            case KIND_ENCODEABLE:
+                memento = new ObjectMementoWkt(logicalType, readString(in));
+                return;
+            case KIND_LOOKUP:
+                memento = new ObjectMementoWkt(Cardinality.SCALAR, logicalType);
+                memento.recreateStrategy = RecreateStrategy.LOOKUP;
+                val oidStr = readString(in);
+                memento.persistentOidStr = (kindAndFlags & FLAG_OID_OF_LOGICAL_TYPE) != 0
+                        ? logicalType.getLogicalTypeName() + ":" + oidStr
+                        : oidStr;
+                if((kindAndFlags & FLAG_HINT_ID) != 0) {
+                    memento.hintId = readString(in);
+                }
+                if((kindAndFlags & FLAG_BOOKMARK) != 0) {
+                    memento.bookmark = Oid.unmarshaller()
+                            .unmarshal(memento.persistentOidStr, RootOid.class)
+                            .asBookmark();
+                }
+                return;
+            case KIND_SERIALIZABLE:
+                memento = new ObjectMementoWkt(Cardinality.SCALAR, logicalType);
+                memento.recreateStrategy = RecreateStrategy.SERIALIZABLE;
+                memento.serializedObject = new byte[readLength(in)];
+                in.readFully(memento.serializedObject);
+                return;
+            default:
+                throw new InvalidObjectException("unknown ObjectMementoWkt kind " + kindAndFlags);
+            }
+        }
+
+        private Object readResolve() {
+            return memento;
+        }
+
+        // -- HELPER
+
+        // unlike writeUTF, not limited to 64k
+        private static void writeString(final ObjectOutput out, final String str) throws IOException {
+            val bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeLength(out, bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(final ObjectInput in) throws IOException {
+            val bytes = new byte[readLength(in)];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        // variable length encoding, 7 bits per byte; most lengths fit into a single byte
+        private static void writeLength(final ObjectOutput out, int length) throws IOException {
+            while((length & ~0x7f) != 0) {
+                out.writeByte((length & 0x7f) | 0x80);
+                length >>>= 7;
+            }
+            out.writeByte(length);
+        }
+
+        private static int readLength(final ObjectInput in) throws IOException {
+            int length = 0;
+            for(int shift = 0; shift < 32; shift += 7) {
+                val b = in.readByte();
+                length |= (b & 0x7f) << shift;
+                if((b & 0x80) == 0) {
+                    return length;
+                }
+            }
+            throw new InvalidObjectException("malformed length");
+        }
+
+    }
+
 
 }
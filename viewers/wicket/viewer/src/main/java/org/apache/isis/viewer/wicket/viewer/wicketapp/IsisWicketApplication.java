@@ -92,6 +92,7 @@
 import org.apache.isis.viewer.wicket.viewer.integration.ConverterForObjectAdapter;
 import org.apache.isis.viewer.wicket.viewer.integration.ConverterForObjectAdapterMemento;
 import org.apache.isis.viewer.wicket.viewer.integration.IsisResourceSettings;
+import org.apache.isis.viewer.wicket.viewer.integration.PageManagerProviderForIsis;
 import org.apache.isis.viewer.wicket.viewer.integration.WebRequestCycleForIsis;
 
 import static org.apache.isis.commons.internal.base._With.requires;
@@ -259,6 +260,8 @@ protected void init() {
 
             configureSecurity(configuration);
 
+            configurePageStore(configuration);
+
             getDebugSettings().setAjaxDebugModeEnabled(configuration.getViewer().getWicket().isAjaxDebugMode());
 
             // must be done after injected componentFactoryRegistry into the app itself
@@ -278,9 +281,12 @@ protected void init() {
             //  SharedResources sharedResources = getSharedResources();
 
             if(systemEnvironment.isPrototyping()) {
-                DebugDiskDataStore.register(this);
-                log.debug("DebugDiskDataStore registered; access via ~/wicket/internal/debug/diskDataStore");
-                log.debug("DebugDiskDataStore: eg, http://localhost:8080/wicket/wicket/internal/debug/diskDataStore");
+                // only understands Wicket's own DiskDataStore
+                if(!configuration.getViewer().getWicket().getPageStore().isEnabled()) {
+                    DebugDiskDataStore.register(this);
+                    log.debug("DebugDiskDataStore registered; access via ~/wicket/internal/debug/diskDataStore");
+                    log.debug("DebugDiskDataStore: eg, http://localhost:8080/wicket/wicket/internal/debug/diskDataStore");
+                }
 
                 if(!getDebugSettings().isDevelopmentUtilitiesEnabled()) {
                     boolean enableDevUtils = configuration.getViewer().getWicket().getDevelopmentUtilities().isEnable();
@@ -304,6 +310,7 @@ protected void init() {
             log.debug("storeSettings.asynchronousQueueCapacity: {}", getStoreSettings().getAsynchronousQueueCapacity());
             log.debug("storeSettings.maxSizePerSession        : {}", getStoreSettings().getMaxSizePerSession());
             log.debug("storeSettings.fileStoreFolder          : {}", getStoreSettings().getFileStoreFolder());
+            log.debug("pageStore                              : {}", configuration.getViewer().getWicket().getPageStore());
 
             backgroundInitializationTasks.await();
             
@@ -341,6 +348,16 @@ public Session newSession(Request request, Response response) {
         return newSessionMixin.interceptNewSession(super.newSession(request, response));
     }
 
+    /**
+     * If enabled, stores pages using Isis' own (compressed, memory-mapped) page store rather than Wicket's default.
+     */
+    void configurePageStore(IsisConfiguration configuration) {
+        val pageStore = configuration.getViewer().getWicket().getPageStore();
+        if(pageStore.isEnabled()) {
+            setPageManagerProvider(new PageManagerProviderForIsis(this, pageStore));
+        }
+    }
+
     /**
      * protected visibility to allow ad-hoc overriding of some other authentication strategy.
      */
@@ -0,0 +1,169 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.integration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import lombok.val;
+
+public class PageDataStoreForIsisTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path directory;
+    private PageDataStoreForIsis dataStore;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = temporaryFolder.getRoot().toPath().resolve("pagestore");
+        dataStore = new PageDataStoreForIsis(directory, 16 * 1024, 1);
+    }
+
+    @After
+    public void tearDown() {
+        dataStore.destroy();
+    }
+
+    @Test
+    public void stores_and_returns_pages_compressed() throws Exception {
+        val page = compressiblePage(10_000);
+
+        dataStore.storeData("session-1", 1, page);
+
+        assertThat(Arrays.equals(dataStore.getData("session-1", 1), page), is(true));
+        assertThat(dataStore.getData("session-1", 2), is(nullValue()));
+        assertThat(dataStore.getData("session-2", 1), is(nullValue()));
+
+        val statistics = dataStore.getStatistics("session-1").get();
+        assertThat(statistics.getHits(), is(1L));
+        assertThat(statistics.getMisses(), is(1L));
+        assertThat(statistics.getPages(), is(1));
+        assertThat(statistics.getSerializedBytes(), is(10_000L));
+        assertThat(statistics.getStoredBytes(), is(lessThan(1_000L)));
+    }
+
+    @Test
+    public void restoring_a_page_replaces_it() throws Exception {
+        dataStore.storeData("session-1", 1, compressiblePage(1_000));
+        val page = compressiblePage(2_000);
+
+        dataStore.storeData("session-1", 1, page);
+
+        assertThat(Arrays.equals(dataStore.getData("session-1", 1), page), is(true));
+        val statistics = dataStore.getStatistics("session-1").get();
+        assertThat(statistics.getPages(), is(1));
+        assertThat(statistics.getSerializedBytes(), is(2_000L));
+    }
+
+    @Test
+    public void evicts_oldest_pages_once_ring_is_full() throws Exception {
+        // incompressible, so 5 pages of 4k do not fit into 16k
+        for (int id = 1; id <= 5; id++) {
+            dataStore.storeData("session-1", id, randomPage(4_000, id));
+        }
+
+        assertThat(dataStore.getData("session-1", 1), is(nullValue()));
+        for (int id = 2; id <= 5; id++) {
+            assertThat(Arrays.equals(dataStore.getData("session-1", id), randomPage(4_000, id)), is(true));
+        }
+        val statistics = dataStore.getStatistics("session-1").get();
+        assertThat(statistics.getEvictions(), is(1L));
+        assertThat(statistics.getPages(), is(4));
+    }
+
+    @Test
+    public void does_not_store_page_larger_than_ring() throws Exception {
+        dataStore.storeData("session-1", 1, randomPage(20_000, 1));
+
+        assertThat(dataStore.getData("session-1", 1), is(nullValue()));
+    }
+
+    @Test
+    public void sessions_get_a_file_of_their_own() throws Exception {
+        val sessionIds = Arrays.asList("session.1", "session_1", "SESSION_1");
+        for (int i = 0; i < sessionIds.size(); i++) {
+            dataStore.storeData(sessionIds.get(i), 1, randomPage(1_000, i));
+        }
+
+        dataStore.removeData("session.1");
+
+        assertThat(Files.exists(directory.resolve(PageDataStoreForIsis.fileNameFor("session_1"))), is(true));
+        assertThat(Arrays.equals(dataStore.getData("session_1", 1), randomPage(1_000, 1)), is(true));
+        assertThat(Arrays.equals(dataStore.getData("SESSION_1", 1), randomPage(1_000, 2)), is(true));
+    }
+
+    @Test
+    public void removing_session_deletes_its_file() throws Exception {
+        dataStore.storeData("session-1", 1, compressiblePage(1_000));
+        dataStore.storeData("session-2", 1, compressiblePage(1_000));
+        val file = directory.resolve(PageDataStoreForIsis.fileNameFor("session-1"));
+        assertThat(Files.exists(file), is(true));
+
+        dataStore.removeData("session-1");
+
+        assertThat(Files.exists(file), is(false));
+        assertThat(dataStore.getData("session-1", 1), is(nullValue()));
+        assertThat(dataStore.getStatistics("session-1").isPresent(), is(false));
+        assertThat(dataStore.getData("session-2", 1) != null, is(true));
+    }
+
+    @Test
+    public void removes_single_page() throws Exception {
+        dataStore.storeData("session-1", 1, compressiblePage(1_000));
+        dataStore.storeData("session-1", 2, compressiblePage(1_000));
+
+        dataStore.removeData("session-1", 1);
+
+        assertThat(dataStore.getData("session-1", 1), is(nullValue()));
+        assertThat(dataStore.getData("session-1", 2) != null, is(true));
+        assertThat(dataStore.getStatistics("session-1").get().getPages(), is(1));
+    }
+
+    // -- HELPER
+
+    private static byte[] compressiblePage(final int size) {
+        val page = new byte[size];
+        for (int i = 0; i < size; i++) {
+            page[i] = (byte) (i % 16);
+        }
+        return page;
+    }
+
+    private static byte[] randomPage(final int size, final long seed) {
+        val page = new byte[size];
+        new Random(seed).nextBytes(page);
+        return page;
+    }
+
+}
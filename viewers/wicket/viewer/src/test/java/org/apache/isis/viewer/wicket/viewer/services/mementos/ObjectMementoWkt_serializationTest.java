@@ -0,0 +1,134 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.services.mementos;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.apache.isis.applib.id.LogicalType;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.val;
+
+/**
+ * Checks that mementos round-trip through Java serialization, and that those of a
+ * table page (as held by Wicket in its page store) serialize compactly; for the bytes
+ * and time taken, see {@code ObjectMementoSerializationBenchmark} in the benchmarks module.
+ */
+public class ObjectMementoWkt_serializationTest {
+
+    @Rule
+    public final JUnitRuleMockery2 context =
+            JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    @Mock SpecificationLoader mockSpecificationLoader;
+    @Mock ObjectSpecification mockCustomerSpec;
+
+    static class Customer {}
+
+    final LogicalType customerType = LogicalType.eager(Customer.class, "demo.Customer");
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockSpecificationLoader).specForLogicalTypeName("demo.Customer");
+            will(returnValue(Optional.of(mockCustomerSpec)));
+
+            allowing(mockCustomerSpec).getLogicalType();
+            will(returnValue(customerType));
+
+            allowing(mockCustomerSpec).isEncodeable();
+            will(returnValue(false));
+        }});
+    }
+
+    @Test
+    public void roundtrip_lookup() throws Exception {
+        val memento = ObjectMementoWkt.createPersistent(
+                Oid.Factory.root(customerType, "123"), mockSpecificationLoader);
+
+        val copy = roundtrip(memento);
+
+        assertThat(copy, is(memento));
+        assertThat(copy.getLogicalType(), is(customerType));
+        assertThat(copy.getLogicalTypeName(), is("demo.Customer"));
+        assertThat(copy.asBookmark(), is(Bookmark.of("demo.Customer", "123")));
+        assertThat(copy.asString(), is("demo.Customer:123"));
+    }
+
+    @Test
+    public void lookup_memento_of_table_page_is_compact() throws Exception {
+        val page = new ArrayList<ObjectMementoWkt>();
+        for(int i=0; i<50; ++i) {
+            page.add(ObjectMementoWkt.createPersistent(
+                    Oid.Factory.root(customerType, "" + (10_000 + i)), mockSpecificationLoader));
+        }
+
+        val bytes = serialize(page);
+        final List<ObjectMementoWkt> copy = _Casts.uncheckedCast(deserialize(bytes));
+
+        assertThat(copy, is(page));
+
+        // besides the (once per stream) class descriptors, each memento only holds its identifier,
+        // a reference to the shared logical type, and a few bytes of framing
+        val bytesPerMemento = (bytes.length - serialize(new ArrayList<>(page.subList(0, 1))).length) / (page.size() - 1);
+        assertThat(bytesPerMemento, lessThan(32)); // default serialization takes well over 60
+    }
+
+    // -- HELPER
+
+    private static <T> T roundtrip(T object) throws Exception {
+        return _Casts.uncheckedCast(deserialize(serialize(object)));
+    }
+
+    private static byte[] serialize(Object object) throws Exception {
+        val baos = new ByteArrayOutputStream();
+        try(val oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(object);
+        }
+        return baos.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws Exception {
+        try(val ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+}